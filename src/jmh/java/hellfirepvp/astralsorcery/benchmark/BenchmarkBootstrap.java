@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * BenchmarkBootstrap - Headless game setup shared by the JMH benchmarks
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.minecraft.init.Bootstrap;
+import net.minecraft.item.Item;
+
+import hellfirepvp.astralsorcery.common.constellation.ConstellationRegistry;
+import hellfirepvp.astralsorcery.common.registry.RegistryConstellations;
+
+/**
+ * BenchmarkBootstrap - Minimal headless game state for benchmarks
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Registers vanilla blocks and items, so ItemStacks, item ids and the ore dictionary work</li>
+ * <li>Registers the Astral Sorcery constellations</li>
+ * <li>Never starts FML, a client or a server</li>
+ * </ul>
+ * <p>
+ * All methods are idempotent, call them from every {@code @Setup(Level.Trial)}.
+ */
+public final class BenchmarkBootstrap {
+
+    private static boolean vanillaRegistered = false;
+    private static boolean constellationsRegistered = false;
+    private static List<Item> items = null;
+
+    private BenchmarkBootstrap() {}
+
+    /**
+     * Register vanilla blocks and items
+     */
+    public static synchronized void registerVanilla() {
+        if (!vanillaRegistered) {
+            Bootstrap.func_151354_b();
+            vanillaRegistered = true;
+        }
+    }
+
+    /**
+     * Register the constellations, needed by everything that reads the sky
+     */
+    public static synchronized void registerConstellations() {
+        if (!constellationsRegistered) {
+            if (ConstellationRegistry.getConstellationCount() == 0) {
+                RegistryConstellations.init();
+            }
+            constellationsRegistered = true;
+        }
+    }
+
+    /**
+     * Get all registered vanilla items in registry order, used as deterministic pool for fake stacks
+     */
+    public static synchronized List<Item> getItems() {
+        registerVanilla();
+        if (items == null) {
+            items = new ArrayList<>();
+            for (Object obj : Item.itemRegistry) {
+                items.add((Item) obj);
+            }
+        }
+        return items;
+    }
+}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * FakeWorld - Constructor-less World for benchmarks
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.benchmark;
+
+import java.lang.reflect.Field;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProviderSurface;
+import net.minecraft.world.WorldSettings;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.storage.WorldInfo;
+
+import sun.misc.Unsafe;
+
+/**
+ * FakeWorld - Overworld stand-in without chunks, entities or save handler
+ * <p>
+ * The World constructor needs a save handler, a profiler and a chunk provider, so the instance
+ * is allocated without running it. Only the world info (time, seed, game rules) and the
+ * provider are set up, everything touching chunks or entities fails.
+ * <p>
+ * Good enough for code that only reads time, seed, dimension and sky properties.
+ */
+public class FakeWorld extends World {
+
+    private static final Unsafe UNSAFE;
+
+    static {
+        try {
+            Field field = Unsafe.class.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            UNSAFE = (Unsafe) field.get(null);
+        } catch (ReflectiveOperationException exc) {
+            throw new ExceptionInInitializerError(exc);
+        }
+    }
+
+    private FakeWorld() {
+        super(null, null, (WorldSettings) null, null, null);
+    }
+
+    /**
+     * Create a fake overworld
+     *
+     * @param seed The world seed
+     * @return The world, at time 0
+     */
+    public static FakeWorld create(long seed) {
+        FakeWorld world;
+        try {
+            world = (FakeWorld) UNSAFE.allocateInstance(FakeWorld.class);
+        } catch (InstantiationException exc) {
+            throw new IllegalStateException("Could not allocate FakeWorld", exc);
+        }
+        world.worldInfo = new WorldInfo(
+            new WorldSettings(seed, WorldSettings.GameType.SURVIVAL, false, false, WorldType.DEFAULT),
+            "benchmark");
+        world.provider = new WorldProviderSurface();
+        world.provider.dimensionId = 0;
+        return world;
+    }
+
+    @Override
+    protected IChunkProvider createChunkProvider() {
+        return null;
+    }
+
+    @Override
+    protected int func_152379_p() {
+        return 0;
+    }
+
+    @Override
+    public Entity getEntityByID(int id) {
+        return null;
+    }
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * WorldSkyHandlerBenchmark - Constellation sky schedule benchmark
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.constellation.distribution;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import hellfirepvp.astralsorcery.benchmark.BenchmarkBootstrap;
+import hellfirepvp.astralsorcery.benchmark.FakeWorld;
+import hellfirepvp.astralsorcery.common.constellation.ConstellationRegistry;
+import hellfirepvp.astralsorcery.common.constellation.IConstellation;
+
+/**
+ * WorldSkyHandlerBenchmark - {@link WorldSkyHandler#tick} on a fake overworld
+ * <p>
+ * <b>Cases:</b>
+ * <ul>
+ * <li>tickSameDay - the per-tick cost when the day did not change</li>
+ * <li>tickDayChange - every call advances a day, so the active constellations are recalculated</li>
+ * <li>createHandler - computing the 8 day schedule for a new seed, done on world load</li>
+ * <li>visibilityLookup - visibility and distribution of every constellation against the shared schedule</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldSkyHandlerBenchmark {
+
+    private static final long SEED = 0x5EEDL;
+
+    private FakeWorld world;
+    private WorldSkyHandler handler;
+    private long seed = SEED;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkBootstrap.registerConstellations();
+        world = FakeWorld.create(SEED);
+        handler = new WorldSkyHandler(SEED);
+        handler.tick(world);
+    }
+
+    @Benchmark
+    public WorldSkyHandler tickSameDay() {
+        handler.tick(world);
+        return handler;
+    }
+
+    @Benchmark
+    public WorldSkyHandler tickDayChange() {
+        world.setWorldTime(world.getWorldTime() + 24000L);
+        handler.tick(world);
+        return handler;
+    }
+
+    @Benchmark
+    public WorldSkyHandler createHandler() {
+        return new WorldSkyHandler(seed++);
+    }
+
+    @Benchmark
+    public float visibilityLookup() {
+        float sum = 0F;
+        for (IConstellation constellation : ConstellationRegistry.getAllConstellations()) {
+            if (handler.isConstellationVisible(constellation)) {
+                sum += handler.getConstellationDistribution(constellation);
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * PlayerAttributeMapBenchmark - Perk attribute evaluation benchmark
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.constellation.perk;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cpw.mods.fml.relauncher.Side;
+import hellfirepvp.astralsorcery.common.constellation.perk.attribute.AttributeTypeRegistry;
+import hellfirepvp.astralsorcery.common.constellation.perk.attribute.PerkAttributeModifier;
+
+/**
+ * PlayerAttributeMapBenchmark - {@link PlayerAttributeMap#getModifier} and {@link PlayerAttributeMap#modifyValue}
+ * <p>
+ * Queried from damage, mining speed and tick events, so this runs several times per player per tick.
+ * The map is filled with modifiers spread over all attribute types and modes, like a player deep in the perk tree.
+ * The player argument is unused by the evaluation and passed as null.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerAttributeMapBenchmark {
+
+    private static final String[] TYPES = { AttributeTypeRegistry.ATTR_TYPE_MELEE_DAMAGE,
+        AttributeTypeRegistry.ATTR_TYPE_HEALTH, AttributeTypeRegistry.ATTR_TYPE_MOVESPEED,
+        AttributeTypeRegistry.ATTR_TYPE_ARMOR, AttributeTypeRegistry.ATTR_TYPE_ATTACK_SPEED,
+        AttributeTypeRegistry.ATTR_TYPE_REACH, AttributeTypeRegistry.ATTR_TYPE_INC_PERK_EXP,
+        AttributeTypeRegistry.ATTR_TYPE_INC_PERK_EFFECT, AttributeTypeRegistry.ATTR_TYPE_MINING_SPEED,
+        AttributeTypeRegistry.ATTR_TYPE_RANGED_DAMAGE };
+
+    @Param({ "10", "100" })
+    public int modifierCount;
+
+    private PlayerAttributeMap map;
+    private int miningSpeedId;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random rand = new Random(0x5EED);
+        PerkAttributeModifier.Mode[] modes = PerkAttributeModifier.Mode.values();
+
+        map = new PlayerAttributeMap(Side.SERVER);
+        for (int i = 0; i < modifierCount; i++) {
+            String type = TYPES[i % TYPES.length];
+            PerkAttributeModifier.Mode mode = modes[rand.nextInt(modes.length)];
+            float value = mode == PerkAttributeModifier.Mode.STACKING_MULTIPLY ? 1F + rand.nextFloat() * 0.1F
+                : rand.nextFloat() * 0.1F;
+            map.applyModifier(null, type, new PerkAttributeModifier(type, mode, value));
+        }
+        miningSpeedId = AttributeTypeRegistry.getTypeId(AttributeTypeRegistry.ATTR_TYPE_MINING_SPEED);
+    }
+
+    @Benchmark
+    public float getModifierByName() {
+        return map.getModifier(null, AttributeTypeRegistry.ATTR_TYPE_MINING_SPEED);
+    }
+
+    @Benchmark
+    public float getModifierById() {
+        return map.getModifier(null, miningSpeedId);
+    }
+
+    @Benchmark
+    public float getModifierSingleMode() {
+        return map.getModifier(
+            null,
+            AttributeTypeRegistry.ATTR_TYPE_MELEE_DAMAGE,
+            PerkAttributeModifier.Mode.ADDED_MULTIPLY);
+    }
+
+    @Benchmark
+    public float modifyValue() {
+        return map.modifyValue(null, AttributeTypeRegistry.ATTR_TYPE_MELEE_DAMAGE, 7F);
+    }
+
+    @Benchmark
+    public float modifyValueUnusedType() {
+        return map.modifyValue(null, "astralsorcery.benchmark.unused", 7F);
+    }
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * ASRecipeMapBenchmark - Altar recipe lookup benchmark
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.crafting.altar;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import hellfirepvp.astralsorcery.benchmark.BenchmarkBootstrap;
+import hellfirepvp.astralsorcery.common.tile.TileAltar;
+
+/**
+ * ASRecipeMapBenchmark - {@link ASRecipeMap#findRecipe(ItemStack[])} as called by altars every craft check
+ * <p>
+ * Recipes are generated from the vanilla item pool with a fixed seed: 5x5 grids, half shaped,
+ * half shapeless, every 8th recipe using an ore dictionary input. The lookups cycle through
+ * inputs of registered recipes (hit), random grids (miss) and the recipe map is queried with
+ * the index already built, matching the steady state on a server.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ASRecipeMapBenchmark {
+
+    private static final int GRID = 25;
+    private static final int QUERIES = 256;
+
+    @Param({ "50", "200", "1000" })
+    public int recipeCount;
+
+    private ASRecipeMap recipeMap;
+    private ItemStack[][] hits;
+    private ItemStack[][] misses;
+    private int cursor = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<Item> items = BenchmarkBootstrap.getItems();
+        Random rand = new Random(0x5EED);
+
+        recipeMap = new ASRecipeMap("as.recipe.benchmark", TileAltar.AltarLevel.TRAIT_CRAFT, 1, GRID, 0, 0, 1, 1);
+        ItemStack[][] recipeInputs = new ItemStack[recipeCount][];
+        for (int i = 0; i < recipeCount; i++) {
+            ItemStack[] inputs = randomGrid(items, rand, i % 8 == 0);
+            recipeInputs[i] = inputs;
+            recipeMap.addRecipe(
+                new ASAltarRecipe(
+                    TileAltar.AltarLevel.TRAIT_CRAFT,
+                    inputs,
+                    new ItemStack(items.get(rand.nextInt(items.size()))),
+                    null,
+                    100,
+                    100,
+                    i % 2 == 0,
+                    5,
+                    5));
+        }
+
+        hits = new ItemStack[QUERIES][];
+        misses = new ItemStack[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            hits[i] = copy(recipeInputs[rand.nextInt(recipeCount)]);
+            misses[i] = randomGrid(items, rand, false);
+        }
+
+        // Build the index outside of the measurement
+        recipeMap.findRecipe(misses[0]);
+    }
+
+    private static ItemStack[] randomGrid(List<Item> items, Random rand, boolean oreInput) {
+        ItemStack[] grid = new ItemStack[GRID];
+        int filled = 3 + rand.nextInt(GRID - 3);
+        for (int i = 0; i < filled; i++) {
+            Item item = items.get(rand.nextInt(items.size()));
+            grid[rand.nextInt(GRID)] = new ItemStack(item, 1, item.getHasSubtypes() ? rand.nextInt(4) : 0);
+        }
+        if (oreInput) {
+            // Registered as "gemDiamond" by the vanilla ore dictionary entries
+            grid[rand.nextInt(GRID)] = new ItemStack(Items.diamond);
+        }
+        return grid;
+    }
+
+    private static ItemStack[] copy(ItemStack[] grid) {
+        ItemStack[] copy = new ItemStack[grid.length];
+        for (int i = 0; i < grid.length; i++) {
+            copy[i] = grid[i] == null ? null : grid[i].copy();
+        }
+        return copy;
+    }
+
+    @Benchmark
+    public ASAltarRecipe findRecipeHit() {
+        return recipeMap.findRecipe(hits[cursor++ & (QUERIES - 1)]);
+    }
+
+    @Benchmark
+    public ASAltarRecipe findRecipeMiss() {
+        return recipeMap.findRecipe(misses[cursor++ & (QUERIES - 1)]);
+    }
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * PlayerProgressBenchmark - Research progress serialization benchmark
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.data.research;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import hellfirepvp.astralsorcery.benchmark.BenchmarkBootstrap;
+import hellfirepvp.astralsorcery.common.constellation.ConstellationRegistry;
+import hellfirepvp.astralsorcery.common.constellation.IConstellation;
+import hellfirepvp.astralsorcery.common.constellation.IMajorConstellation;
+
+/**
+ * PlayerProgressBenchmark - {@link PlayerProgress#store} and {@link PlayerProgress#load}
+ * <p>
+ * Uses a fully progressed player: all constellations known, all research, highest tier, attuned.
+ * Perks are left out, the perk tree is not built headless.
+ * {@link #roundTripCompressed()} matches what PlayerProgressStore does per save.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerProgressBenchmark {
+
+    private PlayerProgress progress;
+    private NBTTagCompound stored;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkBootstrap.registerConstellations();
+
+        progress = new PlayerProgress();
+        for (IConstellation constellation : ConstellationRegistry.getAllConstellations()) {
+            progress.discoverConstellation(constellation.getUnlocalizedName());
+            if (constellation instanceof IMajorConstellation && progress.getAttunedConstellation() == null) {
+                progress.setAttunedConstellation((IMajorConstellation) constellation);
+            }
+        }
+        for (ResearchProgression research : ResearchProgression.values()) {
+            progress.forceGainResearch(research);
+        }
+        ProgressionTier[] tiers = ProgressionTier.values();
+        progress.setTierReached(tiers[tiers.length - 1]);
+        for (int i = 0; i < 10; i++) {
+            progress.grantFreeAllocationPoint("benchmark.token." + i);
+        }
+        progress.setExp(123456.5D);
+        progress.setTomeReceived();
+
+        stored = new NBTTagCompound();
+        progress.store(stored);
+    }
+
+    @Benchmark
+    public NBTTagCompound store() {
+        NBTTagCompound compound = new NBTTagCompound();
+        progress.store(compound);
+        return compound;
+    }
+
+    @Benchmark
+    public PlayerProgress load() {
+        PlayerProgress loaded = new PlayerProgress();
+        loaded.load(stored);
+        return loaded;
+    }
+
+    @Benchmark
+    public PlayerProgress roundTripCompressed() throws IOException {
+        NBTTagCompound compound = new NBTTagCompound();
+        progress.store(compound);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompressedStreamTools.writeCompressed(compound, out);
+
+        PlayerProgress loaded = new PlayerProgress();
+        loaded.load(CompressedStreamTools.readCompressed(new ByteArrayInputStream(out.toByteArray())));
+        return loaded;
+    }
+}
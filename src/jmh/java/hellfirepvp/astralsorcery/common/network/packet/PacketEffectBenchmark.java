@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * PacketEffectBenchmark - Effect packet serialization benchmark
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.network.packet;
+
+import java.util.concurrent.TimeUnit;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import hellfirepvp.astralsorcery.common.util.math.Vec3d;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * PacketEffectBenchmark - {@link PacketEffect#toBytes} and {@link PacketEffect#fromBytes}
+ * <p>
+ * A beam with a small data compound, the most common effect sent by starlight transfers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PacketEffectBenchmark {
+
+    private PacketEffect packet;
+    private ByteBuf writeBuffer;
+    private ByteBuf encoded;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        NBTTagCompound data = new NBTTagCompound();
+        data.setInteger("color", 0x00FFFF);
+        data.setFloat("size", 0.4F);
+        data.setString("constellation", "astralsorcery.constellation.discidia");
+        packet = new PacketEffect(
+            PacketEffect.EffectType.BEAM,
+            new Vec3d(100.5D, 64.5D, -200.5D),
+            new Vec3d(108.5D, 70.5D, -190.5D),
+            data,
+            0,
+            60);
+
+        writeBuffer = Unpooled.buffer(256);
+        encoded = Unpooled.buffer(256);
+        packet.toBytes(encoded);
+    }
+
+    @Benchmark
+    public ByteBuf toBytes() {
+        writeBuffer.clear();
+        packet.toBytes(writeBuffer);
+        return writeBuffer;
+    }
+
+    @Benchmark
+    public PacketEffect fromBytes() {
+        encoded.readerIndex(0);
+        PacketEffect decoded = new PacketEffect();
+        decoded.fromBytes(encoded);
+        return decoded;
+    }
+}
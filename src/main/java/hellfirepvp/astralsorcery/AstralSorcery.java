@@ -19,6 +19,7 @@ import cpw.mods.fml.common.event.FMLPostInitializationEvent;
 import cpw.mods.fml.common.event.FMLPreInitializationEvent;
 import cpw.mods.fml.common.event.FMLServerStartedEvent;
 import cpw.mods.fml.common.event.FMLServerStartingEvent;
+import cpw.mods.fml.common.event.FMLServerStoppingEvent;
 import cpw.mods.fml.common.network.NetworkRegistry;
 import hellfirepvp.astralsorcery.common.handler.GuiHandler;
 import hellfirepvp.astralsorcery.common.lib.Constants;
@@ -173,6 +174,22 @@ public class AstralSorcery {
         proxy.serverStarted(event);
     }
 
+    /**
+     * Server stopping phase
+     *
+     * In this phase:
+     * - Write all pending player data
+     *
+     * @param event The FML server stopping event
+     */
+    @Mod.EventHandler
+    public void serverStopping(FMLServerStoppingEvent event) {
+        LogHelper.info("Server stopping...");
+
+        // Delegate to proxy
+        proxy.serverStopping(event);
+    }
+
     /**
      * Get the mod instance
      *
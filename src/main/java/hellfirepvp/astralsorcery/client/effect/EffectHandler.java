@@ -11,6 +11,7 @@ package hellfirepvp.astralsorcery.client.effect;
 import java.util.*;
 
 import net.minecraft.client.Minecraft;
+import net.minecraft.entity.player.EntityPlayer;
 import net.minecraftforge.client.event.RenderGameOverlayEvent;
 import net.minecraftforge.client.event.RenderWorldLastEvent;
 
@@ -20,7 +21,7 @@ import cpw.mods.fml.common.eventhandler.EventPriority;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 import cpw.mods.fml.common.gameevent.TickEvent;
 import hellfirepvp.astralsorcery.client.effect.fx.EntityFXFacingParticle;
-import hellfirepvp.astralsorcery.common.util.data.Vector3;
+import hellfirepvp.astralsorcery.client.effect.fx.FacingParticleStore;
 
 /**
  * This class is part of the Astral Sorcery Mod
@@ -43,8 +44,11 @@ public final class EffectHandler {
     private static List<IComplexEffect> toAddBuffer = new LinkedList<>();
 
     public static final Map<IComplexEffect.RenderTarget, Map<Integer, List<IComplexEffect>>> complexEffects = new HashMap<>();
-    public static final List<EntityFXFacingParticle> fastRenderParticles = new LinkedList<>();
-    public static final List<EntityFXFacingParticle> fastRenderGatewayParticles = new LinkedList<>();
+    // Billboard particles, stored as primitive arrays. EntityFXFacingParticle handles claim their slot in register.
+    public static final FacingParticleStore fastRenderParticles = new FacingParticleStore();
+    public static final FacingParticleStore fastRenderGatewayParticles = new FacingParticleStore();
+
+    private static final double PARTICLE_CULL_DISTANCE = 256;
 
     private EffectHandler() {}
 
@@ -77,7 +81,7 @@ public final class EffectHandler {
         acceptsNewParticles = false;
 
         // Render fast particles (billboard particles)
-        EntityFXFacingParticle.renderFast(pTicks, fastRenderParticles);
+        fastRenderParticles.render(pTicks);
 
         // Render complex effects
         Map<Integer, List<IComplexEffect>> layeredEffects = complexEffects.get(IComplexEffect.RenderTarget.RENDERLOOP);
@@ -88,7 +92,7 @@ public final class EffectHandler {
         }
 
         // Render gateway particles
-        EntityFXFacingParticle.renderFast(pTicks, fastRenderGatewayParticles);
+        fastRenderGatewayParticles.render(pTicks);
 
         acceptsNewParticles = true;
     }
@@ -105,7 +109,21 @@ public final class EffectHandler {
     }
 
     private void register(final IComplexEffect effect) {
-        if (effect == null || Minecraft.getMinecraft()
+        if (effect == null) return;
+
+        if (effect instanceof EntityFXFacingParticle) {
+            // Claims its store slot right away, appending to the arrays is safe during iteration
+            EntityFXFacingParticle particle = (EntityFXFacingParticle) effect;
+            if (Minecraft.getMinecraft()
+                .isGamePaused() || !mayAcceptParticle(particle)) {
+                particle.discard();
+            } else {
+                particle.claimSlot();
+                particle.clearRemoveFlag();
+            }
+            return;
+        }
+        if (Minecraft.getMinecraft()
             .isGamePaused()) return;
 
         if (acceptsNewParticles) {
@@ -118,15 +136,9 @@ public final class EffectHandler {
     private void registerUnsafe(IComplexEffect effect) {
         if (!mayAcceptParticle(effect)) return;
 
-        if (effect instanceof EntityFXFacingParticle.Gateway) {
-            fastRenderGatewayParticles.add((EntityFXFacingParticle) effect);
-        } else if (effect instanceof EntityFXFacingParticle) {
-            fastRenderParticles.add((EntityFXFacingParticle) effect);
-        } else {
-            complexEffects.get(effect.getRenderTarget())
-                .get(effect.getLayer())
-                .add(effect);
-        }
+        complexEffects.get(effect.getRenderTarget())
+            .get(effect.getLayer())
+            .add(effect);
         effect.clearRemoveFlag();
     }
 
@@ -169,34 +181,10 @@ public final class EffectHandler {
             }
         }
 
-        // Tick fast particles
-        Vector3 playerPos = Vector3.atEntityCorner(Minecraft.getMinecraft().thePlayer);
-        for (EntityFXFacingParticle effect : new ArrayList<>(fastRenderParticles)) {
-            if (effect == null) {
-                fastRenderParticles.remove(null);
-                continue;
-            }
-            effect.tick();
-            if (effect.canRemove() || (effect.isDistanceRemovable() && effect.getPosition()
-                .distanceSquared(playerPos) >= 256 * 256)) {
-                effect.flagAsRemoved();
-                fastRenderParticles.remove(effect);
-            }
-        }
-
-        // Tick gateway particles
-        for (EntityFXFacingParticle effect : new ArrayList<>(fastRenderGatewayParticles)) {
-            if (effect == null) {
-                fastRenderGatewayParticles.remove(null);
-                continue;
-            }
-            effect.tick();
-            if (effect.canRemove() || (effect.isDistanceRemovable() && effect.getPosition()
-                .distanceSquared(playerPos) >= 256 * 256)) {
-                effect.flagAsRemoved();
-                fastRenderGatewayParticles.remove(effect);
-            }
-        }
+        // Tick fast particles, single pass with expiry and distance culling
+        EntityPlayer player = Minecraft.getMinecraft().thePlayer;
+        fastRenderParticles.tick(player.posX, player.posY, player.posZ, PARTICLE_CULL_DISTANCE);
+        fastRenderGatewayParticles.tick(player.posX, player.posY, player.posZ, PARTICLE_CULL_DISTANCE);
 
         acceptsNewParticles = true;
 
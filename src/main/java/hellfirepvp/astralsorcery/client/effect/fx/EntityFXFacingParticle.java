@@ -9,15 +9,12 @@
 package hellfirepvp.astralsorcery.client.effect.fx;
 
 import java.awt.*;
-import java.util.ArrayList;
-import java.util.List;
 
 import javax.annotation.Nonnull;
 
-import net.minecraft.client.renderer.Tessellator;
-
 import org.lwjgl.opengl.GL11;
 
+import hellfirepvp.astralsorcery.client.effect.EffectHandler;
 import hellfirepvp.astralsorcery.client.effect.EntityComplexFX;
 import hellfirepvp.astralsorcery.client.util.RenderingUtils;
 import hellfirepvp.astralsorcery.client.util.resource.AssetLibrary;
@@ -35,197 +32,278 @@ import hellfirepvp.astralsorcery.common.util.data.Vector3;
  * - Billboard particle that always faces the player
  * - Supports color, alpha fading, scaling, and motion
  * - Uses Tessellator for 1.7.10 rendering
+ * - Only a handle, the particle state lives in a {@link FacingParticleStore} slot.
+ * The slot is claimed when the EffectHandler accepts the particle, until then the state is kept on the handle.
+ * Once the particle is removed its setters do nothing.
  */
 public class EntityFXFacingParticle extends EntityComplexFX {
 
     public static final BindableResource staticFlareTex = AssetLibrary
         .loadTexture(AssetLibrary.TextureLocation.EFFECT, "flarestatic");
 
-    private double x, y, z;
-    private double oldX, oldY, oldZ;
-    private double yGravity = 0.004;
-    private float scale = 1F;
+    private final FacingParticleStore store;
+    // Current slot in the store, -1 until registered and once removed. Updated by the store when the slot moves.
+    int slot = -1;
+    // State set before the particle was registered, null once it claimed its slot or was discarded
+    private Pending pending;
 
-    private AlphaFunction fadeFunction = AlphaFunction.CONSTANT;
-    private ScaleFunction scaleFunction = ScaleFunction.IDENTITY;
-    private RenderOffsetController renderOffsetController = null;
-    private boolean distanceRemovable = true;
-    private float alphaMultiplier = 1F;
-    private float colorRed = 1F, colorGreen = 1F, colorBlue = 1F;
-    private double motionX = 0, motionY = 0, motionZ = 0;
+    // Last state, kept for callers querying the particle after removal
+    private double removedX, removedY, removedZ;
+    private int removedAge;
 
     public EntityFXFacingParticle(double x, double y, double z) {
-        this.x = x;
-        this.y = y;
-        this.z = z;
-        this.oldX = x;
-        this.oldY = y;
-        this.oldZ = z;
+        this(EffectHandler.fastRenderParticles, x, y, z);
+    }
+
+    protected EntityFXFacingParticle(FacingParticleStore store, double x, double y, double z) {
+        this.store = store;
+        this.pending = new Pending(x, y, z);
+    }
+
+    private boolean isLive() {
+        return slot >= 0;
+    }
+
+    /**
+     * Move the particle into its store, called by the EffectHandler when it accepts the particle
+     */
+    public void claimSlot() {
+        Pending p = pending;
+        if (p == null) {
+            return;
+        }
+        pending = null;
+        slot = store.add(this, p.x, p.y, p.z);
+        store.motionX[slot] = p.motionX;
+        store.motionY[slot] = p.motionY;
+        store.motionZ[slot] = p.motionZ;
+        store.gravity[slot] = p.gravity;
+        store.red[slot] = p.red;
+        store.green[slot] = p.green;
+        store.blue[slot] = p.blue;
+        store.alphaMultiplier[slot] = p.alphaMultiplier;
+        store.scale[slot] = p.scale;
+        store.maxAge[slot] = p.maxAge;
+        store.fadeFunctions[slot] = p.fadeFunction;
+        store.scaleFunctions[slot] = p.scaleFunction;
+        store.offsetControllers[slot] = p.offsetController;
+        store.setDistanceRemovable(slot, p.distanceRemovable);
+        if (p.removeRequested) {
+            store.requestRemoval(slot);
+        }
     }
 
     public EntityFXFacingParticle updatePosition(double x, double y, double z) {
-        this.x = x;
-        this.y = y;
-        this.z = z;
+        if (isLive()) {
+            store.x[slot] = x;
+            store.y[slot] = y;
+            store.z[slot] = z;
+        } else if (pending != null) {
+            pending.x = x;
+            pending.y = y;
+            pending.z = z;
+        }
         return this;
     }
 
     public EntityFXFacingParticle offset(double x, double y, double z) {
-        this.x += x;
-        this.y += y;
-        this.z += z;
+        if (isLive()) {
+            store.x[slot] += x;
+            store.y[slot] += y;
+            store.z[slot] += z;
+        } else if (pending != null) {
+            pending.x += x;
+            pending.y += y;
+            pending.z += z;
+        }
         return this;
     }
 
     public EntityFXFacingParticle setScaleFunction(@Nonnull ScaleFunction scaleFunction) {
-        this.scaleFunction = scaleFunction;
+        if (isLive()) {
+            store.scaleFunctions[slot] = scaleFunction == ScaleFunction.IDENTITY ? null : scaleFunction;
+        } else if (pending != null) {
+            pending.scaleFunction = scaleFunction == ScaleFunction.IDENTITY ? null : scaleFunction;
+        }
         return this;
     }
 
     public EntityFXFacingParticle enableAlphaFade(@Nonnull AlphaFunction function) {
-        this.fadeFunction = function;
+        if (isLive()) {
+            store.fadeFunctions[slot] = function;
+        } else if (pending != null) {
+            pending.fadeFunction = function;
+        }
         return this;
     }
 
     public EntityFXFacingParticle setRenderOffsetController(RenderOffsetController renderOffsetController) {
-        this.renderOffsetController = renderOffsetController;
+        if (isLive()) {
+            store.offsetControllers[slot] = renderOffsetController;
+        } else if (pending != null) {
+            pending.offsetController = renderOffsetController;
+        }
         return this;
     }
 
     public EntityFXFacingParticle motion(double x, double y, double z) {
-        this.motionX = x;
-        this.motionY = y;
-        this.motionZ = z;
+        if (isLive()) {
+            store.motionX[slot] = x;
+            store.motionY[slot] = y;
+            store.motionZ[slot] = z;
+        } else if (pending != null) {
+            pending.motionX = x;
+            pending.motionY = y;
+            pending.motionZ = z;
+        }
         return this;
     }
 
     public EntityFXFacingParticle gravity(double yGrav) {
-        this.yGravity -= yGrav;
+        if (isLive()) {
+            store.gravity[slot] -= yGrav;
+        } else if (pending != null) {
+            pending.gravity -= yGrav;
+        }
         return this;
     }
 
     public EntityFXFacingParticle scale(float scale) {
-        this.scale = scale;
+        if (isLive()) {
+            store.scale[slot] = scale;
+        } else if (pending != null) {
+            pending.scale = scale;
+        }
         return this;
     }
 
     public EntityFXFacingParticle setAlphaMultiplier(float alphaMul) {
-        alphaMultiplier = alphaMul;
+        if (isLive()) {
+            store.alphaMultiplier[slot] = alphaMul;
+        } else if (pending != null) {
+            pending.alphaMultiplier = alphaMul;
+        }
         return this;
     }
 
     public EntityFXFacingParticle setColor(Color color) {
-        colorRed = ((float) color.getRed()) / 255F;
-        colorGreen = ((float) color.getGreen()) / 255F;
-        colorBlue = ((float) color.getBlue()) / 255F;
+        if (isLive()) {
+            store.red[slot] = ((float) color.getRed()) / 255F;
+            store.green[slot] = ((float) color.getGreen()) / 255F;
+            store.blue[slot] = ((float) color.getBlue()) / 255F;
+        } else if (pending != null) {
+            pending.red = ((float) color.getRed()) / 255F;
+            pending.green = ((float) color.getGreen()) / 255F;
+            pending.blue = ((float) color.getBlue()) / 255F;
+        }
         return this;
     }
 
     public EntityFXFacingParticle setDistanceRemovable(boolean distanceRemovable) {
-        this.distanceRemovable = distanceRemovable;
+        if (isLive()) {
+            store.setDistanceRemovable(slot, distanceRemovable);
+        } else if (pending != null) {
+            pending.distanceRemovable = distanceRemovable;
+        }
         return this;
     }
 
     public Vector3 getPosition() {
-        return new Vector3(x, y, z);
+        if (pending != null) {
+            return new Vector3(pending.x, pending.y, pending.z);
+        }
+        if (!isLive()) {
+            return new Vector3(removedX, removedY, removedZ);
+        }
+        return new Vector3(store.x[slot], store.y[slot], store.z[slot]);
     }
 
     public boolean isDistanceRemovable() {
-        return distanceRemovable;
+        if (pending != null) {
+            return pending.distanceRemovable;
+        }
+        return isLive() && store.isDistanceRemovable(slot);
     }
 
     @Override
-    public void tick() {
-        super.tick();
-
-        oldX = x;
-        oldY = y;
-        oldZ = z;
-        x += motionX;
-        y += (motionY - yGravity);
-        z += motionZ;
+    public void setMaxAge(int maxAge) {
+        super.setMaxAge(maxAge);
+        if (isLive()) {
+            store.maxAge[slot] = maxAge;
+        } else if (pending != null) {
+            pending.maxAge = maxAge;
+        }
     }
 
-    /**
-     * Fast render method for batch rendering particles
-     * 1.7.10: Adapted for Tessellator API
-     */
-    public static <T extends EntityFXFacingParticle> void renderFast(float parTicks, List<T> particles) {
-        GL11.glDisable(GL11.GL_ALPHA_TEST);
-        GL11.glEnable(GL11.GL_BLEND);
-        GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
-        GL11.glDisable(GL11.GL_CULL_FACE);
-        GL11.glDepthMask(false);
-
-        staticFlareTex.bind();
+    @Override
+    public int getAge() {
+        return isLive() ? store.age[slot] : removedAge;
+    }
 
-        Tessellator t = Tessellator.instance;
-        t.startDrawing(GL11.GL_QUADS);
+    @Override
+    public boolean canRemove() {
+        return !isLive() || store.canRemove(slot);
+    }
 
-        for (T particle : new ArrayList<>(particles)) {
-            if (particle == null) continue;
-            particle.renderFast(parTicks, t);
+    @Override
+    public void requestRemoval() {
+        if (isLive()) {
+            store.requestRemoval(slot);
+        } else if (pending != null) {
+            pending.removeRequested = true;
         }
+    }
 
-        t.draw();
+    /**
+     * Ticked in bulk by {@link FacingParticleStore#tick}
+     */
+    @Override
+    public void tick() {}
 
-        GL11.glEnable(GL11.GL_ALPHA_TEST);
-        GL11.glDepthMask(true);
-        GL11.glEnable(GL11.GL_CULL_FACE);
+    /**
+     * Remove the particle right away, used when it is not accepted by the EffectHandler
+     */
+    public void discard() {
+        if (pending != null) {
+            Pending p = pending;
+            pending = null;
+            onRemoved(p.x, p.y, p.z, 0);
+        } else if (isLive()) {
+            store.remove(slot);
+        }
     }
 
     /**
-     * Render particle to tessellator
-     * 1.7.10: Uses Tessellator instead of BufferBuilder
+     * Called by the store when the slot is freed
      */
-    public void renderFast(float pTicks, Tessellator tessellator) {
-        float alpha = fadeFunction.getAlpha(age, maxAge);
-        alpha *= alphaMultiplier;
-        double intX = RenderingUtils.interpolate(oldX, x, pTicks);
-        double intY = RenderingUtils.interpolate(oldY, y, pTicks);
-        double intZ = RenderingUtils.interpolate(oldZ, z, pTicks);
-        if (renderOffsetController != null) {
-            Vector3 result = renderOffsetController.changeRenderPosition(
-                this,
-                new Vector3(intX, intY, intZ),
-                new Vector3(motionX, motionY - yGravity, motionZ),
-                pTicks);
-            intX = result.getX();
-            intY = result.getY();
-            intZ = result.getZ();
-        }
-        float fScale = scale;
-        fScale = scaleFunction.getScale(this, new Vector3(intX, intY, intZ), pTicks, fScale);
-        RenderingUtils.renderFacingFullQuadVB(
-            tessellator,
-            intX,
-            intY,
-            intZ,
-            pTicks,
-            fScale,
-            0,
-            colorRed,
-            colorGreen,
-            colorBlue,
-            alpha);
+    void onRemoved(double x, double y, double z, int age) {
+        this.removedX = x;
+        this.removedY = y;
+        this.removedZ = z;
+        this.removedAge = age;
+        this.slot = -1;
+        flagAsRemoved();
     }
 
     @Override
     public void render(float pTicks) {
+        if (!isLive()) {
+            return;
+        }
         GL11.glDisable(GL11.GL_ALPHA_TEST);
         GL11.glEnable(GL11.GL_BLEND);
         GL11.glDisable(GL11.GL_CULL_FACE);
         GL11.glDepthMask(false);
-        float alpha = fadeFunction.getAlpha(age, maxAge);
-        alpha *= alphaMultiplier;
-        GL11.glColor4f(colorRed, colorGreen, colorBlue, alpha);
+        float alpha = store.fadeFunctions[slot].getAlpha(store.age[slot], store.maxAge[slot]);
+        alpha *= store.alphaMultiplier[slot];
+        GL11.glColor4f(store.red[slot], store.green[slot], store.blue[slot], alpha);
         staticFlareTex.bind();
         RenderingUtils.renderFacingQuad(
-            RenderingUtils.interpolate(oldX, x, pTicks),
-            RenderingUtils.interpolate(oldY, y, pTicks),
-            RenderingUtils.interpolate(oldZ, z, pTicks),
+            RenderingUtils.interpolate(store.oldX[slot], store.x[slot], pTicks),
+            RenderingUtils.interpolate(store.oldY[slot], store.y[slot], pTicks),
+            RenderingUtils.interpolate(store.oldZ[slot], store.z[slot], pTicks),
             pTicks,
-            scale,
+            store.scale[slot],
             0,
             0,
             0,
@@ -238,13 +316,37 @@ public class EntityFXFacingParticle extends EntityComplexFX {
         GL11.glEnable(GL11.GL_CULL_FACE);
     }
 
+    /**
+     * Particle state before the slot is claimed, defaults match {@link FacingParticleStore}
+     */
+    private static final class Pending {
+
+        private double x, y, z;
+        private double motionX, motionY, motionZ;
+        private double gravity = 0.004;
+        private float red = 1F, green = 1F, blue = 1F, alphaMultiplier = 1F;
+        private float scale = 1F;
+        private int maxAge = 40;
+        private boolean distanceRemovable = true;
+        private boolean removeRequested = false;
+        private AlphaFunction fadeFunction = AlphaFunction.CONSTANT;
+        private ScaleFunction scaleFunction = null;
+        private RenderOffsetController offsetController = null;
+
+        private Pending(double x, double y, double z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+    }
+
     /**
      * Gateway particle subtype
      */
     public static class Gateway extends EntityFXFacingParticle {
 
         public Gateway(double x, double y, double z) {
-            super(x, y, z);
+            super(EffectHandler.fastRenderGatewayParticles, x, y, z);
         }
 
     }
@@ -0,0 +1,306 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * FacingParticleStore - Structure-of-arrays storage of fast billboard particles
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.client.effect.fx;
+
+import java.util.Arrays;
+
+import net.minecraft.client.renderer.Tessellator;
+
+import org.lwjgl.opengl.GL11;
+
+import hellfirepvp.astralsorcery.client.effect.EntityComplexFX;
+import hellfirepvp.astralsorcery.client.util.RenderingUtils;
+import hellfirepvp.astralsorcery.common.util.data.Vector3;
+
+/**
+ * FacingParticleStore - Particle state in parallel primitive arrays (1.7.10)
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Position, motion, colour, age and scale of all particles live in parallel arrays,
+ * {@link EntityFXFacingParticle} is only a handle pointing at a slot</li>
+ * <li>Arrays only grow and are reused, spawning a particle does not allocate besides its handle</li>
+ * <li>Expired particles are swap-removed: the last slot moves into the freed one</li>
+ * <li>Ticking, expiry and distance culling run in a single allocation-free pass</li>
+ * </ul>
+ * <p>
+ * Slots are in no particular order, handles are re-pointed whenever their slot moves.
+ * Client thread only.
+ */
+public class FacingParticleStore {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private static final byte FLAG_DISTANCE_REMOVABLE = 1;
+    private static final byte FLAG_REMOVE_REQUESTED = 2;
+
+    private int size = 0;
+
+    EntityFXFacingParticle[] handles;
+    double[] x, y, z;
+    double[] oldX, oldY, oldZ;
+    double[] motionX, motionY, motionZ;
+    double[] gravity;
+    float[] red, green, blue, alphaMultiplier;
+    float[] scale;
+    int[] age, maxAge;
+    byte[] flags;
+    EntityComplexFX.AlphaFunction[] fadeFunctions;
+    EntityComplexFX.ScaleFunction[] scaleFunctions;
+    EntityComplexFX.RenderOffsetController[] offsetControllers;
+
+    public FacingParticleStore() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        handles = new EntityFXFacingParticle[capacity];
+        x = new double[capacity];
+        y = new double[capacity];
+        z = new double[capacity];
+        oldX = new double[capacity];
+        oldY = new double[capacity];
+        oldZ = new double[capacity];
+        motionX = new double[capacity];
+        motionY = new double[capacity];
+        motionZ = new double[capacity];
+        gravity = new double[capacity];
+        red = new float[capacity];
+        green = new float[capacity];
+        blue = new float[capacity];
+        alphaMultiplier = new float[capacity];
+        scale = new float[capacity];
+        age = new int[capacity];
+        maxAge = new int[capacity];
+        flags = new byte[capacity];
+        fadeFunctions = new EntityComplexFX.AlphaFunction[capacity];
+        scaleFunctions = new EntityComplexFX.ScaleFunction[capacity];
+        offsetControllers = new EntityComplexFX.RenderOffsetController[capacity];
+    }
+
+    private void grow() {
+        int capacity = handles.length * 2;
+        handles = Arrays.copyOf(handles, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        z = Arrays.copyOf(z, capacity);
+        oldX = Arrays.copyOf(oldX, capacity);
+        oldY = Arrays.copyOf(oldY, capacity);
+        oldZ = Arrays.copyOf(oldZ, capacity);
+        motionX = Arrays.copyOf(motionX, capacity);
+        motionY = Arrays.copyOf(motionY, capacity);
+        motionZ = Arrays.copyOf(motionZ, capacity);
+        gravity = Arrays.copyOf(gravity, capacity);
+        red = Arrays.copyOf(red, capacity);
+        green = Arrays.copyOf(green, capacity);
+        blue = Arrays.copyOf(blue, capacity);
+        alphaMultiplier = Arrays.copyOf(alphaMultiplier, capacity);
+        scale = Arrays.copyOf(scale, capacity);
+        age = Arrays.copyOf(age, capacity);
+        maxAge = Arrays.copyOf(maxAge, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        fadeFunctions = Arrays.copyOf(fadeFunctions, capacity);
+        scaleFunctions = Arrays.copyOf(scaleFunctions, capacity);
+        offsetControllers = Arrays.copyOf(offsetControllers, capacity);
+    }
+
+    /**
+     * Claim a slot with default particle state
+     *
+     * @return The slot index
+     */
+    int add(EntityFXFacingParticle handle, double px, double py, double pz) {
+        if (size == handles.length) {
+            grow();
+        }
+        int slot = size++;
+        handles[slot] = handle;
+        x[slot] = px;
+        y[slot] = py;
+        z[slot] = pz;
+        oldX[slot] = px;
+        oldY[slot] = py;
+        oldZ[slot] = pz;
+        motionX[slot] = 0;
+        motionY[slot] = 0;
+        motionZ[slot] = 0;
+        gravity[slot] = 0.004;
+        red[slot] = 1F;
+        green[slot] = 1F;
+        blue[slot] = 1F;
+        alphaMultiplier[slot] = 1F;
+        scale[slot] = 1F;
+        age[slot] = 0;
+        maxAge[slot] = 40;
+        flags[slot] = FLAG_DISTANCE_REMOVABLE;
+        fadeFunctions[slot] = EntityComplexFX.AlphaFunction.CONSTANT;
+        scaleFunctions[slot] = null;
+        offsetControllers[slot] = null;
+        return slot;
+    }
+
+    /**
+     * Free a slot, the last particle moves into it
+     */
+    void remove(int slot) {
+        EntityFXFacingParticle removed = handles[slot];
+        removed.onRemoved(x[slot], y[slot], z[slot], age[slot]);
+
+        int last = --size;
+        if (slot != last) {
+            handles[slot] = handles[last];
+            x[slot] = x[last];
+            y[slot] = y[last];
+            z[slot] = z[last];
+            oldX[slot] = oldX[last];
+            oldY[slot] = oldY[last];
+            oldZ[slot] = oldZ[last];
+            motionX[slot] = motionX[last];
+            motionY[slot] = motionY[last];
+            motionZ[slot] = motionZ[last];
+            gravity[slot] = gravity[last];
+            red[slot] = red[last];
+            green[slot] = green[last];
+            blue[slot] = blue[last];
+            alphaMultiplier[slot] = alphaMultiplier[last];
+            scale[slot] = scale[last];
+            age[slot] = age[last];
+            maxAge[slot] = maxAge[last];
+            flags[slot] = flags[last];
+            fadeFunctions[slot] = fadeFunctions[last];
+            scaleFunctions[slot] = scaleFunctions[last];
+            offsetControllers[slot] = offsetControllers[last];
+            handles[slot].slot = slot;
+        }
+        // Drop references so handles and controllers can be collected
+        handles[last] = null;
+        scaleFunctions[last] = null;
+        offsetControllers[last] = null;
+    }
+
+    void setDistanceRemovable(int slot, boolean distanceRemovable) {
+        if (distanceRemovable) {
+            flags[slot] |= FLAG_DISTANCE_REMOVABLE;
+        } else {
+            flags[slot] &= ~FLAG_DISTANCE_REMOVABLE;
+        }
+    }
+
+    boolean isDistanceRemovable(int slot) {
+        return (flags[slot] & FLAG_DISTANCE_REMOVABLE) != 0;
+    }
+
+    void requestRemoval(int slot) {
+        flags[slot] |= FLAG_REMOVE_REQUESTED;
+    }
+
+    boolean canRemove(int slot) {
+        return age[slot] >= maxAge[slot] || (flags[slot] & FLAG_REMOVE_REQUESTED) != 0;
+    }
+
+    /**
+     * Advance all particles by one tick and remove expired ones and, if distance removable,
+     * the ones at least {@code cullDistance} away from the viewer
+     */
+    public void tick(double viewerX, double viewerY, double viewerZ, double cullDistance) {
+        double cullDistanceSq = cullDistance * cullDistance;
+        int i = 0;
+        while (i < size) {
+            age[i]++;
+            oldX[i] = x[i];
+            oldY[i] = y[i];
+            oldZ[i] = z[i];
+            x[i] += motionX[i];
+            y[i] += motionY[i] - gravity[i];
+            z[i] += motionZ[i];
+
+            boolean expired = canRemove(i);
+            if (!expired && (flags[i] & FLAG_DISTANCE_REMOVABLE) != 0) {
+                double dx = x[i] - viewerX;
+                double dy = y[i] - viewerY;
+                double dz = z[i] - viewerZ;
+                expired = dx * dx + dy * dy + dz * dz >= cullDistanceSq;
+            }
+            if (expired) {
+                // The last particle moves into slot i and is ticked next, without advancing i
+                remove(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Render all particles in one tessellator batch
+     */
+    public void render(float pTicks) {
+        if (size == 0) {
+            return;
+        }
+        GL11.glDisable(GL11.GL_ALPHA_TEST);
+        GL11.glEnable(GL11.GL_BLEND);
+        GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+        GL11.glDisable(GL11.GL_CULL_FACE);
+        GL11.glDepthMask(false);
+
+        EntityFXFacingParticle.staticFlareTex.bind();
+
+        Tessellator t = Tessellator.instance;
+        t.startDrawing(GL11.GL_QUADS);
+        // Particles spawned by controllers while rendering are drawn from the next frame on
+        int count = size;
+        for (int i = 0; i < count; i++) {
+            renderSlot(i, pTicks, t);
+        }
+        t.draw();
+
+        GL11.glEnable(GL11.GL_ALPHA_TEST);
+        GL11.glDepthMask(true);
+        GL11.glEnable(GL11.GL_CULL_FACE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void renderSlot(int i, float pTicks, Tessellator t) {
+        float alpha = fadeFunctions[i].getAlpha(age[i], maxAge[i]) * alphaMultiplier[i];
+        double intX = RenderingUtils.interpolate(oldX[i], x[i], pTicks);
+        double intY = RenderingUtils.interpolate(oldY[i], y[i], pTicks);
+        double intZ = RenderingUtils.interpolate(oldZ[i], z[i], pTicks);
+        float fScale = scale[i];
+
+        // Controllers are objects by contract, only particles using them pay for the vectors
+        EntityComplexFX.RenderOffsetController offsetController = offsetControllers[i];
+        if (offsetController != null) {
+            Vector3 result = offsetController.changeRenderPosition(
+                handles[i],
+                new Vector3(intX, intY, intZ),
+                new Vector3(motionX[i], motionY[i] - gravity[i], motionZ[i]),
+                pTicks);
+            intX = result.getX();
+            intY = result.getY();
+            intZ = result.getZ();
+        }
+        EntityComplexFX.ScaleFunction scaleFunction = scaleFunctions[i];
+        if (scaleFunction != null) {
+            fScale = scaleFunction.getScale(handles[i], new Vector3(intX, intY, intZ), pTicks, fScale);
+        }
+        RenderingUtils
+            .renderFacingFullQuadVB(t, intX, intY, intZ, pTicks, fScale, 0, red[i], green[i], blue[i], alpha);
+    }
+
+    /**
+     * Remove all particles
+     */
+    public void clear() {
+        while (size > 0) {
+            remove(size - 1);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -33,6 +33,7 @@ import hellfirepvp.astralsorcery.common.util.LogHelper;
  * Features:
  * - Browse recipes by altar level
  * - Search recipes by output name
+ * - Focus on the recipes producing or using one item
  * - View detailed recipe information
  * - Shaped/Shapeless recipe support
  * <p>
@@ -50,6 +51,11 @@ public class AltarRecipeViewer extends GuiScreen {
     private GuiTextField searchField;
     private GuiButton[] levelButtons;
 
+    /**
+     * Only recipes producing or using this item are listed, null lists all
+     */
+    private final ItemStack focus;
+
     // Layout constants
     private static final int GUI_WIDTH = 300;
     private static final int GUI_HEIGHT = 200;
@@ -64,8 +70,16 @@ public class AltarRecipeViewer extends GuiScreen {
         { 80, 40 }, { 40, 60 }, { 60, 60 }, { 80, 60 }, { 40, 80 }, { 60, 80 }, { 80, 80 } };
 
     public AltarRecipeViewer() {
+        this(null);
+    }
+
+    /**
+     * @param focus Only list recipes producing or using this item, null to list all
+     */
+    public AltarRecipeViewer(ItemStack focus) {
         // Initialize with Discovery level
         this.currentLevel = TileAltar.AltarLevel.DISCOVERY;
+        this.focus = focus;
     }
 
     @Override
@@ -105,7 +119,11 @@ public class AltarRecipeViewer extends GuiScreen {
     }
 
     private void loadRecipes() {
-        currentRecipes = AltarRecipeRegistry.getRecipesForLevel(currentLevel);
+        if (focus != null) {
+            currentRecipes = getFocusedRecipes();
+        } else {
+            currentRecipes = AltarRecipeRegistry.getRecipesForLevel(currentLevel);
+        }
 
         // Apply search filter
         String search = searchField.getText()
@@ -133,6 +151,24 @@ public class AltarRecipeViewer extends GuiScreen {
         }
     }
 
+    /**
+     * Recipes of the current level producing or using the focused item, looked up in the recipe index
+     */
+    private List<ASAltarRecipe> getFocusedRecipes() {
+        List<ASAltarRecipe> recipes = new ArrayList<>();
+        for (ASAltarRecipe recipe : AltarRecipeRegistry.findRecipesByOutput(focus)) {
+            if (recipe.getAltarLevel() == currentLevel) {
+                recipes.add(recipe);
+            }
+        }
+        for (ASAltarRecipe recipe : AltarRecipeRegistry.findRecipesByInput(focus)) {
+            if (recipe.getAltarLevel() == currentLevel && !recipes.contains(recipe)) {
+                recipes.add(recipe);
+            }
+        }
+        return recipes;
+    }
+
     @Override
     public void drawScreen(int mouseX, int mouseY, float partialTicks) {
         // Draw background
@@ -98,26 +98,12 @@ public class ASNEIAltarBrillianceHandler extends TemplateRecipeHandler {
 
     @Override
     public void loadUsageRecipes(ItemStack ingredient) {
-        List<ASAltarRecipe> recipes = AltarRecipeRegistry.getRecipesForLevel(TileAltar.AltarLevel.BRILLIANCE);
-        for (ASAltarRecipe recipe : recipes) {
-            ItemStack[] inputs = recipe.getInputs();
-            for (ItemStack input : inputs) {
-                if (input != null && itemsMatch(ingredient, input)) {
-                    arecipes.add(new CachedAltarRecipe(recipe));
-                    break;
-                }
-            }
+        for (ASAltarRecipe recipe : AltarRecipeRegistry
+            .findRecipesByInput(ingredient, TileAltar.AltarLevel.BRILLIANCE)) {
+            arecipes.add(new CachedAltarRecipe(recipe));
         }
     }
 
-    private boolean itemsMatch(ItemStack a, ItemStack b) {
-        if (a == null || b == null) return false;
-        if (a.getItem() != b.getItem()) return false;
-        int metaA = a.getItemDamage();
-        int metaB = b.getItemDamage();
-        return metaA == metaB || metaA == 32767 || metaB == 32767;
-    }
-
     @Override
     public void drawExtras(int recipe) {
         // Background has all visual elements already
@@ -236,11 +236,7 @@ public class ASNEIAltarHandler extends TemplateRecipeHandler {
             return; // Skip if not properly initialized
         }
         // Load recipes that produce this item
-        java.util.List<ASAltarRecipe> recipes = AltarRecipeRegistry.findRecipesByOutput(result);
-        System.out.println(
-            "[ASNEI] Found " + recipes
-                .size() + " recipes for output " + result.getDisplayName() + " in " + handlerName);
-        for (ASAltarRecipe recipe : recipes) {
+        for (ASAltarRecipe recipe : AltarRecipeRegistry.findRecipesByOutput(result)) {
             if (recipe.getAltarLevel() == altarLevel) {
                 arecipes.add(new CachedAltarRecipe(recipe));
             }
@@ -253,39 +249,9 @@ public class ASNEIAltarHandler extends TemplateRecipeHandler {
             return; // Skip if not properly initialized
         }
         // Load recipes that use this item
-        java.util.List<ASAltarRecipe> recipes = AltarRecipeRegistry.getRecipesForLevel(altarLevel);
-        int count = 0;
-        for (ASAltarRecipe recipe : recipes) {
-            ItemStack[] inputs = recipe.getInputs();
-            for (ItemStack input : inputs) {
-                if (input != null && itemsMatch(ingredient, input)) {
-                    arecipes.add(new CachedAltarRecipe(recipe));
-                    count++;
-                    break;
-                }
-            }
-        }
-        if (count > 0) {
-            System.out.println(
-                "[ASNEI] Found " + count + " usage recipes for " + ingredient.getDisplayName() + " in " + handlerName);
-        }
-    }
-
-    /**
-     * Check if two ItemStacks match for recipe purposes
-     * Supports wildcard metadata (metadata == 32767)
-     */
-    private boolean itemsMatch(ItemStack a, ItemStack b) {
-        if (a == null || b == null) {
-            return false;
-        }
-        if (a.getItem() != b.getItem()) {
-            return false;
+        for (ASAltarRecipe recipe : AltarRecipeRegistry.findRecipesByInput(ingredient, altarLevel)) {
+            arecipes.add(new CachedAltarRecipe(recipe));
         }
-        // Check metadata with wildcard support
-        int metaA = a.getItemDamage();
-        int metaB = b.getItemDamage();
-        return metaA == metaB || metaA == 32767 || metaB == 32767;
     }
 
     @Override
@@ -116,6 +116,9 @@ public class AstralRenderLoader {
 
     /**
      * Load all OBJ models
+     * <p>
+     * Parsed in parallel and cached on disk by {@link ObjModelPipeline}. Models the pipeline could not load
+     * go through Forge's AdvancedModelLoader as before.
      */
     private static int loadAllModels() {
         int count = 0;
@@ -146,8 +149,14 @@ public class AstralRenderLoader {
             // Collector crystal (P0 - starlight network)
             "collector_crystal", };
 
+        Map<String, IModelCustom> loaded = ObjModelPipeline.loadAll("astralsorcery", "models/obj/block/", models);
         for (String modelName : models) {
-            if (loadModel(modelName)) {
+            IModelCustom model = loaded.get(modelName);
+            if (model != null) {
+                MODELS.put(modelName, model);
+                LogHelper.info("[AstralRenderLoader] ✓ Loaded model: " + modelName + ".obj");
+                count++;
+            } else if (loadModel(modelName)) {
                 count++;
             }
         }
@@ -156,7 +165,7 @@ public class AstralRenderLoader {
     }
 
     /**
-     * Load a single OBJ model
+     * Load a single OBJ model through Forge's loader
      */
     private static boolean loadModel(String modelName) {
         try {
@@ -0,0 +1,439 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * ObjGeometry - Parsed OBJ model geometry
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.client.renderer;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import net.minecraftforge.client.model.obj.Face;
+import net.minecraftforge.client.model.obj.GroupObject;
+import net.minecraftforge.client.model.obj.TextureCoordinate;
+import net.minecraftforge.client.model.obj.Vertex;
+import net.minecraftforge.client.model.obj.WavefrontObject;
+
+import org.lwjgl.opengl.GL11;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+/**
+ * ObjGeometry - Geometry of one OBJ model (1.7.10)
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Parses the same subset of OBJ as Forge's WavefrontObject: v, vn, vt, f with 3 or 4 corners, g and o</li>
+ * <li>Thread safe, unlike WavefrontObject whose parser keeps its regex matchers in static fields</li>
+ * <li>Reads and writes a compact binary form, used by {@link ObjModelPipeline} as disk cache</li>
+ * <li>Converted into a regular WavefrontObject, renderers see no difference</li>
+ * </ul>
+ * <p>
+ * Texture coordinates are stored with v already flipped, as WavefrontObject does while parsing.
+ */
+@SideOnly(Side.CLIENT)
+final class ObjGeometry {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final int MAGIC = 0x41534F42; // "ASOB"
+    private static final int VERSION = 1;
+
+    /** x, y, z per vertex */
+    private final float[] vertices;
+    /** x, y, z per normal */
+    private final float[] normals;
+    /** u, v, w per texture coordinate */
+    private final float[] texCoords;
+    private final List<Group> groups;
+
+    private ObjGeometry(float[] vertices, float[] normals, float[] texCoords, List<Group> groups) {
+        this.vertices = vertices;
+        this.normals = normals;
+        this.texCoords = texCoords;
+        this.groups = groups;
+    }
+
+    // ========== OBJ ==========
+
+    /**
+     * Parse an OBJ file
+     *
+     * @param fileName Name for error messages
+     * @param data     Content of the file
+     * @throws IOException If the file is not a model WavefrontObject could load either
+     */
+    static ObjGeometry parse(String fileName, byte[] data) throws IOException {
+        FloatList vertices = new FloatList();
+        FloatList normals = new FloatList();
+        FloatList texCoords = new FloatList();
+        List<GroupBuilder> groups = new ArrayList<>();
+        GroupBuilder current = null;
+
+        BufferedReader reader = new BufferedReader(
+            new InputStreamReader(new ByteArrayInputStream(data), StandardCharsets.UTF_8));
+        String line;
+        int lineCount = 0;
+        while ((line = reader.readLine()) != null) {
+            lineCount++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] tokens = WHITESPACE.split(line);
+            try {
+                switch (tokens[0]) {
+                    case "v":
+                        vertices.add(parseFloat(tokens, 1), parseFloat(tokens, 2), parseOptionalFloat(tokens, 3));
+                        break;
+                    case "vn":
+                        normals.add(parseFloat(tokens, 1), parseFloat(tokens, 2), parseFloat(tokens, 3));
+                        break;
+                    case "vt":
+                        texCoords.add(parseFloat(tokens, 1), 1 - parseFloat(tokens, 2), parseOptionalFloat(tokens, 3));
+                        break;
+                    case "f":
+                        if (current == null) {
+                            current = new GroupBuilder("Default");
+                        }
+                        current.addFace(tokens, vertices.size() / 3, texCoords.size() / 3, normals.size() / 3);
+                        break;
+                    case "g":
+                    case "o":
+                        if (tokens.length > 1) {
+                            if (current != null) {
+                                groups.add(current);
+                            }
+                            current = new GroupBuilder(String.join(" ", Arrays.copyOfRange(tokens, 1, tokens.length)));
+                        }
+                        break;
+                    default:
+                        // Materials and smoothing groups are ignored, like WavefrontObject does
+                        break;
+                }
+            } catch (IOException | RuntimeException e) {
+                throw new IOException(
+                    "Error parsing entry ('" + line + "', line " + lineCount + ") in file '" + fileName + "'",
+                    e);
+            }
+        }
+        if (current != null) {
+            groups.add(current);
+        }
+
+        List<Group> built = new ArrayList<>(groups.size());
+        for (GroupBuilder group : groups) {
+            built.add(group.build());
+        }
+        return new ObjGeometry(vertices.toArray(), normals.toArray(), texCoords.toArray(), built);
+    }
+
+    private static float parseFloat(String[] tokens, int index) throws IOException {
+        if (index >= tokens.length) {
+            throw new IOException("Missing value");
+        }
+        return Float.parseFloat(tokens[index]);
+    }
+
+    private static float parseOptionalFloat(String[] tokens, int index) {
+        return index < tokens.length ? Float.parseFloat(tokens[index]) : 0F;
+    }
+
+    // ========== Model ==========
+
+    /**
+     * Build the WavefrontObject renderers work with
+     */
+    WavefrontObject toModel(String fileName) {
+        // Parsing an empty stream only leaves a null group behind, everything else is filled here
+        WavefrontObject model = new WavefrontObject(fileName, new ByteArrayInputStream(new byte[0]));
+        model.groupObjects.clear();
+
+        Vertex[] modelVertices = new Vertex[vertices.length / 3];
+        for (int i = 0; i < modelVertices.length; i++) {
+            modelVertices[i] = new Vertex(vertices[i * 3], vertices[i * 3 + 1], vertices[i * 3 + 2]);
+            model.vertices.add(modelVertices[i]);
+        }
+        Vertex[] modelNormals = new Vertex[normals.length / 3];
+        for (int i = 0; i < modelNormals.length; i++) {
+            modelNormals[i] = new Vertex(normals[i * 3], normals[i * 3 + 1], normals[i * 3 + 2]);
+            model.vertexNormals.add(modelNormals[i]);
+        }
+        TextureCoordinate[] modelTexCoords = new TextureCoordinate[texCoords.length / 3];
+        for (int i = 0; i < modelTexCoords.length; i++) {
+            modelTexCoords[i] = new TextureCoordinate(texCoords[i * 3], texCoords[i * 3 + 1], texCoords[i * 3 + 2]);
+            model.textureCoordinates.add(modelTexCoords[i]);
+        }
+
+        for (Group group : groups) {
+            GroupObject groupObject = new GroupObject(group.name, group.drawMode);
+            int faceCount = group.faceSize == 0 ? 0 : group.vertexIndices.length / group.faceSize;
+            for (int f = 0; f < faceCount; f++) {
+                int start = f * group.faceSize;
+                Face face = new Face();
+                face.vertices = new Vertex[group.faceSize];
+                for (int i = 0; i < group.faceSize; i++) {
+                    face.vertices[i] = modelVertices[group.vertexIndices[start + i]];
+                }
+                if (group.texIndices[start] >= 0) {
+                    face.textureCoordinates = new TextureCoordinate[group.faceSize];
+                    for (int i = 0; i < group.faceSize; i++) {
+                        face.textureCoordinates[i] = modelTexCoords[group.texIndices[start + i]];
+                    }
+                }
+                if (group.normalIndices[start] >= 0) {
+                    face.vertexNormals = new Vertex[group.faceSize];
+                    for (int i = 0; i < group.faceSize; i++) {
+                        face.vertexNormals[i] = modelNormals[group.normalIndices[start + i]];
+                    }
+                }
+                face.faceNormal = face.calculateFaceNormal();
+                groupObject.faces.add(face);
+            }
+            model.groupObjects.add(groupObject);
+        }
+        return model;
+    }
+
+    // ========== Binary Form ==========
+
+    /**
+     * Write the binary form
+     *
+     * @param sourceHash Hash of the OBJ file this was parsed from
+     */
+    void write(DataOutputStream out, byte[] sourceHash) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeShort(sourceHash.length);
+        out.write(sourceHash);
+        writeFloats(out, vertices);
+        writeFloats(out, normals);
+        writeFloats(out, texCoords);
+        out.writeInt(groups.size());
+        for (Group group : groups) {
+            out.writeUTF(group.name);
+            out.writeInt(group.drawMode);
+            out.writeByte(group.faceSize);
+            writeInts(out, group.vertexIndices);
+            writeInts(out, group.texIndices);
+            writeInts(out, group.normalIndices);
+        }
+    }
+
+    /**
+     * Read the binary form
+     *
+     * @param sourceHash Hash of the current OBJ file
+     * @return The geometry, or null if it was written by another version or for another file content
+     */
+    static ObjGeometry read(DataInputStream in, byte[] sourceHash) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            return null;
+        }
+        byte[] hash = new byte[in.readUnsignedShort()];
+        in.readFully(hash);
+        if (!Arrays.equals(hash, sourceHash)) {
+            return null;
+        }
+        float[] vertices = readFloats(in);
+        float[] normals = readFloats(in);
+        float[] texCoords = readFloats(in);
+        int groupCount = in.readInt();
+        List<Group> groups = new ArrayList<>(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+            String name = in.readUTF();
+            int drawMode = in.readInt();
+            int faceSize = in.readUnsignedByte();
+            groups.add(new Group(name, drawMode, faceSize, readInts(in), readInts(in), readInts(in)));
+        }
+        ObjGeometry geometry = new ObjGeometry(vertices, normals, texCoords, groups);
+        geometry.validate();
+        return geometry;
+    }
+
+    private void validate() throws IOException {
+        for (Group group : groups) {
+            int length = group.vertexIndices.length;
+            if (group.texIndices.length != length || group.normalIndices.length != length
+                || (group.faceSize == 0 && length != 0)
+                || (group.faceSize != 0 && length % group.faceSize != 0)) {
+                throw new IOException("Malformed group " + group.name);
+            }
+            for (int i = 0; i < length; i++) {
+                if (group.vertexIndices[i] < 0 || group.vertexIndices[i] >= vertices.length / 3
+                    || group.texIndices[i] >= texCoords.length / 3
+                    || group.normalIndices[i] >= normals.length / 3) {
+                    throw new IOException("Index out of range in group " + group.name);
+                }
+            }
+        }
+    }
+
+    private static void writeFloats(DataOutputStream out, float[] values) throws IOException {
+        out.writeInt(values.length);
+        for (float value : values) {
+            out.writeFloat(value);
+        }
+    }
+
+    private static float[] readFloats(DataInputStream in) throws IOException {
+        float[] values = new float[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readFloat();
+        }
+        return values;
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static int[] readInts(DataInputStream in) throws IOException {
+        int[] values = new int[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    // ========== Internal ==========
+
+    /**
+     * Faces of one group. Every face has faceSize corners, a missing texture or normal index is -1.
+     */
+    private static final class Group {
+
+        private final String name;
+        private final int drawMode;
+        private final int faceSize;
+        private final int[] vertexIndices;
+        private final int[] texIndices;
+        private final int[] normalIndices;
+
+        private Group(String name, int drawMode, int faceSize, int[] vertexIndices, int[] texIndices,
+            int[] normalIndices) {
+            this.name = name;
+            this.drawMode = drawMode;
+            this.faceSize = faceSize;
+            this.vertexIndices = vertexIndices;
+            this.texIndices = texIndices;
+            this.normalIndices = normalIndices;
+        }
+    }
+
+    private static final class GroupBuilder {
+
+        private final String name;
+        private int drawMode = -1;
+        private int faceSize = 0;
+        private final IntList vertexIndices = new IntList();
+        private final IntList texIndices = new IntList();
+        private final IntList normalIndices = new IntList();
+
+        private GroupBuilder(String name) {
+            this.name = name;
+        }
+
+        private void addFace(String[] tokens, int vertexCount, int texCount, int normalCount) throws IOException {
+            int corners = tokens.length - 1;
+            if (corners != 3 && corners != 4) {
+                throw new IOException("Faces need 3 or 4 corners, found " + corners);
+            }
+            int mode = corners == 3 ? GL11.GL_TRIANGLES : GL11.GL_QUADS;
+            if (drawMode == -1) {
+                drawMode = mode;
+                faceSize = corners;
+            } else if (drawMode != mode) {
+                throw new IOException("Invalid number of points for face (expected " + faceSize + ", found " + corners + ")");
+            }
+            boolean hasTex = false, hasNormal = false;
+            for (int i = 1; i <= corners; i++) {
+                String[] parts = tokens[i].split("/", -1);
+                boolean tex = parts.length > 1 && !parts[1].isEmpty();
+                boolean normal = parts.length > 2 && !parts[2].isEmpty();
+                if (i == 1) {
+                    hasTex = tex;
+                    hasNormal = normal;
+                } else if (tex != hasTex || normal != hasNormal) {
+                    throw new IOException("Corners of a face use different formats");
+                }
+                vertexIndices.add(index(parts[0], vertexCount));
+                texIndices.add(tex ? index(parts[1], texCount) : -1);
+                normalIndices.add(normal ? index(parts[2], normalCount) : -1);
+            }
+        }
+
+        private static int index(String token, int count) throws IOException {
+            int index = Integer.parseInt(token) - 1;
+            if (index < 0 || index >= count) {
+                throw new IOException("Index " + token + " out of range");
+            }
+            return index;
+        }
+
+        private Group build() {
+            return new Group(
+                name,
+                drawMode,
+                faceSize,
+                vertexIndices.toArray(),
+                texIndices.toArray(),
+                normalIndices.toArray());
+        }
+    }
+
+    private static final class FloatList {
+
+        private float[] data = new float[96];
+        private int size = 0;
+
+        private void add(float a, float b, float c) {
+            if (size + 3 > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            data[size++] = a;
+            data[size++] = b;
+            data[size++] = c;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private float[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+
+    private static final class IntList {
+
+        private int[] data = new int[64];
+        private int size = 0;
+
+        private void add(int value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            data[size++] = value;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+}
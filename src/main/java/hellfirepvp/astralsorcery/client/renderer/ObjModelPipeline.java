@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * ObjModelPipeline - Parallel OBJ loading with a geometry disk cache
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.client.renderer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.resources.IResourceManager;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.client.model.IModelCustom;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import hellfirepvp.astralsorcery.common.util.LogHelper;
+
+/**
+ * ObjModelPipeline - Loads OBJ models in parallel (1.7.10)
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Model files are read on the calling thread, resource packs are not touched from workers</li>
+ * <li>Parsing runs on a small worker pool, see {@link ObjGeometry}</li>
+ * <li>Parsed geometry is cached in binary form under .minecraft/cache/astralsorcery/models,
+ * keyed by the SHA-1 of the OBJ file, so later launches skip parsing unless the file changed</li>
+ * <li>A model that fails here is simply missing from the result, callers fall back to Forge's loader</li>
+ * </ul>
+ */
+@SideOnly(Side.CLIENT)
+public class ObjModelPipeline {
+
+    private static final String CACHE_DIRECTORY = "cache/astralsorcery/models";
+
+    private ObjModelPipeline() {}
+
+    /**
+     * Load OBJ models
+     *
+     * @param domain Resource domain
+     * @param path   Path of the model files inside the domain, ending with a slash
+     * @param names  Model names, without the .obj extension
+     * @return Model name to model, for every model that loaded
+     */
+    public static Map<String, IModelCustom> loadAll(String domain, String path, String[] names) {
+        Minecraft mc = Minecraft.getMinecraft();
+        IResourceManager resourceManager = mc.getResourceManager();
+        File cacheDirectory = new File(mc.mcDataDir, CACHE_DIRECTORY);
+
+        Map<String, IModelCustom> models = new HashMap<>();
+        ExecutorService workers = createWorkers();
+        try {
+            Map<String, Future<ObjGeometry>> pending = new LinkedHashMap<>();
+            for (String name : names) {
+                ResourceLocation location = new ResourceLocation(domain, path + name + ".obj");
+                byte[] data;
+                try (InputStream in = resourceManager.getResource(location)
+                    .getInputStream()) {
+                    data = readFully(in);
+                } catch (IOException e) {
+                    LogHelper.warn("[ObjModelPipeline] Could not read " + location);
+                    continue;
+                }
+                pending.put(name, workers.submit(() -> loadGeometry(name + ".obj", data, cacheDirectory)));
+            }
+
+            for (Map.Entry<String, Future<ObjGeometry>> entry : pending.entrySet()) {
+                String fileName = entry.getKey() + ".obj";
+                try {
+                    models.put(
+                        entry.getKey(),
+                        entry.getValue()
+                            .get()
+                            .toModel(fileName));
+                } catch (ExecutionException e) {
+                    LogHelper.warn("[ObjModelPipeline] Could not parse " + fileName + ": " + e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread()
+                        .interrupt();
+                    break;
+                } catch (RuntimeException e) {
+                    LogHelper.warn("[ObjModelPipeline] Could not build " + fileName + ": " + e);
+                }
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        return models;
+    }
+
+    /**
+     * Get the geometry of a model from the cache, or parse it and cache the result. Runs on a worker.
+     */
+    private static ObjGeometry loadGeometry(String fileName, byte[] data, File cacheDirectory) throws IOException {
+        byte[] hash = sha1(data);
+        File cacheFile = new File(cacheDirectory, fileName + ".bin");
+        if (cacheFile.isFile()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+                ObjGeometry cached = ObjGeometry.read(in, hash);
+                if (cached != null) {
+                    return cached;
+                }
+            } catch (IOException | RuntimeException e) {
+                LogHelper.debug("[ObjModelPipeline] Ignoring broken cache file " + cacheFile, e);
+            }
+        }
+
+        ObjGeometry geometry = ObjGeometry.parse(fileName, data);
+        writeCache(cacheFile, geometry, hash);
+        return geometry;
+    }
+
+    private static void writeCache(File cacheFile, ObjGeometry geometry, byte[] hash) {
+        File directory = cacheFile.getParentFile();
+        if (!directory.isDirectory() && !directory.mkdirs() && !directory.isDirectory()) {
+            LogHelper.debug("[ObjModelPipeline] Could not create " + directory);
+            return;
+        }
+        // Written next to the target and renamed, a crash never leaves half a cache file behind
+        File tempFile = new File(directory, cacheFile.getName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+            geometry.write(out, hash);
+        } catch (IOException e) {
+            LogHelper.debug("[ObjModelPipeline] Could not write " + tempFile, e);
+            tempFile.delete();
+            return;
+        }
+        if (cacheFile.exists() && !cacheFile.delete()) {
+            tempFile.delete();
+            return;
+        }
+        if (!tempFile.renameTo(cacheFile)) {
+            tempFile.delete();
+        }
+    }
+
+    private static ExecutorService createWorkers() {
+        int threads = Math.max(
+            1,
+            Math.min(
+                4,
+                Runtime.getRuntime()
+                    .availableProcessors() - 1));
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "AstralSorcery Model Loader #" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16384);
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] sha1(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-1")
+                .digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-1
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -91,7 +91,7 @@ public class PillarItemRenderer implements IItemRenderer {
         // Debug logging
         boolean result = meta == 2 || meta == 3 || meta == 4;
         if (result) {
-            hellfirepvp.astralsorcery.common.util.LogHelper.debug(
+            hellfirepvp.astralsorcery.common.util.LogHelper.debug(() ->
                 "[PillarItemRenderer] handleRenderType: block=" + this.block.getClass()
                     .getSimpleName() + ", meta=" + meta + ", type=" + type + " -> TRUE");
         }
@@ -22,6 +22,7 @@ import cpw.mods.fml.relauncher.SideOnly;
 import hellfirepvp.astralsorcery.client.renderer.AstralBaseTESR;
 import hellfirepvp.astralsorcery.common.tile.TileChalice;
 import hellfirepvp.astralsorcery.common.util.LogHelper;
+import hellfirepvp.astralsorcery.common.util.log.LogCategory;
 
 /**
  * TESRChalice - Chalice renderer (1.7.10)
@@ -81,14 +82,16 @@ public class TESRChalice extends AstralBaseTESR {
 
         TileChalice chalice = (TileChalice) te;
 
-        LogHelper.debug(
-            String.format(
-                "[TESRChalice] Rendering at x=%.2f y=%.2f z=%.2f, model=%s, texture=%s",
-                x,
-                y,
-                z,
-                model != null ? "loaded" : "NULL",
-                texture != null ? texture.toString() : "NULL"));
+        if (LogCategory.RENDER.isTraceEnabled()) {
+            LogCategory.RENDER.trace(
+                String.format(
+                    "[TESRChalice] Rendering at x=%.2f y=%.2f z=%.2f, model=%s, texture=%s",
+                    x,
+                    y,
+                    z,
+                    model != null ? "loaded" : "NULL",
+                    texture != null ? texture.toString() : "NULL"));
+        }
 
         // Render the base chalice model
         if (model != null) {
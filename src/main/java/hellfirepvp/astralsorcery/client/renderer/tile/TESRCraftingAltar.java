@@ -19,6 +19,7 @@ import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import hellfirepvp.astralsorcery.common.tile.TileAltar;
 import hellfirepvp.astralsorcery.common.util.LogHelper;
+import hellfirepvp.astralsorcery.common.util.log.LogCategory;
 
 /**
  * TESR for Crafting Altar with multi-texture support
@@ -58,8 +59,8 @@ public class TESRCraftingAltar extends TileEntitySpecialRenderer {
         IModelCustom model = getModelForTier(tier);
 
         // Debug logging to check tier selection
-        if (altar.getWorldObj() != null && altar.getWorldObj().isRemote) {
-            LogHelper.debug(
+        if (LogCategory.RENDER.isTraceEnabled() && altar.getWorldObj() != null && altar.getWorldObj().isRemote) {
+            LogCategory.RENDER.trace(
                 String.format(
                     "[TESRCraftingAltar] Rendering altar - meta: %d, level: %s, tier: %d, pos: %d,%d,%d",
                     meta,
@@ -95,7 +96,10 @@ public class TESRCraftingAltar extends TileEntitySpecialRenderer {
             try {
                 model.renderPart("altar_" + tier + "_bottom");
             } catch (Exception e) {
-                LogHelper.debug("[TESRCraftingAltar] No altar_" + tier + "_bottom group");
+                LogCategory.RENDER.debugRateLimited(
+                    "crafting_altar_missing_bottom",
+                    10000L,
+                    () -> "[TESRCraftingAltar] No altar_" + tier + "_bottom group");
             }
 
             // Render parts with side texture
@@ -103,7 +107,10 @@ public class TESRCraftingAltar extends TileEntitySpecialRenderer {
             try {
                 model.renderPart("altar_" + tier + "_side");
             } catch (Exception e) {
-                LogHelper.debug("[TESRCraftingAltar] No altar_" + tier + "_side group");
+                LogCategory.RENDER.debugRateLimited(
+                    "crafting_altar_missing_side",
+                    10000L,
+                    () -> "[TESRCraftingAltar] No altar_" + tier + "_side group");
             }
 
             // Render parts with top texture
@@ -111,7 +118,10 @@ public class TESRCraftingAltar extends TileEntitySpecialRenderer {
             try {
                 model.renderPart("altar_" + tier + "_top");
             } catch (Exception e) {
-                LogHelper.debug("[TESRCraftingAltar] No altar_" + tier + "_top group");
+                LogCategory.RENDER.debugRateLimited(
+                    "crafting_altar_missing_top",
+                    10000L,
+                    () -> "[TESRCraftingAltar] No altar_" + tier + "_top group");
             }
 
         } catch (Exception e) {
@@ -21,6 +21,7 @@ import cpw.mods.fml.relauncher.SideOnly;
 import hellfirepvp.astralsorcery.common.block.BlockMachine;
 import hellfirepvp.astralsorcery.common.tile.TileGrindstone;
 import hellfirepvp.astralsorcery.common.util.LogHelper;
+import hellfirepvp.astralsorcery.common.util.log.LogCategory;
 
 /**
  * TESR for Grindstone and Telescope (BlockMachine)
@@ -92,25 +93,29 @@ public class TESRGrindstone extends TileEntitySpecialRenderer {
         if (isTelescope) {
             model = this.telescopeModel;
             texture = this.telescopeTexture;
-            LogHelper.debug(
-                String.format(
-                    "[TESRGrindstone] Rendering TELESCOPE at x=%.2f y=%.2f z=%.2f, model=%s, texture=%s",
-                    x,
-                    y,
-                    z,
-                    model != null ? "loaded" : "NULL",
-                    texture != null ? texture.toString() : "NULL"));
+            if (LogCategory.RENDER.isTraceEnabled()) {
+                LogCategory.RENDER.trace(
+                    String.format(
+                        "[TESRGrindstone] Rendering TELESCOPE at x=%.2f y=%.2f z=%.2f, model=%s, texture=%s",
+                        x,
+                        y,
+                        z,
+                        model != null ? "loaded" : "NULL",
+                        texture != null ? texture.toString() : "NULL"));
+            }
         } else {
             model = this.grindstoneModel;
             texture = this.grindstoneTexture;
-            LogHelper.debug(
-                String.format(
-                    "[TESRGrindstone] Rendering GRINDSTONE at x=%.2f y=%.2f z=%.2f, model=%s, texture=%s",
-                    x,
-                    y,
-                    z,
-                    model != null ? "loaded" : "NULL",
-                    texture != null ? texture.toString() : "NULL"));
+            if (LogCategory.RENDER.isTraceEnabled()) {
+                LogCategory.RENDER.trace(
+                    String.format(
+                        "[TESRGrindstone] Rendering GRINDSTONE at x=%.2f y=%.2f z=%.2f, model=%s, texture=%s",
+                        x,
+                        y,
+                        z,
+                        model != null ? "loaded" : "NULL",
+                        texture != null ? texture.toString() : "NULL"));
+            }
         }
 
         if (model == null) {
@@ -152,7 +152,7 @@ public class TESRObservatory extends TileEntitySpecialRenderer {
                 }
             }
         } catch (Exception e) {
-            LogHelper.debug("[TESRObservatory] Error rendering material groups: " + materialName);
+            LogHelper.debug(() -> "[TESRObservatory] Error rendering material groups: " + materialName);
         }
     }
 }
@@ -101,10 +101,10 @@ public class TESRWell extends AstralBaseTESR {
         TileWell well = (TileWell) te;
 
         // Debug log to confirm TESR is being called
-        hellfirepvp.astralsorcery.common.util.LogHelper.debug(
+        hellfirepvp.astralsorcery.common.util.LogHelper.debug(() ->
             "[TESRWell] renderTileEntityAt called at [" + well.xCoord + ", " + well.yCoord + ", " + well.zCoord + "]");
         hellfirepvp.astralsorcery.common.util.LogHelper
-            .debug("[TESRWell] Model is " + (this.model != null ? "NOT NULL" : "NULL"));
+            .debug(() -> "[TESRWell] Model is " + (this.model != null ? "NOT NULL" : "NULL"));
 
         // Render OBJ model if available
         if (this.model != null) {
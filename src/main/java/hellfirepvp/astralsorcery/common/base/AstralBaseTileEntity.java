@@ -20,6 +20,7 @@ import net.minecraft.util.AxisAlignedBB;
 
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
+import hellfirepvp.astralsorcery.common.event.BlockChangeWorldAccess;
 
 /**
  * AstralBaseTileEntity - Base class for all AstralSorcery TileEntities
@@ -169,7 +170,7 @@ public abstract class AstralBaseTileEntity extends TileEntity {
      */
     public void markForUpdate() {
         if (worldObj != null && !worldObj.isRemote) {
-            worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
+            BlockChangeWorldAccess.markTileSync(worldObj, xCoord, yCoord, zCoord);
         }
     }
 
@@ -177,12 +177,12 @@ public class BlockAltar extends BlockContainer {
      */
     public boolean onBlockActivated(World world, int x, int y, int z, EntityPlayer player, int side, float hitX,
         float hitY, float hitZ) {
-        // Phase 4: Shift+Right-Click opens recipe viewer
+        // Phase 4: Shift+Right-Click opens recipe viewer, focused on the held item if there is one
         if (player.isSneaking()) {
             if (world.isRemote) {
                 // Open recipe viewer on client side
                 cpw.mods.fml.common.FMLCommonHandler.instance()
-                    .showGuiScreen(new hellfirepvp.astralsorcery.client.gui.AltarRecipeViewer());
+                    .showGuiScreen(new hellfirepvp.astralsorcery.client.gui.AltarRecipeViewer(player.getHeldItem()));
             }
             return true;
         }
@@ -43,8 +43,6 @@ import hellfirepvp.astralsorcery.common.util.LogHelper;
  * TODO:
  * - Implement TileCelestialGateway
  * - Implement teleportation logic
- * - Implement gateway network system
- * - Implement GatewayCache
  * - Implement structure validation
  * - Implement portal rendering
  * - Implement particle effects
@@ -126,9 +124,7 @@ public class BlockCelestialGateway extends BlockContainer {
     public void breakBlock(World world, int x, int y, int z, Block block, int meta) {
         super.breakBlock(world, x, y, z, block, meta);
 
-        // TODO: Remove from GatewayCache when implemented
-        // GatewayCache cache = WorldCacheManager.getOrLoadData(world, GatewayCache.class);
-        // cache.removePosition(world, new BlockPos(x, y, z));
+        // Removal from the gateway registry is done by TileCelestialGateway.invalidate()
     }
 
     @Override
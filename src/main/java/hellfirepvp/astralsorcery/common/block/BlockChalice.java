@@ -24,6 +24,7 @@ import net.minecraft.world.World;
 
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
+import hellfirepvp.astralsorcery.common.event.BlockChangeWorldAccess;
 import hellfirepvp.astralsorcery.common.lib.CreativeTabsAS;
 import hellfirepvp.astralsorcery.common.util.LogHelper;
 
@@ -230,7 +231,7 @@ public class BlockChalice extends BlockContainer {
                     }
                 }
 
-                world.markBlockForUpdate(tileX, tileY, tileZ);
+                BlockChangeWorldAccess.markTileSync(world, tileX, tileY, tileZ);
                 hellfirepvp.astralsorcery.common.util.LogHelper
                     .debug("[BlockChalice] Filled container from chalice at " + tileX + "," + tileY + "," + tileZ);
                 return true;
@@ -272,7 +273,7 @@ public class BlockChalice extends BlockContainer {
                     }
                 }
 
-                world.markBlockForUpdate(tileX, tileY, tileZ);
+                BlockChangeWorldAccess.markTileSync(world, tileX, tileY, tileZ);
                 hellfirepvp.astralsorcery.common.util.LogHelper
                     .debug("[BlockChalice] Emptied container into chalice at " + tileX + "," + tileY + "," + tileZ);
                 return true;
@@ -29,6 +29,7 @@ import net.minecraftforge.fluids.IFluidContainerItem;
 
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
+import hellfirepvp.astralsorcery.common.event.BlockChangeWorldAccess;
 import hellfirepvp.astralsorcery.common.lib.CreativeTabsAS;
 import hellfirepvp.astralsorcery.common.tile.TileWell;
 import hellfirepvp.astralsorcery.common.util.FluidHelper;
@@ -215,7 +216,7 @@ public class BlockWell extends BlockContainer {
                         "random.pop",
                         0.2F,
                         ((world.rand.nextFloat() - world.rand.nextFloat()) * 0.7F + 1.0F) * 2.0F);
-                    world.markBlockForUpdate(x, y, z);
+                    BlockChangeWorldAccess.markTileSync(world, x, y, z);
                     return true;
                 }
 
@@ -253,7 +254,7 @@ public class BlockWell extends BlockContainer {
                                 // Drain from well
                                 well.drain(net.minecraftforge.common.util.ForgeDirection.UNKNOWN, filled, true);
                                 world.playSoundAtEntity(player, "liquid.fill", 1F, 1F);
-                                world.markBlockForUpdate(x, y, z);
+                                BlockChangeWorldAccess.markTileSync(world, x, y, z);
                                 return true;
                             }
                         }
@@ -287,7 +288,7 @@ public class BlockWell extends BlockContainer {
                                     }
                                 }
                                 world.playSoundAtEntity(player, "liquid.fill", 1F, 1F);
-                                world.markBlockForUpdate(x, y, z);
+                                BlockChangeWorldAccess.markTileSync(world, x, y, z);
                                 return true;
                             }
                         }
@@ -28,6 +28,8 @@ import hellfirepvp.astralsorcery.common.data.research.ProgressionTier;
 import hellfirepvp.astralsorcery.common.data.research.ResearchManager;
 import hellfirepvp.astralsorcery.common.data.research.ResearchProgression;
 import hellfirepvp.astralsorcery.common.structure.StructureBuilder;
+import hellfirepvp.astralsorcery.common.util.log.LogCategory;
+import hellfirepvp.astralsorcery.common.util.log.LogLevel;
 
 /**
  * Astral Sorcery Command Handler
@@ -43,6 +45,7 @@ import hellfirepvp.astralsorcery.common.structure.StructureBuilder;
  * <li>/astralsorcery attune [player] <constellation> - Attune to constellation</li>
  * <li>/astralsorcery maximize [player] - Unlock everything</li>
  * <li>/astralsorcery build <structure> - Build multiblock structure at player position</li>
+ * <li>/astralsorcery log [category|all] [level] - Show/set log levels</li>
  * </ul>
  * <p>
  * Aliases: /as, /astralsorcery
@@ -51,7 +54,7 @@ import hellfirepvp.astralsorcery.common.structure.StructureBuilder;
 public class CommandAstralSorcery extends CommandBase {
 
     private static final String[] COMMANDS = new String[] { "help", "constellations", "research", "progress", "reset",
-        "exp", "attune", "maximize", "build" };
+        "exp", "attune", "maximize", "build", "log" };
 
     private final List<String> cmdAliases = new ArrayList<String>();
 
@@ -82,8 +85,8 @@ public class CommandAstralSorcery extends CommandBase {
 
     @Override
     public boolean isUsernameIndex(String[] args, int index) {
-        // Build command doesn't use player names
-        if (args.length > 0 && "build".equalsIgnoreCase(args[0])) {
+        // Build and log commands don't use player names
+        if (args.length > 0 && ("build".equalsIgnoreCase(args[0]) || "log".equalsIgnoreCase(args[0]))) {
             return false;
         }
         return index == 1;
@@ -118,6 +121,15 @@ public class CommandAstralSorcery extends CommandBase {
                 names.add("ruin");
                 return getListOfStringsMatchingLastWord(args, names.toArray(new String[0]));
             }
+            if ("log".equals(identifier)) {
+                List<String> names = new ArrayList<String>();
+                for (LogCategory category : LogCategory.values()) {
+                    names.add(category.name()
+                        .toLowerCase());
+                }
+                names.add("all");
+                return getListOfStringsMatchingLastWord(args, names.toArray(new String[0]));
+            }
             // Tab complete player names for other commands
             return getListOfStringsMatchingLastWord(
                 args,
@@ -150,6 +162,14 @@ public class CommandAstralSorcery extends CommandBase {
                     names.add(c.getUnlocalizedName());
                 }
                 return getListOfStringsMatchingLastWord(args, names.toArray(new String[0]));
+            } else if ("log".equals(identifier)) {
+                List<String> names = new ArrayList<String>();
+                for (LogLevel level : LogLevel.values()) {
+                    names.add(level.name()
+                        .toLowerCase());
+                }
+                names.add("default");
+                return getListOfStringsMatchingLastWord(args, names.toArray(new String[0]));
             }
         }
         return Collections.emptyList();
@@ -207,6 +227,15 @@ public class CommandAstralSorcery extends CommandBase {
                 sender.addChatMessage(new ChatComponentText("§cUsage: /astralsorcery build <structure>"));
                 listStructures(sender);
             }
+        } else if ("log".equalsIgnoreCase(identifier)) {
+            if (args.length == 1) {
+                listLogLevels(sender);
+            } else if (args.length == 3) {
+                setLogLevel(sender, args[1], args[2]);
+            } else {
+                sender.addChatMessage(
+                    new ChatComponentText("§cUsage: /astralsorcery log [<category;all> <level;default>]"));
+            }
         }
     }
 
@@ -243,6 +272,46 @@ public class CommandAstralSorcery extends CommandBase {
         sender.addChatMessage(
             new ChatComponentText(
                 "§a/astralsorcery build <structure>§7 - build multiblock structure at your position"));
+        sender.addChatMessage(new ChatComponentText("§a/astralsorcery log§7 - lists the log level of every category"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "§a/astralsorcery log <category;all> <level;default>§7 - sets the log level of a category or all"));
+    }
+
+    private void listLogLevels(ICommandSender sender) {
+        sender.addChatMessage(new ChatComponentText("§cLog categories:"));
+        for (LogCategory category : LogCategory.values()) {
+            sender.addChatMessage(
+                new ChatComponentText(
+                    "§7" + category.name()
+                        .toLowerCase() + ": " + category.getLevel()));
+        }
+    }
+
+    private void setLogLevel(ICommandSender sender, String categoryName, String levelName) {
+        LogLevel level = null;
+        if (!"default".equalsIgnoreCase(levelName)) {
+            level = LogLevel.byName(levelName);
+            if (level == null) {
+                sender.addChatMessage(new ChatComponentText("§cUnknown log level: " + levelName));
+                return;
+            }
+        }
+        if ("all".equalsIgnoreCase(categoryName)) {
+            for (LogCategory category : LogCategory.values()) {
+                category.setLevel(level);
+            }
+        } else {
+            LogCategory category = LogCategory.byName(categoryName);
+            if (category == null) {
+                sender.addChatMessage(new ChatComponentText("§cUnknown log category: " + categoryName));
+                return;
+            }
+            category.setLevel(level);
+        }
+        sender.addChatMessage(
+            new ChatComponentText(
+                "§aSet log level of " + categoryName + " to " + (level == null ? "default" : level.name())));
     }
 
     private void listConstellations(ICommandSender sender) {
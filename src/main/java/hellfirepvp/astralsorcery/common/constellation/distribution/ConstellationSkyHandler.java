@@ -241,15 +241,14 @@ public class ConstellationSkyHandler {
             return false;
         }
 
-        return handler.getActiveConstellations()
-            .contains(constellation);
+        return handler.isConstellationVisible(constellation);
     }
 
     /**
      * Get all currently visible constellations
      *
      * @param world The world
-     * @return List of visible constellations
+     * @return Unmodifiable list of visible constellations, shared with every other caller
      */
     public java.util.List<hellfirepvp.astralsorcery.common.constellation.IConstellation> getVisibleConstellations(
         net.minecraft.world.World world) {
@@ -258,7 +257,7 @@ public class ConstellationSkyHandler {
             return java.util.Collections.emptyList();
         }
 
-        return new java.util.ArrayList<>(handler.getActiveConstellations());
+        return handler.getActiveConstellations();
     }
 
     /**
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * SkySchedule - Immutable 8-day constellation schedule of one world seed
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.constellation.distribution;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import hellfirepvp.astralsorcery.common.constellation.ConstellationRegistry;
+import hellfirepvp.astralsorcery.common.constellation.IConstellation;
+
+/**
+ * SkySchedule - Constellation visibility and distribution per day of the cycle (1.7.10)
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Every constellation gets a dense id, visibility of a day is a bitset over these ids</li>
+ * <li>Distributions are a float[] per day, indexed by the same ids</li>
+ * <li>Active lists and distribution maps per day are built once and handed out unmodifiable</li>
+ * <li>Immutable once built, so any thread may read it without locking or allocating</li>
+ * </ul>
+ * <p>
+ * Built by {@link WorldSkyHandler} whenever it sets up the constellations of its seed.
+ */
+public final class SkySchedule {
+
+    /**
+     * Length of the constellation cycle in days
+     */
+    public static final int CYCLE_DAYS = 8;
+
+    /**
+     * Constellations visible at most on a single day
+     */
+    public static final int MAX_VISIBLE = 10;
+
+    private final long seed;
+
+    private final IConstellation[] constellations;
+    private final Map<IConstellation, Integer> ids;
+
+    /**
+     * [day][word], bit {@code id} is set if the constellation is visible on that day
+     */
+    private final long[][] visible;
+
+    /**
+     * [day][id], distribution factor of each constellation on that day
+     */
+    private final float[][] distributions;
+
+    private final List<List<IConstellation>> activeConstellations;
+    private final List<Map<IConstellation, Float>> activeDistributions;
+
+    /**
+     * @param seed         The world seed this schedule belongs to
+     * @param dayMappings  Constellations per day of the cycle, in showup order, only the first
+     *                     {@link #MAX_VISIBLE} of each day are visible
+     * @param dayDistrMaps Distribution factor per constellation and day of the cycle
+     */
+    SkySchedule(long seed, List<? extends List<IConstellation>> dayMappings,
+        List<? extends Map<IConstellation, Float>> dayDistrMaps) {
+        this.seed = seed;
+
+        // Registered constellations first so ids are stable for a given registry
+        Map<IConstellation, Integer> idMap = new IdentityHashMap<>();
+        List<IConstellation> byId = new ArrayList<>();
+        for (IConstellation c : ConstellationRegistry.getAllConstellations()) {
+            assignId(c, idMap, byId);
+        }
+        for (int day = 0; day < CYCLE_DAYS; day++) {
+            for (IConstellation c : dayMappings.get(day)) {
+                assignId(c, idMap, byId);
+            }
+            for (IConstellation c : dayDistrMaps.get(day)
+                .keySet()) {
+                assignId(c, idMap, byId);
+            }
+        }
+        this.constellations = byId.toArray(new IConstellation[0]);
+        this.ids = idMap;
+
+        int count = constellations.length;
+        this.visible = new long[CYCLE_DAYS][(count + 63) >>> 6];
+        this.distributions = new float[CYCLE_DAYS][count];
+        List<List<IConstellation>> activeLists = new ArrayList<>(CYCLE_DAYS);
+        List<Map<IConstellation, Float>> distrMaps = new ArrayList<>(CYCLE_DAYS);
+
+        for (int day = 0; day < CYCLE_DAYS; day++) {
+            for (Map.Entry<IConstellation, Float> entry : dayDistrMaps.get(day)
+                .entrySet()) {
+                distributions[day][idMap.get(entry.getKey())] = entry.getValue();
+            }
+
+            List<IConstellation> mapping = dayMappings.get(day);
+            List<IConstellation> active = new ArrayList<>(Math.min(MAX_VISIBLE, mapping.size()));
+            Map<IConstellation, Float> activeDistr = new LinkedHashMap<>();
+            for (int i = 0; i < Math.min(MAX_VISIBLE, mapping.size()); i++) {
+                IConstellation c = mapping.get(i);
+                int id = idMap.get(c);
+                active.add(c);
+                visible[day][id >>> 6] |= 1L << id;
+                activeDistr.put(c, distributions[day][id]);
+            }
+            activeLists.add(Collections.unmodifiableList(active));
+            distrMaps.add(Collections.unmodifiableMap(activeDistr));
+        }
+        this.activeConstellations = Collections.unmodifiableList(activeLists);
+        this.activeDistributions = Collections.unmodifiableList(distrMaps);
+    }
+
+    private static void assignId(IConstellation c, Map<IConstellation, Integer> idMap, List<IConstellation> byId) {
+        if (!idMap.containsKey(c)) {
+            idMap.put(c, byId.size());
+            byId.add(c);
+        }
+    }
+
+    /**
+     * Day of the cycle a world day falls on
+     */
+    public static int getCycleDay(long worldDay) {
+        return (int) (((worldDay % CYCLE_DAYS) + CYCLE_DAYS) % CYCLE_DAYS);
+    }
+
+    /**
+     * Day of the cycle the given world is on
+     */
+    public static int getCycleDay(net.minecraft.world.World world) {
+        return getCycleDay(world.getWorldTime() / 24000L);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return The dense id of the constellation, or -1 if it is not part of this schedule
+     */
+    public int getId(IConstellation constellation) {
+        Integer id = ids.get(constellation);
+        return id == null ? -1 : id;
+    }
+
+    public IConstellation getConstellation(int id) {
+        return constellations[id];
+    }
+
+    public int getConstellationCount() {
+        return constellations.length;
+    }
+
+    public boolean isVisible(int cycleDay, IConstellation constellation) {
+        return isVisible(cycleDay, getId(constellation));
+    }
+
+    public boolean isVisible(int cycleDay, int id) {
+        if (id < 0 || id >= constellations.length) {
+            return false;
+        }
+        return (visible[cycleDay][id >>> 6] & (1L << id)) != 0;
+    }
+
+    public float getDistribution(int cycleDay, IConstellation constellation) {
+        return getDistribution(cycleDay, getId(constellation));
+    }
+
+    public float getDistribution(int cycleDay, int id) {
+        if (id < 0 || id >= constellations.length) {
+            return 0F;
+        }
+        return distributions[cycleDay][id];
+    }
+
+    /**
+     * @return Unmodifiable list of the constellations visible on that day, in showup order
+     */
+    public List<IConstellation> getActiveConstellations(int cycleDay) {
+        return activeConstellations.get(cycleDay);
+    }
+
+    /**
+     * @return Unmodifiable map of the visible constellations of that day to their distribution
+     */
+    public Map<IConstellation, Float> getActiveDistributions(int cycleDay) {
+        return activeDistributions.get(cycleDay);
+    }
+}
@@ -11,8 +11,10 @@
 
 package hellfirepvp.astralsorcery.common.constellation.distribution;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
@@ -42,6 +44,9 @@ import hellfirepvp.astralsorcery.common.util.LogHelper;
  * <li>Each day: 3 Major/Weak constellations visible</li>
  * <li>Minor constellations: tied to moon phase</li>
  * </ul>
+ * <p>
+ * The cycle of a seed is computed once into an immutable {@link SkySchedule}. All queries are
+ * lookups into that shared snapshot, readers never lock and never allocate.
  */
 public class WorldSkyHandler {
 
@@ -51,28 +56,15 @@ public class WorldSkyHandler {
     public int lastRecordedDay = -1;
 
     /**
-     * Currently visible constellations
-     */
-    private LinkedList<IConstellation> activeConstellations = new LinkedList<>();
-
-    /**
-     * Pre-calculated constellation mappings for 8-day cycle
-     * Key: Day in cycle (0-7)
-     * Value: List of constellations visible on that day
-     */
-    private java.util.Map<Integer, java.util.LinkedList<IConstellation>> initialValueMappings = new java.util.HashMap<>();
-
-    /**
-     * Pre-calculated distribution factors for each constellation
-     * Key: Day in cycle (0-7)
-     * Value: Map of constellation → distribution factor
+     * Pre-calculated constellation visibility and distribution for the 8-day cycle.
+     * Replaced as a whole, only by {@link #setupInitialConstellations()}.
      */
-    private java.util.Map<Integer, java.util.Map<IConstellation, Float>> dayDistributionMap = new java.util.HashMap<>();
+    private volatile SkySchedule schedule;
 
     /**
-     * Active distribution factors for current day
+     * Day in cycle (0-7) the active constellations are taken from, -1 before the first day was recorded
      */
-    private java.util.Map<IConstellation, Float> activeDistributions = new java.util.HashMap<>();
+    private volatile int activeDay = -1;
 
     /**
      * Random number generator seeded with world seed
@@ -138,8 +130,7 @@ public class WorldSkyHandler {
                 updateDayProgression(world, currentDay, dayDifference);
             } else if (dayDifference < 0) {
                 // Time went backwards (command changed time?)
-                // Reset and recalculate
-                setupInitialConstellations();
+                // The schedule only depends on the seed, just pick the day again
                 updateDayProgression(world, currentDay, currentDay + 1);
             }
 
@@ -171,43 +162,30 @@ public class WorldSkyHandler {
      * @param day   The day number
      */
     private void recalculateActiveConstellations(net.minecraft.world.World world, int day) {
-        activeConstellations.clear();
-        activeDistributions.clear();
-
         // 获取8天周期中的天数
-        int activeDay = ((day % 8) + 8) % 8;
-
-        // 从预计算的映射中获取星座列表
-        java.util.LinkedList<IConstellation> linkedConstellations = initialValueMappings
-            .computeIfAbsent(activeDay, k -> new java.util.LinkedList<IConstellation>());
-
-        // 最多10个星座
-        for (int i = 0; i < Math.min(10, linkedConstellations.size()); i++) {
-            activeConstellations.addLast(linkedConstellations.get(i));
-        }
-
-        // 复制分布因子
-        java.util.Map<IConstellation, Float> iteration = dayDistributionMap.get(activeDay);
-        if (iteration != null) {
-            activeDistributions.putAll(iteration);
-        }
-
-        LogHelper.debug("Day " + day + ": " + activeConstellations.size() + " constellations visible");
+        activeDay = SkySchedule.getCycleDay(day);
+
+        LogHelper.debug(() ->
+            "Day " + day
+                + ": "
+                + schedule.getActiveConstellations(activeDay)
+                    .size()
+                + " constellations visible");
     }
 
     /**
      * Setup initial constellation mappings
-     * Pre-calculates constellation visibility for all 8 days
+     * Pre-calculates constellation visibility for all 8 days and publishes them as a new {@link SkySchedule}
      */
     private void setupInitialConstellations() {
         LogHelper.debug("Setting up initial constellation mappings...");
 
-        // 初始化8天的映射
-        initialValueMappings.clear();
-        dayDistributionMap.clear();
-        for (int i = 0; i < 8; i++) {
-            initialValueMappings.put(i, new java.util.LinkedList<IConstellation>());
-            dayDistributionMap.put(i, new java.util.HashMap<IConstellation, Float>());
+        // 初始化8天的映射, only used while building the schedule
+        List<LinkedList<IConstellation>> initialValueMappings = new ArrayList<>(SkySchedule.CYCLE_DAYS);
+        List<Map<IConstellation, Float>> dayDistributionMap = new ArrayList<>(SkySchedule.CYCLE_DAYS);
+        for (int i = 0; i < SkySchedule.CYCLE_DAYS; i++) {
+            initialValueMappings.add(new LinkedList<IConstellation>());
+            dayDistributionMap.add(new java.util.HashMap<IConstellation, Float>());
         }
 
         refreshRandom();
@@ -296,6 +274,7 @@ public class WorldSkyHandler {
             }
         }
 
+        this.schedule = new SkySchedule(savedSeed, initialValueMappings, dayDistributionMap);
         LogHelper.info("Pre-calculated constellation mappings for 8-day cycle");
     }
 
@@ -363,13 +342,32 @@ public class WorldSkyHandler {
         return it;
     }
 
+    /**
+     * Get the pre-calculated schedule of this world's seed
+     *
+     * @return The shared, immutable schedule
+     */
+    public SkySchedule getSchedule() {
+        return schedule;
+    }
+
+    /**
+     * Get the day in cycle the active constellations are taken from
+     *
+     * @return Day in cycle (0-7), or -1 if no day was recorded yet
+     */
+    public int getActiveDay() {
+        return activeDay;
+    }
+
     /**
      * Get currently active constellations
      *
-     * @return List of active constellations
+     * @return Unmodifiable, shared list of active constellations
      */
-    public LinkedList<IConstellation> getActiveConstellations() {
-        return activeConstellations;
+    public List<IConstellation> getActiveConstellations() {
+        int day = activeDay;
+        return day < 0 ? Collections.<IConstellation>emptyList() : schedule.getActiveConstellations(day);
     }
 
     /**
@@ -394,7 +392,8 @@ public class WorldSkyHandler {
      * @return true if visible
      */
     public boolean isConstellationVisible(IConstellation constellation) {
-        return activeConstellations.contains(constellation);
+        int day = activeDay;
+        return day >= 0 && schedule.isVisible(day, constellation);
     }
 
     /**
@@ -405,10 +404,8 @@ public class WorldSkyHandler {
      * @return Distribution factor (0.0 to 1.0)
      */
     public float getConstellationDistribution(IConstellation constellation) {
-        if (!activeDistributions.containsKey(constellation)) {
-            return 0.0F;
-        }
-        return activeDistributions.get(constellation);
+        int day = activeDay;
+        return day < 0 ? 0.0F : schedule.getDistribution(day, constellation);
     }
 
     /**
@@ -416,16 +413,11 @@ public class WorldSkyHandler {
      * <p>
      * Returns a map of constellation → distribution factor
      *
-     * @return Map of distributions
+     * @return Unmodifiable, shared map of distributions of the active constellations
      */
     public Map<IConstellation, Float> getAllDistributions() {
-        Map<IConstellation, Float> distributions = new HashMap<>();
-
-        for (IConstellation constellation : activeConstellations) {
-            distributions.put(constellation, getConstellationDistribution(constellation));
-        }
-
-        return distributions;
+        int day = activeDay;
+        return day < 0 ? Collections.<IConstellation, Float>emptyMap() : schedule.getActiveDistributions(day);
     }
 
     /**
@@ -125,7 +125,7 @@ public abstract class AbstractPerk {
         this.applyPerkLogic(player, side);
         if (PerkAttributeHelper.getOrCreateMap(player, side)
             .markPerkApplied(this)) {
-            LogHelper.debug("Perk " + getRegistryName() + " applied to " + player.getCommandSenderName());
+            LogHelper.debug(() -> "Perk " + getRegistryName() + " applied to " + player.getCommandSenderName());
         }
     }
 
@@ -140,7 +140,7 @@ public abstract class AbstractPerk {
         this.removePerkLogic(player, side);
         if (PerkAttributeHelper.getOrCreateMap(player, side)
             .markPerkRemoved(this)) {
-            LogHelper.debug("Perk " + getRegistryName() + " removed from " + player.getCommandSenderName());
+            LogHelper.debug(() -> "Perk " + getRegistryName() + " removed from " + player.getCommandSenderName());
         }
     }
 
@@ -6,11 +6,11 @@
 
 package hellfirepvp.astralsorcery.common.constellation.perk;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 import net.minecraft.entity.player.EntityPlayer;
 
+import hellfirepvp.astralsorcery.common.data.config.Config;
 import hellfirepvp.astralsorcery.common.util.LogHelper;
 
 /**
@@ -22,6 +22,8 @@ import hellfirepvp.astralsorcery.common.util.LogHelper;
  * <li>XP requirement lookup</li>
  * <li>Next level percentage calculation</li>
  * <li>Level cap configuration</li>
+ * <li>Cumulative XP table as a primitive array, levels are found with a binary search</li>
+ * <li>XP curve configurable in the "perks" config category</li>
  * </ul>
  * <p>
  * <b>1.7.10 API Notes:</b>
@@ -33,26 +35,51 @@ import hellfirepvp.astralsorcery.common.util.LogHelper;
  */
 public class PerkLevelManager {
 
-    private static int LEVEL_CAP = 30;
+    private static int LEVEL_CAP = Config.perkLevelCap;
     public static final PerkLevelManager INSTANCE = new PerkLevelManager();
 
-    private Map<Integer, Long> totalExpLevelRequired = new HashMap<>();
+    private int expBase = Config.perkExpBase;
+    private double expGrowthBase = Config.perkExpGrowthBase;
+    private int expGrowthDivisor = Config.perkExpGrowthDivisor;
+    private int expGrowthOffset = Config.perkExpGrowthOffset;
+
+    /**
+     * Index i holds the total XP at which level i is left, index 0 is 0.
+     * Strictly increasing, replaced as a whole so readers never see a partial table.
+     */
+    private volatile long[] totalExpLevelRequired = new long[] { 0L };
 
     private PerkLevelManager() {
-        ensureLevels();
+        rebuildTable();
+    }
+
+    /**
+     * Set the level cap and XP curve and rebuild the level table.
+     * Level i requires {@code expBase + floor(expGrowthBase ^ (i / expGrowthDivisor + expGrowthOffset))} XP.
+     */
+    public void setLevelCurve(int levelCap, int expBase, double expGrowthBase, int expGrowthDivisor,
+        int expGrowthOffset) {
+        LEVEL_CAP = Math.max(1, levelCap);
+        this.expBase = expBase;
+        this.expGrowthBase = expGrowthBase;
+        this.expGrowthDivisor = Math.max(1, expGrowthDivisor);
+        this.expGrowthOffset = expGrowthOffset;
+        rebuildTable();
     }
 
     /**
-     * Ensure level requirements are calculated
+     * Calculate the level requirements up to the current level cap
      */
-    private void ensureLevels() {
-        if (totalExpLevelRequired.isEmpty()) {
-            for (int i = 1; i <= LEVEL_CAP; i++) {
-                long prev = totalExpLevelRequired.getOrDefault(i - 1, 0L);
-                totalExpLevelRequired.put(i, prev + 150L + (long) Math.pow(2, (i / 2) + 3));
-            }
-            LogHelper.info("Initialized " + LEVEL_CAP + " perk levels");
+    private void rebuildTable() {
+        long[] table = new long[LEVEL_CAP + 1];
+        for (int i = 1; i <= LEVEL_CAP; i++) {
+            long levelExp = expBase + (long) Math.pow(expGrowthBase, (i / expGrowthDivisor) + expGrowthOffset);
+            // Keep the table strictly increasing and clear of overflow, the binary search relies on it
+            long next = table[i - 1] + Math.max(1L, levelExp);
+            table[i] = next < table[i - 1] ? Long.MAX_VALUE : next;
         }
+        this.totalExpLevelRequired = table;
+        LogHelper.info("Initialized " + LEVEL_CAP + " perk levels");
     }
 
     /**
@@ -74,20 +101,16 @@ public class PerkLevelManager {
      * @return The calculated level
      */
     private int getLevel(long totalExp, EntityPlayer player) {
-        ensureLevels();
-
         if (totalExp <= 0) {
             return 1;
         }
+        long[] table = this.totalExpLevelRequired;
+        int levelCap = Math.min(getLevelCapFor(player), table.length - 1);
 
-        int levelCap = getLevelCapFor(player);
-
-        for (int i = 1; i <= levelCap; i++) {
-            if (totalExp < totalExpLevelRequired.getOrDefault(i, Long.MAX_VALUE)) {
-                return i;
-            }
-        }
-        return levelCap;
+        // First level whose requirement is above totalExp
+        int index = Arrays.binarySearch(table, 1, levelCap + 1, totalExp);
+        int level = index >= 0 ? index + 1 : -(index + 1);
+        return Math.min(level, levelCap);
     }
 
     /**
@@ -98,17 +121,16 @@ public class PerkLevelManager {
      * @return Total XP required
      */
     public long getExpForLevel(int level, EntityPlayer player) {
-        ensureLevels();
-
         if (level <= 1) {
             return 0;
         }
-        int levelCap = getLevelCapFor(player);
+        long[] table = this.totalExpLevelRequired;
+        int levelCap = Math.min(getLevelCapFor(player), table.length - 1);
 
         if (level > levelCap) {
             level = levelCap;
         }
-        return totalExpLevelRequired.get(level);
+        return table[level];
     }
 
     /**
@@ -119,14 +141,13 @@ public class PerkLevelManager {
      * @return Percentage to next level (0-1)
      */
     public float getNextLevelPercent(double totalExp, EntityPlayer player) {
-        ensureLevels();
-
+        long[] table = this.totalExpLevelRequired;
         int level = getLevel(totalExp, player);
-        if (level >= LEVEL_CAP) {
+        if (level >= Math.min(getLevelCapFor(player), table.length - 1)) {
             return 1F; // Done
         }
-        long nextLevel = this.totalExpLevelRequired.getOrDefault(level, 0L);
-        long prevLevel = this.totalExpLevelRequired.getOrDefault(level - 1, 0L);
+        long nextLevel = table[level];
+        long prevLevel = table[level - 1];
         return ((float) (totalExp - prevLevel)) / ((float) (nextLevel - prevLevel));
     }
 
@@ -147,7 +168,8 @@ public class PerkLevelManager {
      * @param cap The new level cap
      */
     public static void setLevelCap(int cap) {
-        LEVEL_CAP = cap;
+        LEVEL_CAP = Math.max(1, cap);
+        INSTANCE.rebuildTable();
         LogHelper.info("Perk level cap set to " + cap);
     }
 
@@ -7,13 +7,11 @@
 package hellfirepvp.astralsorcery.common.constellation.perk;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 import net.minecraft.entity.player.EntityPlayer;
 
-import com.google.common.collect.Lists;
-
 import cpw.mods.fml.relauncher.Side;
+import hellfirepvp.astralsorcery.common.constellation.perk.attribute.AttributeTypeRegistry;
 import hellfirepvp.astralsorcery.common.constellation.perk.attribute.PerkAttributeModifier;
 import hellfirepvp.astralsorcery.common.util.LogHelper;
 
@@ -25,20 +23,28 @@ import hellfirepvp.astralsorcery.common.util.LogHelper;
  * <li>Tracks applied perks and modifiers</li>
  * <li>Applies/removes attribute modifiers</li>
  * <li>Calculates modifier values</li>
+ * <li>Modifiers are bucketed by interned type id and mode, the per-mode sums and products
+ * are recomputed on apply/remove only, so evaluation is an allocation-free array lookup</li>
  * </ul>
  * <p>
  * <b>1.7.10 API Notes:</b>
  * <ul>
  * <li>Simplified without PerkConverter system</li>
- * <li>No AttributeTypeRegistry for now</li>
+ * <li>Type ids come from {@link AttributeTypeRegistry#getTypeId(String)}</li>
  * <li>Modifier calculation simplified</li>
  * </ul>
  */
 public class PlayerAttributeMap {
 
+    private static final int MODE_COUNT = PerkAttributeModifier.Mode.values().length;
+
     private Side side;
     private Set<AbstractPerk> cacheAppliedPerks = new HashSet<>();
-    private Map<String, List<PerkAttributeModifier>> attributes = new HashMap<>();
+
+    /**
+     * Applied modifiers, indexed by type id. Null for types without modifiers.
+     */
+    private TypeModifiers[] attributes = new TypeModifiers[16];
 
     /**
      * Create a new player attribute map
@@ -58,14 +64,19 @@ public class PlayerAttributeMap {
      * @return true if applied, false if already present
      */
     public boolean applyModifier(EntityPlayer player, String type, PerkAttributeModifier modifier) {
-        boolean noModifiers = getModifiersByType(type, modifier.getMode()).isEmpty();
-        List<PerkAttributeModifier> modifiers = attributes.computeIfAbsent(type, t -> Lists.newArrayList());
-        if (modifiers.contains(modifier)) {
+        int typeId = AttributeTypeRegistry.getTypeId(type);
+        if (typeId >= attributes.length) {
+            attributes = Arrays.copyOf(attributes, Math.max(typeId + 1, attributes.length * 2));
+        }
+        TypeModifiers modifiers = attributes[typeId];
+        if (modifiers == null) {
+            modifiers = attributes[typeId] = new TypeModifiers();
+        }
+        if (!modifiers.add(modifier)) {
             return false;
         }
 
-        modifiers.add(modifier);
-        LogHelper.debug("Applied modifier " + modifier.getId() + " for type " + type);
+        LogHelper.debug(() -> "Applied modifier " + modifier.getId() + " for type " + type);
         return true;
     }
 
@@ -78,17 +89,16 @@ public class PlayerAttributeMap {
      * @return true if removed, false if not present
      */
     public boolean removeModifier(EntityPlayer player, String type, PerkAttributeModifier modifier) {
-        List<PerkAttributeModifier> modifiers = attributes.get(type);
-        if (modifiers == null) {
+        TypeModifiers modifiers = getModifiers(AttributeTypeRegistry.getTypeId(type));
+        if (modifiers == null || !modifiers.remove(modifier)) {
             return false;
         }
 
-        if (modifiers.remove(modifier)) {
-            boolean completelyRemoved = modifiers.isEmpty();
-            LogHelper.debug("Removed modifier " + modifier.getId() + " for type " + type);
-            return true;
+        if (modifiers.isEmpty()) {
+            attributes[AttributeTypeRegistry.getTypeId(type)] = null;
         }
-        return false;
+        LogHelper.debug(() -> "Removed modifier " + modifier.getId() + " for type " + type);
+        return true;
     }
 
     /**
@@ -119,14 +129,8 @@ public class PlayerAttributeMap {
         return cacheAppliedPerks;
     }
 
-    /**
-     * Get modifiers by type and mode
-     */
-    private List<PerkAttributeModifier> getModifiersByType(String type, PerkAttributeModifier.Mode mode) {
-        List<PerkAttributeModifier> modifiers = attributes.getOrDefault(type, new ArrayList<>());
-        return modifiers.stream()
-            .filter(mod -> mod.getMode() == mode)
-            .collect(Collectors.toList());
+    private TypeModifiers getModifiers(int typeId) {
+        return typeId >= 0 && typeId < attributes.length ? attributes[typeId] : null;
     }
 
     /**
@@ -138,46 +142,38 @@ public class PlayerAttributeMap {
      * @return The calculated modifier value
      */
     public float getModifier(EntityPlayer player, String type, Collection<PerkAttributeModifier.Mode> applicableModes) {
-        float mod = 1F;
-
-        // Apply addition modifiers
-        if (applicableModes.contains(PerkAttributeModifier.Mode.ADDITION)) {
-            for (PerkAttributeModifier modifier : getModifiersByType(type, PerkAttributeModifier.Mode.ADDITION)) {
-                mod += modifier.getFlatValue();
-            }
-        }
-
-        // Apply added multiply modifiers
-        if (applicableModes.contains(PerkAttributeModifier.Mode.ADDED_MULTIPLY)) {
-            float multiply = mod;
-            for (PerkAttributeModifier modifier : getModifiersByType(type, PerkAttributeModifier.Mode.ADDED_MULTIPLY)) {
-                mod += multiply * modifier.getFlatValue();
-            }
-        }
-
-        // Apply stacking multiply modifiers
-        if (applicableModes.contains(PerkAttributeModifier.Mode.STACKING_MULTIPLY)) {
-            for (PerkAttributeModifier modifier : getModifiersByType(
-                type,
-                PerkAttributeModifier.Mode.STACKING_MULTIPLY)) {
-                mod *= (modifier.getFlatValue() - 1F) + 1;
-            }
-        }
-        return mod;
+        return evaluate(
+            AttributeTypeRegistry.getTypeId(type),
+            1F,
+            applicableModes.contains(PerkAttributeModifier.Mode.ADDITION),
+            applicableModes.contains(PerkAttributeModifier.Mode.ADDED_MULTIPLY),
+            applicableModes.contains(PerkAttributeModifier.Mode.STACKING_MULTIPLY));
     }
 
     /**
      * Get modifier value for type (all modes)
      */
     public float getModifier(EntityPlayer player, String type) {
-        return getModifier(player, type, Arrays.asList(PerkAttributeModifier.Mode.values()));
+        return getModifier(player, AttributeTypeRegistry.getTypeId(type));
+    }
+
+    /**
+     * Get modifier value for type id (all modes)
+     */
+    public float getModifier(EntityPlayer player, int typeId) {
+        return evaluate(typeId, 1F, true, true, true);
     }
 
     /**
      * Get modifier value for type (single mode)
      */
     public float getModifier(EntityPlayer player, String type, PerkAttributeModifier.Mode mode) {
-        return getModifier(player, type, Lists.newArrayList(mode));
+        return evaluate(
+            AttributeTypeRegistry.getTypeId(type),
+            1F,
+            mode == PerkAttributeModifier.Mode.ADDITION,
+            mode == PerkAttributeModifier.Mode.ADDED_MULTIPLY,
+            mode == PerkAttributeModifier.Mode.STACKING_MULTIPLY);
     }
 
     /**
@@ -189,17 +185,107 @@ public class PlayerAttributeMap {
      * @return The modified value
      */
     public float modifyValue(EntityPlayer player, String type, float value) {
-        for (PerkAttributeModifier mod : getModifiersByType(type, PerkAttributeModifier.Mode.ADDITION)) {
-            value += mod.getFlatValue();
+        return modifyValue(player, AttributeTypeRegistry.getTypeId(type), value);
+    }
+
+    /**
+     * Modify a value with all applicable modifiers
+     *
+     * @param player The player
+     * @param typeId The interned attribute type id
+     * @param value  The base value
+     * @return The modified value
+     */
+    public float modifyValue(EntityPlayer player, int typeId, float value) {
+        return evaluate(typeId, value, true, true, true);
+    }
+
+    /**
+     * Additions are summed onto the value first, added multipliers then scale that sum,
+     * stacking multipliers finally multiply the result.
+     */
+    private float evaluate(int typeId, float value, boolean addition, boolean addedMultiply,
+        boolean stackingMultiply) {
+        TypeModifiers modifiers = getModifiers(typeId);
+        if (modifiers == null) {
+            return value;
+        }
+        if (addition) {
+            value += modifiers.additionSum;
         }
-        float multiply = value;
-        for (PerkAttributeModifier mod : getModifiersByType(type, PerkAttributeModifier.Mode.ADDED_MULTIPLY)) {
-            value += multiply * mod.getFlatValue();
+        if (addedMultiply) {
+            value += value * modifiers.addedMultiplySum;
         }
-        for (PerkAttributeModifier mod : getModifiersByType(type, PerkAttributeModifier.Mode.STACKING_MULTIPLY)) {
-            value *= (mod.getFlatValue() - 1F) + 1F;
+        if (stackingMultiply) {
+            value *= modifiers.stackingProduct;
         }
         return value;
     }
 
+    /**
+     * Modifiers of a single attribute type, bucketed by mode, with cached aggregates
+     */
+    private static class TypeModifiers {
+
+        @SuppressWarnings("unchecked")
+        private final List<PerkAttributeModifier>[] byMode = new List[MODE_COUNT];
+
+        private float additionSum = 0F;
+        private float addedMultiplySum = 0F;
+        private float stackingProduct = 1F;
+
+        private TypeModifiers() {
+            for (int i = 0; i < MODE_COUNT; i++) {
+                byMode[i] = new ArrayList<>(2);
+            }
+        }
+
+        private boolean add(PerkAttributeModifier modifier) {
+            List<PerkAttributeModifier> bucket = byMode[modifier.getMode()
+                .ordinal()];
+            if (bucket.contains(modifier)) {
+                return false;
+            }
+            bucket.add(modifier);
+            recalculate();
+            return true;
+        }
+
+        private boolean remove(PerkAttributeModifier modifier) {
+            if (!byMode[modifier.getMode()
+                .ordinal()].remove(modifier)) {
+                return false;
+            }
+            recalculate();
+            return true;
+        }
+
+        private boolean isEmpty() {
+            for (List<PerkAttributeModifier> bucket : byMode) {
+                if (!bucket.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Modifier values are read here, a value changed after applying is picked up on the next apply/remove
+         */
+        private void recalculate() {
+            additionSum = 0F;
+            for (PerkAttributeModifier modifier : byMode[PerkAttributeModifier.Mode.ADDITION.ordinal()]) {
+                additionSum += modifier.getFlatValue();
+            }
+            addedMultiplySum = 0F;
+            for (PerkAttributeModifier modifier : byMode[PerkAttributeModifier.Mode.ADDED_MULTIPLY.ordinal()]) {
+                addedMultiplySum += modifier.getFlatValue();
+            }
+            stackingProduct = 1F;
+            for (PerkAttributeModifier modifier : byMode[PerkAttributeModifier.Mode.STACKING_MULTIPLY.ordinal()]) {
+                stackingProduct *= modifier.getFlatValue();
+            }
+        }
+    }
+
 }
@@ -96,11 +96,11 @@ public class AttributeModifierPerk extends AttributeConverterPerk {
     protected void applyPerkLogic(EntityPlayer player, Side side) {
         super.applyPerkLogic(player, side);
 
-        LogHelper.debug("Applying modifiers of " + getRegistryName());
+        LogHelper.debug(() -> "Applying modifiers of " + getRegistryName());
 
         PlayerAttributeMap attr = PerkAttributeHelper.getOrCreateMap(player, side);
         for (PerkAttributeModifier modifier : getModifiers(player, side)) {
-            LogHelper.debug("Applying modifier " + modifier.getId());
+            LogHelper.debug(() -> "Applying modifier " + modifier.getId());
             if (!attr.applyModifier(player, modifier.getAttributeType(), modifier)) {
                 LogHelper.warn("Could not apply modifier " + modifier.getId() + " - already applied!");
             }
@@ -111,11 +111,11 @@ public class AttributeModifierPerk extends AttributeConverterPerk {
     protected void removePerkLogic(EntityPlayer player, Side side) {
         super.removePerkLogic(player, side);
 
-        LogHelper.debug("Removing modifiers of " + getRegistryName());
+        LogHelper.debug(() -> "Removing modifiers of " + getRegistryName());
 
         PlayerAttributeMap attr = PerkAttributeHelper.getOrCreateMap(player, side);
         for (PerkAttributeModifier modifier : getModifiers(player, side)) {
-            LogHelper.debug("Removing modifier " + modifier.getId());
+            LogHelper.debug(() -> "Removing modifier " + modifier.getId());
             if (!attr.removeModifier(player, modifier.getAttributeType(), modifier)) {
                 LogHelper.warn("Could not remove modifier " + modifier.getId() + " - not applied!");
             }
@@ -7,6 +7,8 @@
 package hellfirepvp.astralsorcery.common.constellation.perk.attribute;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Attribute type registry - Registry for perk attribute types (1.7.10)
@@ -16,6 +18,7 @@ import java.util.*;
  * <li>Attribute type registration</li>
  * <li>Type lookup by string</li>
  * <li>Type limit configuration</li>
+ * <li>Interned int ids for type strings, used as array index by PlayerAttributeMap</li>
  * </ul>
  * <p>
  * <b>1.7.10 API Notes:</b>
@@ -40,6 +43,10 @@ public class AttributeTypeRegistry {
 
     private static Map<String, PerkAttributeType> typeMap = new HashMap<>();
 
+    // Queried from both the client and the integrated server thread
+    private static final Map<String, Integer> typeIds = new ConcurrentHashMap<>();
+    private static final AtomicInteger nextTypeId = new AtomicInteger(0);
+
     /**
      * Private constructor
      */
@@ -52,6 +59,7 @@ public class AttributeTypeRegistry {
      */
     public static void registerPerkType(PerkAttributeType type) {
         if (typeMap.putIfAbsent(type.getTypeString(), type) == null) {
+            getTypeId(type.getTypeString());
             type.init();
         }
     }
@@ -66,6 +74,22 @@ public class AttributeTypeRegistry {
         return typeMap.get(typeStr);
     }
 
+    /**
+     * Get the interned id of a type string. Ids are dense, start at 0 and are
+     * assigned on first request, so unregistered type strings get one as well.
+     * Ids are only stable for the lifetime of the game instance, never persist them.
+     *
+     * @param typeStr The type string
+     * @return The id of the type
+     */
+    public static int getTypeId(String typeStr) {
+        Integer id = typeIds.get(typeStr);
+        if (id == null) {
+            id = typeIds.computeIfAbsent(typeStr, t -> nextTypeId.getAndIncrement());
+        }
+        return id;
+    }
+
     /**
      * Get all registered types
      *
@@ -15,8 +15,6 @@ import java.util.Random;
 import java.util.UUID;
 
 import net.minecraft.item.ItemStack;
-import net.minecraftforge.fluids.FluidStack;
-import net.minecraftforge.oredict.OreDictionary;
 
 import hellfirepvp.astralsorcery.common.crafting.IGatedRecipe;
 import hellfirepvp.astralsorcery.common.tile.TileAltar;
@@ -32,7 +30,7 @@ import hellfirepvp.astralsorcery.common.util.FluidHelper;
  * <ul>
  * <li>No Crafttweaker integration</li>
  * <li>Simplified matching logic</li>
- * <li>Direct item/oreDict comparison</li>
+ * <li>Inputs are compiled into {@link AltarIngredient}s once, matching does not allocate</li>
  * <li>No advancement instances</li>
  * <li>Recipe callbacks for custom effects</li>
  * <li>Support for gated recipes (progression-based)</li>
@@ -40,8 +38,11 @@ import hellfirepvp.astralsorcery.common.util.FluidHelper;
  */
 public class ASAltarRecipe implements IGatedRecipe {
 
+    private static final boolean DEBUG_RECIPE = Boolean.getBoolean("astralsorcery.debug.recipe");
+
     private final TileAltar.AltarLevel altarLevel;
     private final ItemStack[] inputs;
+    private final AltarIngredient[] ingredients;
     private final ItemStack output;
     private final String constellation; // Optional constellation requirement
     private final int starlightRequired;
@@ -88,6 +89,7 @@ public class ASAltarRecipe implements IGatedRecipe {
         int starlightRequired, int craftingTime, boolean shaped, int width, int height) {
         this.altarLevel = altarLevel;
         this.inputs = inputs;
+        this.ingredients = AltarIngredient.compileAll(inputs);
         this.output = output;
         this.constellation = constellation;
         this.starlightRequired = starlightRequired;
@@ -123,16 +125,16 @@ public class ASAltarRecipe implements IGatedRecipe {
      * @return true if the recipe matches exactly
      */
     private boolean matchesShaped(ItemStack[] inputItems) {
-        if (inputItems.length != inputs.length) {
+        if (inputItems.length != ingredients.length) {
             return false;
         }
 
         // Exact slot-by-slot matching
-        for (int i = 0; i < inputs.length; i++) {
-            ItemStack recipeInput = inputs[i];
+        for (int i = 0; i < ingredients.length; i++) {
+            AltarIngredient ingredient = ingredients[i];
             ItemStack input = inputItems[i];
 
-            if (recipeInput == null || recipeInput.stackSize <= 0) {
+            if (ingredient.isEmpty()) {
                 // Recipe expects empty slot
                 if (input != null && input.stackSize > 0) {
                     return false; // Slot should be empty but isn't
@@ -144,12 +146,12 @@ public class ASAltarRecipe implements IGatedRecipe {
                 }
 
                 // Check item match
-                if (!matches(recipeInput, input)) {
+                if (!ingredient.matches(input)) {
                     return false;
                 }
 
-                // Check stack size
-                if (input.stackSize < recipeInput.stackSize) {
+                // Check stack size, fluid containers included
+                if (input.stackSize < ingredient.getAmount()) {
                     return false;
                 }
             }
@@ -164,45 +166,45 @@ public class ASAltarRecipe implements IGatedRecipe {
         return true;
     }
 
+    /**
+     * Per-thread remaining stack sizes for shapeless matching, instead of copying the stacks
+     */
+    private static final ThreadLocal<int[]> SHAPELESS_REMAINING = ThreadLocal.withInitial(() -> new int[16]);
+
     /**
      * Check if this recipe matches in shapeless mode (unordered)
      * <p>
-     * Original matching logic preserved
+     * Original matching logic preserved: every ingredient consumes from the first
+     * input stack it matches.
      *
      * @param inputItems The input items to check
      * @return true if the recipe matches
      */
     private boolean matchesShapeless(ItemStack[] inputItems) {
-        if (inputItems.length != inputs.length) {
+        if (inputItems.length != ingredients.length) {
             return false;
         }
 
-        // Create copies to avoid modifying originals
-        ItemStack[] recipeCopy = new ItemStack[inputs.length];
-        ItemStack[] inputCopy = new ItemStack[inputItems.length];
-
-        for (int i = 0; i < inputs.length; i++) {
-            recipeCopy[i] = inputs[i] == null ? null : inputs[i].copy();
-            inputCopy[i] = inputItems[i] == null ? null : inputItems[i].copy();
+        int[] remaining = SHAPELESS_REMAINING.get();
+        if (remaining.length < inputItems.length) {
+            remaining = new int[inputItems.length];
+            SHAPELESS_REMAINING.set(remaining);
+        }
+        for (int i = 0; i < inputItems.length; i++) {
+            remaining[i] = inputItems[i] == null ? 0 : inputItems[i].stackSize;
         }
 
         // Check each recipe input against available inputs
-        for (ItemStack recipeInput : recipeCopy) {
-            if (recipeInput == null) continue;
+        for (AltarIngredient ingredient : ingredients) {
+            if (ingredient.isEmpty()) continue;
 
             boolean found = false;
-            for (int i = 0; i < inputCopy.length; i++) {
-                ItemStack input = inputCopy[i];
-                if (input == null) continue;
+            for (int i = 0; i < inputItems.length; i++) {
+                if (remaining[i] <= 0) continue;
 
-                if (matches(recipeInput, input)) {
+                if (ingredient.matches(inputItems[i], remaining[i])) {
                     // Consume the input
-                    int newStackSize = input.stackSize - recipeInput.stackSize;
-                    if (newStackSize <= 0) {
-                        inputCopy[i] = null;
-                    } else {
-                        input.stackSize = newStackSize;
-                    }
+                    remaining[i] = Math.max(0, remaining[i] - ingredient.getAmount());
                     found = true;
                     break;
                 }
@@ -223,53 +225,10 @@ public class ASAltarRecipe implements IGatedRecipe {
     }
 
     /**
-     * Check if two ItemStacks match
-     * Supports both direct item matching and OreDict matching
-     * Phase 5: Added fluid container support
+     * Get the compiled matcher of a recipe slot
      */
-    private boolean matches(ItemStack recipeInput, ItemStack availableInput) {
-        if (availableInput == null || availableInput.stackSize <= 0) {
-            return false;
-        }
-
-        // Phase 5: Check if recipe input is a fluid container
-        // If recipe input is a fluid container, check for any container with same fluid
-        if (FluidHelper.hasFluid(recipeInput)) {
-            FluidStack recipeFluid = FluidHelper.getFluid(recipeInput);
-            if (recipeFluid != null && FluidHelper.hasFluid(availableInput)) {
-                FluidStack availableFluid = FluidHelper.getFluid(availableInput);
-                // Check if fluids match
-                if (availableFluid != null && availableFluid.getFluid() == recipeFluid.getFluid()
-                    && availableFluid.amount >= recipeFluid.amount) {
-                    return true;
-                }
-            }
-            // Fluid containers must match fluid type
-            return false;
-        }
-
-        // Try OreDict match first
-        int[] recipeOreIds = OreDictionary.getOreIDs(recipeInput);
-        int[] availableOreIds = OreDictionary.getOreIDs(availableInput);
-        if (recipeOreIds != null && recipeOreIds.length > 0 && availableOreIds != null && availableOreIds.length > 0) {
-            // Check if they share any ore ID
-            for (int recipeOreId : recipeOreIds) {
-                for (int availableOreId : availableOreIds) {
-                    if (recipeOreId == availableOreId) {
-                        return availableInput.stackSize >= recipeInput.stackSize;
-                    }
-                }
-            }
-        }
-
-        // Direct item match
-        if (recipeInput.getItem() == availableInput.getItem()
-            && recipeInput.getItemDamage() == availableInput.getItemDamage()
-            && (!recipeInput.getHasSubtypes() || recipeInput.getItem() == availableInput.getItem())) {
-            return availableInput.stackSize >= recipeInput.stackSize;
-        }
-
-        return false;
+    public AltarIngredient getIngredient(int slot) {
+        return ingredients[slot];
     }
 
     /**
@@ -345,7 +304,7 @@ public class ASAltarRecipe implements IGatedRecipe {
         int queryMeta = output.getItemDamage();
 
         // Debug logging
-        if (java.lang.Boolean.getBoolean("astralsorcery.debug.recipe")) {
+        if (DEBUG_RECIPE) {
             System.out.println("[ASAltarRecipe] isOutput check:");
             System.out.println(
                 "  Recipe output: " + this.output
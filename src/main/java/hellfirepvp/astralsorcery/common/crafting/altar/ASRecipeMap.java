@@ -5,7 +5,7 @@
  *
  * 1.7.10: GT-style RecipeMap system
  * - Recipe storage and management
- * - Recipe lookup by input
+ * - Recipe lookup by input (indexed by input fingerprint)
  * - NEI integration support
  *******************************************************************************/
 
@@ -14,8 +14,13 @@ package hellfirepvp.astralsorcery.common.crafting.altar;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
 
+import hellfirepvp.astralsorcery.common.util.FluidHelper;
 import hellfirepvp.astralsorcery.common.tile.TileAltar;
 
 /**
@@ -27,7 +32,7 @@ import hellfirepvp.astralsorcery.common.tile.TileAltar;
  * <b>1.7.10 Implementation:</b>
  * <ul>
  * <li>Stores recipes in a list</li>
- * <li>Provides recipe lookup by input</li>
+ * <li>Provides recipe lookup by input through a lazily built (Item, meta) index</li>
  * <li>Supports NEI display</li>
  * <li>No complex metadata system</li>
  * </ul>
@@ -45,6 +50,20 @@ public class ASRecipeMap {
 
     private final List<ASAltarRecipe> recipes = new ArrayList<>();
 
+    /**
+     * Lookup index over {@link #recipes}. Buckets hold recipe indices in registration order,
+     * so findRecipe still returns the first registered match.
+     * <p>
+     * Shaped recipes are keyed by the ordered fingerprint of all slots, shapeless recipes by the
+     * (Item, meta) key of one exact input that every matching inventory has to contain.
+     * Recipes with ore dictionary, fluid container or wildcard-meta inputs can be matched by
+     * stacks other than their own inputs and are kept in the fallback bucket.
+     */
+    private final Map<Long, int[]> shapedIndex = new HashMap<>();
+    private final Map<Long, int[]> shapelessIndex = new HashMap<>();
+    private int[] fallbackIndex = new int[0];
+    private boolean indexDirty = true;
+
     /**
      * Create a new RecipeMap
      *
@@ -80,6 +99,7 @@ public class ASRecipeMap {
             return false;
         }
         recipes.add(recipe);
+        invalidateIndex();
         return true;
     }
 
@@ -115,14 +135,164 @@ public class ASRecipeMap {
      * @return The matching recipe, or null if none found
      */
     public ASAltarRecipe findRecipe(ItemStack[] inputs) {
-        for (ASAltarRecipe recipe : recipes) {
-            if (recipe.matches(inputs)) {
-                return recipe;
+        if (inputs == null) {
+            return null;
+        }
+        if (indexDirty) {
+            rebuildIndex();
+        }
+
+        // Lowest matching recipe index wins, same as a linear scan over the list
+        int best = testCandidates(fallbackIndex, inputs, Integer.MAX_VALUE);
+        best = testCandidates(shapedIndex.get(shapedFingerprint(inputs)), inputs, best);
+
+        for (int i = 0; i < inputs.length; i++) {
+            ItemStack stack = inputs[i];
+            if (isEmpty(stack) || isDuplicateKey(inputs, i)) {
+                continue;
+            }
+            best = testCandidates(shapelessIndex.get(itemKey(stack)), inputs, best);
+        }
+        return best == Integer.MAX_VALUE ? null : recipes.get(best);
+    }
+
+    private int testCandidates(int[] candidates, ItemStack[] inputs, int best) {
+        if (candidates == null) {
+            return best;
+        }
+        for (int index : candidates) {
+            if (index >= best) {
+                // Buckets are sorted, nothing after this can win
+                break;
+            }
+            if (recipes.get(index)
+                .matches(inputs)) {
+                return index;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Only query each (Item, meta) key once per lookup
+     */
+    private static boolean isDuplicateKey(ItemStack[] inputs, int slot) {
+        ItemStack stack = inputs[slot];
+        for (int i = 0; i < slot; i++) {
+            ItemStack other = inputs[i];
+            if (!isEmpty(other) && other.getItem() == stack.getItem()
+                && other.getItemDamage() == stack.getItemDamage()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Mark the lookup index as stale, it is rebuilt on the next findRecipe call.
+     * Rebuilding lazily keeps bulk registration linear and picks up ore dictionary
+     * entries registered after the recipes themselves.
+     */
+    public void invalidateIndex() {
+        indexDirty = true;
+    }
+
+    private void rebuildIndex() {
+        Map<Long, List<Integer>> shaped = new HashMap<>();
+        Map<Long, List<Integer>> shapeless = new HashMap<>();
+        List<Integer> fallback = new ArrayList<>();
+
+        for (int i = 0; i < recipes.size(); i++) {
+            ASAltarRecipe recipe = recipes.get(i);
+            ItemStack[] inputs = recipe.getInputs();
+
+            if (recipe.isShaped()) {
+                if (allExactInputs(inputs)) {
+                    shaped.computeIfAbsent(shapedFingerprint(inputs), k -> new ArrayList<>())
+                        .add(i);
+                } else {
+                    fallback.add(i);
+                }
+            } else {
+                ItemStack anchor = findAnchorInput(inputs);
+                if (anchor != null) {
+                    shapeless.computeIfAbsent(itemKey(anchor), k -> new ArrayList<>())
+                        .add(i);
+                } else {
+                    fallback.add(i);
+                }
+            }
+        }
+
+        shapedIndex.clear();
+        shapelessIndex.clear();
+        shaped.forEach((key, list) -> shapedIndex.put(key, toArray(list)));
+        shapeless.forEach((key, list) -> shapelessIndex.put(key, toArray(list)));
+        fallbackIndex = toArray(fallback);
+        indexDirty = false;
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    /**
+     * An input is exact if it can only ever be matched by a stack with the same Item and meta
+     */
+    private static boolean isExactInput(ItemStack stack) {
+        if (stack.getItem() == null || stack.getItemDamage() == OreDictionary.WILDCARD_VALUE) {
+            return false;
+        }
+        if (FluidHelper.hasFluid(stack)) {
+            return false;
+        }
+        int[] oreIds = OreDictionary.getOreIDs(stack);
+        return oreIds == null || oreIds.length == 0;
+    }
+
+    private static boolean allExactInputs(ItemStack[] inputs) {
+        for (ItemStack stack : inputs) {
+            if (!isEmpty(stack) && !isExactInput(stack)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private static ItemStack findAnchorInput(ItemStack[] inputs) {
+        for (ItemStack stack : inputs) {
+            if (!isEmpty(stack) && isExactInput(stack)) {
+                return stack;
             }
         }
         return null;
     }
 
+    private static boolean isEmpty(ItemStack stack) {
+        return stack == null || stack.stackSize <= 0;
+    }
+
+    private static long itemKey(ItemStack stack) {
+        return ((long) Item.getIdFromItem(stack.getItem()) << 32) | (stack.getItemDamage() & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Ordered fingerprint over all slots, empty slots included since shaped recipes require them empty.
+     * Collisions only cost an extra matches() call.
+     */
+    private static long shapedFingerprint(ItemStack[] stacks) {
+        long hash = stacks.length;
+        for (ItemStack stack : stacks) {
+            hash = hash * 31L + (isEmpty(stack) ? 0L : itemKey(stack) + 1L);
+        }
+        return hash;
+    }
+
     /**
      * Find all recipes that produce the given output
      *
@@ -168,5 +338,6 @@ public class ASRecipeMap {
      */
     public void clearRecipes() {
         recipes.clear();
+        invalidateIndex();
     }
 }
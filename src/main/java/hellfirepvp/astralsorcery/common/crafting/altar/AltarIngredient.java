@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * AltarIngredient - Compiled matcher of one altar recipe input
+ *******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.crafting.altar;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+import hellfirepvp.astralsorcery.common.util.FluidHelper;
+import hellfirepvp.astralsorcery.common.util.OreIdCache;
+
+/**
+ * Matcher for one input slot of an {@link ASAltarRecipe}, compiled when the recipe is created
+ * <p>
+ * <b>1.7.10 Implementation:</b>
+ * <ul>
+ * <li>Fluid containers match any container holding enough of the same fluid, the required fluid is
+ * resolved once</li>
+ * <li>Other inputs match the same Item and meta first, wildcard meta (32767) matches every meta</li>
+ * <li>Otherwise a shared ore ID matches, compared as bitsets from {@link OreIdCache}</li>
+ * <li>Matching does not allocate, except for reading the fluid of candidate containers</li>
+ * </ul>
+ */
+public final class AltarIngredient {
+
+    /**
+     * An empty slot
+     */
+    public static final AltarIngredient EMPTY = new AltarIngredient(null, 0, 0, false, null);
+
+    @Nullable
+    private final Item item;
+    private final int meta;
+    private final int amount;
+    private final boolean fluidContainer;
+    @Nullable
+    private final FluidStack fluid;
+
+    /**
+     * Ore IDs of the input, fetched again if the ore dictionary changed since
+     */
+    private volatile OreBits oreBits = null;
+
+    private AltarIngredient(@Nullable Item item, int meta, int amount, boolean fluidContainer,
+        @Nullable FluidStack fluid) {
+        this.item = item;
+        this.meta = meta;
+        this.amount = amount;
+        this.fluidContainer = fluidContainer;
+        this.fluid = fluid;
+    }
+
+    /**
+     * Compile a recipe input
+     *
+     * @param input The input, null or an empty stack for an empty slot
+     */
+    public static AltarIngredient compile(@Nullable ItemStack input) {
+        if (input == null || input.stackSize <= 0 || input.getItem() == null) {
+            return EMPTY;
+        }
+        boolean fluidContainer = FluidHelper.hasFluid(input);
+        FluidStack fluid = null;
+        if (fluidContainer) {
+            FluidStack contained = FluidHelper.getFluid(input);
+            fluid = contained == null ? null : contained.copy();
+        }
+        return new AltarIngredient(input.getItem(), input.getItemDamage(), input.stackSize, fluidContainer, fluid);
+    }
+
+    /**
+     * Compile all inputs of a recipe
+     */
+    public static AltarIngredient[] compileAll(ItemStack[] inputs) {
+        AltarIngredient[] ingredients = new AltarIngredient[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            ingredients[i] = compile(inputs[i]);
+        }
+        return ingredients;
+    }
+
+    public boolean isEmpty() {
+        return item == null;
+    }
+
+    /**
+     * Stack size required in the slot
+     */
+    public int getAmount() {
+        return amount;
+    }
+
+    public boolean isFluidContainer() {
+        return fluidContainer;
+    }
+
+    /**
+     * Check if a stack satisfies this ingredient
+     */
+    public boolean matches(@Nullable ItemStack candidate) {
+        return candidate != null && matches(candidate, candidate.stackSize);
+    }
+
+    /**
+     * Check if a stack satisfies this ingredient, with part of it already used up
+     *
+     * @param candidate The stack to check
+     * @param available How much of the stack is left, used instead of its stack size
+     */
+    public boolean matches(@Nullable ItemStack candidate, int available) {
+        if (item == null || candidate == null || candidate.getItem() == null || available <= 0) {
+            return false;
+        }
+        if (fluidContainer) {
+            // Fluid containers must match fluid type
+            if (fluid == null) {
+                return false;
+            }
+            FluidStack availableFluid = FluidHelper.getFluid(candidate);
+            return availableFluid != null && availableFluid.getFluid() == fluid.getFluid()
+                && availableFluid.amount >= fluid.amount;
+        }
+        if (available < amount) {
+            return false;
+        }
+        if (candidate.getItem() == item && (meta == OreDictionary.WILDCARD_VALUE || candidate.getItemDamage() == meta)) {
+            return true;
+        }
+        long[] ores = getOreBits();
+        return ores.length > 0 && OreIdCache.intersects(
+            ores,
+            OreIdCache.getInstance()
+                .getOreBits(candidate));
+    }
+
+    private long[] getOreBits() {
+        OreIdCache cache = OreIdCache.getInstance();
+        int generation = cache.getGeneration();
+        OreBits bits = oreBits;
+        if (bits == null || bits.generation != generation) {
+            bits = new OreBits(generation, cache.getOreBits(new ItemStack(item, 1, meta)));
+            oreBits = bits;
+        }
+        return bits.bits;
+    }
+
+    private static final class OreBits {
+
+        private final int generation;
+        private final long[] bits;
+
+        private OreBits(int generation, long[] bits) {
+            this.generation = generation;
+            this.bits = bits;
+        }
+    }
+}
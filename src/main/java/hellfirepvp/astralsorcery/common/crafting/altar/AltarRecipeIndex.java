@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * AltarRecipeIndex - Reverse lookup of altar recipes by output and ingredient
+ *******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.crafting.altar;
+
+import java.util.*;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+import hellfirepvp.astralsorcery.common.util.OreIdCache;
+
+/**
+ * Reverse index of altar recipes for NEI and the recipe viewer
+ * <p>
+ * <b>1.7.10 Implementation:</b>
+ * <ul>
+ * <li>Outputs and ingredients are keyed by (Item, meta), wildcard metas by Item alone</li>
+ * <li>Ingredients with ore dictionary entries are additionally keyed by ore ID</li>
+ * <li>Item buckets are updated on every added recipe, the ore buckets are rebuilt lazily
+ * when recipes were added or the {@link OreIdCache} generation changed, so ore dictionary
+ * entries registered after the recipes are picked up</li>
+ * <li>Results keep registration order</li>
+ * </ul>
+ * <p>
+ * Matching is the same as before the index existed: outputs follow {@link ASAltarRecipe#isOutput(ItemStack)},
+ * ingredients match on Item and meta with wildcard meta on either side, or on a shared ore ID.
+ */
+public class AltarRecipeIndex {
+
+    private final Map<Long, List<ASAltarRecipe>> outputsByKey = new HashMap<>();
+    private final Map<Item, List<ASAltarRecipe>> outputsByItem = new IdentityHashMap<>();
+    private final Map<Item, List<ASAltarRecipe>> outputsAnyMeta = new IdentityHashMap<>();
+
+    private final Map<Long, List<ASAltarRecipe>> inputsByKey = new HashMap<>();
+    private final Map<Item, List<ASAltarRecipe>> inputsByItem = new IdentityHashMap<>();
+    private final Map<Item, List<ASAltarRecipe>> inputsAnyMeta = new IdentityHashMap<>();
+    private final Map<Integer, List<ASAltarRecipe>> inputsByOre = new HashMap<>();
+    // OreIdCache generation the ore buckets were built for, -1 if they need a rebuild anyway
+    private int oreIndexGeneration = -1;
+
+    /**
+     * Registration order of every indexed recipe, used to merge buckets
+     */
+    private final Map<ASAltarRecipe, Integer> order = new IdentityHashMap<>();
+    private final List<ASAltarRecipe> recipes = new ArrayList<>();
+
+    /**
+     * Index a newly registered recipe
+     */
+    public void add(ASAltarRecipe recipe) {
+        if (order.containsKey(recipe)) {
+            return;
+        }
+        order.put(recipe, recipes.size());
+        recipes.add(recipe);
+
+        ItemStack output = recipe.getOutput();
+        if (output != null && output.getItem() != null) {
+            Item item = output.getItem();
+            append(outputsByItem, item, recipe);
+            if (output.getItemDamage() == OreDictionary.WILDCARD_VALUE || !output.getHasSubtypes()) {
+                append(outputsAnyMeta, item, recipe);
+            } else {
+                append(outputsByKey, itemKey(item, output.getItemDamage()), recipe);
+            }
+        }
+
+        Set<Long> seenKeys = new HashSet<>();
+        Set<Item> seenItems = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ItemStack input : recipe.getInputs()) {
+            if (input == null || input.getItem() == null) {
+                continue;
+            }
+            Item item = input.getItem();
+            if (seenItems.add(item)) {
+                append(inputsByItem, item, recipe);
+            }
+            if (input.getItemDamage() == OreDictionary.WILDCARD_VALUE) {
+                if (seenKeys.add(itemKey(item, OreDictionary.WILDCARD_VALUE))) {
+                    append(inputsAnyMeta, item, recipe);
+                }
+            } else {
+                long key = itemKey(item, input.getItemDamage());
+                if (seenKeys.add(key)) {
+                    append(inputsByKey, key, recipe);
+                }
+            }
+        }
+        oreIndexGeneration = -1;
+    }
+
+    /**
+     * Drop all indexed recipes
+     */
+    public void clear() {
+        outputsByKey.clear();
+        outputsByItem.clear();
+        outputsAnyMeta.clear();
+        inputsByKey.clear();
+        inputsByItem.clear();
+        inputsAnyMeta.clear();
+        inputsByOre.clear();
+        order.clear();
+        recipes.clear();
+        oreIndexGeneration = -1;
+    }
+
+    /**
+     * Find all recipes producing the given stack
+     *
+     * @param output The output, wildcard meta matches every meta
+     * @return Matching recipes in registration order
+     */
+    public List<ASAltarRecipe> getRecipesProducing(ItemStack output) {
+        if (output == null || output.getItem() == null) {
+            return Collections.emptyList();
+        }
+        Item item = output.getItem();
+        if (output.getItemDamage() == OreDictionary.WILDCARD_VALUE) {
+            return copy(outputsByItem.get(item));
+        }
+        return merge(outputsByKey.get(itemKey(item, output.getItemDamage())), outputsAnyMeta.get(item), null);
+    }
+
+    /**
+     * Find all recipes using the given stack as an ingredient
+     *
+     * @param ingredient The ingredient, wildcard meta matches every meta
+     * @return Matching recipes in registration order
+     */
+    public List<ASAltarRecipe> getRecipesUsing(ItemStack ingredient) {
+        if (ingredient == null || ingredient.getItem() == null) {
+            return Collections.emptyList();
+        }
+        int generation = OreIdCache.getInstance()
+            .getGeneration();
+        if (oreIndexGeneration != generation) {
+            rebuildOreIndex(generation);
+        }
+        Item item = ingredient.getItem();
+        List<ASAltarRecipe> byOre = null;
+        if (ingredient.getItemDamage() != OreDictionary.WILDCARD_VALUE) {
+            for (int oreId : OreDictionary.getOreIDs(ingredient)) {
+                byOre = merge(byOre, inputsByOre.get(oreId), null);
+            }
+        }
+        if (ingredient.getItemDamage() == OreDictionary.WILDCARD_VALUE) {
+            return merge(inputsByItem.get(item), byOre, null);
+        }
+        return merge(inputsByKey.get(itemKey(item, ingredient.getItemDamage())), inputsAnyMeta.get(item), byOre);
+    }
+
+    private void rebuildOreIndex(int generation) {
+        inputsByOre.clear();
+        for (ASAltarRecipe recipe : recipes) {
+            Set<Integer> seen = new HashSet<>();
+            for (ItemStack input : recipe.getInputs()) {
+                if (input == null || input.getItem() == null) {
+                    continue;
+                }
+                for (int oreId : OreDictionary.getOreIDs(input)) {
+                    if (seen.add(oreId)) {
+                        append(inputsByOre, oreId, recipe);
+                    }
+                }
+            }
+        }
+        oreIndexGeneration = generation;
+    }
+
+    /**
+     * Merge up to three buckets, dropping duplicates and restoring registration order
+     */
+    private List<ASAltarRecipe> merge(List<ASAltarRecipe> a, List<ASAltarRecipe> b, List<ASAltarRecipe> c) {
+        int count = (a == null ? 0 : 1) + (b == null ? 0 : 1) + (c == null ? 0 : 1);
+        if (count == 0) {
+            return Collections.emptyList();
+        }
+        if (count == 1) {
+            return copy(a != null ? a : b != null ? b : c);
+        }
+        Set<ASAltarRecipe> merged = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (a != null) merged.addAll(a);
+        if (b != null) merged.addAll(b);
+        if (c != null) merged.addAll(c);
+        List<ASAltarRecipe> result = new ArrayList<>(merged);
+        result.sort(Comparator.comparingInt(order::get));
+        return result;
+    }
+
+    private static List<ASAltarRecipe> copy(List<ASAltarRecipe> bucket) {
+        return bucket == null ? Collections.emptyList() : new ArrayList<>(bucket);
+    }
+
+    private static <K> void append(Map<K, List<ASAltarRecipe>> map, K key, ASAltarRecipe recipe) {
+        map.computeIfAbsent(key, k -> new ArrayList<>(2))
+            .add(recipe);
+    }
+
+    private static long itemKey(Item item, int meta) {
+        return ((long) Item.getIdFromItem(item) << 32) | (meta & 0xFFFFFFFFL);
+    }
+}
@@ -28,6 +28,7 @@ import hellfirepvp.astralsorcery.common.util.LogHelper;
  * <li>No Crafttweaker integration</li>
  * <li>Uses ASRecipeMap for storage</li>
  * <li>Simple recipe lookup by input/output</li>
+ * <li>Reverse output/ingredient index for NEI, see {@link AltarRecipeIndex}</li>
  * <li>No advancement instances</li>
  * <li>NEI-compatible recipe structure</li>
  * </ul>
@@ -46,6 +47,16 @@ public class AltarRecipeRegistry {
      */
     private static final List<ASAltarRecipe> allRecipes = new ArrayList<>();
 
+    /**
+     * Reverse lookup by output and ingredient (for NEI display)
+     */
+    private static final AltarRecipeIndex recipeIndex = new AltarRecipeIndex();
+
+    /**
+     * Bumped whenever the registered recipes change, lets altars drop cached lookup results
+     */
+    private static int recipeVersion = 0;
+
     /**
      * Initialize recipe registry with default recipe maps
      * This is called during mod initialization
@@ -96,6 +107,8 @@ public class AltarRecipeRegistry {
         boolean added = recipeMap.addRecipe(recipe);
         if (added) {
             allRecipes.add(recipe);
+            recipeIndex.add(recipe);
+            recipeVersion++;
             LogHelper.info(
                 "Added recipe: " + recipe.getOutput()
                     .getDisplayName() + " for altar level: " + recipe.getAltarLevel());
@@ -134,11 +147,37 @@ public class AltarRecipeRegistry {
             return Collections.emptyList();
         }
 
-        List<ASAltarRecipe> results = new ArrayList<>();
-        for (ASRecipeMap recipeMap : recipeMaps.values()) {
-            results.addAll(recipeMap.findRecipesByOutput(output));
+        return recipeIndex.getRecipesProducing(output);
+    }
+
+    /**
+     * Find all recipes that use the given item as an ingredient
+     *
+     * @param ingredient The ingredient item
+     * @return List of matching recipes
+     */
+    public static List<ASAltarRecipe> findRecipesByInput(ItemStack ingredient) {
+        if (!initialized) {
+            return Collections.emptyList();
         }
-        return results;
+        return recipeIndex.getRecipesUsing(ingredient);
+    }
+
+    /**
+     * Find all recipes of one altar level that use the given item as an ingredient
+     *
+     * @param ingredient The ingredient item
+     * @param altarLevel The altar level
+     * @return List of matching recipes
+     */
+    public static List<ASAltarRecipe> findRecipesByInput(ItemStack ingredient, TileAltar.AltarLevel altarLevel) {
+        List<ASAltarRecipe> recipes = new ArrayList<>();
+        for (ASAltarRecipe recipe : findRecipesByInput(ingredient)) {
+            if (recipe.getAltarLevel() == altarLevel) {
+                recipes.add(recipe);
+            }
+        }
+        return recipes;
     }
 
     /**
@@ -183,6 +222,13 @@ public class AltarRecipeRegistry {
         return recipeMaps.get(altarLevel);
     }
 
+    /**
+     * Get the current recipe version, changes whenever recipes are added or the registry is reset
+     */
+    public static int getRecipeVersion() {
+        return recipeVersion;
+    }
+
     /**
      * Check if registry is initialized
      */
@@ -195,7 +241,13 @@ public class AltarRecipeRegistry {
      */
     public static void reset() {
         initialized = false;
+        // Recipe maps are static instances, drop their recipes and lookup index as well
+        for (ASRecipeMap recipeMap : recipeMaps.values()) {
+            recipeMap.clearRecipes();
+        }
         recipeMaps.clear();
         allRecipes.clear();
+        recipeIndex.clear();
+        recipeVersion++;
     }
 }
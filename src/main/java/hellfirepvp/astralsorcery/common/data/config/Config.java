@@ -14,6 +14,7 @@ import java.util.List;
 import net.minecraftforge.common.config.Configuration;
 
 import hellfirepvp.astralsorcery.AstralSorcery;
+import hellfirepvp.astralsorcery.common.constellation.perk.PerkLevelManager;
 
 /**
  * Config - Configuration class (1.7.10)
@@ -139,6 +140,20 @@ public class Config {
     public static List<Integer> worldGenDimWhitelist = new ArrayList<Integer>();
     public static boolean performNetworkIntegrityCheck = false;
 
+    // Perks
+    public static int perkLevelCap = 30;
+    public static int perkExpBase = 150;
+    public static float perkExpGrowthBase = 2F;
+    public static int perkExpGrowthDivisor = 2;
+    public static int perkExpGrowthOffset = 3;
+
+    // Performance
+    public static int tileTaskBudgetMicros = 1000;
+    public static int spectralToolScanBlocksPerTick = 256;
+    public static int spectralToolScanBudgetPerTick = 2048;
+    public static int starlightNoiseCacheChunks = 1024;
+    public static int blockEditBudgetMicros = 2000;
+
     private Config() {}
 
     /**
@@ -401,6 +416,75 @@ public class Config {
                 performNetworkIntegrityCheck,
                 "NOTE: ONLY run this once and set it to false again afterwards, nothing will be gained by setting this to true permanently, just longer loading times. When set to true and the server started, this will perform an integrity check over all nodes of the starlight network whenever a world gets loaded, removing invalid ones in the process. This might, depending on network sizes, take a while. It'll leave a message in the console when it's done. After this check has been run, you might need to tear down and rebuild your starlight network in case something doesn't work anymore.");
 
+            // Perks
+            perkLevelCap = configuration
+                .getInt("levelCap", "perks", perkLevelCap, 1, 1000, "Defines the highest perk level a player can reach.");
+            perkExpBase = configuration.getInt(
+                "expBase",
+                "perks",
+                perkExpBase,
+                0,
+                Integer.MAX_VALUE,
+                "Defines the flat amount of perk experience every level requires. A level requires expBase + expGrowthBase ^ (level / expGrowthDivisor + expGrowthOffset) experience, the division is rounded down.");
+            perkExpGrowthBase = configuration.getFloat(
+                "expGrowthBase",
+                "perks",
+                perkExpGrowthBase,
+                0F,
+                100F,
+                "Defines the base of the growing part of the perk experience curve. See 'expBase'.");
+            perkExpGrowthDivisor = configuration.getInt(
+                "expGrowthDivisor",
+                "perks",
+                perkExpGrowthDivisor,
+                1,
+                1000,
+                "Defines how many levels share the same exponent of the perk experience curve. See 'expBase'.");
+            perkExpGrowthOffset = configuration.getInt(
+                "expGrowthOffset",
+                "perks",
+                perkExpGrowthOffset,
+                -1000,
+                1000,
+                "Defines the offset added to the exponent of the perk experience curve. See 'expBase'.");
+
+            // Performance
+            tileTaskBudgetMicros = configuration.getInt(
+                "tileTaskBudgetMicros",
+                "performance",
+                tileTaskBudgetMicros,
+                50,
+                50_000,
+                "Defines how much time in microseconds periodic tile entity tasks (structure checks, sky checks, ...) may use per world tick. Tasks exceeding the budget are deferred to the following ticks.");
+            spectralToolScanBlocksPerTick = configuration.getInt(
+                "spectralToolScanBlocksPerTick",
+                "performance",
+                spectralToolScanBlocksPerTick,
+                16,
+                65_536,
+                "Defines how many blocks a single spectral tool may inspect per tick while looking for something to break.");
+            spectralToolScanBudgetPerTick = configuration.getInt(
+                "spectralToolScanBudgetPerTick",
+                "performance",
+                spectralToolScanBudgetPerTick,
+                16,
+                1_000_000,
+                "Defines how many blocks all spectral tools of a world together may inspect per tick. Tools exceeding it continue their search in the following ticks.");
+            starlightNoiseCacheChunks = configuration.getInt(
+                "starlightNoiseCacheChunks",
+                "performance",
+                starlightNoiseCacheChunks,
+                16,
+                65_536,
+                "Defines for how many chunks the starlight collection noise is kept in memory. The least recently used chunks are dropped first.");
+            blockEditBudgetMicros = configuration.getInt(
+                "blockEditBudgetMicros",
+                "performance",
+                blockEditBudgetMicros,
+                100,
+                50_000,
+                "Defines how much time in microseconds bulk block edits (exchange wand, architect wand) may use per world tick. Larger edits are spread over the following ticks.");
+
             // Rendering
             maxEffectRenderDistance = configuration.getInt(
                 "maxEffectRenderDistance",
@@ -577,6 +661,13 @@ public class Config {
             fillWeakSkyRenders(weakSkyRenders);
             fillDimGenWhitelist(dimGenWhitelist);
 
+            PerkLevelManager.INSTANCE.setLevelCurve(
+                perkLevelCap,
+                perkExpBase,
+                perkExpGrowthBase,
+                perkExpGrowthDivisor,
+                perkExpGrowthOffset);
+
         } catch (Exception e) {
             AstralSorcery.LOG.error("Astral Sorcery failed to load configuration!", e);
         } finally {
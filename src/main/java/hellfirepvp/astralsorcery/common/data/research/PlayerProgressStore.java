@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * PlayerProgressStore - Asynchronous on-disk storage of PlayerProgress
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.data.research;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.common.DimensionManager;
+
+import hellfirepvp.astralsorcery.common.util.LogHelper;
+
+/**
+ * PlayerProgressStore - Per-player progress files in the world save (1.7.10)
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>One compressed NBT file per player in {@code <world>/astralsorcery/playerdata}</li>
+ * <li>Mutations only mark a player dirty, dirty players are snapshotted once per flush,
+ * so many changes in a short time coalesce into one write</li>
+ * <li>Snapshots are written on a single background thread, the server thread never waits for disk</li>
+ * <li>Writes go to a temporary file which is then renamed over the old one</li>
+ * </ul>
+ * <p>
+ * Snapshots are taken on the server thread with {@link PlayerProgress#store(NBTTagCompound)},
+ * the writer thread only ever sees these detached compounds.
+ */
+public class PlayerProgressStore {
+
+    private static final PlayerProgressStore instance = new PlayerProgressStore();
+
+    private static final String DIRECTORY = "astralsorcery" + File.separator + "playerdata";
+    private static final String EXTENSION = ".dat";
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    /**
+     * Players with unsaved changes, server thread only
+     */
+    private final Set<UUID> dirtyPlayers = new HashSet<>();
+
+    /**
+     * Latest snapshot per player that is not written yet, shared with the writer thread
+     */
+    private final Map<UUID, NBTTagCompound> pendingWrites = new ConcurrentHashMap<>();
+
+    private ExecutorService writer = null;
+
+    private PlayerProgressStore() {}
+
+    public static PlayerProgressStore getInstance() {
+        return instance;
+    }
+
+    /**
+     * Mark a player's progress as changed, it is written on the next flush
+     */
+    public void markDirty(UUID uuid) {
+        dirtyPlayers.add(uuid);
+    }
+
+    /**
+     * Snapshot all dirty players and hand them to the writer thread. Never blocks.
+     *
+     * @param progressLookup Current progress of the players, entries missing in it are skipped
+     */
+    public void flush(Map<UUID, PlayerProgress> progressLookup) {
+        if (dirtyPlayers.isEmpty()) {
+            return;
+        }
+        for (UUID uuid : dirtyPlayers) {
+            PlayerProgress progress = progressLookup.get(uuid);
+            if (progress != null) {
+                submit(uuid, progress);
+            }
+        }
+        dirtyPlayers.clear();
+    }
+
+    /**
+     * Snapshot a single player if dirty and hand it to the writer thread. Never blocks.
+     */
+    public void flush(UUID uuid, PlayerProgress progress) {
+        if (dirtyPlayers.remove(uuid)) {
+            submit(uuid, progress);
+        }
+    }
+
+    private void submit(UUID uuid, PlayerProgress progress) {
+        NBTTagCompound snapshot = new NBTTagCompound();
+        progress.store(snapshot);
+        File directory = getDirectory();
+        if (directory == null) {
+            LogHelper.warn("No world save directory available, progress of " + uuid + " was not saved");
+            return;
+        }
+        // Only queue one write per player, the writer always picks up the latest snapshot
+        if (pendingWrites.put(uuid, snapshot) == null) {
+            getWriter().execute(() -> write(directory, uuid));
+        }
+    }
+
+    private void write(File directory, UUID uuid) {
+        // The snapshot stays visible to load() until it is on disk
+        NBTTagCompound snapshot;
+        while ((snapshot = pendingWrites.get(uuid)) != null) {
+            writeFile(directory, uuid, snapshot);
+            if (pendingWrites.remove(uuid, snapshot)) {
+                return;
+            }
+            // A newer snapshot arrived while writing, submit() did not queue another write for it
+        }
+    }
+
+    private void writeFile(File directory, UUID uuid, NBTTagCompound snapshot) {
+        File target = new File(directory, uuid + EXTENSION);
+        File temp = new File(directory, uuid + TEMP_EXTENSION);
+        try {
+            if (!directory.exists() && !directory.mkdirs()) {
+                throw new IOException("Could not create " + directory);
+            }
+            try (OutputStream out = new FileOutputStream(temp)) {
+                CompressedStreamTools.writeCompressed(snapshot, out);
+            }
+            try {
+                Files.move(
+                    temp.toPath(),
+                    target.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException exc) {
+                Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException exc) {
+            LogHelper.error("Failed to save PlayerProgress of " + uuid, exc);
+        }
+    }
+
+    /**
+     * Load a player's progress. Picks up a snapshot that is still waiting to be written.
+     *
+     * @return The stored progress, or null if there is none
+     */
+    @Nullable
+    public PlayerProgress load(UUID uuid) {
+        NBTTagCompound compound = pendingWrites.get(uuid);
+        if (compound == null) {
+            File directory = getDirectory();
+            if (directory == null) {
+                return null;
+            }
+            File file = new File(directory, uuid + EXTENSION);
+            if (!file.isFile()) {
+                return null;
+            }
+            try (InputStream in = new FileInputStream(file)) {
+                compound = CompressedStreamTools.readCompressed(in);
+            } catch (IOException exc) {
+                LogHelper.error("Failed to load PlayerProgress of " + uuid + ", starting with empty progress", exc);
+                return null;
+            }
+        }
+        PlayerProgress progress = new PlayerProgress();
+        progress.load(compound);
+        return progress;
+    }
+
+    /**
+     * Write everything still pending and wait for the writer thread. Used on server shutdown.
+     */
+    public void shutdown(Map<UUID, PlayerProgress> progressLookup) {
+        flush(progressLookup);
+        if (writer == null) {
+            return;
+        }
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(30, TimeUnit.SECONDS)) {
+                LogHelper.warn("Timed out waiting for PlayerProgress writes to finish");
+            }
+        } catch (InterruptedException exc) {
+            Thread.currentThread()
+                .interrupt();
+        }
+        writer = null;
+        pendingWrites.clear();
+        dirtyPlayers.clear();
+    }
+
+    private ExecutorService getWriter() {
+        if (writer == null) {
+            writer = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "AstralSorcery PlayerProgress Writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return writer;
+    }
+
+    @Nullable
+    private static File getDirectory() {
+        File saveRoot = DimensionManager.getCurrentSaveRootDirectory();
+        return saveRoot == null ? null : new File(saveRoot, DIRECTORY);
+    }
+}
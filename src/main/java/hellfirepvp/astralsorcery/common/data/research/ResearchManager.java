@@ -34,8 +34,8 @@ import hellfirepvp.astralsorcery.common.util.LogHelper;
  * <b>1.7.10 API Notes:</b>
  * <ul>
  * <li>Simplified without network packets (for now)</li>
- * <li>Uses direct NBT save/load</li>
- * <li>No async IO thread</li>
+ * <li>Progress is persisted per player through {@link PlayerProgressStore}</li>
+ * <li>savePlayerKnowledge only marks dirty, writes are batched and done on a background thread</li>
  * </ul>
  */
 public class ResearchManager {
@@ -82,9 +82,13 @@ public class ResearchManager {
     private static PlayerProgress getProgressServer(UUID uuid) {
         PlayerProgress progress = playerProgressServer.get(uuid);
         if (progress == null) {
-            progress = new PlayerProgress();
+            progress = PlayerProgressStore.getInstance()
+                .load(uuid);
+            if (progress == null) {
+                progress = new PlayerProgress();
+                LogHelper.debug("Created new PlayerProgress for " + uuid);
+            }
             playerProgressServer.put(uuid, progress);
-            LogHelper.debug("Created new PlayerProgress for " + uuid);
         }
         return progress;
     }
@@ -310,6 +314,8 @@ public class ResearchManager {
 
     /**
      * Save player knowledge
+     * <p>
+     * Only marks the progress dirty, it is written asynchronously on the next flush
      *
      * @param player The player
      */
@@ -317,15 +323,17 @@ public class ResearchManager {
         if (player.worldObj.isRemote) return;
 
         UUID uuid = player.getUniqueID();
-        PlayerProgress progress = playerProgressServer.get(uuid);
-        if (progress != null) {
-            // TODO: Save to file
-            LogHelper.debug("Saving PlayerProgress for " + player.getCommandSenderName());
+        if (playerProgressServer.containsKey(uuid)) {
+            PlayerProgressStore.getInstance()
+                .markDirty(uuid);
         }
     }
 
     /**
      * Load player knowledge
+     * <p>
+     * Players without a progress file inherit the progress stored in their
+     * {@link PlayerProgressProperties}, which was the only copy before progress files existed.
      *
      * @param player The player
      */
@@ -333,13 +341,49 @@ public class ResearchManager {
         if (player.worldObj.isRemote) return;
 
         UUID uuid = player.getUniqueID();
-        PlayerProgress progress = playerProgressServer.get(uuid);
+        if (playerProgressServer.containsKey(uuid)) {
+            return;
+        }
+        PlayerProgress progress = PlayerProgressStore.getInstance()
+            .load(uuid);
         if (progress == null) {
+            NBTTagCompound legacy = new NBTTagCompound();
+            PlayerProgressProperties.getProgress(player)
+                .store(legacy);
             progress = new PlayerProgress();
+            progress.load(legacy);
+            playerProgressServer.put(uuid, progress);
+            PlayerProgressStore.getInstance()
+                .markDirty(uuid);
+        } else {
             playerProgressServer.put(uuid, progress);
-            // TODO: Load from file
-            LogHelper.debug("Loading PlayerProgress for " + player.getCommandSenderName());
         }
+        LogHelper.debug("Loaded PlayerProgress for " + player.getCommandSenderName());
+    }
+
+    /**
+     * Hand a logged out player's pending changes to the writer and drop them from the cache
+     *
+     * @param player The player
+     */
+    public static void unloadPlayerKnowledge(EntityPlayer player) {
+        if (player.worldObj.isRemote) return;
+
+        UUID uuid = player.getUniqueID();
+        PlayerProgress progress = playerProgressServer.remove(uuid);
+        if (progress != null) {
+            PlayerProgressStore.getInstance()
+                .flush(uuid, progress);
+        }
+    }
+
+    /**
+     * Hand all pending changes to the writer thread. Never blocks.
+     * Called periodically and on world save.
+     */
+    public static void flushServerProgress() {
+        PlayerProgressStore.getInstance()
+            .flush(playerProgressServer);
     }
 
     /**
@@ -355,10 +399,12 @@ public class ResearchManager {
     }
 
     /**
-     * Clear server cache
+     * Save all pending progress and clear server cache
      */
     public static void saveAndClearServerCache() {
-        // TODO: Save all pending progress
+        // Writes everything pending and waits for the writer, only used on shutdown
+        PlayerProgressStore.getInstance()
+            .shutdown(playerProgressServer);
         playerProgressServer.clear();
     }
 
@@ -482,7 +528,8 @@ public class ResearchManager {
      */
     public static void wipeKnowledge(EntityPlayer player) {
         UUID uuid = player.getUniqueID();
-        playerProgressServer.remove(uuid);
+        // Replace instead of remove, the stored progress would be loaded again otherwise
+        playerProgressServer.put(uuid, new PlayerProgress());
         savePlayerKnowledge(player);
     }
 
@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * CelestialGatewaySystem - Gateway network of all dimensions
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.data.world;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.world.World;
+
+import hellfirepvp.astralsorcery.common.data.world.GatewayCache.GatewayNode;
+import hellfirepvp.astralsorcery.common.network.NetworkWrapper;
+import hellfirepvp.astralsorcery.common.network.packet.PacketGatewaySync;
+import hellfirepvp.astralsorcery.common.util.math.BlockPos;
+
+/**
+ * CelestialGatewaySystem - Registry of all celestial gateways (1.7.10)
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Server: one {@link GatewayCache} per dimension, loaded with the world instead of scanning for gateways</li>
+ * <li>Caches of unloaded dimensions stay known until the server stops, their gateways stay reachable</li>
+ * <li>Clients get the full list once on login, afterwards only add/remove deltas</li>
+ * <li>Client: mirror of the registry, reachable gateway lists are kept until the next change</li>
+ * </ul>
+ * <p>
+ * Gateway tiles register in onFirstTick and when their state changes, and unregister when broken or
+ * deactivated. Nothing runs per tick.
+ */
+public class CelestialGatewaySystem {
+
+    private static final CelestialGatewaySystem instance = new CelestialGatewaySystem();
+
+    /**
+     * Server: Map of dimension ID to the gateway cache of that dimension
+     */
+    private final Map<Integer, GatewayCache> caches = new HashMap<>();
+
+    /**
+     * Client: Map of dimension ID to packed position to gateway
+     */
+    private final Map<Integer, Map<Long, GatewayNode>> clientGateways = new HashMap<>();
+    private final Map<GatewayNode, List<GatewayNode>> clientReachable = new HashMap<>();
+
+    private CelestialGatewaySystem() {}
+
+    public static CelestialGatewaySystem getInstance() {
+        return instance;
+    }
+
+    // ========== Server ==========
+
+    /**
+     * Load the saved gateways of a world, called when it loads
+     */
+    public void onWorldLoad(World world) {
+        if (world.isRemote) {
+            return;
+        }
+        GatewayCache cache = (GatewayCache) world.perWorldStorage.loadData(GatewayCache.class, GatewayCache.DATA_NAME);
+        if (cache == null) {
+            cache = new GatewayCache();
+            world.perWorldStorage.setData(GatewayCache.DATA_NAME, cache);
+        }
+        GatewayCache previous = caches.put(world.provider.dimensionId, cache);
+        if (previous == null && !cache.getGateways()
+            .isEmpty()) {
+            // Dimension loaded after players logged in
+            NetworkWrapper.sendToAll(new PacketGatewaySync(PacketGatewaySync.Action.ADD, cache.getGateways()));
+        }
+    }
+
+    /**
+     * Register a gateway, or update its name
+     */
+    public void offerPosition(World world, int x, int y, int z, String display) {
+        GatewayCache cache = getCache(world);
+        if (cache == null) {
+            return;
+        }
+        GatewayNode node = new GatewayNode(world.provider.dimensionId, new BlockPos(x, y, z), display);
+        if (cache.offer(node)) {
+            NetworkWrapper.sendToAll(new PacketGatewaySync(PacketGatewaySync.Action.ADD, node));
+        }
+    }
+
+    /**
+     * Unregister the gateway at a position
+     */
+    public void removePosition(World world, int x, int y, int z) {
+        GatewayCache cache = getCache(world);
+        if (cache == null) {
+            return;
+        }
+        GatewayNode removed = cache.remove(new BlockPos(x, y, z));
+        if (removed != null) {
+            NetworkWrapper.sendToAll(new PacketGatewaySync(PacketGatewaySync.Action.REMOVE, removed));
+        }
+    }
+
+    /**
+     * Gateway cache of a loaded server world
+     */
+    public GatewayCache getCache(World world) {
+        if (world == null || world.isRemote) {
+            return null;
+        }
+        GatewayCache cache = caches.get(world.provider.dimensionId);
+        if (cache == null) {
+            onWorldLoad(world);
+            cache = caches.get(world.provider.dimensionId);
+        }
+        return cache;
+    }
+
+    /**
+     * Send the complete registry to a player, called once on login
+     */
+    public void syncTo(EntityPlayerMP player) {
+        List<GatewayNode> all = new ArrayList<>();
+        for (GatewayCache cache : caches.values()) {
+            all.addAll(cache.getGateways());
+        }
+        NetworkWrapper.sendTo(new PacketGatewaySync(PacketGatewaySync.Action.FULL, all), player);
+    }
+
+    /**
+     * Forget all caches, called when the server stops. The data itself is saved with the worlds.
+     */
+    public void clearServerCache() {
+        caches.clear();
+    }
+
+    // ========== Client ==========
+
+    /**
+     * Apply a sync packet. May be called from the network thread.
+     */
+    public synchronized void receiveSync(PacketGatewaySync packet) {
+        if (packet.getAction() == PacketGatewaySync.Action.FULL) {
+            clientGateways.clear();
+        }
+        for (GatewayNode node : packet.getNodes()) {
+            Map<Long, GatewayNode> dimGateways = clientGateways
+                .computeIfAbsent(node.getDimension(), dim -> new LinkedHashMap<>());
+            long key = node.getPos()
+                .toLong();
+            if (packet.getAction() == PacketGatewaySync.Action.REMOVE) {
+                dimGateways.remove(key);
+            } else {
+                dimGateways.put(key, node);
+            }
+        }
+        clientReachable.clear();
+    }
+
+    /**
+     * Get the gateway known at a position on the client
+     */
+    public synchronized GatewayNode getClientGateway(int dimension, int x, int y, int z) {
+        Map<Long, GatewayNode> dimGateways = clientGateways.get(dimension);
+        return dimGateways == null ? null : dimGateways.get(new BlockPos(x, y, z).toLong());
+    }
+
+    /**
+     * Gateways reachable from a gateway, for the gateway UI: every other registered gateway,
+     * those of the same dimension first and by distance.
+     *
+     * @return Unmodifiable list, the same instance until the registry changes
+     */
+    public synchronized List<GatewayNode> getReachableGateways(int dimension, int x, int y, int z) {
+        GatewayNode origin = getClientGateway(dimension, x, y, z);
+        if (origin == null) {
+            return Collections.emptyList();
+        }
+        List<GatewayNode> reachable = clientReachable.get(origin);
+        if (reachable == null) {
+            reachable = Collections.unmodifiableList(computeReachable(origin));
+            clientReachable.put(origin, reachable);
+        }
+        return reachable;
+    }
+
+    private List<GatewayNode> computeReachable(GatewayNode origin) {
+        List<GatewayNode> sameDimension = new ArrayList<>();
+        List<GatewayNode> otherDimensions = new ArrayList<>();
+        for (Map.Entry<Integer, Map<Long, GatewayNode>> entry : clientGateways.entrySet()) {
+            Collection<GatewayNode> nodes = entry.getValue()
+                .values();
+            if (entry.getKey() == origin.getDimension()) {
+                for (GatewayNode node : nodes) {
+                    if (!node.equals(origin)) {
+                        sameDimension.add(node);
+                    }
+                }
+            } else {
+                otherDimensions.addAll(nodes);
+            }
+        }
+        BlockPos center = origin.getPos();
+        sameDimension.sort(
+            (a, b) -> Double.compare(
+                a.getPos()
+                    .distanceSq(center),
+                b.getPos()
+                    .distanceSq(center)));
+        otherDimensions.sort((a, b) -> Integer.compare(a.getDimension(), b.getDimension()));
+        sameDimension.addAll(otherDimensions);
+        return sameDimension;
+    }
+}
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * GatewayCache - Saved registry of the celestial gateways of one dimension
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.data.world;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.world.WorldSavedData;
+
+import hellfirepvp.astralsorcery.common.util.math.BlockPos;
+
+/**
+ * GatewayCache - Celestial gateways of a dimension (1.7.10)
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Saved with the dimension as {@link WorldSavedData}, so gateways are known without loading their chunks</li>
+ * <li>Changed only by gateway tiles registering and unregistering, see {@link CelestialGatewaySystem}</li>
+ * </ul>
+ * <p>
+ * Server thread only.
+ */
+public class GatewayCache extends WorldSavedData {
+
+    public static final String DATA_NAME = "astralsorcery_gateways";
+
+    /**
+     * Packed position to gateway, in registration order
+     */
+    private final Map<Long, GatewayNode> gateways = new LinkedHashMap<>();
+
+    public GatewayCache() {
+        this(DATA_NAME);
+    }
+
+    // Needed by MapStorage, which creates the instance through reflection
+    public GatewayCache(String name) {
+        super(name);
+    }
+
+    /**
+     * Add a gateway, or update the name of a known one
+     *
+     * @return true if something changed
+     */
+    public boolean offer(GatewayNode node) {
+        GatewayNode known = gateways.get(node.getPos().toLong());
+        if (node.equals(known)) {
+            return false;
+        }
+        gateways.put(node.getPos().toLong(), node);
+        markDirty();
+        return true;
+    }
+
+    /**
+     * Remove the gateway at a position
+     *
+     * @return The removed gateway, or null if there was none
+     */
+    @Nullable
+    public GatewayNode remove(BlockPos pos) {
+        GatewayNode removed = gateways.remove(pos.toLong());
+        if (removed != null) {
+            markDirty();
+        }
+        return removed;
+    }
+
+    @Nullable
+    public GatewayNode get(BlockPos pos) {
+        return gateways.get(pos.toLong());
+    }
+
+    /**
+     * All gateways of this dimension, in registration order
+     */
+    public Collection<GatewayNode> getGateways() {
+        return Collections.unmodifiableCollection(gateways.values());
+    }
+
+    @Override
+    public void readFromNBT(NBTTagCompound compound) {
+        gateways.clear();
+        NBTTagList list = compound.getTagList("gateways", 10);
+        for (int i = 0; i < list.tagCount(); i++) {
+            GatewayNode node = GatewayNode.read(list.getCompoundTagAt(i));
+            gateways.put(node.getPos().toLong(), node);
+        }
+    }
+
+    @Override
+    public void writeToNBT(NBTTagCompound compound) {
+        NBTTagList list = new NBTTagList();
+        for (GatewayNode node : gateways.values()) {
+            NBTTagCompound tag = new NBTTagCompound();
+            node.write(tag);
+            list.appendTag(tag);
+        }
+        compound.setTag("gateways", list);
+    }
+
+    /**
+     * A registered gateway. Immutable.
+     */
+    public static class GatewayNode {
+
+        private final int dimension;
+        private final BlockPos pos;
+        private final String display;
+
+        public GatewayNode(int dimension, BlockPos pos, @Nullable String display) {
+            this.dimension = dimension;
+            this.pos = pos;
+            this.display = display == null ? "" : display;
+        }
+
+        public int getDimension() {
+            return dimension;
+        }
+
+        public BlockPos getPos() {
+            return pos;
+        }
+
+        /**
+         * Name given by the player, empty if unnamed
+         */
+        public String getDisplay() {
+            return display;
+        }
+
+        public boolean isAt(int dimension, int x, int y, int z) {
+            return this.dimension == dimension && pos.getX() == x && pos.getY() == y && pos.getZ() == z;
+        }
+
+        public void write(NBTTagCompound compound) {
+            compound.setInteger("dim", dimension);
+            compound.setLong("pos", pos.toLong());
+            compound.setString("display", display);
+        }
+
+        public static GatewayNode read(NBTTagCompound compound) {
+            return new GatewayNode(
+                compound.getInteger("dim"),
+                BlockPos.fromLong(compound.getLong("pos")),
+                compound.getString("display"));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof GatewayNode)) return false;
+            GatewayNode other = (GatewayNode) o;
+            return dimension == other.dimension && pos.equals(other.pos) && display.equals(other.display);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * dimension + pos.hashCode()) + display.hashCode();
+        }
+    }
+}
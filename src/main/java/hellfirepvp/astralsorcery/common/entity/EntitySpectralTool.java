@@ -8,6 +8,9 @@ package hellfirepvp.astralsorcery.common.entity;
 
 import java.awt.Color;
 import java.util.List;
+import java.util.UUID;
+
+import javax.annotation.Nonnull;
 
 import net.minecraft.block.Block;
 import net.minecraft.entity.EntityLiving;
@@ -16,7 +19,6 @@ import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.entity.SharedMonsterAttributes;
 import net.minecraft.entity.ai.EntityAIBase;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.init.Items;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.AxisAlignedBB;
@@ -35,6 +37,8 @@ import hellfirepvp.astralsorcery.client.effect.fx.EntityFXFacingParticle;
  * <ul>
  * <li>Flying entity that performs tasks (break blocks, attack monsters)</li>
  * <li>AI-driven behavior with EntityAIBase</li>
+ * <li>Break targets come from a budgeted search shared by all tools of an owner,
+ * see {@link SpectralToolTargetCache}</li>
  * <li>Client-side particle effects</li>
  * </ul>
  * <p>
@@ -53,23 +57,41 @@ public class EntitySpectralTool extends EntityLiving implements EntityTechnicalA
     private AIToolTask aiTask;
     private int[] originalStartPosition;
     private int ticksUntilDeath = 0;
+    private UUID ownerId = null;
 
     public EntitySpectralTool(World worldIn) {
         super(worldIn);
         setSize(0.6F, 0.8F);
     }
 
-    public EntitySpectralTool(World world, double x, double y, double z, ItemStack tool, ToolTask task) {
+    /**
+     * @param owner The player summoning the tool, tools of the same player share their target search
+     */
+    public EntitySpectralTool(World world, double x, double y, double z, ItemStack tool, ToolTask task,
+        @Nonnull EntityPlayer owner) {
         super(world);
         setSize(0.6F, 0.8F);
         setPosition(x + 0.5, y + 0.5, z + 0.5);
         setItem(tool);
         this.originalStartPosition = new int[] { (int) x, (int) y, (int) z };
-        this.aiTask = new AIToolTask(this);
+        this.ownerId = owner.getUniqueID();
+        initAITask();
         this.aiTask.taskTarget = task;
         this.ticksUntilDeath = 100 + rand.nextInt(40);
     }
 
+    private void initAITask() {
+        this.aiTask = new AIToolTask(this);
+        this.tasks.addTask(1, this.aiTask);
+    }
+
+    /**
+     * Key of the shared target search: the owner, or this tool if it was loaded without a stored owner
+     */
+    private UUID getSearchOwner() {
+        return ownerId != null ? ownerId : getUniqueID();
+    }
+
     @Override
     protected void entityInit() {
         super.entityInit();
@@ -89,8 +111,16 @@ public class EntitySpectralTool extends EntityLiving implements EntityTechnicalA
             .setBaseValue(0.85);
     }
 
-    // 1.7.10: EntityLiving doesn't have initEntityAI(), add AI task in constructor instead
-    // AI task is already added in constructor via new AIToolTask(this)
+    // 1.7.10: EntityLiving doesn't have initEntityAI(), the AI task is added in the constructor
+    // or when loading from NBT via initAITask()
+
+    /**
+     * 1.7.10: EntityLiving only runs its task list if this returns true
+     */
+    @Override
+    public boolean isAIEnabled() {
+        return true;
+    }
 
     @Override
     public void onUpdate() {
@@ -151,7 +181,7 @@ public class EntitySpectralTool extends EntityLiving implements EntityTechnicalA
 
         int task = compound.getInteger("AS_ToolTask");
         if (this.aiTask == null) {
-            this.aiTask = new AIToolTask(this);
+            initAITask();
         }
         this.aiTask.taskTarget = new ToolTask(ToolTask.Type.values()[Math.max(0, Math.min(task, 2))]);
 
@@ -164,6 +194,10 @@ public class EntitySpectralTool extends EntityLiving implements EntityTechnicalA
         } else {
             this.originalStartPosition = new int[] { (int) posX, (int) posY, (int) posZ };
         }
+
+        if (compound.hasKey("AS_ToolOwnerMost")) {
+            this.ownerId = new UUID(compound.getLong("AS_ToolOwnerMost"), compound.getLong("AS_ToolOwnerLeast"));
+        }
     }
 
     @Override
@@ -192,6 +226,11 @@ public class EntitySpectralTool extends EntityLiving implements EntityTechnicalA
             posTag.setInteger("Z", this.originalStartPosition[2]);
             compound.setTag("AS_StartPosition", posTag);
         }
+
+        if (this.ownerId != null) {
+            compound.setLong("AS_ToolOwnerMost", this.ownerId.getMostSignificantBits());
+            compound.setLong("AS_ToolOwnerLeast", this.ownerId.getLeastSignificantBits());
+        }
     }
 
     public static class ToolTask {
@@ -239,6 +278,8 @@ public class EntitySpectralTool extends EntityLiving implements EntityTechnicalA
         private static final int BREAK_TICKS_AXE = 15; // Ticks to break log with axe
         private static final int ATTACK_TICKS = 10; // Ticks between attacks
         private static final float ATTACK_DAMAGE = 5.0F; // Damage per attack
+        private static final int SEARCH_RADIUS_PICKAXE = 8;
+        private static final int SEARCH_RADIUS_AXE = 10;
 
         public AIToolTask(EntitySpectralTool entity) {
             this.parentEntity = entity;
@@ -259,9 +300,9 @@ public class EntitySpectralTool extends EntityLiving implements EntityTechnicalA
             // Look for new targets
             switch (this.taskTarget.type) {
                 case BREAK_BLOCK:
-                    return findBreakableBlock(8, Items.diamond_pickaxe);
+                    return findBreakTarget(SEARCH_RADIUS_PICKAXE);
                 case BREAK_LOG:
-                    return findBreakableLog(10, Items.diamond_axe);
+                    return findBreakTarget(SEARCH_RADIUS_AXE);
                 case ATTACK_MONSTER:
                     return findAttackableMonster();
                 default:
@@ -312,12 +353,16 @@ public class EntitySpectralTool extends EntityLiving implements EntityTechnicalA
                 return;
             }
 
+            // Targets claimed in shouldExecute are kept, claiming again would skip them
+            if (designatedBreakTarget != null || designatedAttackTarget != null) {
+                return;
+            }
             switch (this.taskTarget.type) {
                 case BREAK_BLOCK:
-                    findBreakableBlock(8, Items.diamond_pickaxe);
+                    findBreakTarget(SEARCH_RADIUS_PICKAXE);
                     break;
                 case BREAK_LOG:
-                    findBreakableLog(10, Items.diamond_axe);
+                    findBreakTarget(SEARCH_RADIUS_AXE);
                     break;
                 case ATTACK_MONSTER:
                     findAttackableMonster();
@@ -326,98 +371,33 @@ public class EntitySpectralTool extends EntityLiving implements EntityTechnicalA
         }
 
         /**
-         * Find a breakable block (stone, ores, etc.)
+         * Claim the next block to break from the search around the start position.
+         * The search only advances by a bounded number of blocks per call, so this may
+         * take a few ticks to find something.
          */
-        private boolean findBreakableBlock(int radius, net.minecraft.item.Item tool) {
-            int centerX = (int) parentEntity.posX;
-            int centerY = (int) parentEntity.posY;
-            int centerZ = (int) parentEntity.posZ;
-
-            for (int x = centerX - radius; x <= centerX + radius; x++) {
-                for (int y = centerY - radius; y <= centerY + radius; y++) {
-                    for (int z = centerZ - radius; z <= centerZ + radius; z++) {
-                        // Check Y constraint
-                        if (y < parentEntity.originalStartPosition[1]) {
-                            continue;
-                        }
-
-                        Block block = parentEntity.worldObj.getBlock(x, y, z);
-                        int meta = parentEntity.worldObj.getBlockMetadata(x, y, z);
-
-                        // Skip air, unbreakable, and TileEntity blocks
-                        if (block.isAir(parentEntity.worldObj, x, y, z)) {
-                            continue;
-                        }
-                        if (parentEntity.worldObj.getTileEntity(x, y, z) != null) {
-                            continue;
-                        }
-                        float hardness = block.getBlockHardness(parentEntity.worldObj, x, y, z);
-                        if (hardness < 0 || hardness > 10) {
-                            continue;
-                        }
-
-                        // Found valid block
-                        designatedBreakTarget = new int[] { x, y, z };
-
-                        // Move towards block
-                        parentEntity.getNavigator()
-                            .tryMoveToXYZ(x + 0.5, y + 0.5, z + 0.5, 1.5);
-
-                        return true;
-                    }
-                }
+        private boolean findBreakTarget(int radius) {
+            int[] start = parentEntity.originalStartPosition;
+            if (start == null) {
+                return false;
             }
-            return false;
-        }
-
-        /**
-         * Find a breakable log or leaves
-         */
-        private boolean findBreakableLog(int radius, net.minecraft.item.Item tool) {
-            int centerX = (int) parentEntity.posX;
-            int centerY = (int) parentEntity.posY;
-            int centerZ = (int) parentEntity.posZ;
-
-            for (int x = centerX - radius; x <= centerX + radius; x++) {
-                for (int y = centerY - radius; y <= centerY + radius; y++) {
-                    for (int z = centerZ - radius; z <= centerZ + radius; z++) {
-                        Block block = parentEntity.worldObj.getBlock(x, y, z);
-                        int meta = parentEntity.worldObj.getBlockMetadata(x, y, z);
-
-                        // Skip air
-                        if (block.isAir(parentEntity.worldObj, x, y, z)) {
-                            continue;
-                        }
-
-                        // Check if wood or leaves
-                        boolean isWood = block.isWood(parentEntity.worldObj, x, y, z);
-                        boolean isLeaves = block.isLeaves(parentEntity.worldObj, x, y, z);
-
-                        if (!isWood && !isLeaves) {
-                            continue;
-                        }
-
-                        // Skip unbreakable and TileEntity blocks
-                        if (parentEntity.worldObj.getTileEntity(x, y, z) != null) {
-                            continue;
-                        }
-                        float hardness = block.getBlockHardness(parentEntity.worldObj, x, y, z);
-                        if (hardness < 0 || hardness > 10) {
-                            continue;
-                        }
-
-                        // Found valid block
-                        designatedBreakTarget = new int[] { x, y, z };
-
-                        // Move towards block
-                        parentEntity.getNavigator()
-                            .tryMoveToXYZ(x + 0.5, y + 0.5, z + 0.5, 1.5);
-
-                        return true;
-                    }
-                }
+            int[] target = SpectralToolTargetCache.getInstance()
+                .claimTarget(
+                    parentEntity.worldObj,
+                    parentEntity.getSearchOwner(),
+                    taskTarget.type,
+                    start[0],
+                    start[1],
+                    start[2],
+                    radius);
+            if (target == null) {
+                return false;
             }
-            return false;
+            designatedBreakTarget = target;
+
+            // Move towards block
+            parentEntity.getNavigator()
+                .tryMoveToXYZ(target[0] + 0.5, target[1] + 0.5, target[2] + 0.5, 1.5);
+            return true;
         }
 
         /**
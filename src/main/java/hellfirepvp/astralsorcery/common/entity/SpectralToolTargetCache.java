@@ -0,0 +1,309 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * SpectralToolTargetCache - Shared, budgeted block search of spectral tools
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.entity;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import net.minecraft.block.Block;
+import net.minecraft.world.World;
+
+import hellfirepvp.astralsorcery.common.data.config.Config;
+
+/**
+ * SpectralToolTargetCache - Break target search of spectral tools (1.7.10)
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>The search cube around a start position is walked by a resumable cursor,
+ * at most {@link Config#spectralToolScanBlocksPerTick} blocks per tool and tick</li>
+ * <li>All tools of a world share {@link Config#spectralToolScanBudgetPerTick} blocks per tick,
+ * so the cost per tick is bounded no matter how many tools are active. Revalidating a known
+ * candidate counts against the same budget as scanning a new block</li>
+ * <li>Tools of the same owner, task and start position share one search: blocks found by
+ * one tool can be claimed by any of them, each block only by one</li>
+ * <li>Block changes inside a search drop the changed position from its candidates</li>
+ * </ul>
+ * <p>
+ * Block changes are observed through {@link hellfirepvp.astralsorcery.common.event.BlockChangeWorldAccess}.
+ * Server thread only.
+ */
+public class SpectralToolTargetCache {
+
+    private static final SpectralToolTargetCache instance = new SpectralToolTargetCache();
+
+    /**
+     * Searches nobody asked for within this many ticks are dropped
+     */
+    private static final int EXPIRY_TICKS = 200;
+
+    private static final int NUM_XZ_BITS = 26;
+    private static final int NUM_Y_BITS = 12;
+    private static final long XZ_MASK = (1L << NUM_XZ_BITS) - 1L;
+    private static final long Y_MASK = (1L << NUM_Y_BITS) - 1L;
+
+    /**
+     * Map of dimension ID to the active searches of that dimension
+     */
+    private final Map<Integer, Map<SearchKey, TargetSearch>> searches = new HashMap<>();
+
+    /**
+     * Remaining block budget of the current tick, per dimension
+     */
+    private final Map<Integer, int[]> budgets = new HashMap<>();
+    private final Map<Integer, Long> budgetTicks = new HashMap<>();
+
+    private SpectralToolTargetCache() {}
+
+    public static SpectralToolTargetCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Continue the search for the given tool and claim a target if one is known
+     *
+     * @param owner  Owner of the tool, tools of the same owner share their search
+     * @param type   BREAK_BLOCK or BREAK_LOG
+     * @param startX Start position of the tool, the center of the search
+     * @param radius Radius of the search cube
+     * @return The claimed position as {x, y, z}, or null if none is known yet
+     */
+    public int[] claimTarget(World world, UUID owner, EntitySpectralTool.ToolTask.Type type, int startX, int startY,
+        int startZ, int radius) {
+        int dimensionId = world.provider.dimensionId;
+        long now = world.getTotalWorldTime();
+        Map<SearchKey, TargetSearch> dimSearches = searches.computeIfAbsent(dimensionId, dim -> new HashMap<>());
+        if (now % 20 == 0) {
+            expire(dimSearches, now);
+        }
+
+        SearchKey key = new SearchKey(owner, type, pack(startX, startY, startZ));
+        TargetSearch search = dimSearches.get(key);
+        if (search == null) {
+            search = new TargetSearch(type, startX, startY, startZ, radius);
+            dimSearches.put(key, search);
+        }
+        search.lastUsed = now;
+
+        search.budget = takeBudget(dimensionId, now);
+        int[] target = search.poll(world);
+        if (target == null) {
+            search.scan(world);
+            target = search.poll(world);
+        }
+        returnBudget(dimensionId, search.budget);
+        search.budget = 0;
+        return target;
+    }
+
+    private int takeBudget(int dimensionId, long now) {
+        int[] remaining = budgets.computeIfAbsent(dimensionId, dim -> new int[1]);
+        Long tick = budgetTicks.get(dimensionId);
+        if (tick == null || tick != now) {
+            budgetTicks.put(dimensionId, now);
+            remaining[0] = Config.spectralToolScanBudgetPerTick;
+        }
+        int taken = Math.min(remaining[0], Config.spectralToolScanBlocksPerTick);
+        remaining[0] -= taken;
+        return taken;
+    }
+
+    private void returnBudget(int dimensionId, int unused) {
+        int[] remaining = budgets.get(dimensionId);
+        if (remaining != null && unused > 0) {
+            remaining[0] += unused;
+        }
+    }
+
+    private static void expire(Map<SearchKey, TargetSearch> dimSearches, long now) {
+        Iterator<TargetSearch> iterator = dimSearches.values()
+            .iterator();
+        while (iterator.hasNext()) {
+            if (now - iterator.next().lastUsed > EXPIRY_TICKS) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * A block changed, drops it from the candidates of every search containing it
+     */
+    public void onBlockChanged(World world, int x, int y, int z) {
+        Map<SearchKey, TargetSearch> dimSearches = searches.get(world.provider.dimensionId);
+        if (dimSearches == null || dimSearches.isEmpty()) {
+            return;
+        }
+        for (TargetSearch search : dimSearches.values()) {
+            if (search.contains(x, y, z)) {
+                search.candidates.remove(pack(x, y, z));
+            }
+        }
+    }
+
+    public void onWorldUnload(World world) {
+        searches.remove(world.provider.dimensionId);
+        budgets.remove(world.provider.dimensionId);
+        budgetTicks.remove(world.provider.dimensionId);
+    }
+
+    /**
+     * Check whether a block is something the given task would break
+     */
+    static boolean isCandidate(World world, EntitySpectralTool.ToolTask.Type type, int x, int y, int z) {
+        Block block = world.getBlock(x, y, z);
+        if (block.isAir(world, x, y, z)) {
+            return false;
+        }
+        if (type == EntitySpectralTool.ToolTask.Type.BREAK_LOG && !block.isWood(world, x, y, z)
+            && !block.isLeaves(world, x, y, z)) {
+            return false;
+        }
+        // Skip unbreakable and TileEntity blocks
+        if (block.hasTileEntity(world.getBlockMetadata(x, y, z)) && world.getTileEntity(x, y, z) != null) {
+            return false;
+        }
+        float hardness = block.getBlockHardness(world, x, y, z);
+        return hardness >= 0 && hardness <= 10;
+    }
+
+    private static long pack(int x, int y, int z) {
+        return ((x & XZ_MASK) << (NUM_XZ_BITS + NUM_Y_BITS)) | ((y & Y_MASK) << NUM_XZ_BITS) | (z & XZ_MASK);
+    }
+
+    private static int unpackX(long packed) {
+        return (int) (packed << 64 - NUM_XZ_BITS - NUM_XZ_BITS - NUM_Y_BITS >> 64 - NUM_XZ_BITS);
+    }
+
+    private static int unpackY(long packed) {
+        return (int) (packed << 64 - NUM_XZ_BITS - NUM_Y_BITS >> 64 - NUM_Y_BITS);
+    }
+
+    private static int unpackZ(long packed) {
+        return (int) (packed << 64 - NUM_XZ_BITS >> 64 - NUM_XZ_BITS);
+    }
+
+    private static class SearchKey {
+
+        private final UUID owner;
+        private final EntitySpectralTool.ToolTask.Type type;
+        private final long start;
+
+        private SearchKey(UUID owner, EntitySpectralTool.ToolTask.Type type, long start) {
+            this.owner = owner;
+            this.type = type;
+            this.start = start;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof SearchKey)) return false;
+            SearchKey other = (SearchKey) o;
+            return start == other.start && type == other.type && Objects.equals(owner, other.owner);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(owner, type, start);
+        }
+    }
+
+    /**
+     * Cursor over the search cube plus the candidates found so far
+     */
+    private static class TargetSearch {
+
+        private final EntitySpectralTool.ToolTask.Type type;
+        private final int minX, minY, minZ;
+        private final int sizeX, sizeY, sizeZ;
+        private final int volume;
+
+        /**
+         * Candidates in discovery order, packed positions
+         */
+        private final LinkedHashSet<Long> candidates = new LinkedHashSet<>();
+        private int cursor = 0;
+        private long lastUsed;
+
+        /**
+         * Blocks this search may still inspect during the current claim
+         */
+        private int budget = 0;
+
+        private TargetSearch(EntitySpectralTool.ToolTask.Type type, int startX, int startY, int startZ, int radius) {
+            this.type = type;
+            this.minX = startX - radius;
+            this.minZ = startZ - radius;
+            // Block breaking tools never dig below their start position
+            this.minY = Math.max(
+                0,
+                type == EntitySpectralTool.ToolTask.Type.BREAK_BLOCK ? startY : startY - radius);
+            this.sizeX = radius * 2 + 1;
+            this.sizeZ = radius * 2 + 1;
+            this.sizeY = Math.max(0, Math.min(255, startY + radius) - minY + 1);
+            this.volume = sizeX * sizeY * sizeZ;
+        }
+
+        private boolean contains(int x, int y, int z) {
+            return x >= minX && x < minX + sizeX
+                && y >= minY
+                && y < minY + sizeY
+                && z >= minZ
+                && z < minZ + sizeZ;
+        }
+
+        /**
+         * Advance the cursor within the remaining budget, starting over once the cube is done
+         */
+        private void scan(World world) {
+            if (volume == 0) {
+                return;
+            }
+            while (budget > 0) {
+                if (cursor >= volume) {
+                    // Start over on the next call, blocks changed since then are found again
+                    cursor = 0;
+                    break;
+                }
+                int index = cursor++;
+                int x = minX + index / (sizeY * sizeZ);
+                int y = minY + (index / sizeZ) % sizeY;
+                int z = minZ + index % sizeZ;
+                budget--;
+                if (!world.blockExists(x, y, z)) {
+                    continue;
+                }
+                if (isCandidate(world, type, x, y, z)) {
+                    candidates.add(pack(x, y, z));
+                }
+            }
+        }
+
+        /**
+         * Claim the oldest candidate that is still valid, each candidate checked uses up one block of the budget
+         */
+        private int[] poll(World world) {
+            Iterator<Long> iterator = candidates.iterator();
+            while (budget > 0 && iterator.hasNext()) {
+                long packed = iterator.next();
+                iterator.remove();
+                budget--;
+                int x = unpackX(packed);
+                int y = unpackY(packed);
+                int z = unpackZ(packed);
+                if (world.blockExists(x, y, z) && isCandidate(world, type, x, y, z)) {
+                    return new int[] { x, y, z };
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * BlockChangeWorldAccess - Server-side block change listener
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.event;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.world.IWorldAccess;
+import net.minecraft.world.World;
+
+import hellfirepvp.astralsorcery.common.entity.SpectralToolTargetCache;
+import hellfirepvp.astralsorcery.common.starlight.StarlightNetworkHandler;
+import hellfirepvp.astralsorcery.common.structure.StructureStateCache;
+import hellfirepvp.astralsorcery.common.util.SkyVisibilityCache;
+
+/**
+ * BlockChangeWorldAccess - Forwards block updates of a server world to the block-change driven caches
+ * <p>
+ * Added to every server world in EventHandler on world load. Unlike BlockEvent.BreakEvent/PlaceEvent,
+ * this also sees explosions, pistons, fluids and setBlock calls of other mods.
+ * Everything except {@link #markBlockForUpdate(int, int, int)} is a no-op.
+ * <p>
+ * Tiles re-sending their data use the same method, those calls go through
+ * {@link #markTileSync(World, int, int, int)} and are not forwarded.
+ */
+public class BlockChangeWorldAccess implements IWorldAccess {
+
+    /**
+     * Set while a tile sync marks its block, server thread only
+     */
+    private static boolean syncingTile = false;
+
+    private final World world;
+
+    public BlockChangeWorldAccess(World world) {
+        this.world = world;
+    }
+
+    /**
+     * Send the tile entity at a position to watching clients. Unlike calling
+     * {@link World#markBlockForUpdate} directly, this is not treated as a block change.
+     */
+    public static void markTileSync(World world, int x, int y, int z) {
+        if (world.isRemote) {
+            world.markBlockForUpdate(x, y, z);
+            return;
+        }
+        boolean previous = syncingTile;
+        syncingTile = true;
+        try {
+            world.markBlockForUpdate(x, y, z);
+        } finally {
+            syncingTile = previous;
+        }
+    }
+
+    @Override
+    public void markBlockForUpdate(int x, int y, int z) {
+        if (syncingTile) {
+            return;
+        }
+        StructureStateCache.getInstance()
+            .onBlockChanged(world, x, y, z);
+        SkyVisibilityCache.getInstance()
+            .onBlockChanged(world, x, y, z);
+        SpectralToolTargetCache.getInstance()
+            .onBlockChanged(world, x, y, z);
+        StarlightNetworkHandler.getInstance()
+            .onBlockChanged(world, x, y, z);
+    }
+
+    @Override
+    public void markBlockForRenderUpdate(int x, int y, int z) {}
+
+    @Override
+    public void markBlockRangeForRenderUpdate(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {}
+
+    @Override
+    public void playSound(String soundName, double x, double y, double z, float volume, float pitch) {}
+
+    @Override
+    public void playSoundToNearExcept(EntityPlayer player, String soundName, double x, double y, double z,
+        float volume, float pitch) {}
+
+    @Override
+    public void spawnParticle(String particleType, double x, double y, double z, double velX, double velY,
+        double velZ) {}
+
+    @Override
+    public void onEntityCreate(Entity entity) {}
+
+    @Override
+    public void onEntityDestroy(Entity entity) {}
+
+    @Override
+    public void playRecord(String recordName, int x, int y, int z) {}
+
+    @Override
+    public void broadcastSound(int soundId, int x, int y, int z, int data) {}
+
+    @Override
+    public void playAuxSFX(EntityPlayer player, int sfxType, int x, int y, int z, int data) {}
+
+    @Override
+    public void destroyBlockPartially(int breakerId, int x, int y, int z, int progress) {}
+
+    @Override
+    public void onStaticEntitiesChanged() {}
+}
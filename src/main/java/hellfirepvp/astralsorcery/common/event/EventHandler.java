@@ -7,10 +7,13 @@
 package hellfirepvp.astralsorcery.common.event;
 
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.event.entity.EntityJoinWorldEvent;
 import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.oredict.OreDictionary;
 
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 import cpw.mods.fml.common.gameevent.PlayerEvent;
@@ -18,9 +21,20 @@ import cpw.mods.fml.common.gameevent.TickEvent;
 import hellfirepvp.astralsorcery.common.block.BlockAltar;
 import hellfirepvp.astralsorcery.common.data.research.PlayerProgress;
 import hellfirepvp.astralsorcery.common.data.research.ResearchManager;
+import hellfirepvp.astralsorcery.common.data.world.CelestialGatewaySystem;
+import hellfirepvp.astralsorcery.common.entity.SpectralToolTargetCache;
 import hellfirepvp.astralsorcery.common.network.NetworkWrapper;
 import hellfirepvp.astralsorcery.common.network.packet.PacketNBT;
+import hellfirepvp.astralsorcery.common.starlight.StarlightCollectionModel;
+import hellfirepvp.astralsorcery.common.starlight.StarlightNetworkHandler;
+import hellfirepvp.astralsorcery.common.structure.StructureStateCache;
+import hellfirepvp.astralsorcery.common.tile.base.TileSpatialIndex;
+import hellfirepvp.astralsorcery.common.tile.base.TileTickScheduler;
 import hellfirepvp.astralsorcery.common.util.LogHelper;
+import hellfirepvp.astralsorcery.common.util.OreIdCache;
+import hellfirepvp.astralsorcery.common.util.SkyVisibilityCache;
+import hellfirepvp.astralsorcery.common.util.block.BlockEditQueue;
+import hellfirepvp.astralsorcery.common.world.StructurePlacementQueue;
 
 /**
  * Main event handler for Astral Sorcery
@@ -30,6 +44,8 @@ import hellfirepvp.astralsorcery.common.util.LogHelper;
  */
 public class EventHandler {
 
+    private int serverTicks = 0;
+
     /**
      * Called when a player logs in
      */
@@ -46,12 +62,9 @@ public class EventHandler {
         hellfirepvp.astralsorcery.common.data.research.PlayerProgressProperties.register(player);
         LogHelper.debug("Registered PlayerProgressProperties for " + player.getCommandSenderName());
 
-        // Load player research progress from extended properties
-        PlayerProgress progress = hellfirepvp.astralsorcery.common.data.research.PlayerProgressProperties
-            .getProgress(player);
-
-        // Also cache in ResearchManager
-        ResearchManager.getProgress(player);
+        // Load player research progress from the world save
+        ResearchManager.loadPlayerKnowledge(player);
+        PlayerProgress progress = ResearchManager.getProgress(player);
 
         // Send progress to client
         if (progress != null) {
@@ -61,6 +74,12 @@ public class EventHandler {
                     + " - Tier: "
                     + progress.getTierReached());
         }
+
+        // Full gateway list once, changes follow as deltas
+        if (player instanceof EntityPlayerMP) {
+            CelestialGatewaySystem.getInstance()
+                .syncTo((EntityPlayerMP) player);
+        }
     }
 
     /**
@@ -74,8 +93,8 @@ public class EventHandler {
 
         LogHelper.debug("Player logged out: " + event.player.getCommandSenderName());
 
-        // Player data is automatically saved by PlayerProgressProperties
-        // No need to manually save here
+        // Hand pending changes to the background writer
+        ResearchManager.unloadPlayerKnowledge(event.player);
     }
 
     /**
@@ -124,7 +143,7 @@ public class EventHandler {
             // Notify altar TileEntity of break
             // This is also called from BlockAltar.breakBlock
             // But this event allows us to cancel it if needed
-            LogHelper.debug("Altar block broken at " + event.x + ", " + event.y + ", " + event.z);
+            LogHelper.debug(() -> "Altar block broken at " + event.x + ", " + event.y + ", " + event.z);
         }
     }
 
@@ -139,7 +158,7 @@ public class EventHandler {
 
         // Handle special block placement logic
         if (event.block instanceof BlockAltar) {
-            LogHelper.debug("Altar block placed at " + event.x + ", " + event.y + ", " + event.z);
+            LogHelper.debug(() -> "Altar block placed at " + event.x + ", " + event.y + ", " + event.z);
 
             // Initialize altar TileEntity
             // This is also called from BlockAltar.onBlockAdded
@@ -147,6 +166,16 @@ public class EventHandler {
         }
     }
 
+    /**
+     * Called when an item is registered to the ore dictionary, on both sides
+     */
+    @SubscribeEvent
+    public void onOreRegister(OreDictionary.OreRegisterEvent event) {
+        // Cached ore IDs of altar recipe matching and the ore buckets of the recipe index are outdated now
+        OreIdCache.getInstance()
+            .invalidate();
+    }
+
     /**
      * Called when a chunk is loaded
      */
@@ -158,6 +187,12 @@ public class EventHandler {
 
         // Handle chunk load logic here
         // TODO: Initialize any chunk-specific data
+        // Observe block changes for the structure and sky visibility caches
+        event.world.addWorldAccess(new BlockChangeWorldAccess(event.world));
+
+        // Saved celestial gateways of this dimension
+        CelestialGatewaySystem.getInstance()
+            .onWorldLoad(event.world);
     }
 
     /**
@@ -171,6 +206,39 @@ public class EventHandler {
 
         // Handle chunk unload logic here
         // TODO: Clean up any chunk-specific data
+        StarlightNetworkHandler.getInstance()
+            .onWorldUnload(event.world);
+        TileTickScheduler.getInstance()
+            .onWorldUnload(event.world);
+        StructureStateCache.getInstance()
+            .onWorldUnload(event.world);
+        SkyVisibilityCache.getInstance()
+            .onWorldUnload(event.world);
+        SpectralToolTargetCache.getInstance()
+            .onWorldUnload(event.world);
+        StarlightCollectionModel.getInstance()
+            .onWorldUnload(event.world);
+        TileSpatialIndex.getInstance()
+            .onWorldUnload(event.world);
+        BlockEditQueue.getInstance()
+            .onWorldUnload(event.world);
+        StructurePlacementQueue.getInstance()
+            .onWorldUnload(event.world);
+    }
+
+    /**
+     * Called when a chunk is unloaded
+     */
+    @SubscribeEvent
+    public void onChunkDataUnload(ChunkEvent.Unload event) {
+        if (event.world.isRemote) {
+            return; // Don't process on client
+        }
+
+        SkyVisibilityCache.getInstance()
+            .onChunkUnload(event.world, event.getChunk().xPosition, event.getChunk().zPosition);
+        TileSpatialIndex.getInstance()
+            .onChunkUnload(event.world, event.getChunk().xPosition, event.getChunk().zPosition);
     }
 
     /**
@@ -183,6 +251,12 @@ public class EventHandler {
             return; // Don't process on client
         }
 
+        if (event.phase == TickEvent.Phase.START) {
+            // Sky collection of all starlight collectors, before the tiles tick
+            StarlightCollectionModel.getInstance()
+                .tick(event.world);
+        }
+
         if (event.phase == TickEvent.Phase.END) {
             // Handle end-of-tick logic
             // This is called after all other tile entities have ticked
@@ -199,19 +273,46 @@ public class EventHandler {
         if (event.phase == TickEvent.Phase.END) {
             // Handle server-wide end-of-tick logic
             // This is good for periodic tasks
+            serverTicks++;
+
+            // Coalesced player progress writes, once per second
+            if (serverTicks % 20 == 0) {
+                ResearchManager.flushServerProgress();
+            }
         }
     }
 
+    /**
+     * Called when a world is saved
+     */
+    @SubscribeEvent
+    public void onWorldSave(WorldEvent.Save event) {
+        if (event.world.isRemote || event.world.provider.dimensionId != 0) {
+            return; // Player data is saved together with the overworld
+        }
+
+        ResearchManager.flushServerProgress();
+    }
+
     /**
      * Handle world tick end logic
      */
     private void tickWorldEnd(net.minecraft.world.World world) {
-        // Periodic tasks (every 5 seconds = 100 ticks)
-        long totalTime = world.getTotalWorldTime();
-        if (totalTime % 100 == 0) {
-            // Player data is automatically saved by PlayerProgressProperties
-            // No need for manual periodic saves
-        }
+        // Staggered periodic tile tasks, limited by the per-tick budget
+        TileTickScheduler.getInstance()
+            .tick(world);
+
+        // Move starlight along all cached network links
+        StarlightNetworkHandler.getInstance()
+            .tick(world);
+
+        // Continue bulk block edits, limited by their own per-tick budget
+        BlockEditQueue.getInstance()
+            .tick(world);
+
+        // Build generated structures whose chunks exist now
+        StructurePlacementQueue.getInstance()
+            .tick(world);
     }
 
     /**
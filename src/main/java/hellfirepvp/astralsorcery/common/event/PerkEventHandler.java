@@ -16,9 +16,11 @@ import cpw.mods.fml.common.gameevent.PlayerEvent;
 import cpw.mods.fml.common.gameevent.TickEvent;
 import hellfirepvp.astralsorcery.common.constellation.perk.PerkAttributeHelper;
 import hellfirepvp.astralsorcery.common.constellation.perk.PlayerAttributeMap;
+import hellfirepvp.astralsorcery.common.constellation.perk.attribute.AttributeTypeRegistry;
 import hellfirepvp.astralsorcery.common.data.research.PlayerProgress;
 import hellfirepvp.astralsorcery.common.data.research.ResearchManager;
 import hellfirepvp.astralsorcery.common.util.LogHelper;
+import hellfirepvp.astralsorcery.common.util.log.LogCategory;
 
 /**
  * Perk event handler - Applies constellation perk effects (1.7.10)
@@ -41,8 +43,10 @@ import hellfirepvp.astralsorcery.common.util.LogHelper;
  */
 public class PerkEventHandler {
 
-    private static final String ATTR_TYPE_MINING_SPEED = "astralsorcery.miningspeed";
-    private static final String ATTR_TYPE_RANGED_DAMAGE = "astralsorcery.rangeddamage";
+    private static final int ATTR_TYPE_MINING_SPEED = AttributeTypeRegistry
+        .getTypeId(AttributeTypeRegistry.ATTR_TYPE_MINING_SPEED);
+    private static final int ATTR_TYPE_RANGED_DAMAGE = AttributeTypeRegistry
+        .getTypeId(AttributeTypeRegistry.ATTR_TYPE_RANGED_DAMAGE);
 
     // Track last night vision tick to avoid re-applying too frequently
     private static final int NIGHT_VISION_TICK_INTERVAL = 100; // Re-apply every 5 seconds
@@ -68,7 +72,10 @@ public class PerkEventHandler {
 
         float modifier = attrMap.getModifier(player, ATTR_TYPE_MINING_SPEED);
         if (modifier != 1.0F) {
-            LogHelper.debug("Mining speed modifier for " + player.getCommandSenderName() + ": " + modifier);
+            LogCategory.PERK.debugRateLimited(
+                "mining_speed",
+                5000L,
+                () -> "Mining speed modifier for " + player.getCommandSenderName() + ": " + modifier);
         }
         return modifier;
     }
@@ -99,7 +106,8 @@ public class PerkEventHandler {
         float modifier = attrMap.getModifier(player, ATTR_TYPE_RANGED_DAMAGE);
         if (modifier != 1.0F) {
             // Log that we detected ranged damage bonus
-            LogHelper.debug("Ranged damage modifier active for " + player.getCommandSenderName() + ": " + modifier);
+            LogCategory.PERK
+                .debug(() -> "Ranged damage modifier active for " + player.getCommandSenderName() + ": " + modifier);
             // Note: Actual damage modification is handled in LivingHurtEvent or arrow entity creation
         }
     }
@@ -139,7 +147,7 @@ public class PerkEventHandler {
                         // Re-apply night vision
                         perk.applyPerk(player, cpw.mods.fml.relauncher.Side.SERVER);
                         lastNightVisionTick.put(uuid, currentTick);
-                        LogHelper.debug("Re-applied night vision for " + player.getCommandSenderName());
+                        LogCategory.PERK.debug(() -> "Re-applied night vision for " + player.getCommandSenderName());
                         break;
                     }
                 }
@@ -23,6 +23,7 @@ import net.minecraft.world.World;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import hellfirepvp.astralsorcery.common.util.LogHelper;
+import hellfirepvp.astralsorcery.common.util.block.BlockEditBatch;
 
 /**
  * Item Block Storage (1.7.10)
@@ -99,7 +100,7 @@ public abstract class ItemBlockStorage extends Item {
         list.appendTag(stateTag);
         nbt.setTag(TAG_STORED_STATES, list);
 
-        LogHelper.debug("Stored block: " + block.getUnlocalizedName() + ":" + meta);
+        LogHelper.debug(() -> "Stored block: " + block.getUnlocalizedName() + ":" + meta);
     }
 
     /**
@@ -218,7 +219,7 @@ public abstract class ItemBlockStorage extends Item {
         int next = (current + 1) % stored.size();
         setSelectedIndex(stack, next);
 
-        LogHelper.debug("Cycled to block " + next + ": " + stored.get(next).block.getUnlocalizedName());
+        LogHelper.debug(() -> "Cycled to block " + next + ": " + stored.get(next).block.getUnlocalizedName());
         return next;
     }
 
@@ -288,6 +289,23 @@ public abstract class ItemBlockStorage extends Item {
         }
     }
 
+    // ========== Edit Progress (1.7.10) ==========
+
+    /**
+     * Show the progress of a block edit spanning several ticks as durability bar
+     */
+    @Override
+    @SideOnly(Side.CLIENT)
+    public boolean showDurabilityBar(ItemStack stack) {
+        return BlockEditBatch.getProgress(stack) >= 0F;
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public double getDurabilityForDisplay(ItemStack stack) {
+        return 1D - Math.max(0F, BlockEditBatch.getProgress(stack));
+    }
+
     // ========== Icon Registration (1.7.10) ==========
 
     /**
@@ -195,6 +195,9 @@ public class ItemCrystalSword extends ItemSword {
      * Damage tool properties based on use
      * 1.7.10: Implements crystal damage mechanics
      * Swords have 1/3 damage chance (more aggressive than tools)
+     * <p>
+     * All damage points are rolled first, the properties are copied and written back once,
+     * and only if collective capability was lost.
      *
      * @param stack  The sword ItemStack
      * @param damage Amount of damage to apply
@@ -218,38 +221,32 @@ public class ItemCrystalSword extends ItemSword {
             return;
         }
 
-        // Apply damage points
+        // Apply damage points, tracking the capability the copies would have had
+        int capability = prop.getCollectiveCapability();
+        double purity = ((double) prop.getPurity()) / 100D;
+        int cut = 0;
         for (int i = 0; i < damage; i++) {
             // Check collective capability damage
-            double chance = Math.pow(((double) prop.getCollectiveCapability()) / 100D, 2);
+            double chance = Math.pow(((double) Math.max(0, capability - cut)) / 100D, 2);
             if (chance >= rand.nextFloat()) {
                 // 1/3 chance to reduce collective capability (sword)
                 if (rand.nextInt(3) == 0) {
-                    prop = prop.copyDamagedCutting();
+                    cut++;
                 }
 
                 // Check purity damage
-                double purity = ((double) prop.getPurity()) / 100D;
                 if (purity <= rand.nextFloat()) {
                     // 1/3 chance to reduce collective capability (sword)
                     if (rand.nextInt(3) == 0) {
-                        prop = prop.copyDamagedCutting();
+                        cut++;
                     }
                 }
             }
-
-            // Check if sword should break early
-            if (prop.getSize() <= 0) {
-                break;
-            }
         }
 
-        setToolProperties(stack, prop);
-
-        // Check if sword should break
-        if (prop.getSize() <= 0) {
-            // Sword broken - don't set vanilla damage
-            // Sword will be unusable due to size <= 0
+        // Size is never reduced here, a sword with size left stays usable
+        if (cut > 0 && capability > 0) {
+            setToolProperties(stack, prop.copyDamagedCutting(cut));
         }
     }
 
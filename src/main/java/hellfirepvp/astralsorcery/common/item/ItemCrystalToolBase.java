@@ -219,6 +219,9 @@ public abstract class ItemCrystalToolBase extends ItemTool {
     /**
      * Damage tool properties based on use
      * 1.7.10: Implements crystal damage mechanics
+     * <p>
+     * All damage points are rolled first, the properties are copied and written back once,
+     * and only if collective capability was lost.
      *
      * @param stack  The tool ItemStack
      * @param damage Amount of damage to apply
@@ -242,38 +245,33 @@ public abstract class ItemCrystalToolBase extends ItemTool {
             return;
         }
 
-        // Apply damage points
+        // Apply damage points, tracking the capability the copies would have had
+        int capability = prop.getCollectiveCapability();
+        int cut = 0;
         for (int i = 0; i < damage; i++) {
-            // Check collective capability damage
-            if (prop.shouldDamage(rand)) {
+            // Check collective capability damage, same chance as ToolCrystalProperties.shouldDamage
+            double chance = Math.pow(((double) Math.max(0, capability - cut)) / 100D, 2);
+            if (chance >= rand.nextFloat()) {
                 // 1/8 chance to reduce collective capability (ItemCrystalToolBase)
                 // 1/3 chance to reduce collectiveCapability (ItemCrystalSword)
                 // Since we can't use instanceof ItemCrystalSword here (circular reference),
                 // we use 1/8 for all tools. Swords handle their own damage logic.
                 if (rand.nextInt(8) == 0) {
-                    prop = prop.copyDamagedCutting();
+                    cut++;
                 }
 
                 // Check purity damage
                 if (prop.shouldDamagePurity(rand)) {
                     if (rand.nextInt(8) == 0) {
-                        prop = prop.copyDamagedCutting();
+                        cut++;
                     }
                 }
             }
-
-            // Check if tool should break early
-            if (prop.getSize() <= 0) {
-                break;
-            }
         }
 
-        ItemCrystalToolBase.setToolProperties(stack, prop);
-
-        // Check if tool should break
-        if (prop.getSize() <= 0) {
-            // Tool broken - don't set vanilla damage
-            // Tool will be unusable due to size <= 0
+        // Size is never reduced here, a tool with size left stays usable
+        if (cut > 0 && capability > 0) {
+            ItemCrystalToolBase.setToolProperties(stack, prop.copyDamagedCutting(cut));
         }
     }
 
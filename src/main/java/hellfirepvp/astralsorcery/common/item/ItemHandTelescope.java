@@ -22,6 +22,7 @@ import hellfirepvp.astralsorcery.common.data.research.PlayerProgress;
 import hellfirepvp.astralsorcery.common.data.research.PlayerProgressProperties;
 import hellfirepvp.astralsorcery.common.data.research.ResearchManager;
 import hellfirepvp.astralsorcery.common.util.LogHelper;
+import hellfirepvp.astralsorcery.common.util.StarlightHelper;
 
 /**
  * Hand Telescope Item
@@ -58,7 +59,7 @@ public class ItemHandTelescope extends AstralBaseItem {
         }
 
         // Check if player can see sky
-        if (!world.canBlockSeeTheSky((int) player.posX, (int) player.posY, (int) player.posZ)) {
+        if (!StarlightHelper.canSeeSky(world, (int) player.posX, (int) player.posY, (int) player.posZ)) {
             player.addChatMessage(new ChatComponentText("§cYou need a clear view of the sky!"));
             return stack;
         }
@@ -338,6 +338,7 @@ public class CrystalProperties {
             stack.setTagCompound(cmp);
         }
 
+        CrystalPropertiesCache.invalidate(cmp);
         NBTTagCompound crystalProp = new NBTTagCompound();
         crystalProp.setInteger("size", properties.getSize());
         crystalProp.setInteger("purity", properties.getPurity());
@@ -350,6 +351,9 @@ public class CrystalProperties {
     /**
      * Get crystal properties from ItemStack
      * 1.7.10: Uses stack.getTagCompound() instead of NBTHelper
+     * <p>
+     * Decoded once per stored compound, see {@link CrystalPropertiesCache}. The returned properties are
+     * shared and must not be modified, write changed properties with {@link #applyCrystalProperties}.
      *
      * @param stack The ItemStack to read properties from
      * @return CrystalProperties, or null if not found
@@ -364,7 +368,13 @@ public class CrystalProperties {
             return null;
         }
 
-        NBTTagCompound prop = cmp.getCompoundTag("crystalProperties");
+        return CrystalPropertiesCache.getCrystal(cmp.getCompoundTag("crystalProperties"));
+    }
+
+    /**
+     * Decode the "crystalProperties" compound of a stack
+     */
+    static CrystalProperties decode(NBTTagCompound prop) {
         Integer size = prop.getInteger("size");
         Integer purity = prop.getInteger("purity");
         Integer colCap = prop.getInteger("collectiveCapability");
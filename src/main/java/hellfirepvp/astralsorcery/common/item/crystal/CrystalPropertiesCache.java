@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * CrystalPropertiesCache - Decoded crystal properties of item stacks
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.item.crystal;
+
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+import com.google.common.collect.MapMaker;
+
+/**
+ * CrystalPropertiesCache - Decoded crystal properties (1.7.10)
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Keyed by identity of the "crystalProperties" compound of a stack, entries go away with the compound</li>
+ * <li>Writers always store a new compound, so a stack with new properties never finds the old entry</li>
+ * <li>Writers still invalidate the replaced compound, it may be shared with stacks that keep it</li>
+ * <li>Thread safe, client and integrated server both read crystal stacks</li>
+ * </ul>
+ * <p>
+ * Cached properties are shared between all readers and must not be modified.
+ * Change a copy and write it back instead.
+ */
+final class CrystalPropertiesCache {
+
+    /**
+     * Decoded by {@link CrystalProperties#getCrystalProperties}
+     */
+    private static final ConcurrentMap<NBTTagCompound, CrystalProperties> crystal = new MapMaker().weakKeys()
+        .makeMap();
+
+    /**
+     * Decoded by {@link CrystalProperties#readFromNBT}
+     */
+    private static final ConcurrentMap<NBTTagCompound, CrystalProperties> stored = new MapMaker().weakKeys()
+        .makeMap();
+
+    /**
+     * Decoded by {@link ToolCrystalProperties#readFromNBT}
+     */
+    private static final ConcurrentMap<NBTTagCompound, ToolCrystalProperties> tool = new MapMaker().weakKeys()
+        .makeMap();
+
+    private CrystalPropertiesCache() {}
+
+    static CrystalProperties getCrystal(NBTTagCompound prop) {
+        CrystalProperties decoded = crystal.get(prop);
+        if (decoded == null) {
+            decoded = CrystalProperties.decode(prop);
+            crystal.put(prop, decoded);
+        }
+        return decoded;
+    }
+
+    static CrystalProperties getStored(NBTTagCompound prop) {
+        CrystalProperties decoded = stored.get(prop);
+        if (decoded == null) {
+            decoded = CrystalProperties.readFromNBT(prop);
+            stored.put(prop, decoded);
+        }
+        return decoded;
+    }
+
+    /**
+     * @param compound Stack compound holding the "crystalProperties" tag
+     */
+    @Nullable
+    static ToolCrystalProperties getTool(NBTTagCompound compound) {
+        if (!compound.hasKey("crystalProperties")) {
+            return null;
+        }
+        NBTTagCompound prop = compound.getCompoundTag("crystalProperties");
+        ToolCrystalProperties decoded = tool.get(prop);
+        if (decoded == null) {
+            decoded = ToolCrystalProperties.readFromNBT(compound);
+            tool.put(prop, decoded);
+        }
+        return decoded;
+    }
+
+    /**
+     * Forget the properties stored in a stack compound, called before they are replaced
+     *
+     * @param compound Stack compound holding the "crystalProperties" tag, may be null
+     */
+    static void invalidate(@Nullable NBTTagCompound compound) {
+        if (compound == null || !compound.hasKey("crystalProperties")) {
+            return;
+        }
+        NBTTagCompound prop = compound.getCompoundTag("crystalProperties");
+        crystal.remove(prop);
+        stored.remove(prop);
+        tool.remove(prop);
+    }
+}
@@ -85,7 +85,8 @@ public class ItemRockCrystalBase extends AstralBaseItem {
         NBTTagCompound nbt = stack.getTagCompound();
         if (nbt.hasKey(TAG_CRYSTAL_PROPERTIES)) {
             NBTTagCompound propsNbt = nbt.getCompoundTag(TAG_CRYSTAL_PROPERTIES);
-            return CrystalProperties.readFromNBT(propsNbt);
+            // Shared instance, see CrystalPropertiesCache
+            return CrystalPropertiesCache.getStored(propsNbt);
         }
 
         return null;
@@ -108,6 +109,7 @@ public class ItemRockCrystalBase extends AstralBaseItem {
             stack.setTagCompound(nbt);
         }
 
+        CrystalPropertiesCache.invalidate(nbt);
         NBTTagCompound propsNbt = properties.writeToNBT(new NBTTagCompound());
         nbt.setTag(TAG_CRYSTAL_PROPERTIES, propsNbt);
     }
@@ -145,6 +145,9 @@ public class ToolCrystalProperties extends CrystalProperties {
     /**
      * Read tool crystal properties from ItemStack
      * Convenience method for ItemStack integration
+     * <p>
+     * Decoded once per stored compound, see {@link CrystalPropertiesCache}. The returned properties are
+     * shared and must not be modified, write changed properties with {@link #setToolProperties}.
      *
      * @param stack ItemStack to read from
      * @return ToolCrystalProperties, or null if not found
@@ -153,7 +156,7 @@ public class ToolCrystalProperties extends CrystalProperties {
         if (stack == null || stack.getTagCompound() == null) {
             return null;
         }
-        return readFromNBT(stack.getTagCompound());
+        return CrystalPropertiesCache.getTool(stack.getTagCompound());
     }
 
     /**
@@ -175,6 +178,7 @@ public class ToolCrystalProperties extends CrystalProperties {
             stack.setTagCompound(cmp);
         }
 
+        CrystalPropertiesCache.invalidate(cmp);
         NBTTagCompound crystalProp = new NBTTagCompound();
         crystalProp.setInteger("size", properties.getSize());
         crystalProp.setInteger("purity", properties.getPurity());
@@ -194,10 +198,21 @@ public class ToolCrystalProperties extends CrystalProperties {
      * @return New ToolCrystalProperties with reduced capability
      */
     public ToolCrystalProperties copyDamagedCutting() {
+        return copyDamagedCutting(1);
+    }
+
+    /**
+     * Create a damaged copy for cutting tools, for several damage rolls at once
+     * Reduces collective capability by the given amount
+     *
+     * @param amount Collective capability to remove
+     * @return New ToolCrystalProperties with reduced capability
+     */
+    public ToolCrystalProperties copyDamagedCutting(int amount) {
         return new ToolCrystalProperties(
             this.getSize(),
             this.getPurity(),
-            Math.max(0, this.getCollectiveCapability() - 1),
+            Math.max(0, this.getCollectiveCapability() - amount),
             this.getFractured(),
             this.getSizeOverride());
     }
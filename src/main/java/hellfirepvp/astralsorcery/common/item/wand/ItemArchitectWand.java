@@ -17,6 +17,7 @@ import net.minecraft.world.World;
 import hellfirepvp.astralsorcery.common.item.ItemBlockStorage;
 import hellfirepvp.astralsorcery.common.item.ItemBlockStorage.BlockAndMeta;
 import hellfirepvp.astralsorcery.common.lib.CreativeTabsAS;
+import hellfirepvp.astralsorcery.common.util.block.BlockEditBatch;
 
 /**
  * Architect Wand
@@ -132,7 +133,9 @@ public class ItemArchitectWand extends ItemBlockStorage {
         // TODO: Check if player has enough blocks in inventory
         // TODO: Drain blocks from inventory
         // TODO: Check alignment charge
-        world.setBlock(newX, newY, newZ, toPlace.block, toPlace.meta, 3);
+        int blockAtMeta = world.getBlockMetadata(newX, newY, newZ);
+        new BlockEditBatch(world).replaceBlock(newX, newY, newZ, blockAt, blockAtMeta, toPlace.block, toPlace.meta)
+            .submit();
 
         // Play sound
         world.playSoundEffect(
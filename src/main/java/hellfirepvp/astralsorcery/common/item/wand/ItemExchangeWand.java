@@ -18,6 +18,7 @@ import net.minecraft.world.World;
 import hellfirepvp.astralsorcery.common.item.ItemBlockStorage;
 import hellfirepvp.astralsorcery.common.item.ItemBlockStorage.BlockAndMeta;
 import hellfirepvp.astralsorcery.common.lib.CreativeTabsAS;
+import hellfirepvp.astralsorcery.common.util.block.BlockEditBatch;
 
 /**
  * Exchange Wand
@@ -120,27 +121,34 @@ public class ItemExchangeWand extends ItemBlockStorage {
         // TODO: Drain blocks from inventory
         // TODO: Check alignment charge
 
-        // Exchange all blocks
-        int exchanged = 0;
+        // Exchange all blocks, applied chunk by chunk and spread over several ticks if needed
+        BlockEditBatch batch = new BlockEditBatch(world);
         for (BlockPos pos : toExchange) {
             // Check if we can place here
             if (!player.canPlayerEdit(pos.x, pos.y, pos.z, side, stack)) {
                 continue;
             }
 
-            // Replace block
-            world.setBlock(pos.x, pos.y, pos.z, toPlace.block, toPlace.meta, 3);
-            exchanged++;
+            // Replace block, skipped if it changed until the edit is applied
+            batch.replaceBlock(pos.x, pos.y, pos.z, targetBlock, targetMeta, toPlace.block, toPlace.meta);
         }
-
-        if (exchanged > 0) {
-            // Play sound
-            world.playSoundAtEntity(player, "random.anvil_use", 0.5F, 1.0F);
-
-            player.addChatMessage(
-                new net.minecraft.util.ChatComponentText("§a[Exchange Wand] Exchanged " + exchanged + " blocks"));
+        if (batch.size() == 0) {
+            return false;
         }
 
+        batch.showProgressTo(player)
+            .onComplete(exchanged -> {
+                if (exchanged > 0) {
+                    // Play sound
+                    world.playSoundAtEntity(player, "random.anvil_use", 0.5F, 1.0F);
+
+                    player.addChatMessage(
+                        new net.minecraft.util.ChatComponentText(
+                            "§a[Exchange Wand] Exchanged " + exchanged + " blocks"));
+                }
+            })
+            .submit();
+
         return true;
 
     }
@@ -12,7 +12,9 @@ import cpw.mods.fml.common.network.simpleimpl.IMessageHandler;
 import cpw.mods.fml.common.network.simpleimpl.SimpleNetworkWrapper;
 import cpw.mods.fml.relauncher.Side;
 import hellfirepvp.astralsorcery.common.lib.Constants;
+import hellfirepvp.astralsorcery.common.network.packet.PacketEditProgress;
 import hellfirepvp.astralsorcery.common.network.packet.PacketEffect;
+import hellfirepvp.astralsorcery.common.network.packet.PacketGatewaySync;
 import hellfirepvp.astralsorcery.common.network.packet.PacketNBT;
 import hellfirepvp.astralsorcery.common.network.packet.PacketTileUpdate;
 import hellfirepvp.astralsorcery.common.util.LogHelper;
@@ -119,7 +121,13 @@ public class NetworkWrapper {
         // Effect packet (server -> client)
         registerPacket(PacketEffect.class, PacketEffect.Handler.class, Side.CLIENT);
 
-        LogHelper.info("Registered 3 packet types");
+        // Celestial gateway registry sync (server -> client)
+        registerPacket(PacketGatewaySync.class, PacketGatewaySync.Handler.class, Side.CLIENT);
+
+        // Block edit progress (server -> client)
+        registerPacket(PacketEditProgress.class, PacketEditProgress.Handler.class, Side.CLIENT);
+
+        LogHelper.info("Registered 5 packet types");
         LogHelper.exit("NetworkWrapper.init");
     }
 
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * PacketEditProgress - Progress of a block edit spanning several ticks
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.network.packet;
+
+import cpw.mods.fml.common.network.simpleimpl.IMessage;
+import cpw.mods.fml.common.network.simpleimpl.IMessageHandler;
+import cpw.mods.fml.common.network.simpleimpl.MessageContext;
+import hellfirepvp.astralsorcery.common.util.block.BlockEditBatch;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Packet telling a player how far the block edit started with one of their items is
+ * <p>
+ * Sent instead of writing the progress into the item, which would resync the stack
+ * and replay the equip animation every time.
+ */
+public class PacketEditProgress extends AbstractPacket {
+
+    private int slot;
+    private float progress;
+
+    /**
+     * Default constructor for packet registration
+     */
+    public PacketEditProgress() {
+        this.slot = -1;
+        this.progress = -1F;
+    }
+
+    /**
+     * @param slot     Inventory slot of the item showing the progress
+     * @param progress Progress from 0.0 to 1.0, or -1 once the edit is done
+     */
+    public PacketEditProgress(int slot, float progress) {
+        this.slot = slot;
+        this.progress = progress;
+    }
+
+    @Override
+    public void fromBytes(ByteBuf buf) {
+        slot = buf.readByte();
+        progress = buf.readFloat();
+    }
+
+    @Override
+    public void toBytes(ByteBuf buf) {
+        buf.writeByte(slot);
+        buf.writeFloat(progress);
+    }
+
+    /**
+     * Packet handler - stores the progress on the client
+     */
+    public static class Handler implements IMessageHandler<PacketEditProgress, IMessage> {
+
+        @Override
+        public IMessage onMessage(PacketEditProgress message, MessageContext ctx) {
+            BlockEditBatch.setClientProgress(message.slot, message.progress);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * PacketGatewaySync - Celestial gateway registry sync
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.network.packet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import cpw.mods.fml.common.network.simpleimpl.IMessage;
+import cpw.mods.fml.common.network.simpleimpl.IMessageHandler;
+import cpw.mods.fml.common.network.simpleimpl.MessageContext;
+import hellfirepvp.astralsorcery.common.data.world.CelestialGatewaySystem;
+import hellfirepvp.astralsorcery.common.data.world.GatewayCache.GatewayNode;
+import hellfirepvp.astralsorcery.common.util.LogHelper;
+import hellfirepvp.astralsorcery.common.util.math.BlockPos;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Packet syncing the celestial gateway registry to clients
+ * <p>
+ * <b>Actions:</b>
+ * <ul>
+ * <li>FULL - Complete list, sent once on login, replaces everything the client knows</li>
+ * <li>ADD - Gateways registered or renamed</li>
+ * <li>REMOVE - Gateways unregistered, only dimension and position are sent</li>
+ * </ul>
+ */
+public class PacketGatewaySync extends AbstractPacket {
+
+    public enum Action {
+        FULL,
+        ADD,
+        REMOVE
+    }
+
+    private Action action;
+    private List<GatewayNode> nodes;
+
+    /**
+     * Default constructor for packet registration
+     */
+    public PacketGatewaySync() {
+        this.action = Action.ADD;
+        this.nodes = Collections.emptyList();
+    }
+
+    public PacketGatewaySync(Action action, Collection<GatewayNode> nodes) {
+        this.action = action;
+        this.nodes = new ArrayList<>(nodes);
+    }
+
+    public PacketGatewaySync(Action action, GatewayNode node) {
+        this(action, Collections.singletonList(node));
+    }
+
+    @Override
+    public void fromBytes(ByteBuf buf) {
+        try {
+            action = Action.values()[buf.readByte()];
+            int count = buf.readInt();
+            nodes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int dimension = buf.readInt();
+                BlockPos pos = BlockPos.fromLong(buf.readLong());
+                String display = action == Action.REMOVE ? "" : readString(buf, 256);
+                nodes.add(new GatewayNode(dimension, pos, display));
+            }
+        } catch (Exception e) {
+            LogHelper.error("Failed to read PacketGatewaySync", e);
+            action = Action.ADD;
+            nodes = Collections.emptyList();
+        }
+    }
+
+    @Override
+    public void toBytes(ByteBuf buf) {
+        buf.writeByte(action.ordinal());
+        buf.writeInt(nodes.size());
+        for (GatewayNode node : nodes) {
+            buf.writeInt(node.getDimension());
+            buf.writeLong(
+                node.getPos()
+                    .toLong());
+            if (action != Action.REMOVE) {
+                writeString(buf, node.getDisplay());
+            }
+        }
+    }
+
+    public Action getAction() {
+        return action;
+    }
+
+    public List<GatewayNode> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Packet handler - applies the sync on the client
+     */
+    public static class Handler implements IMessageHandler<PacketGatewaySync, IMessage> {
+
+        @Override
+        public IMessage onMessage(PacketGatewaySync message, MessageContext ctx) {
+            CelestialGatewaySystem.getInstance()
+                .receiveSync(message);
+            return null;
+        }
+    }
+}
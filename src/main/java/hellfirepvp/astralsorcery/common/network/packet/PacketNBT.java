@@ -110,7 +110,7 @@ public class PacketNBT extends AbstractPacket {
             String type = message.getType();
             NBTTagCompound data = message.getData();
 
-            LogHelper.debug("Received NBT packet: " + type + " on " + ctx.side + " side");
+            LogHelper.debug(() -> "Received NBT packet: " + type + " on " + ctx.side + " side");
 
             // Dispatch based on packet type
             switch (type) {
@@ -147,7 +147,7 @@ public class PacketNBT extends AbstractPacket {
 
             // TODO: Process constellation discovery
             // Update player's discovered constellations
-            LogHelper.debug("Constellation discovery: " + constellation + " -> " + discovered);
+            LogHelper.debug(() -> "Constellation discovery: " + constellation + " -> " + discovered);
         }
 
         /**
@@ -17,6 +17,7 @@ import cpw.mods.fml.common.network.simpleimpl.MessageContext;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import hellfirepvp.astralsorcery.common.lib.Constants;
+import hellfirepvp.astralsorcery.common.tile.base.TileEntitySynchronized;
 import hellfirepvp.astralsorcery.common.util.LogHelper;
 import hellfirepvp.astralsorcery.common.util.math.BlockPos;
 import io.netty.buffer.ByteBuf;
@@ -35,12 +36,16 @@ import io.netty.buffer.ByteBuf;
  * tileEntity.writeToNBT(data);
  * NetworkWrapper.sendToAllAround(new PacketTileUpdate(tileEntity, data), new TargetPoint(dimension, x, y, z, 64));
  * </pre>
+ * <p>
+ * Delta packets only carry the fields a {@link TileEntitySynchronized} marked dirty
+ * and are applied through {@link TileEntitySynchronized#readSyncNBT(NBTTagCompound)}.
  */
 public class PacketTileUpdate implements IMessage {
 
     private int dimension;
     private BlockPos pos;
     private NBTTagCompound data;
+    private boolean delta;
 
     /**
      * Default constructor for packet registration
@@ -78,11 +83,25 @@ public class PacketTileUpdate implements IMessage {
         this(te.xCoord, te.yCoord, te.zCoord, dimension, data);
     }
 
+    /**
+     * Create a tile update packet from TileEntity
+     *
+     * @param te        The TileEntity to update
+     * @param dimension The dimension ID
+     * @param data      NBT data to send
+     * @param delta     True if data only contains changed fields
+     */
+    public PacketTileUpdate(TileEntity te, int dimension, NBTTagCompound data, boolean delta) {
+        this(te.xCoord, te.yCoord, te.zCoord, dimension, data);
+        this.delta = delta;
+    }
+
     @Override
     public void fromBytes(ByteBuf buf) {
         try {
             dimension = buf.readInt();
             pos = new BlockPos(buf.readInt(), buf.readInt(), buf.readInt());
+            delta = buf.readBoolean();
             data = ByteBufUtils.readTag(buf);
 
             if (data == null) {
@@ -102,6 +121,7 @@ public class PacketTileUpdate implements IMessage {
             buf.writeInt(pos.getX());
             buf.writeInt(pos.getY());
             buf.writeInt(pos.getZ());
+            buf.writeBoolean(delta);
             ByteBufUtils.writeTag(buf, data);
         } catch (Exception e) {
             LogHelper.error("Failed to write PacketTileUpdate", e);
@@ -132,7 +152,7 @@ public class PacketTileUpdate implements IMessage {
 
                 // Check dimension
                 if (world.provider.dimensionId != message.dimension) {
-                    LogHelper.debug(
+                    LogHelper.debug(() ->
                         "Ignoring TileEntity update from wrong dimension. " + "Expected: "
                             + world.provider.dimensionId
                             + ", Got: "
@@ -145,13 +165,17 @@ public class PacketTileUpdate implements IMessage {
                 TileEntity te = world.getTileEntity(pos.getX(), pos.getY(), pos.getZ());
 
                 if (te == null) {
-                    LogHelper.debug("TileEntity not found at " + pos + " for update packet");
+                    LogHelper.debug(() -> "TileEntity not found at " + pos + " for update packet");
                     return null;
                 }
 
                 // Update the TileEntity
-                te.readFromNBT(message.data);
-                world.markBlockForUpdate(pos.getX(), pos.getY(), pos.getZ());
+                if (message.delta && te instanceof TileEntitySynchronized) {
+                    ((TileEntitySynchronized) te).readSyncNBT(message.data);
+                } else {
+                    te.readFromNBT(message.data);
+                    world.markBlockForUpdate(pos.getX(), pos.getY(), pos.getZ());
+                }
 
                 if (Constants.IS_DEBUG) {
                     LogHelper.debug(
@@ -181,4 +205,8 @@ public class PacketTileUpdate implements IMessage {
     public NBTTagCompound getData() {
         return data;
     }
+
+    public boolean isDelta() {
+        return delta;
+    }
 }
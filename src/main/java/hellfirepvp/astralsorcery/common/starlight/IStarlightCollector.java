@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * IStarlightCollector - Tile collecting starlight from the sky
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.starlight;
+
+/**
+ * A tile entity collecting starlight from the sky (altars, wells).
+ * Registered with {@link StarlightCollectionModel}, which evaluates all collectors of a world once per tick.
+ */
+public interface IStarlightCollector {
+
+    /**
+     * Receive the sky collection of this tick, before the tile itself ticks
+     *
+     * @param collection Collection factor at the tile's position (0.0 to 1.0)
+     */
+    void onSkyCollection(float collection);
+
+    /**
+     * Collection curve used for this collector
+     */
+    default StarlightCollectionModel.CollectionProfile getCollectionProfile() {
+        return StarlightCollectionModel.CollectionProfile.DEFAULT;
+    }
+
+}
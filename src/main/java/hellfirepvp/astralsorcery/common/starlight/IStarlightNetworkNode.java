@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * IStarlightNetworkNode - Node in the starlight transmission network
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.starlight;
+
+import java.util.List;
+
+import hellfirepvp.astralsorcery.common.util.math.BlockPos;
+
+/**
+ * A tile taking part in the starlight transmission network.
+ * <p>
+ * Nodes register with {@link StarlightNetworkHandler} when they are loaded or placed and unregister
+ * when they are unloaded or broken. Links are resolved against the other registered nodes only,
+ * never by scanning the world, and are cached until the network invalidates them.
+ * <p>
+ * A node that is both a {@link IStarlightSource} and a {@link IStarlightReceiver} acts as a relay.
+ */
+public interface IStarlightNetworkNode {
+
+    /**
+     * @return The position of this node, used as its key in the network
+     */
+    BlockPos getNetworkPos();
+
+    /**
+     * Resolve the links this node pulls or pushes starlight through.
+     * Called by the network whenever this node's cached links were invalidated.
+     *
+     * @param network The network of this node's dimension
+     * @return Links owned by this node, may be empty
+     */
+    List<StarlightLink> resolveLinks(StarlightNetwork network);
+
+    /**
+     * Maximum distance in blocks of any link this node can resolve.
+     * Nodes placed or removed within this range invalidate this node's links.
+     */
+    int getLinkRange();
+
+}
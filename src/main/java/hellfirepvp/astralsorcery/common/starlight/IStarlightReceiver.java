@@ -0,0 +1,26 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * IStarlightReceiver - Network node that accepts starlight
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.starlight;
+
+/**
+ * A network node starlight can be pushed into (altars, wells, lenses)
+ */
+public interface IStarlightReceiver extends IStarlightNetworkNode {
+
+    /**
+     * @return How much starlight this receiver can currently accept
+     */
+    double getStarlightSpace();
+
+    /**
+     * Insert starlight, never more than the last {@link #getStarlightSpace()}
+     *
+     * @param amount Amount to insert
+     */
+    void insertStarlight(double amount);
+
+}
@@ -0,0 +1,22 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * IStarlightSource - Network node that provides starlight
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.starlight;
+
+/**
+ * A network node starlight can be pulled from (collector crystals, lenses, attunement relays)
+ */
+public interface IStarlightSource extends IStarlightNetworkNode {
+
+    /**
+     * Take up to the given amount of starlight out of this source
+     *
+     * @param maxAmount Maximum amount to take
+     * @return Amount actually taken
+     */
+    double extractStarlight(double maxAmount);
+
+}
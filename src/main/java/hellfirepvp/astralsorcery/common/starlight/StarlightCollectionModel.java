@@ -0,0 +1,305 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * StarlightCollectionModel - Shared starlight collection formula of all collectors
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.starlight;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+
+import hellfirepvp.astralsorcery.common.data.config.Config;
+import hellfirepvp.astralsorcery.common.util.StarlightHelper;
+
+/**
+ * StarlightCollectionModel - How much starlight a position collects (1.7.10)
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Time and weather factors of a world are computed once per world tick, see {@link WorldFactor}</li>
+ * <li>Position noise is generated for a whole chunk at once and kept in an LRU cache of
+ * {@link Config#starlightNoiseCacheChunks} chunks</li>
+ * <li>Registered {@link IStarlightCollector}s of a world are evaluated in one pass at the start of
+ * the world tick, before the tiles themselves tick</li>
+ * </ul>
+ * <p>
+ * Collection depends on the {@link CollectionProfile} of the collector, and is 0 if the position can't see the sky:
+ * <ul>
+ * <li>DEFAULT: {@code 0.1 * height(y) * time * weather * (0.6 + 0.4 * noise(x, z))}, clamped to 0..1</li>
+ * <li>WELL: {@code (0.3 + 0.7 * (1 - dayProgress)) * min(1, y / 120) * (1 + 1.2 * noise(x, z))},
+ * divided by {@link #WELL_MAXIMUM}</li>
+ * </ul>
+ * <p>
+ * Caches are server thread only, client worlds are computed without caching.
+ */
+public class StarlightCollectionModel {
+
+    private static final StarlightCollectionModel instance = new StarlightCollectionModel();
+
+    /**
+     * Highest raw collection of the WELL profile, its collection is reported relative to this
+     */
+    public static final float WELL_MAXIMUM = 2.2F;
+
+    /**
+     * Collection curves of the different collectors
+     */
+    public enum CollectionProfile {
+        /** Altars and collector crystals: night only, weather dependent */
+        DEFAULT,
+        /** Lightwells: all day, strongest at the end of the day, ignores weather */
+        WELL
+    }
+
+    /**
+     * Map of dimension ID to the time/weather factor of that world
+     */
+    private final Map<Integer, WorldFactor> worldFactors = new HashMap<>();
+
+    /**
+     * Map of dimension ID to the registered collectors of that world
+     */
+    private final Map<Integer, List<TileEntity>> collectors = new HashMap<>();
+
+    /**
+     * Chunk key to the 16x16 column noise of that chunk, in access order
+     */
+    private final LinkedHashMap<Long, float[]> noiseFields = new LinkedHashMap<Long, float[]>(64, 0.75F, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, float[]> eldest) {
+            return size() > Config.starlightNoiseCacheChunks;
+        }
+    };
+    private long noiseSeed = 0;
+
+    private StarlightCollectionModel() {}
+
+    public static StarlightCollectionModel getInstance() {
+        return instance;
+    }
+
+    /**
+     * Register a collector, called when its tile is loaded. Server side only.
+     *
+     * @param tile A tile entity implementing {@link IStarlightCollector}
+     */
+    public void register(TileEntity tile) {
+        World world = tile.getWorldObj();
+        if (world == null || world.isRemote || !(tile instanceof IStarlightCollector)) {
+            return;
+        }
+        List<TileEntity> dimCollectors = collectors.computeIfAbsent(world.provider.dimensionId, dim -> new ArrayList<>());
+        if (!dimCollectors.contains(tile)) {
+            dimCollectors.add(tile);
+        }
+    }
+
+    /**
+     * Unregister a collector, called when its tile is unloaded or broken. Server side only.
+     */
+    public void unregister(TileEntity tile) {
+        World world = tile.getWorldObj();
+        if (world == null || world.isRemote) {
+            return;
+        }
+        List<TileEntity> dimCollectors = collectors.get(world.provider.dimensionId);
+        if (dimCollectors != null) {
+            dimCollectors.remove(tile);
+        }
+    }
+
+    /**
+     * Evaluate all registered collectors of a world. Called at the start of every world tick.
+     */
+    public void tick(World world) {
+        List<TileEntity> dimCollectors = collectors.get(world.provider.dimensionId);
+        if (dimCollectors == null || dimCollectors.isEmpty()) {
+            return;
+        }
+        WorldFactor factor = getWorldFactor(world);
+        boolean dark = factor.getSkyFactor() <= 0F;
+
+        // Collectors tend to sit next to each other, keep the last chunk's noise at hand
+        long lastChunk = 0;
+        float[] noise = null;
+        for (int i = 0; i < dimCollectors.size(); i++) {
+            TileEntity tile = dimCollectors.get(i);
+            if (tile.isInvalid()) {
+                continue;
+            }
+            CollectionProfile profile = ((IStarlightCollector) tile).getCollectionProfile();
+            float collection = 0F;
+            if ((!dark || profile == CollectionProfile.WELL)
+                && StarlightHelper.canSeeSky(world, tile.xCoord, tile.yCoord, tile.zCoord)) {
+                long chunk = chunkKey(tile.xCoord >> 4, tile.zCoord >> 4);
+                if (noise == null || chunk != lastChunk) {
+                    noise = getNoiseField(world, tile.xCoord >> 4, tile.zCoord >> 4);
+                    lastChunk = chunk;
+                }
+                collection = computeCollection(
+                    profile,
+                    factor,
+                    tile.yCoord,
+                    noise[((tile.zCoord & 15) << 4) | (tile.xCoord & 15)]);
+            }
+            ((IStarlightCollector) tile).onSkyCollection(collection);
+        }
+    }
+
+    /**
+     * Collection of a single position, for callers that are not registered collectors
+     *
+     * @return Collection factor (0.0 to 1.0)
+     */
+    public float getCollection(World world, int x, int y, int z) {
+        if (!StarlightHelper.canSeeSky(world, x, y, z)) {
+            return 0F;
+        }
+        WorldFactor factor = getWorldFactor(world);
+        if (factor.getSkyFactor() <= 0F) {
+            return 0F;
+        }
+        return computeCollection(CollectionProfile.DEFAULT, factor, y, getNoise(world, x, z));
+    }
+
+    private static float computeCollection(CollectionProfile profile, WorldFactor factor, int y, float noise) {
+        if (profile == CollectionProfile.WELL) {
+            // Starlight is stronger towards night (0.3 to 1.0)
+            float time = 0.3F + (0.7F * (1F - factor.getDayProgress()));
+            float height = y > 120 ? 1F : Math.max(0F, y / 120F);
+            return time * height * (1F + (1.2F * noise)) / WELL_MAXIMUM;
+        }
+        float collection = 100.0F; // Base amount
+        collection *= StarlightHelper.calculateHeightMultiplier(y);
+        collection *= factor.getSkyFactor();
+        collection *= (0.6F + (0.4F * noise));
+        return Math.max(0.0F, Math.min(1.0F, collection / 1000.0F));
+    }
+
+    /**
+     * Time and weather factor of a world, computed at most once per world tick
+     */
+    public WorldFactor getWorldFactor(World world) {
+        if (world.isRemote) {
+            WorldFactor factor = new WorldFactor();
+            factor.update(world, world.getTotalWorldTime());
+            return factor;
+        }
+        WorldFactor factor = worldFactors.computeIfAbsent(world.provider.dimensionId, dim -> new WorldFactor());
+        long now = world.getTotalWorldTime();
+        if (factor.tick != now) {
+            factor.update(world, now);
+        }
+        return factor;
+    }
+
+    /**
+     * Position noise of a block column
+     *
+     * @return Noise value (0.0 to 1.0)
+     */
+    public float getNoise(World world, int x, int z) {
+        if (world.isRemote) {
+            return computeNoise(world.getSeed(), x, z);
+        }
+        return getNoiseField(world, x >> 4, z >> 4)[((z & 15) << 4) | (x & 15)];
+    }
+
+    private float[] getNoiseField(World world, int chunkX, int chunkZ) {
+        long seed = world.getSeed();
+        if (seed != noiseSeed) {
+            // Another save was loaded, the noise belongs to the old seed
+            noiseFields.clear();
+            noiseSeed = seed;
+        }
+        long key = chunkKey(chunkX, chunkZ);
+        float[] field = noiseFields.get(key);
+        if (field == null) {
+            field = new float[256];
+            int baseX = chunkX << 4;
+            int baseZ = chunkZ << 4;
+            for (int index = 0; index < 256; index++) {
+                field[index] = computeNoise(seed, baseX + (index & 15), baseZ + (index >> 4));
+            }
+            noiseFields.put(key, field);
+        }
+        return field;
+    }
+
+    private static float computeNoise(long worldSeed, int x, int z) {
+        long seed = worldSeed + (long) x * 3129871L + (long) z * 116129781L;
+        seed = seed * seed * 4234887351L + 12345;
+        int noise = (int) (seed >> 16);
+        return (Math.abs(noise % 1000) / 1000.0F);
+    }
+
+    public void onWorldUnload(World world) {
+        worldFactors.remove(world.provider.dimensionId);
+        collectors.remove(world.provider.dimensionId);
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Time and weather dependent part of the collection, the same for every position of a world
+     */
+    public static class WorldFactor {
+
+        private long tick = Long.MIN_VALUE;
+        private float timeMultiplier;
+        private float weatherMultiplier;
+        private float dayProgress;
+
+        private void update(World world, long now) {
+            this.tick = now;
+            this.dayProgress = (world.getWorldTime() % 24000L) / 24000F;
+            this.timeMultiplier = StarlightHelper.calculateTimeMultiplier(world);
+            this.weatherMultiplier = StarlightHelper.calculateWeatherMultiplier(world);
+        }
+
+        /**
+         * @see StarlightHelper#calculateTimeMultiplier(World)
+         */
+        public float getTimeMultiplier() {
+            return timeMultiplier;
+        }
+
+        /**
+         * @see StarlightHelper#calculateWeatherMultiplier(World)
+         */
+        public float getWeatherMultiplier() {
+            return weatherMultiplier;
+        }
+
+        /**
+         * Progress through the current day, 0.0 at world time 0 to 1.0 at 24000
+         */
+        public float getDayProgress() {
+            return dayProgress;
+        }
+
+        /**
+         * Time and weather combined
+         */
+        public float getSkyFactor() {
+            return timeMultiplier * weatherMultiplier;
+        }
+
+        /**
+         * Full night, world time 13000 to 23000
+         */
+        public boolean isNight() {
+            return timeMultiplier >= 1F;
+        }
+    }
+}
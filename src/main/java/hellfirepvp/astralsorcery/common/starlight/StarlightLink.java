@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * StarlightLink - Cached edge of the starlight transmission network
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.starlight;
+
+import hellfirepvp.astralsorcery.common.util.math.BlockPos;
+
+/**
+ * Directed edge from a source to a receiver.
+ * <p>
+ * Every {@link #getPeriod()} network ticks, offset by {@link #getPhase()}, the network moves
+ * {@code min(receiver space, maxTransfer * efficiency)} starlight along the link.
+ * The link path is the bounding box of both end points, block changes inside it invalidate the link.
+ */
+public class StarlightLink {
+
+    private final IStarlightSource source;
+    private final IStarlightReceiver receiver;
+    private final double maxTransfer;
+    private final double efficiency;
+    private final int period;
+    private final int phase;
+
+    private final int minX, minY, minZ;
+    private final int maxX, maxY, maxZ;
+
+    /**
+     * @param source      The node starlight is taken from
+     * @param receiver    The node starlight is inserted into
+     * @param maxTransfer Maximum starlight per transfer before efficiency
+     * @param efficiency  Transfer efficiency (0.0 to 1.0)
+     * @param period      Ticks between two transfers
+     */
+    public StarlightLink(IStarlightSource source, IStarlightReceiver receiver, double maxTransfer, double efficiency,
+        int period) {
+        this.source = source;
+        this.receiver = receiver;
+        this.maxTransfer = maxTransfer;
+        this.efficiency = efficiency;
+        this.period = Math.max(1, period);
+
+        BlockPos from = source.getNetworkPos();
+        BlockPos to = receiver.getNetworkPos();
+        this.minX = Math.min(from.getX(), to.getX());
+        this.minY = Math.min(from.getY(), to.getY());
+        this.minZ = Math.min(from.getZ(), to.getZ());
+        this.maxX = Math.max(from.getX(), to.getX());
+        this.maxY = Math.max(from.getY(), to.getY());
+        this.maxZ = Math.max(from.getZ(), to.getZ());
+
+        // Stagger links of the same period by their receiver position
+        int hash = to.getX() * 73856093 ^ to.getY() * 19349663 ^ to.getZ() * 83492791;
+        this.phase = Math.floorMod(hash, this.period);
+    }
+
+    /**
+     * Move starlight along this link
+     *
+     * @return Amount transferred
+     */
+    public double transfer() {
+        double request = Math.min(receiver.getStarlightSpace(), maxTransfer * efficiency);
+        if (request <= 0) {
+            return 0;
+        }
+        double extracted = source.extractStarlight(request);
+        if (extracted > 0) {
+            receiver.insertStarlight(extracted);
+        }
+        return extracted;
+    }
+
+    /**
+     * Check if a block position lies on the path of this link
+     */
+    public boolean isOnPath(int x, int y, int z) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMinZ() {
+        return minZ;
+    }
+
+    public int getMaxX() {
+        return maxX;
+    }
+
+    public int getMaxZ() {
+        return maxZ;
+    }
+
+    public IStarlightSource getSource() {
+        return source;
+    }
+
+    public IStarlightReceiver getReceiver() {
+        return receiver;
+    }
+
+    public double getEfficiency() {
+        return efficiency;
+    }
+
+    public int getPeriod() {
+        return period;
+    }
+
+    /**
+     * @return Offset in ticks, the link transfers when {@code worldTime % period == phase}
+     */
+    public int getPhase() {
+        return phase;
+    }
+}
@@ -0,0 +1,308 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * StarlightNetwork - Per-dimension starlight transmission graph
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.starlight;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+import javax.annotation.Nullable;
+
+import net.minecraftforge.common.util.ForgeDirection;
+
+import hellfirepvp.astralsorcery.common.util.math.BlockPos;
+
+/**
+ * Starlight transmission graph of a single dimension
+ * <p>
+ * Holds all registered {@link IStarlightNetworkNode}s by position and the links they resolved.
+ * Links are only re-resolved for nodes marked dirty, which happens when a node within their
+ * link range is added or removed, or a block on one of their link paths changes.
+ * <p>
+ * All queries used while resolving links work on the registered nodes, not on the world.
+ * Nodes are indexed by chunk, so range queries and invalidation only visit the chunks within range.
+ * Resolved links are indexed by the chunks their path crosses, so a block change only checks
+ * the links passing through its chunk.
+ */
+public class StarlightNetwork {
+
+    private final int dimensionId;
+
+    private final Map<BlockPos, IStarlightNetworkNode> nodes = new LinkedHashMap<>();
+    private final Map<BlockPos, List<StarlightLink>> links = new LinkedHashMap<>();
+    private final Set<BlockPos> dirtyNodes = new LinkedHashSet<>();
+
+    /**
+     * Chunk key to the nodes owning a link whose path crosses that chunk
+     */
+    private final Map<Long, Set<BlockPos>> linkChunks = new HashMap<>();
+
+    /**
+     * Chunk key to the nodes positioned in that chunk
+     */
+    private final Map<Long, Set<BlockPos>> nodeChunks = new HashMap<>();
+
+    /**
+     * Link range to the number of registered nodes using it, the highest key bounds invalidation lookups
+     */
+    private final TreeMap<Integer, Integer> linkRanges = new TreeMap<>();
+
+    public StarlightNetwork(int dimensionId) {
+        this.dimensionId = dimensionId;
+    }
+
+    /**
+     * Add a node to the network
+     *
+     * @return true if the node was not registered yet
+     */
+    public boolean addNode(IStarlightNetworkNode node) {
+        BlockPos pos = node.getNetworkPos();
+        IStarlightNetworkNode previous = nodes.put(pos, node);
+        if (previous == node) {
+            return false;
+        }
+        if (previous != null) {
+            releaseLinkRange(previous.getLinkRange());
+        } else {
+            nodeChunks.computeIfAbsent(chunkKey(pos.getX() >> 4, pos.getZ() >> 4), k -> new LinkedHashSet<>())
+                .add(pos);
+        }
+        linkRanges.merge(node.getLinkRange(), 1, Integer::sum);
+        setLinks(pos, null);
+        dirtyNodes.add(pos);
+        invalidateAround(pos);
+        return true;
+    }
+
+    /**
+     * Remove a node from the network. Does nothing if a different node is registered at its position.
+     *
+     * @return true if the node was removed
+     */
+    public boolean removeNode(IStarlightNetworkNode node) {
+        BlockPos pos = node.getNetworkPos();
+        if (nodes.get(pos) != node) {
+            return false;
+        }
+        nodes.remove(pos);
+        long key = chunkKey(pos.getX() >> 4, pos.getZ() >> 4);
+        Set<BlockPos> chunkNodes = nodeChunks.get(key);
+        if (chunkNodes != null && chunkNodes.remove(pos) && chunkNodes.isEmpty()) {
+            nodeChunks.remove(key);
+        }
+        releaseLinkRange(node.getLinkRange());
+        setLinks(pos, null);
+        dirtyNodes.remove(pos);
+        invalidateAround(pos);
+        return true;
+    }
+
+    /**
+     * Mark the links of a single node for re-resolution, e.g. after it changed its facing
+     */
+    public void markDirty(IStarlightNetworkNode node) {
+        BlockPos pos = node.getNetworkPos();
+        if (nodes.get(pos) == node) {
+            dirtyNodes.add(pos);
+        }
+    }
+
+    /**
+     * A block changed in this dimension.
+     * Invalidates the node at that position and every node with a link path crossing it.
+     */
+    public void onBlockChanged(int x, int y, int z) {
+        BlockPos changed = new BlockPos(x, y, z);
+        if (nodes.containsKey(changed)) {
+            dirtyNodes.add(changed);
+        }
+        Set<BlockPos> owners = linkChunks.get(chunkKey(x >> 4, z >> 4));
+        if (owners == null) {
+            return;
+        }
+        for (BlockPos owner : owners) {
+            for (StarlightLink link : links.get(owner)) {
+                if (link.isOnPath(x, y, z)) {
+                    dirtyNodes.add(owner);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Replace the links of a node and update the chunk index
+     *
+     * @param resolved New links, null or empty for none
+     */
+    private void setLinks(BlockPos owner, @Nullable List<StarlightLink> resolved) {
+        List<StarlightLink> previous = resolved == null || resolved.isEmpty() ? links.remove(owner)
+            : links.put(owner, resolved);
+        if (previous != null) {
+            for (StarlightLink link : previous) {
+                forEachChunk(link, key -> {
+                    Set<BlockPos> owners = linkChunks.get(key);
+                    if (owners != null && owners.remove(owner) && owners.isEmpty()) {
+                        linkChunks.remove(key);
+                    }
+                });
+            }
+        }
+        if (resolved != null && !resolved.isEmpty()) {
+            for (StarlightLink link : resolved) {
+                forEachChunk(
+                    link,
+                    key -> linkChunks.computeIfAbsent(key, k -> new HashSet<>())
+                        .add(owner));
+            }
+        }
+    }
+
+    private static void forEachChunk(StarlightLink link, LongConsumer action) {
+        for (int chunkX = link.getMinX() >> 4; chunkX <= link.getMaxX() >> 4; chunkX++) {
+            for (int chunkZ = link.getMinZ() >> 4; chunkZ <= link.getMaxZ() >> 4; chunkZ++) {
+                action.accept(chunkKey(chunkX, chunkZ));
+            }
+        }
+    }
+
+    private void releaseLinkRange(int range) {
+        linkRanges.merge(range, -1, (count, delta) -> count + delta == 0 ? null : count + delta);
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Call an action for every node within a square column around a position, visiting only the covered chunks
+     */
+    private void forEachNodeNear(BlockPos center, int range, Consumer<IStarlightNetworkNode> action) {
+        for (int chunkX = (center.getX() - range) >> 4; chunkX <= (center.getX() + range) >> 4; chunkX++) {
+            for (int chunkZ = (center.getZ() - range) >> 4; chunkZ <= (center.getZ() + range) >> 4; chunkZ++) {
+                Set<BlockPos> chunkNodes = nodeChunks.get(chunkKey(chunkX, chunkZ));
+                if (chunkNodes == null) {
+                    continue;
+                }
+                for (BlockPos pos : chunkNodes) {
+                    action.accept(nodes.get(pos));
+                }
+            }
+        }
+    }
+
+    private void invalidateAround(BlockPos pos) {
+        if (linkRanges.isEmpty()) {
+            return;
+        }
+        forEachNodeNear(pos, linkRanges.lastKey(), other -> {
+            BlockPos otherPos = other.getNetworkPos();
+            int range = other.getLinkRange();
+            if (Math.abs(otherPos.getX() - pos.getX()) <= range && Math.abs(otherPos.getY() - pos.getY()) <= range
+                && Math.abs(otherPos.getZ() - pos.getZ()) <= range) {
+                dirtyNodes.add(otherPos);
+            }
+        });
+    }
+
+    /**
+     * Resolve dirty links and move starlight along every link that is due this tick
+     *
+     * @param worldTime Total world time
+     */
+    public void tick(long worldTime) {
+        if (!dirtyNodes.isEmpty()) {
+            for (BlockPos pos : dirtyNodes) {
+                IStarlightNetworkNode node = nodes.get(pos);
+                if (node == null) {
+                    continue;
+                }
+                setLinks(pos, node.resolveLinks(this));
+            }
+            dirtyNodes.clear();
+        }
+
+        for (List<StarlightLink> nodeLinks : links.values()) {
+            for (StarlightLink link : nodeLinks) {
+                if (worldTime % link.getPeriod() == link.getPhase()) {
+                    link.transfer();
+                }
+            }
+        }
+    }
+
+    // ========== Queries ==========
+
+    @Nullable
+    public IStarlightNetworkNode getNode(BlockPos pos) {
+        return nodes.get(pos);
+    }
+
+    /**
+     * Get all nodes of a type within a cube around a position, excluding the node at the center
+     *
+     * @param center Center of the cube
+     * @param range  Half edge length of the cube
+     * @param type   Node type to look for
+     * @return Matching nodes, by chunk and in registration order within a chunk
+     */
+    public <T> List<T> getNodesInRange(BlockPos center, int range, Class<T> type) {
+        List<T> found = new ArrayList<>();
+        forEachNodeNear(center, range, node -> {
+            BlockPos pos = node.getNetworkPos();
+            if (pos.equals(center) || !type.isInstance(node)) {
+                return;
+            }
+            if (Math.abs(pos.getX() - center.getX()) <= range && Math.abs(pos.getY() - center.getY()) <= range
+                && Math.abs(pos.getZ() - center.getZ()) <= range) {
+                found.add(type.cast(node));
+            }
+        });
+        return found;
+    }
+
+    /**
+     * Find the closest node of a type on a straight line
+     *
+     * @param from      Start position, not included
+     * @param direction Direction of the line
+     * @param range     Maximum distance in blocks
+     * @param type      Node type to look for
+     * @return The closest matching node, or null
+     */
+    @Nullable
+    public <T> T findFirstOnLine(BlockPos from, ForgeDirection direction, int range, Class<T> type) {
+        for (int dist = 1; dist <= range; dist++) {
+            IStarlightNetworkNode node = nodes.get(
+                new BlockPos(
+                    from.getX() + direction.offsetX * dist,
+                    from.getY() + direction.offsetY * dist,
+                    from.getZ() + direction.offsetZ * dist));
+            if (type.isInstance(node)) {
+                return type.cast(node);
+            }
+        }
+        return null;
+    }
+
+    public int getDimensionId() {
+        return dimensionId;
+    }
+
+    public int getNodeCount() {
+        return nodes.size();
+    }
+
+    public int getLinkCount() {
+        int count = 0;
+        for (List<StarlightLink> nodeLinks : links.values()) {
+            count += nodeLinks.size();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * StarlightNetworkHandler - Manages StarlightNetwork instances per dimension
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.starlight;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+
+import hellfirepvp.astralsorcery.common.event.StarlightNetworkEvent;
+import hellfirepvp.astralsorcery.common.util.log.LogCategory;
+
+/**
+ * Manages the server-side {@link StarlightNetwork} of every dimension
+ * <p>
+ * <b>Usage</b>:
+ *
+ * <pre>
+ * // In onFirstTick()
+ * StarlightNetworkHandler.getInstance()
+ *     .register(worldObj, this);
+ *
+ * // In invalidate() and onChunkUnload()
+ * StarlightNetworkHandler.getInstance()
+ *     .unregister(worldObj, this);
+ * </pre>
+ * <p>
+ * Flow is resolved once per world tick from EventHandler, after all tiles ticked.
+ */
+public class StarlightNetworkHandler {
+
+    private static final StarlightNetworkHandler instance = new StarlightNetworkHandler();
+
+    /**
+     * Map of dimension ID to StarlightNetwork
+     */
+    private final Map<Integer, StarlightNetwork> networks = new HashMap<>();
+
+    private StarlightNetworkHandler() {}
+
+    public static StarlightNetworkHandler getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get the network of a world, created on first access
+     */
+    public StarlightNetwork getNetwork(World world) {
+        int dimensionId = world.provider.dimensionId;
+        StarlightNetwork network = networks.get(dimensionId);
+        if (network == null) {
+            network = new StarlightNetwork(dimensionId);
+            networks.put(dimensionId, network);
+            LogCategory.NETWORK.debug("Created StarlightNetwork for dimension " + dimensionId);
+        }
+        return network;
+    }
+
+    /**
+     * Register a node, called when its tile is loaded or placed. Server side only.
+     */
+    public void register(World world, IStarlightNetworkNode node) {
+        if (world == null || world.isRemote) {
+            return;
+        }
+        if (getNetwork(world).addNode(node)) {
+            MinecraftForge.EVENT_BUS.post(new StarlightNetworkEvent.NetworkConstruct(world, node.getNetworkPos()));
+        }
+    }
+
+    /**
+     * Unregister a node, called when its tile is unloaded or broken. Server side only.
+     */
+    public void unregister(World world, IStarlightNetworkNode node) {
+        if (world == null || world.isRemote) {
+            return;
+        }
+        StarlightNetwork network = networks.get(world.provider.dimensionId);
+        if (network != null && network.removeNode(node)) {
+            MinecraftForge.EVENT_BUS.post(new StarlightNetworkEvent.NetworkRemoved(world, node.getNetworkPos()));
+        }
+    }
+
+    /**
+     * Re-resolve the links of a node on the next network tick
+     */
+    public void markDirty(World world, IStarlightNetworkNode node) {
+        if (world == null || world.isRemote) {
+            return;
+        }
+        StarlightNetwork network = networks.get(world.provider.dimensionId);
+        if (network != null) {
+            network.markDirty(node);
+        }
+    }
+
+    /**
+     * A block changed, invalidates links whose path crosses it. Fed by BlockChangeWorldAccess.
+     */
+    public void onBlockChanged(World world, int x, int y, int z) {
+        if (world == null || world.isRemote) {
+            return;
+        }
+        StarlightNetwork network = networks.get(world.provider.dimensionId);
+        if (network != null) {
+            network.onBlockChanged(x, y, z);
+        }
+    }
+
+    /**
+     * Resolve starlight flow of a world, once per world tick
+     */
+    public void tick(World world) {
+        StarlightNetwork network = networks.get(world.provider.dimensionId);
+        if (network != null) {
+            network.tick(world.getTotalWorldTime());
+        }
+    }
+
+    /**
+     * Drop the network of an unloaded world
+     */
+    public void onWorldUnload(World world) {
+        if (networks.remove(world.provider.dimensionId) != null) {
+            LogCategory.NETWORK.debug("Removed StarlightNetwork for dimension " + world.provider.dimensionId);
+        }
+    }
+}
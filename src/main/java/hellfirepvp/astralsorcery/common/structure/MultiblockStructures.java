@@ -278,6 +278,17 @@ public class MultiblockStructures {
         return result;
     }
 
+    /**
+     * Watch radius of the starlight infuser structure, see {@link #getAltarStructureRadius(int)}
+     */
+    public static final int STARLIGHT_INFUSER_RADIUS = 4;
+
+    /**
+     * Watch radius of the celestial gateway structure. The structure is still a placeholder,
+     * this only reserves room for blocks around the gateway
+     */
+    public static final int CELESTIAL_GATEWAY_RADIUS = 2;
+
     /**
      * Initialize all structures
      * <p>
@@ -314,4 +325,25 @@ public class MultiblockStructures {
                 return null;
         }
     }
+
+    /**
+     * Get the watch radius of an altar structure for {@link StructureStateCache}
+     * <p>
+     * Uses the largest extent of the shape, so the cube around the altar covers every rotation
+     *
+     * @param level The altar level (0=DISCOVERY, 1=ATTUNEMENT, 2=CONSTELLATION, 3=TRAIT, 4=BRILLIANCE)
+     * @return The radius, 0 if only the altar block itself is part of the structure
+     */
+    public static int getAltarStructureRadius(int level) {
+        switch (level) {
+            case 1: // ATTUNEMENT - 3x3 base
+                return 3;
+            case 2: // CONSTELLATION_CRAFT - 5x5 base
+                return 5;
+            case 3: // TRAIT_CRAFT - 7x7 base
+                return 7;
+            default:
+                return 0;
+        }
+    }
 }
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * StructureStateCache - Block-change driven invalidation of multiblock checks
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.structure;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+
+/**
+ * StructureStateCache - Multiblock structure state cache (1.7.10)
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Multiblock controllers register the bounding box of their structure</li>
+ * <li>Any block change inside the box marks the structure for re-check</li>
+ * <li>Structures nobody touched are never re-checked</li>
+ * </ul>
+ * <p>
+ * Block changes are observed through {@link hellfirepvp.astralsorcery.common.event.BlockChangeWorldAccess},
+ * which also catches explosions, pistons and block edits of other mods.
+ * <p>
+ * <b>Usage:</b>
+ *
+ * <pre>
+ * // Periodic check
+ * if (watch == null) {
+ *     watch = StructureStateCache.getInstance()
+ *         .watch(this, radius);
+ * }
+ * if (watch.consumeDirty()) {
+ *     formed = StructureChecker.check...(worldObj, xCoord, yCoord, zCoord);
+ * }
+ *
+ * // In invalidate() and onChunkUnload()
+ * StructureStateCache.getInstance()
+ *     .unwatch(watch);
+ * </pre>
+ */
+public class StructureStateCache {
+
+    private static final StructureStateCache instance = new StructureStateCache();
+
+    /**
+     * Map of dimension ID to chunk key to the watches overlapping that chunk
+     */
+    private final Map<Integer, Map<Long, List<StructureWatch>>> watches = new HashMap<>();
+
+    private StructureStateCache() {}
+
+    public static StructureStateCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Watch the cube of the given radius around a multiblock controller.
+     * The returned watch starts dirty, so the first check always runs.
+     *
+     * @param owner  The controller tile
+     * @param radius Largest distance of any structure block from the controller, covering all rotations
+     * @return The watch to query and unwatch
+     */
+    public StructureWatch watch(TileEntity owner, int radius) {
+        StructureWatch watch = new StructureWatch(owner, radius);
+        World world = owner.getWorldObj();
+        if (world == null || world.isRemote) {
+            // Not observed, stays dirty
+            return watch;
+        }
+        watch.dimensionId = world.provider.dimensionId;
+        Map<Long, List<StructureWatch>> dimWatches = watches
+            .computeIfAbsent(watch.dimensionId, dim -> new HashMap<>());
+        for (int cx = watch.minX >> 4; cx <= watch.maxX >> 4; cx++) {
+            for (int cz = watch.minZ >> 4; cz <= watch.maxZ >> 4; cz++) {
+                dimWatches.computeIfAbsent(chunkKey(cx, cz), key -> new ArrayList<>(2))
+                    .add(watch);
+            }
+        }
+        return watch;
+    }
+
+    /**
+     * Stop watching a structure
+     */
+    public void unwatch(StructureWatch watch) {
+        if (watch == null || watch.dimensionId == null) {
+            return;
+        }
+        Map<Long, List<StructureWatch>> dimWatches = watches.get(watch.dimensionId);
+        watch.dimensionId = null;
+        if (dimWatches == null) {
+            return;
+        }
+        for (int cx = watch.minX >> 4; cx <= watch.maxX >> 4; cx++) {
+            for (int cz = watch.minZ >> 4; cz <= watch.maxZ >> 4; cz++) {
+                Long key = chunkKey(cx, cz);
+                List<StructureWatch> list = dimWatches.get(key);
+                if (list != null) {
+                    list.remove(watch);
+                    if (list.isEmpty()) {
+                        dimWatches.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A block changed, marks every structure containing it for re-check
+     */
+    public void onBlockChanged(World world, int x, int y, int z) {
+        Map<Long, List<StructureWatch>> dimWatches = watches.get(world.provider.dimensionId);
+        if (dimWatches == null) {
+            return;
+        }
+        List<StructureWatch> list = dimWatches.get(chunkKey(x >> 4, z >> 4));
+        if (list == null) {
+            return;
+        }
+        for (StructureWatch watch : list) {
+            if (watch.contains(x, y, z)) {
+                watch.dirty = true;
+            }
+        }
+    }
+
+    /**
+     * Drop all watches of an unloaded world
+     */
+    public void onWorldUnload(World world) {
+        watches.remove(world.provider.dimensionId);
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Registered bounding box of a multiblock structure
+     */
+    public static class StructureWatch {
+
+        private final int ownerX, ownerY, ownerZ;
+        private final int minX, minY, minZ;
+        private final int maxX, maxY, maxZ;
+
+        private Integer dimensionId = null;
+        private boolean dirty = true;
+
+        private StructureWatch(TileEntity owner, int radius) {
+            this.ownerX = owner.xCoord;
+            this.ownerY = owner.yCoord;
+            this.ownerZ = owner.zCoord;
+            this.minX = ownerX - radius;
+            this.minY = ownerY - radius;
+            this.minZ = ownerZ - radius;
+            this.maxX = ownerX + radius;
+            this.maxY = ownerY + radius;
+            this.maxZ = ownerZ + radius;
+        }
+
+        private boolean contains(int x, int y, int z) {
+            if (x == ownerX && y == ownerY && z == ownerZ) {
+                // The controller itself re-syncs often, replacing it invalidates its tile anyway
+                return false;
+            }
+            return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+        }
+
+        /**
+         * Check whether the structure has to be re-checked and reset the flag
+         *
+         * @return true if a block in the structure changed since the last call
+         */
+        public boolean consumeDirty() {
+            boolean wasDirty = dirty;
+            dirty = false;
+            return wasDirty;
+        }
+
+        /**
+         * Force a re-check on the next query
+         */
+        public void markDirty() {
+            this.dirty = true;
+        }
+    }
+}
@@ -8,6 +8,8 @@
 
 package hellfirepvp.astralsorcery.common.tile;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.UUID;
 
@@ -32,14 +34,29 @@ import com.gtnewhorizon.structurelib.structure.IStructureDefinition;
 
 import hellfirepvp.astralsorcery.client.gui.modularui.AltarGuiFactory;
 import hellfirepvp.astralsorcery.common.block.BlockAltar;
+import hellfirepvp.astralsorcery.common.constellation.IConstellation;
+import hellfirepvp.astralsorcery.common.constellation.distribution.ConstellationSkyHandler;
+import hellfirepvp.astralsorcery.common.constellation.distribution.SkySchedule;
+import hellfirepvp.astralsorcery.common.constellation.distribution.WorldSkyHandler;
 import hellfirepvp.astralsorcery.common.crafting.IGatedRecipe;
 import hellfirepvp.astralsorcery.common.crafting.altar.ASAltarRecipe;
 import hellfirepvp.astralsorcery.common.crafting.altar.ActiveCraftingTask;
 import hellfirepvp.astralsorcery.common.crafting.altar.AltarRecipeRegistry;
+import hellfirepvp.astralsorcery.common.event.BlockChangeWorldAccess;
+import hellfirepvp.astralsorcery.common.starlight.IStarlightCollector;
+import hellfirepvp.astralsorcery.common.starlight.IStarlightReceiver;
+import hellfirepvp.astralsorcery.common.starlight.StarlightCollectionModel;
+import hellfirepvp.astralsorcery.common.starlight.StarlightLink;
+import hellfirepvp.astralsorcery.common.starlight.StarlightNetwork;
+import hellfirepvp.astralsorcery.common.starlight.StarlightNetworkHandler;
+import hellfirepvp.astralsorcery.common.structure.MultiblockStructures;
+import hellfirepvp.astralsorcery.common.structure.StructureStateCache;
 import hellfirepvp.astralsorcery.common.tile.base.TileEntityTick;
+import hellfirepvp.astralsorcery.common.tile.base.TileSpatialIndex;
 import hellfirepvp.astralsorcery.common.util.AltarStructureHelper;
 import hellfirepvp.astralsorcery.common.util.LogHelper;
 import hellfirepvp.astralsorcery.common.util.StarlightHelper;
+import hellfirepvp.astralsorcery.common.util.log.LogCategory;
 import hellfirepvp.astralsorcery.common.util.math.BlockPos;
 import hellfirepvp.astralsorcery.common.util.nbt.NBTHelper;
 
@@ -56,13 +73,16 @@ import hellfirepvp.astralsorcery.common.util.nbt.NBTHelper;
  * - Creates ModularPanel with altar-specific UI
  */
 // TODO: IWandInteract interface not available - remove interface for now
-public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData> {
+public class TileAltar extends TileEntityTick
+    implements IGuiHolder<PosGuiData>, IStarlightReceiver, IStarlightCollector {
 
     // TODO: Implement after IMultiblockDependantTile interface is migrated
     // implements IMultiblockDependantTile
 
     private static final Random rand = new Random();
 
+    private static final String SYNC_STARLIGHT = "starlight";
+
     private float posDistribution = -1;
 
     private ActiveCraftingTask activeCraftingTask = null;
@@ -74,28 +94,33 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
     // TODO: Re-enable after ChangeSubscriber and StructureMatcherPatternArray are migrated
     // private ChangeSubscriber<StructureMatcherPatternArray> structureMatch = null;
     private boolean multiblockMatches = false;
+    @Nullable
+    private StructureStateCache.StructureWatch structureWatch = null;
 
     private ItemStack focusItem = null;
     private boolean doesSeeSky = false;
     private int starlightStored = 0;
+    /** Sky collection of the current tick, set by {@link StarlightCollectionModel} */
+    private float skyCollection = 0F;
     private boolean hasLoggedUpdate = false;
 
     // Phase 3.1: Inventory system using ItemStackHandler
     // Size depends on altar level: 9 slots for crafting + focus slot
     private IItemHandlerModifiable inventory;
 
+    // Bumped on every slot change, recipe search and match re-validation only run when it moved
+    private int inventoryVersion = 0;
+    private int recipeSearchVersion = -1;
+    private int recipeSearchRegistryVersion = -1;
+    @Nullable
+    private ASAltarRecipe recipeSearchResult = null;
+    private int craftingTaskMatchVersion = -1;
+
     public TileAltar() {
         // TODO: Remove super calls with parameters - not available in base TileEntity
         // super(25);
         // Initialize inventory after level is set
-        this.inventory = new ItemStackHandler(getInventorySize()) {
-
-            @Override
-            public int getSlotLimit(int slot) {
-                // Last slot is focus slot, others are crafting slots
-                return slot < getInventorySize() - 1 ? 64 : 1;
-            }
-        };
+        this.inventory = createInventory();
     }
 
     public TileAltar(AltarLevel level) {
@@ -103,16 +128,39 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
         // super(25, ForgeDirection.UP);
         this.level = level;
         // Initialize inventory after level is set
-        this.inventory = new ItemStackHandler(getInventorySize()) {
+        this.inventory = createInventory();
+    }
+
+    private IItemHandlerModifiable createInventory() {
+        return new ItemStackHandler(getInventorySize()) {
 
             @Override
             public int getSlotLimit(int slot) {
                 // Last slot is focus slot, others are crafting slots
                 return slot < getInventorySize() - 1 ? 64 : 1;
             }
+
+            @Override
+            protected void onContentsChanged(int slot) {
+                super.onContentsChanged(slot);
+                markInventoryChanged();
+            }
         };
     }
 
+    /**
+     * Invalidate the cached recipe search and crafting task validation.
+     * Called by the inventory on every slot change. Code that mutates a stack returned by
+     * getStackInSlot in place has to call this itself.
+     */
+    public void markInventoryChanged() {
+        inventoryVersion++;
+    }
+
+    public int getInventoryVersion() {
+        return inventoryVersion;
+    }
+
     // Phase 3.1: Get inventory size based on altar level
     public int getInventorySize() {
         switch (level) {
@@ -156,11 +204,11 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
         starlightStored = Math.min(maxStorage, starlightStored + starlightToAdd);
 
         if (starlightStored != currentStored) {
-            markForUpdate(); // Sync to client
+            markFieldDirty(SYNC_STARLIGHT); // Sync to client
 
             // Log occasionally
-            if (worldObj.getTotalWorldTime() % 200 == 0) {
-                LogHelper.debug(
+            if (worldObj.getTotalWorldTime() % 200 == 0 && LogCategory.ALTAR.isDebugEnabled()) {
+                LogCategory.ALTAR.debug(
                     String.format(
                         "Received %.2f starlight from network (constellation: %s), total: %d/%d",
                         amount,
@@ -220,7 +268,8 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
     // Routes to appropriate altar GUI based on altar level
     @Override
     public ModularPanel buildUI(PosGuiData guiData, PanelSyncManager guiSyncManager, UISettings settings) {
-        LogHelper.info("[TileAltar] buildUI called at " + xCoord + "," + yCoord + "," + zCoord + ", level: " + level);
+        LogCategory.ALTAR.debug(
+            () -> "[TileAltar] buildUI called at " + xCoord + "," + yCoord + "," + zCoord + ", level: " + level);
         return AltarGuiFactory.createAltarUI(this, guiData, guiSyncManager, settings);
     }
 
@@ -255,86 +304,31 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
 
         // Log first tick to verify updateEntity is being called
         if (!hasLoggedUpdate) {
-            LogHelper.info(
-                "[TileAltar] updateEntity called at [%d, %d, %d] - Level: %s, isRemote: %s",
-                xCoord,
-                yCoord,
-                zCoord,
-                getAltarLevel(),
-                worldObj.isRemote);
+            LogCategory.ALTAR.debug(
+                () -> String.format(
+                    "[TileAltar] updateEntity called at [%d, %d, %d] - Level: %s, isRemote: %s",
+                    xCoord,
+                    yCoord,
+                    zCoord,
+                    level,
+                    worldObj.isRemote));
             hasLoggedUpdate = true;
         }
 
-        boolean canSee = worldObj.canBlockSeeTheSky(xCoord, yCoord, zCoord);
+        boolean canSee = StarlightHelper.canSeeSky(worldObj, xCoord, yCoord, zCoord);
         updateSkyState(canSee);
 
         if (!worldObj.isRemote) {
-            // Phase 2.2: Basic constellation discovery
-            if (doesSeeSky && level == AltarLevel.DISCOVERY) {
-                checkConstellationDiscovery();
-            }
-
+            // Constellation discovery and the structure check run staggered through TileTickScheduler
             boolean needUpdate = false;
 
-            // StructureLib integration: Check multiblock structure
-            // Only check periodically to avoid performance impact (every 20 ticks = 1 second)
-            long worldTime = worldObj.getTotalWorldTime();
-            if (hasLoggedUpdate && ticksExisted % 100 == 0) {
-                LogHelper.info(
-                    "[TileAltar] Tick check: ticksExisted=%d, worldTime=%d, worldTime%%20=%d",
-                    ticksExisted,
-                    worldTime,
-                    worldTime % 20);
-            }
-
-            if (worldTime % 20 == 0) {
-                // Log structure check attempt
-                LogHelper.info(
-                    "[TileAltar] Checking structure at [%d, %d, %d] - Level: %s",
-                    xCoord,
-                    yCoord,
-                    zCoord,
-                    getAltarLevel());
-
-                boolean structureFormed = checkStructure();
-
-                // Log check result
-                LogHelper.info(
-                    "[TileAltar] Structure check result: %s (previous: %s)",
-                    structureFormed,
-                    this.multiblockMatches);
-
-                if (structureFormed != this.multiblockMatches) {
-                    this.multiblockMatches = structureFormed;
-                    needUpdate = true;
-
-                    // Log structure state changes
-                    if (structureFormed) {
-                        LogHelper.info(
-                            "[TileAltar] ✓ Multiblock structure COMPLETED at [%d, %d, %d] - Level: %s",
-                            xCoord,
-                            yCoord,
-                            zCoord,
-                            getAltarLevel());
-                    } else {
-                        LogHelper.info(
-                            "[TileAltar] ✗ Multiblock structure BROKEN at [%d, %d, %d] - Level: %s",
-                            xCoord,
-                            yCoord,
-                            zCoord,
-                            getAltarLevel());
-
-                        // If structure is broken and we're crafting, stop crafting
-                        if (activeCraftingTask != null) {
-                            activeCraftingTask = null;
-                            LogHelper.info("[TileAltar] Stopping crafting due to broken structure");
-                        }
-                    }
-                }
-            }
-
             // Starlight collection - Phase 2.3: Using StarlightHelper
-            needUpdate = starlightPassive(needUpdate);
+            // Starlight changes nearly every tick, it is only sent as a rate-limited delta
+            int starlightBefore = starlightStored;
+            starlightPassive();
+            if (starlightStored != starlightBefore) {
+                markFieldDirty(SYNC_STARLIGHT);
+            }
 
             // Recipe crafting system
             needUpdate = doTryCraft(needUpdate);
@@ -357,13 +351,75 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
         }
     }
 
+    /**
+     * StructureLib integration: Check multiblock structure
+     * Scheduled every 20 ticks (1 second) in onFirstTick, skipped while the structure is unchanged
+     */
+    private void updateStructureState() {
+        // Only re-check when a block inside the structure changed
+        if (structureWatch == null) {
+            AltarLevel current = getAltarLevel() != null ? getAltarLevel() : AltarLevel.DISCOVERY;
+            structureWatch = StructureStateCache.getInstance()
+                .watch(this, MultiblockStructures.getAltarStructureRadius(current.ordinal()));
+        }
+        if (!structureWatch.consumeDirty()) {
+            return;
+        }
+
+        // Log structure check attempt
+        if (LogCategory.ALTAR.isDebugEnabled()) {
+            LogCategory.ALTAR.debug(
+                String.format(
+                    "[TileAltar] Checking structure at [%d, %d, %d] - Level: %s",
+                    xCoord,
+                    yCoord,
+                    zCoord,
+                    level));
+        }
+
+        boolean structureFormed = checkStructure();
+
+        // Log check result
+        if (LogCategory.ALTAR.isDebugEnabled()) {
+            LogCategory.ALTAR
+                .debug("[TileAltar] Structure check result: %s (previous: %s)", structureFormed, this.multiblockMatches);
+        }
+
+        if (structureFormed != this.multiblockMatches) {
+            this.multiblockMatches = structureFormed;
+            markForUpdate();
+
+            // Log structure state changes
+            if (structureFormed) {
+                LogHelper.info(
+                    "[TileAltar] ✓ Multiblock structure COMPLETED at [%d, %d, %d] - Level: %s",
+                    xCoord,
+                    yCoord,
+                    zCoord,
+                    getAltarLevel());
+            } else {
+                LogHelper.info(
+                    "[TileAltar] ✗ Multiblock structure BROKEN at [%d, %d, %d] - Level: %s",
+                    xCoord,
+                    yCoord,
+                    zCoord,
+                    getAltarLevel());
+
+                // If structure is broken and we're crafting, stop crafting
+                if (activeCraftingTask != null) {
+                    activeCraftingTask = null;
+                    LogHelper.info("[TileAltar] Stopping crafting due to broken structure");
+                }
+            }
+        }
+    }
+
     /**
      * Phase 2.2: Check for constellation discovery
      * Simplified implementation for 1.7.10
      */
     private void checkConstellationDiscovery() {
-        // Only check periodically (every 200 ticks = 10 seconds)
-        if (worldObj.getTotalWorldTime() % 200 != 0) {
+        if (!doesSeeSky || level != AltarLevel.DISCOVERY) {
             return;
         }
 
@@ -379,11 +435,11 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
 
             if (progress != null && !progress.wasOnceAttuned()) {
                 // Player hasn't attuned yet - check if they can discover constellations at night
-                if (isNight() && doesSeeSky) {
+                if (isNight() && doesSeeSky && hasUndiscoveredConstellation(progress)) {
                     // Allow constellation discovery at Discovery Altar during night
                     // Players need to use a telescope or journal to actually discover constellations
                     // This just checks that the altar is in the right conditions
-                    LogHelper.debug(
+                    LogHelper.debug(() ->
                         "Player " + player.getCommandSenderName()
                             + " near Discovery altar at "
                             + xCoord
@@ -397,6 +453,26 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
         }
     }
 
+    /**
+     * Check whether tonight's sky shows a constellation the player has not discovered yet.
+     * Reads the shared sky schedule, nothing is copied.
+     */
+    private boolean hasUndiscoveredConstellation(hellfirepvp.astralsorcery.common.data.research.PlayerProgress progress) {
+        WorldSkyHandler handler = ConstellationSkyHandler.getInstance()
+            .getWorldHandler(worldObj);
+        if (handler == null) {
+            return false;
+        }
+        List<IConstellation> visible = handler.getSchedule()
+            .getActiveConstellations(SkySchedule.getCycleDay(worldObj));
+        for (int i = 0; i < visible.size(); i++) {
+            if (!progress.hasConstellationDiscovered(visible.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Check if it's currently night
      * Phase 2.2: Helper method for constellation discovery
@@ -549,18 +625,22 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
             return needUpdate;
         }
 
+        // Container slots may edit stack sizes in place without notifying the handler,
+        // so the cached results are dropped once in a while as a safety net
+        if (ticksExisted % 100 == 0) {
+            markInventoryChanged();
+        }
+
         // Try to start a new crafting task if none is active
         if (activeCraftingTask == null) {
-            // Get inventory as array
-            ItemStack[] inventoryArray = new ItemStack[getInventorySize()];
-            for (int i = 0; i < getInventorySize(); i++) {
-                inventoryArray[i] = this.inventory.getStackInSlot(i);
-            }
-
-            ASAltarRecipe recipe = AltarRecipeRegistry.findRecipe(inventoryArray, getAltarLevel());
+            ASAltarRecipe recipe = findRecipeCached();
             if (recipe != null) {
                 // Check if recipe is gated
                 if (recipe instanceof IGatedRecipe) {
+                    // The recipe lookup is cached, only the nearby player check has to be repeated
+                    if (ticksExisted % 20 != 0) {
+                        return needUpdate;
+                    }
                     IGatedRecipe gatedRecipe = (IGatedRecipe) recipe;
 
                     // Find nearby players to check progression
@@ -579,7 +659,7 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
 
                     if (!hasProgression) {
                         // Player doesn't have required progression
-                        LogHelper.debug(
+                        LogHelper.debug(() ->
                             "Recipe is gated: player lacks required progression for " + recipe.getOutput()
                                 .getDisplayName());
                         return needUpdate;
@@ -589,6 +669,7 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
                 int craftingDivisor = getAltarLevel().ordinal() + 1;
                 // Use a placeholder UUID (will be replaced with actual player UUID when possible)
                 activeCraftingTask = new ActiveCraftingTask(recipe, craftingDivisor, UUID.randomUUID());
+                craftingTaskMatchVersion = inventoryVersion;
                 LogHelper.info(
                     "Started crafting: " + recipe.getOutput()
                         .getDisplayName());
@@ -600,15 +681,19 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
         // Update active crafting task
         ASAltarRecipe recipe = activeCraftingTask.getRecipe();
 
-        // Check if recipe still matches
-        if (!activeCraftingTask.doesRecipeMatch(this)) {
-            LogHelper.debug("Recipe no longer matches, aborting crafting");
-            activeCraftingTask = null;
-            return true;
+        // Check if recipe still matches, only needed after the inventory changed
+        if (craftingTaskMatchVersion != inventoryVersion) {
+            if (!activeCraftingTask.doesRecipeMatch(this)) {
+                LogHelper.debug("Recipe no longer matches, aborting crafting");
+                activeCraftingTask = null;
+                return true;
+            }
+            craftingTaskMatchVersion = inventoryVersion;
         }
 
         // Update crafting progress
-        boolean shouldContinue = activeCraftingTask.update(this);
+        ActiveCraftingTask.CraftingState previousState = activeCraftingTask.getState();
+        activeCraftingTask.update(this);
         ActiveCraftingTask.CraftingState state = activeCraftingTask.getState();
 
         // Check if crafting is complete
@@ -617,12 +702,34 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
             return true;
         }
 
-        // Update changed
-        if (state != ActiveCraftingTask.CraftingState.IDLE) {
+        // Only state transitions are synced, per-tick progress is not part of the client data
+        if (state != previousState) {
             needUpdate = true;
         }
 
-        return needUpdate || shouldContinue;
+        return needUpdate;
+    }
+
+    /**
+     * Look up the recipe for the current inventory.
+     * The result, including a negative one, is kept until the inventory or the recipe registry changes.
+     */
+    @Nullable
+    private ASAltarRecipe findRecipeCached() {
+        int registryVersion = AltarRecipeRegistry.getRecipeVersion();
+        if (recipeSearchVersion == inventoryVersion && recipeSearchRegistryVersion == registryVersion) {
+            return recipeSearchResult;
+        }
+
+        ItemStack[] inventoryArray = new ItemStack[getInventorySize()];
+        for (int i = 0; i < getInventorySize(); i++) {
+            inventoryArray[i] = this.inventory.getStackInSlot(i);
+        }
+
+        recipeSearchResult = AltarRecipeRegistry.findRecipe(inventoryArray, getAltarLevel());
+        recipeSearchVersion = inventoryVersion;
+        recipeSearchRegistryVersion = registryVersion;
+        return recipeSearchResult;
     }
 
     /**
@@ -635,6 +742,8 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
 
         ASAltarRecipe recipe = activeCraftingTask.getRecipe();
         ItemStack output = activeCraftingTask.complete(this);
+        // Inputs are partially consumed in place on the stacks
+        markInventoryChanged();
 
         LogHelper.info("Crafting complete: " + output.getDisplayName());
 
@@ -659,7 +768,7 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
         activeCraftingTask = null;
 
         // Mark for update
-        worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
+        BlockChangeWorldAccess.markTileSync(worldObj, xCoord, yCoord, zCoord);
     }
 
     public boolean tryForceLevelUp(AltarLevel to, boolean doLevelUp) {
@@ -674,6 +783,10 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
     private boolean levelUnsafe(AltarLevel to) {
         this.level = to;
         this.multiblockMatches = false;
+        // Different level, different structure bounds
+        resetStructureWatch();
+        // Different level, different recipe map
+        markInventoryChanged();
         // TODO: Re-enable after structure matching is migrated
         // this.structureMatch = null;
         // return world.setBlockState(getPos(),
@@ -698,7 +811,7 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
      */
     private void abortCrafting() {
         if (activeCraftingTask != null) {
-            LogHelper.debug("Crafting aborted for recipe: " + activeCraftingTask.getRecipe()
+            LogHelper.debug(() -> "Crafting aborted for recipe: " + activeCraftingTask.getRecipe()
                 .getOutput()
                 .getDisplayName());
             activeCraftingTask = null;
@@ -709,15 +822,12 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
     /**
      * Starlight passive collection
      * Phase 2.3: Integrated with StarlightHelper
-     * Phase 2.4: Pull from nearby collector crystals
-     *
-     * @param needUpdate Current update state
-     * @return New update state
+     * The sky collection is evaluated for all altars of the world at once by {@link StarlightCollectionModel}
+     * Phase 2.4: Nearby collector crystals are linked through the starlight network
      */
-    private boolean starlightPassive(boolean needUpdate) {
+    private void starlightPassive() {
         // Decay existing starlight
         if (starlightStored > 0) {
-            needUpdate = true;
             starlightStored *= 0.95; // 5% decay per tick
             if (starlightStored < 1) {
                 starlightStored = 0;
@@ -726,98 +836,120 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
 
         // Collect new starlight if can see sky
         if (doesSeeSky) {
-            float collectionPercent = StarlightHelper.calculateStarlightCollection(worldObj, xCoord, yCoord, zCoord);
+            float collectionPercent = skyCollection;
 
             if (collectionPercent > 0) {
                 // Convert percentage (0.0-1.0) to actual amount
                 float collectAmount = collectionPercent * 200F; // Scale up
 
-                int currentStarlight = starlightStored;
                 int maxStarlight = getMaxStarlightStorage();
 
                 starlightStored = Math.min(maxStarlight, (int) (starlightStored + collectAmount));
-
-                if (starlightStored != currentStarlight) {
-                    needUpdate = true;
-                }
             }
         }
 
-        // Phase 2.4: Pull starlight from nearby collector crystals
-        // Check periodically (every 20 ticks = 1 second)
-        if (worldObj.getTotalWorldTime() % 20 == 0) {
-            needUpdate = pullFromNearbyCollectors(needUpdate);
-        }
+        // Phase 2.4: Collector crystals in range push through cached starlight network links
+    }
 
-        return needUpdate;
+    // ========================================================================
+    // Starlight Network - Node
+    // ========================================================================
+
+    /** Radius in which collector crystals are linked to this altar */
+    private static final int COLLECTOR_LINK_RANGE = 5;
+
+    /** Ticks between two pulls from a linked collector */
+    private static final int COLLECTOR_LINK_PERIOD = 20;
+
+    @Override
+    public BlockPos getNetworkPos() {
+        return new BlockPos(xCoord, yCoord, zCoord);
     }
 
     /**
-     * Pull starlight from nearby collector crystals
-     * Searches in a 5-block radius for collector crystals
-     *
-     * @param needUpdate Current update state
-     * @return New update state
+     * Link every collector crystal within range, efficiency decreasing with distance
+     * Collectors are looked up in the {@link TileSpatialIndex}, only the chunks around the altar are visited
      */
-    private boolean pullFromNearbyCollectors(boolean needUpdate) {
-        int maxStarlight = getMaxStarlightStorage();
-        if (starlightStored >= maxStarlight) {
-            return needUpdate; // Already full
+    @Override
+    public List<StarlightLink> resolveLinks(StarlightNetwork network) {
+        List<StarlightLink> links = new ArrayList<>();
+        BlockPos pos = getNetworkPos();
+        for (TileCollectorCrystal collector : TileSpatialIndex.getInstance()
+            .getTilesInRange(worldObj, xCoord, yCoord, zCoord, COLLECTOR_LINK_RANGE, TileCollectorCrystal.class)) {
+            if (network.getNode(collector.getNetworkPos()) != collector) {
+                continue;
+            }
+            double distance = Math.sqrt(collector.getNetworkPos()
+                .distanceSq(pos));
+            double efficiency = 1.0 / (1.0 + (distance / 32.0));
+            links.add(new StarlightLink(collector, this, 10.0, efficiency, COLLECTOR_LINK_PERIOD));
         }
+        return links;
+    }
 
-        int range = 5; // Search radius
-
-        // Search for collector crystals in range
-        for (int dx = -range; dx <= range; dx++) {
-            for (int dy = -range; dy <= range; dy++) {
-                for (int dz = -range; dz <= range; dz++) {
-                    if (dx == 0 && dy == 0 && dz == 0) continue; // Skip self
-
-                    int x = xCoord + dx;
-                    int y = yCoord + dy;
-                    int z = zCoord + dz;
-
-                    // Check if tile entity is a collector crystal
-                    if (worldObj.blockExists(x, y, z)) {
-                        net.minecraft.tileentity.TileEntity te = worldObj.getTileEntity(x, y, z);
-                        if (te instanceof TileCollectorCrystal) {
-                            TileCollectorCrystal collector = (TileCollectorCrystal) te;
-
-                            // Calculate transmission efficiency based on distance
-                            double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
-                            double efficiency = 1.0 / (1.0 + (distance / 32.0));
-
-                            // Pull starlight from collector
-                            double space = maxStarlight - starlightStored;
-                            double pullAmount = Math.min(space, 10.0 * efficiency); // Pull up to 10 per tick
-
-                            double pulled = collector.consumeStarlight(pullAmount);
-                            if (pulled > 0) {
-                                starlightStored += (int) pulled;
-                                needUpdate = true;
-
-                                // Log occasionally
-                                if (worldObj.getTotalWorldTime() % 200 == 0) {
-                                    LogHelper.debug(
-                                        "Altar pulled %.1f starlight from collector at [%d,%d,%d]",
-                                        pulled,
-                                        x,
-                                        y,
-                                        z);
-                                }
-                            }
-
-                            // Only pull from one collector per tick to avoid performance issues
-                            if (starlightStored >= maxStarlight) {
-                                return needUpdate;
-                            }
-                        }
-                    }
-                }
-            }
+    @Override
+    public int getLinkRange() {
+        return COLLECTOR_LINK_RANGE;
+    }
+
+    @Override
+    public double getStarlightSpace() {
+        return Math.max(0, getMaxStarlightStorage() - starlightStored);
+    }
+
+    @Override
+    public void insertStarlight(double amount) {
+        int previous = starlightStored;
+        starlightStored = Math.min(getMaxStarlightStorage(), starlightStored + (int) amount);
+        if (starlightStored != previous) {
+            markFieldDirty(SYNC_STARLIGHT);
         }
+    }
 
-        return needUpdate;
+    @Override
+    public void onSkyCollection(float collection) {
+        this.skyCollection = collection;
+    }
+
+    @Override
+    protected void onFirstTick() {
+        StarlightNetworkHandler.getInstance()
+            .register(worldObj, this);
+        StarlightCollectionModel.getInstance()
+            .register(this);
+        schedulePeriodic(20, this::updateStructureState);
+        schedulePeriodic(200, this::checkConstellationDiscovery);
+    }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        StarlightNetworkHandler.getInstance()
+            .unregister(worldObj, this);
+        StarlightCollectionModel.getInstance()
+            .unregister(this);
+        resetStructureWatch();
+    }
+
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        StarlightNetworkHandler.getInstance()
+            .unregister(worldObj, this);
+        StarlightCollectionModel.getInstance()
+            .unregister(this);
+        resetStructureWatch();
+    }
+
+    /**
+     * Drop the structure watch, the next scheduled check registers a new one and always runs
+     */
+    private void resetStructureWatch() {
+        if (structureWatch != null) {
+            StructureStateCache.getInstance()
+                .unwatch(structureWatch);
+            structureWatch = null;
+        }
     }
 
     @Nullable
@@ -861,7 +993,7 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
      */
     public void setStarlightStored(int amount) {
         this.starlightStored = amount;
-        this.markForUpdate();
+        this.markFieldDirty(SYNC_STARLIGHT);
     }
 
     /**
@@ -898,8 +1030,10 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
     public boolean consumeStarlight(int amount) {
         if (starlightStored >= amount) {
             starlightStored -= amount;
-            markForUpdate(); // Sync to client
-            LogHelper.debug("Consumed " + amount + " starlight, remaining: " + starlightStored);
+            markFieldDirty(SYNC_STARLIGHT); // Sync to client
+            if (LogCategory.ALTAR.isTraceEnabled()) {
+                LogCategory.ALTAR.trace(() -> "Consumed " + amount + " starlight, remaining: " + starlightStored);
+            }
             return true;
         }
         return false;
@@ -1035,7 +1169,6 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
     }
 
     public AltarLevel getAltarLevel() {
-        LogHelper.debug("[TileAltar] getAltarLevel() returning: " + level);
         return level;
     }
 
@@ -1067,6 +1200,7 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
         if (compound.hasKey("inventory")) {
             ((ItemStackHandler) this.inventory).deserializeNBT(compound.getCompoundTag("inventory"));
         }
+        markInventoryChanged();
 
         // Load crafting task
         if (compound.hasKey("craftingTask")) {
@@ -1081,6 +1215,23 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
         }
     }
 
+    @Override
+    protected boolean writeSyncField(String field, NBTTagCompound compound) {
+        if (SYNC_STARLIGHT.equals(field)) {
+            compound.setInteger("starlight", starlightStored);
+            return true;
+        }
+        return super.writeSyncField(field, compound);
+    }
+
+    @Override
+    public void readSyncNBT(NBTTagCompound compound) {
+        super.readSyncNBT(compound);
+        if (compound.hasKey("starlight")) {
+            this.starlightStored = compound.getInteger("starlight");
+        }
+    }
+
     public void writeCustomNBT(NBTTagCompound compound) {
 
         compound.setInteger("level", level.ordinal());
@@ -1131,6 +1282,8 @@ public class TileAltar extends TileEntityTick implements IGuiHolder<PosGuiData>
 
     public void onPlace(AltarLevel level) {
         this.level = level;
+        resetStructureWatch();
+        markInventoryChanged();
         // Now available through TileEntitySynchronized
         markForUpdate();
     }
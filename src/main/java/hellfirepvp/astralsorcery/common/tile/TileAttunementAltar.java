@@ -19,6 +19,7 @@ import hellfirepvp.astralsorcery.common.constellation.IConstellation;
 import hellfirepvp.astralsorcery.common.data.research.PlayerProgress;
 import hellfirepvp.astralsorcery.common.data.research.ResearchManager;
 import hellfirepvp.astralsorcery.common.util.LogHelper;
+import hellfirepvp.astralsorcery.common.util.StarlightHelper;
 
 /**
  * TileAttunementAltar - Attunement altar (1.7.10)
@@ -268,7 +269,7 @@ public class TileAttunementAltar extends TileEntity {
      * Update sky visibility state
      */
     private void updateSkyState() {
-        boolean canSee = worldObj.canBlockSeeTheSky(xCoord, yCoord, zCoord);
+        boolean canSee = StarlightHelper.canSeeSky(worldObj, xCoord, yCoord, zCoord);
         if (canSee != seesSky) {
             seesSky = canSee;
             markDirty();
@@ -6,13 +6,22 @@
 
 package hellfirepvp.astralsorcery.common.tile;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 
+import hellfirepvp.astralsorcery.common.starlight.IStarlightNetworkNode;
+import hellfirepvp.astralsorcery.common.starlight.IStarlightSource;
+import hellfirepvp.astralsorcery.common.starlight.StarlightCollectionModel;
+import hellfirepvp.astralsorcery.common.starlight.StarlightLink;
+import hellfirepvp.astralsorcery.common.starlight.StarlightNetwork;
+import hellfirepvp.astralsorcery.common.starlight.StarlightNetworkHandler;
 import hellfirepvp.astralsorcery.common.tile.base.TileEntityTick;
 import hellfirepvp.astralsorcery.common.util.ItemUtils;
 import hellfirepvp.astralsorcery.common.util.LogHelper;
-import hellfirepvp.astralsorcery.common.util.MiscUtils;
+import hellfirepvp.astralsorcery.common.util.StarlightHelper;
 import hellfirepvp.astralsorcery.common.util.math.BlockPos;
 import hellfirepvp.astralsorcery.common.util.nbt.NBTHelper;
 
@@ -22,7 +31,7 @@ import hellfirepvp.astralsorcery.common.util.nbt.NBTHelper;
  * <b>Features:</b>
  * <ul>
  * <li>Collects starlight when placed with glass lens</li>
- * <li>Transmits starlight to linked altar</li>
+ * <li>Transmits starlight to linked altar through a cached starlight network link</li>
  * <li>Part of attunement altar multiblock structure</li>
  * <li>Requires multiblock structure to function</li>
  * </ul>
@@ -34,7 +43,7 @@ import hellfirepvp.astralsorcery.common.util.nbt.NBTHelper;
  * <li>BlockPos → int xCoord, yCoord, zCoord</li>
  * <li>StructureMatcherPatternArray → Simplified placeholder</li>
  * <li>WorldCacheManager → Direct world checks</li>
- * <li>ConstellationSkyHandler → Simplified day/night check</li>
+ * <li>ConstellationSkyHandler → Day/night and weather from StarlightCollectionModel</li>
  * </ul>
  * <p>
  * <b>TODO:</b>
@@ -45,7 +54,7 @@ import hellfirepvp.astralsorcery.common.util.nbt.NBTHelper;
  * <li>Implement particle effects for client-side visualization</li>
  * </ul>
  */
-public class TileAttunementRelay extends TileEntityTick {
+public class TileAttunementRelay extends TileEntityTick implements IStarlightSource {
 
     private static final float MAX_DST = (float) (Math.sqrt(Math.sqrt(2.0D) + 1) * 16.0D);
 
@@ -86,63 +95,7 @@ public class TileAttunementRelay extends TileEntityTick {
                     inventory[0] = null;
                 }
 
-                // Transmit starlight to linked altar
-                if (hasGlassLens()) {
-                    if (linked != null && worldObj.blockExists(linked.getX(), linked.getY(), linked.getZ())) {
-                        TileAltar ta = MiscUtils
-                            .getTileAt(worldObj, linked.getX(), linked.getY(), linked.getZ(), TileAltar.class, true);
-                        if (ta == null) {
-                            linked = null;
-                            markForUpdate();
-                        } else if (hasMultiblock && doesSeeSky()) {
-                            // Check if night
-                            long time = worldObj.getWorldTime() % 24000L;
-                            boolean isNight = time >= 13000L && time <= 23000L;
-
-                            if (isNight) {
-                                int yLevel = yCoord;
-                                if (yLevel > 40) {
-                                    // Calculate starlight collection
-                                    double coll = 2.0; // Base collection
-
-                                    // Height bonus
-                                    float dstr;
-                                    if (yLevel > 120) {
-                                        dstr = 1F;
-                                    } else {
-                                        dstr = (yLevel - 40) / 80F;
-                                    }
-
-                                    coll *= dstr;
-                                    coll *= collectionMultiplier;
-
-                                    // Transmit to altar
-                                    int current = ta.getStarlightStored();
-                                    int max = ta.getMaxStarlightStorage();
-                                    int space = max - current;
-
-                                    if (space > 0) {
-                                        int toAdd = (int) Math.min(space, coll);
-                                        ta.setStarlightStored(current + toAdd);
-
-                                        // Sync altar
-                                        ta.markForUpdate();
-
-                                        // Occasionally log
-                                        if (worldObj.getTotalWorldTime() % 200 == 0) {
-                                            LogHelper.debug(
-                                                "Relay transmitted %d starlight to altar at [%d,%d,%d]",
-                                                toAdd,
-                                                linked.getX(),
-                                                linked.getY(),
-                                                linked.getZ());
-                                        }
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
+                // Starlight is transmitted to the linked altar through the starlight network
             }
         } else {
             // TODO: Add client-side particle effects
@@ -202,26 +155,13 @@ public class TileAttunementRelay extends TileEntityTick {
      * Update sky visibility state
      */
     private void updateSkyState() {
-        boolean seesSky = canBlockSeeTheSky(xCoord, yCoord, zCoord);
+        boolean seesSky = StarlightHelper.canSeeSky(worldObj, xCoord, yCoord, zCoord);
         if (canSeeSky != seesSky) {
             canSeeSky = seesSky;
             markForUpdate();
         }
     }
 
-    /**
-     * Check if this block can see the sky
-     */
-    private boolean canBlockSeeTheSky(int x, int y, int z) {
-        // Check straight up to world height
-        for (int checkY = y + 1; checkY < worldObj.getHeight(); checkY++) {
-            if (!worldObj.isAirBlock(x, checkY, z)) {
-                return false;
-            }
-        }
-        return true;
-    }
-
     /**
      * Check if glass lens is in inventory
      */
@@ -252,6 +192,8 @@ public class TileAttunementRelay extends TileEntityTick {
             collectionMultiplier = 1F - ((float) (Math.min(dstSqOtherRelay, MAX_DST) / MAX_DST));
         }
         markForUpdate();
+        StarlightNetworkHandler.getInstance()
+            .markDirty(worldObj, this);
     }
 
     /**
@@ -328,6 +270,85 @@ public class TileAttunementRelay extends TileEntityTick {
 
     @Override
     protected void onFirstTick() {
-        // Initialize on first tick
+        StarlightNetworkHandler.getInstance()
+            .register(worldObj, this);
+    }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        StarlightNetworkHandler.getInstance()
+            .unregister(worldObj, this);
+    }
+
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        StarlightNetworkHandler.getInstance()
+            .unregister(worldObj, this);
+    }
+
+    // ========== Starlight Network ==========
+
+    @Override
+    public BlockPos getNetworkPos() {
+        return new BlockPos(xCoord, yCoord, zCoord);
+    }
+
+    @Override
+    public List<StarlightLink> resolveLinks(StarlightNetwork network) {
+        List<StarlightLink> links = new ArrayList<>(1);
+        if (linked != null) {
+            IStarlightNetworkNode node = network.getNode(linked);
+            if (node instanceof TileAltar) {
+                links.add(new StarlightLink(this, (TileAltar) node, getCollectionRate(), 1.0, 1));
+            }
+        }
+        return links;
+    }
+
+    @Override
+    public int getLinkRange() {
+        return (int) Math.ceil(MAX_DST);
+    }
+
+    /**
+     * Starlight is generated on demand while the relay can collect, it is never buffered
+     */
+    @Override
+    public double extractStarlight(double maxAmount) {
+        if (!canCollect()) {
+            return 0;
+        }
+        float weather = StarlightCollectionModel.getInstance()
+            .getWorldFactor(worldObj)
+            .getWeatherMultiplier();
+        return Math.min(maxAmount, getCollectionRate() * weather);
+    }
+
+    /**
+     * Check if the relay currently collects starlight
+     */
+    private boolean canCollect() {
+        if (!hasGlassLens() || !hasMultiblock || !doesSeeSky() || yCoord <= 40) {
+            return false;
+        }
+        return StarlightCollectionModel.getInstance()
+            .getWorldFactor(worldObj)
+            .isNight();
+    }
+
+    /**
+     * Starlight collected per tick, based on height and distance to other relays
+     */
+    private double getCollectionRate() {
+        // Height bonus
+        float dstr;
+        if (yCoord > 120) {
+            dstr = 1F;
+        } else {
+            dstr = Math.max(0F, (yCoord - 40) / 80F);
+        }
+        return 2.0 * dstr * collectionMultiplier;
     }
 }
@@ -135,7 +135,7 @@ public class TileBore extends TileEntityTick {
         }
 
         markForUpdate();
-        LogHelper.debug("Bore at " + xCoord + "," + yCoord + "," + zCoord + " mined block at Y=" + targetY);
+        LogHelper.debug(() -> "Bore at " + xCoord + "," + yCoord + "," + zCoord + " mined block at Y=" + targetY);
     }
 
     /**
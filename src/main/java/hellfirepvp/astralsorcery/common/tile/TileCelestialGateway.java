@@ -12,8 +12,12 @@ import net.minecraft.nbt.NBTTagCompound;
 
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
-import hellfirepvp.astralsorcery.common.base.AstralBaseTileEntity;
+import hellfirepvp.astralsorcery.common.data.world.CelestialGatewaySystem;
+import hellfirepvp.astralsorcery.common.structure.MultiblockStructures;
+import hellfirepvp.astralsorcery.common.structure.StructureStateCache;
+import hellfirepvp.astralsorcery.common.tile.base.TileEntityTick;
 import hellfirepvp.astralsorcery.common.util.LogHelper;
+import hellfirepvp.astralsorcery.common.util.StarlightHelper;
 
 /**
  * TileEntity for Celestial Gateway
@@ -25,23 +29,25 @@ import hellfirepvp.astralsorcery.common.util.LogHelper;
  * - Display name for the gateway
  * - Player placement tracking
  * <p>
+ * Structure and sky are checked every 16 ticks through the tile scheduler, the structure only
+ * after a block around it changed. Registration is updated on the first tick and whenever that
+ * state changes, and dropped in invalidate().
+ * <p>
  * Ported from 1.12.2
  * <p>
  * TODO:
  * - Complete multiblock structure matching
- * - Implement GatewayCache integration
  * - Implement client-side effects
  */
-public class TileCelestialGateway extends AstralBaseTileEntity {
-
-    // 1.7.10: Track ticks manually (TileEntity doesn't expose it)
-    private int ticksExisted = 0;
+public class TileCelestialGateway extends TileEntityTick {
 
     // Structure matching state
     private boolean hasMultiblock = false;
     private boolean doesSeeSky = false;
     private boolean gatewayRegistered = false;
 
+    private StructureStateCache.StructureWatch structureWatch = null;
+
     // Display name (set by player)
     private String display = null;
 
@@ -54,25 +60,32 @@ public class TileCelestialGateway extends AstralBaseTileEntity {
 
     @Override
     public void updateEntity() {
-        // 1.7.10: Increment ticks manually
-        ticksExisted++;
-
-        // Server-side logic
-        if (isServerSide()) {
-            // Periodically check sky visibility (every 16 ticks)
-            if (ticksExisted % 16 == 0) {
-                updateSkyState(canBlockSeeSky());
-            }
+        super.updateEntity();
 
-            // Update multiblock state
-            updateMultiblockState();
+        if (!worldObj.isRemote) {
+            return;
+        }
 
-            // Register/unregister in GatewayCache
-            updateGatewayRegistration();
-        } else {
-            // Client-side: play effects
-            playEffects();
+        // Client-side: play effects
+        playEffects();
+    }
+
+    @Override
+    protected void onFirstTick() {
+        if (worldObj.isRemote) {
+            return;
         }
+        updateState();
+        schedulePeriodic(16, this::updateState);
+    }
+
+    /**
+     * Re-check sky and structure, and update the registration if either changed
+     */
+    private void updateState() {
+        updateSkyState(canBlockSeeSky());
+        updateMultiblockState();
+        updateGatewayRegistration();
     }
 
     /**
@@ -82,7 +95,7 @@ public class TileCelestialGateway extends AstralBaseTileEntity {
         if (worldObj == null) {
             return false;
         }
-        return worldObj.canBlockSeeTheSky(xCoord, yCoord, zCoord);
+        return StarlightHelper.canSeeSky(worldObj, xCoord, yCoord, zCoord);
     }
 
     /**
@@ -91,53 +104,54 @@ public class TileCelestialGateway extends AstralBaseTileEntity {
     private void updateSkyState(boolean seeSky) {
         if (doesSeeSky != seeSky) {
             doesSeeSky = seeSky;
-            markDirty();
             markForUpdate();
         }
     }
 
     /**
      * Update multiblock structure state
-     * TODO: Implement actual structure matching
+     * Only re-checked when a block inside the structure changed
      */
     private void updateMultiblockState() {
+        if (structureWatch == null) {
+            structureWatch = StructureStateCache.getInstance()
+                .watch(this, MultiblockStructures.CELESTIAL_GATEWAY_RADIUS);
+        }
+        if (!structureWatch.consumeDirty()) {
+            return;
+        }
+
         // TODO: Implement structure matching
-        // For now, always false until structure system is implemented
-        boolean matches = false; // structureMatch.matches(worldObj);
+        // For now, always false until MultiblockStructures.CELESTIAL_GATEWAY is an actual structure
+        boolean matches = false;
 
         if (matches != hasMultiblock) {
             hasMultiblock = matches;
-            LogHelper.debug(
+            LogHelper.debug(() ->
                 "Gateway at [" + xCoord + ", " + yCoord + ", " + zCoord + "] multiblock state: " + hasMultiblock);
-            markDirty();
             markForUpdate();
         }
     }
 
     /**
      * Update gateway registration in GatewayCache
-     * TODO: Implement GatewayCache
      */
     private void updateGatewayRegistration() {
         if (gatewayRegistered) {
             // Should be active, check if still valid
             if (!hasMultiblock || !doesSeeSky) {
-                // Remove from cache
-                // GatewayCache cache = WorldCacheManager.getOrLoadData(worldObj,
-                // WorldCacheManager.SaveKey.GATEWAY_DATA);
-                // cache.removePosition(worldObj, xCoord, yCoord, zCoord);
+                CelestialGatewaySystem.getInstance()
+                    .removePosition(worldObj, xCoord, yCoord, zCoord);
                 gatewayRegistered = false;
-                LogHelper.debug("Gateway at [" + xCoord + ", " + yCoord + ", " + zCoord + "] unregistered");
+                LogHelper.debug(() -> "Gateway at [" + xCoord + ", " + yCoord + ", " + zCoord + "] unregistered");
             }
         } else {
             // Should be inactive, check if can activate
             if (hasMultiblock && doesSeeSky) {
-                // Add to cache
-                // GatewayCache cache = WorldCacheManager.getOrLoadData(worldObj,
-                // WorldCacheManager.SaveKey.GATEWAY_DATA);
-                // cache.offerPosition(worldObj, xCoord, yCoord, zCoord, display == null ? "" : display);
+                CelestialGatewaySystem.getInstance()
+                    .offerPosition(worldObj, xCoord, yCoord, zCoord, display == null ? "" : display);
                 gatewayRegistered = true;
-                LogHelper.debug(
+                LogHelper.debug(() ->
                     "Gateway at [" + xCoord
                         + ", "
                         + yCoord
@@ -176,6 +190,11 @@ public class TileCelestialGateway extends AstralBaseTileEntity {
     public void setGatewayName(String displayName) {
         this.display = displayName;
         markDirty();
+        if (gatewayRegistered) {
+            // Renamed, update the registry entry
+            CelestialGatewaySystem.getInstance()
+                .offerPosition(worldObj, xCoord, yCoord, zCoord, display == null ? "" : display);
+        }
     }
 
     /**
@@ -229,15 +248,41 @@ public class TileCelestialGateway extends AstralBaseTileEntity {
     }
 
     @Override
-    public void readFromNBT(NBTTagCompound compound) {
-        super.readFromNBT(compound);
+    public void invalidate() {
+        super.invalidate();
+        releaseStructureWatch();
+        if (worldObj != null && !worldObj.isRemote) {
+            // Broken or replaced, a chunk unload keeps the registration
+            CelestialGatewaySystem.getInstance()
+                .removePosition(worldObj, xCoord, yCoord, zCoord);
+            gatewayRegistered = false;
+        }
+    }
+
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        releaseStructureWatch();
+    }
+
+    private void releaseStructureWatch() {
+        if (structureWatch != null) {
+            StructureStateCache.getInstance()
+                .unwatch(structureWatch);
+            structureWatch = null;
+        }
+    }
+
+    @Override
+    public void readCustomNBT(NBTTagCompound compound) {
+        super.readCustomNBT(compound);
 
         hasMultiblock = compound.getBoolean("mbState");
         doesSeeSky = compound.getBoolean("skyState");
         display = compound.getString("display");
 
         // Read UUID
-        if (compound.hasKey("placer", 8)) { // 8 = UUID tag type
+        if (compound.hasKey("placerMost") && compound.hasKey("placerLeast")) {
             long most = compound.getLong("placerMost");
             long least = compound.getLong("placerLeast");
             placedBy = new UUID(most, least);
@@ -247,8 +292,8 @@ public class TileCelestialGateway extends AstralBaseTileEntity {
     }
 
     @Override
-    public void writeToNBT(NBTTagCompound compound) {
-        super.writeToNBT(compound);
+    public void writeCustomNBT(NBTTagCompound compound) {
+        super.writeCustomNBT(compound);
 
         compound.setBoolean("mbState", hasMultiblock);
         compound.setBoolean("skyState", doesSeeSky);
@@ -260,14 +305,4 @@ public class TileCelestialGateway extends AstralBaseTileEntity {
             compound.setLong("placerLeast", placedBy.getLeastSignificantBits());
         }
     }
-
-    @Override
-    protected void readCustomNBT(NBTTagCompound compound) {
-        // Custom NBT reading is handled in readFromNBT
-    }
-
-    @Override
-    protected void writeCustomNBT(NBTTagCompound compound) {
-        // Custom NBT writing is handled in writeToNBT
-    }
 }
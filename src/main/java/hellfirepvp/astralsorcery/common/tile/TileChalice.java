@@ -9,7 +9,6 @@
 package hellfirepvp.astralsorcery.common.tile;
 
 import java.awt.*;
-import java.util.LinkedList;
 import java.util.List;
 
 import javax.annotation.Nullable;
@@ -25,8 +24,8 @@ import net.minecraftforge.fluids.IFluidHandler;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import hellfirepvp.astralsorcery.common.tile.base.TileEntityTick;
+import hellfirepvp.astralsorcery.common.tile.base.TileSpatialIndex;
 import hellfirepvp.astralsorcery.common.util.data.Vector3;
-import hellfirepvp.astralsorcery.common.util.math.BlockPos;
 
 /**
  * This class is part of the Astral Sorcery Mod
@@ -136,46 +135,16 @@ public class TileChalice extends TileEntityTick implements IFluidHandler {
         }
     }
 
+    /**
+     * All loaded chalices within range, through the {@link TileSpatialIndex}
+     */
     private List<TileChalice> collectChalicesFlat() {
         // TODO: Re-enable after ConfigEntryChalice is migrated
         // int ceilRange = MathHelper.ceil(ConfigEntryChalice.chaliceRange);
         int ceilRange = (int) Math.ceil(16F); // Default range - TODO: MathHelper.ceil_float not available in 1.7.10
 
-        BlockPos pos = new BlockPos(xCoord, yCoord, zCoord);
-        // BlockPos min = this.pos.add(-ceilRange, -ceilRange, -ceilRange);
-        // BlockPos max = this.pos.add( ceilRange, ceilRange, ceilRange);
-
-        int minX = xCoord - ceilRange;
-        int minY = yCoord - ceilRange;
-        int minZ = zCoord - ceilRange;
-        int maxX = xCoord + ceilRange;
-        int maxY = yCoord + ceilRange;
-        int maxZ = zCoord + ceilRange;
-
-        List<TileChalice> out = new LinkedList<>();
-
-        int chMinX = minX >> 4;
-        int chMinZ = minZ >> 4;
-        int chMaxX = maxX >> 4;
-        int chMaxZ = maxZ >> 4;
-
-        for (int xx = chMinX; xx <= chMaxX; xx++) {
-            for (int zz = chMinZ; zz <= chMaxZ; zz++) {
-                // TODO: isLoaded() not available in 1.7.10 - assume chunk is loaded
-                // if (worldObj.getChunkFromChunkCoords(xx, zz).isLoaded()) {
-                // TODO: tileEntityList access different in 1.7.10 - use alternative method
-                // Chunk lChunk = worldObj.getChunkFromChunkCoords(xx, zz);
-                // In 1.7.10, we need to iterate differently
-                // for (int i = 0; i < lChunk.tileEntityList.size(); i++) {
-                // TileEntity te = (TileEntity) lChunk.tileEntityList.get(i);
-                // if (te instanceof TileChalice && !te.isInvalid()) {
-                // out.add((TileChalice) te);
-                // }
-                // }
-                // }
-            }
-        }
-        return out;
+        return TileSpatialIndex.getInstance()
+            .getTilesInRange(worldObj, xCoord, yCoord, zCoord, ceilRange, TileChalice.class);
     }
 
     /**
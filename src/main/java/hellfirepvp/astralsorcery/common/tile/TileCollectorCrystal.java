@@ -6,10 +6,21 @@
 
 package hellfirepvp.astralsorcery.common.tile;
 
+import java.util.Collections;
+import java.util.List;
+
 import net.minecraft.nbt.NBTTagCompound;
 
+import hellfirepvp.astralsorcery.common.starlight.IStarlightSource;
+import hellfirepvp.astralsorcery.common.starlight.StarlightCollectionModel;
+import hellfirepvp.astralsorcery.common.starlight.StarlightLink;
+import hellfirepvp.astralsorcery.common.starlight.StarlightNetwork;
+import hellfirepvp.astralsorcery.common.starlight.StarlightNetworkHandler;
 import hellfirepvp.astralsorcery.common.tile.base.TileEntityTick;
 import hellfirepvp.astralsorcery.common.util.LogHelper;
+import hellfirepvp.astralsorcery.common.util.StarlightHelper;
+import hellfirepvp.astralsorcery.common.util.log.LogCategory;
+import hellfirepvp.astralsorcery.common.util.math.BlockPos;
 
 /**
  * TileCollectorCrystal - Collector crystal TileEntity (1.7.10)
@@ -19,6 +30,7 @@ import hellfirepvp.astralsorcery.common.util.LogHelper;
  * <li>Collects starlight from sky during night</li>
  * <li>Stores starlight internally</li>
  * <li>Provides starlight to connected devices</li>
+ * <li>Starlight network source, receivers pull from it through cached links</li>
  * </ul>
  * <p>
  * <b>Collection Mechanics:</b>
@@ -38,7 +50,7 @@ import hellfirepvp.astralsorcery.common.util.LogHelper;
  * double consumed = crystal.consumeStarlight(100);
  * </pre>
  */
-public class TileCollectorCrystal extends TileEntityTick {
+public class TileCollectorCrystal extends TileEntityTick implements IStarlightSource {
 
     // ========== Starlight Storage ==========
 
@@ -68,11 +80,6 @@ public class TileCollectorCrystal extends TileEntityTick {
             return;
         }
 
-        // Update sky visibility every 100 ticks (5 seconds)
-        if (ticksExisted % 100 == 0) {
-            updateSkyVisibility();
-        }
-
         // Check collection conditions
         boolean wasCollecting = this.isCollecting;
         this.isCollecting = canCollect();
@@ -80,7 +87,8 @@ public class TileCollectorCrystal extends TileEntityTick {
         // Notify client if collecting state changed
         if (wasCollecting != this.isCollecting) {
             markForUpdate();
-            LogHelper.debug("CollectorCrystal at [%d,%d,%d] collecting: %s", xCoord, yCoord, zCoord, this.isCollecting);
+            LogCategory.NETWORK.debug(
+                () -> "CollectorCrystal at [" + xCoord + "," + yCoord + "," + zCoord + "] collecting: " + isCollecting);
         }
 
         // Collect starlight if conditions met
@@ -101,7 +109,9 @@ public class TileCollectorCrystal extends TileEntityTick {
         }
 
         // Must be night
-        if (!isNight()) {
+        if (!StarlightCollectionModel.getInstance()
+            .getWorldFactor(worldObj)
+            .isNight()) {
             return false;
         }
 
@@ -114,10 +124,13 @@ public class TileCollectorCrystal extends TileEntityTick {
     }
 
     /**
-     * Collect starlight from the sky
+     * Collect starlight from the sky, reduced by rain and thunder
      */
     private void collectStarlight() {
-        double collected = Math.min(collectionRate, maxStarlight - storedStarlight);
+        float weather = StarlightCollectionModel.getInstance()
+            .getWorldFactor(worldObj)
+            .getWeatherMultiplier();
+        double collected = Math.min(collectionRate * weather, maxStarlight - storedStarlight);
         storedStarlight += collected;
 
         // Mark dirty periodically (every 20 ticks = 1 second)
@@ -131,23 +144,13 @@ public class TileCollectorCrystal extends TileEntityTick {
      */
     private void updateSkyVisibility() {
         boolean oldCanSeeSky = this.canSeeSky;
-        this.canSeeSky = worldObj.canBlockSeeTheSky(xCoord, yCoord, zCoord);
+        this.canSeeSky = StarlightHelper.canSeeSky(worldObj, xCoord, yCoord, zCoord);
 
         if (oldCanSeeSky != this.canSeeSky) {
             markForUpdate();
         }
     }
 
-    /**
-     * Check if it's currently night
-     *
-     * @return true if night (13000-23000 world time)
-     */
-    private boolean isNight() {
-        long time = worldObj.getWorldTime() % 24000;
-        return time >= 13000 && time <= 23000;
-    }
-
     // ========== Public API ==========
 
     /**
@@ -274,11 +277,51 @@ public class TileCollectorCrystal extends TileEntityTick {
 
     @Override
     protected void onFirstTick() {
-        // Update sky visibility on first tick
+        // Update sky visibility on first tick, then every 100 ticks (5 seconds)
         updateSkyVisibility();
+        schedulePeriodic(100, this::updateSkyVisibility);
+        StarlightNetworkHandler.getInstance()
+            .register(worldObj, this);
         LogHelper.debug("CollectorCrystal initialized at [%d,%d,%d], canSeeSky: %s", xCoord, yCoord, zCoord, canSeeSky);
     }
 
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        StarlightNetworkHandler.getInstance()
+            .unregister(worldObj, this);
+    }
+
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        StarlightNetworkHandler.getInstance()
+            .unregister(worldObj, this);
+    }
+
+    // ========== Starlight Network ==========
+
+    @Override
+    public BlockPos getNetworkPos() {
+        return new BlockPos(xCoord, yCoord, zCoord);
+    }
+
+    @Override
+    public List<StarlightLink> resolveLinks(StarlightNetwork network) {
+        // Receivers own the links pulling from collectors
+        return Collections.emptyList();
+    }
+
+    @Override
+    public int getLinkRange() {
+        return 0;
+    }
+
+    @Override
+    public double extractStarlight(double maxAmount) {
+        return consumeStarlight(maxAmount);
+    }
+
     // ========== Configuration (for future enhancement) ==========
 
     /**
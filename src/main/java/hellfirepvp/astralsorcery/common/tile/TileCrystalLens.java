@@ -6,11 +6,20 @@
 
 package hellfirepvp.astralsorcery.common.tile;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.common.util.ForgeDirection;
 
+import hellfirepvp.astralsorcery.common.starlight.IStarlightReceiver;
+import hellfirepvp.astralsorcery.common.starlight.IStarlightSource;
+import hellfirepvp.astralsorcery.common.starlight.StarlightLink;
+import hellfirepvp.astralsorcery.common.starlight.StarlightNetwork;
+import hellfirepvp.astralsorcery.common.starlight.StarlightNetworkHandler;
 import hellfirepvp.astralsorcery.common.tile.base.TileEntityTick;
 import hellfirepvp.astralsorcery.common.util.LogHelper;
+import hellfirepvp.astralsorcery.common.util.math.BlockPos;
 
 /**
  * TileCrystalLens - Crystal lens TileEntity (1.7.10)
@@ -25,9 +34,10 @@ import hellfirepvp.astralsorcery.common.util.LogHelper;
  * </ul>
  * <p>
  * <b>Transmission Mechanics:</b>
- * - Lens pulls starlight from input side (collectors, other lenses)
- * - Lens pushes starlight to output side (altars, machines)
- * - Transmission rate: 10 starlight per tick
+ * - Lens pulls starlight from input side (collectors)
+ * - Lens pushes starlight to output side (altars, wells, other lenses)
+ * - Links are resolved through the starlight network and cached until a node nearby changes
+ * - Transmission rate: 10 starlight every 5 ticks
  * - Efficiency: decreases with distance (1.0 at 0 blocks, 0.5 at 16 blocks)
  * <p>
  * <b>Usage:</b>
@@ -38,16 +48,19 @@ import hellfirepvp.astralsorcery.common.util.LogHelper;
  * // And push to front (altar)
  * </pre>
  */
-public class TileCrystalLens extends TileEntityTick {
+public class TileCrystalLens extends TileEntityTick implements IStarlightSource, IStarlightReceiver {
 
     // ========== Transmission Parameters ==========
 
     /** Maximum transmission range */
     private static final int MAX_RANGE = 16;
 
-    /** Maximum transmission per tick */
+    /** Maximum transmission per transfer */
     private static final double MAX_TRANSMISSION = 10.0;
 
+    /** Ticks between two transfers (0.25 seconds) */
+    private static final int TRANSMISSION_PERIOD = 5;
+
     /** Transmission efficiency multiplier */
     private double efficiency = 1.0;
 
@@ -73,11 +86,6 @@ public class TileCrystalLens extends TileEntityTick {
 
         // Update facing direction from block metadata
         updateFacing();
-
-        // Periodically transmit starlight (every 5 ticks = 0.25 seconds)
-        if (ticksExisted % 5 == 0) {
-            transmitStarlight();
-        }
     }
 
     /**
@@ -90,6 +98,8 @@ public class TileCrystalLens extends TileEntityTick {
         if (newFacing != this.facing) {
             this.facing = newFacing;
             markDirty();
+            StarlightNetworkHandler.getInstance()
+                .markDirty(worldObj, this);
         }
     }
 
@@ -116,167 +126,75 @@ public class TileCrystalLens extends TileEntityTick {
     }
 
     /**
-     * Main transmission logic
+     * Calculate transmission efficiency based on distance
+     *
+     * @param distance Distance in blocks
+     * @return Efficiency (0.0 to 1.0)
      */
-    private void transmitStarlight() {
-        // First, pull from input side (behind the lens)
-        pullFromInputSide();
-
-        // Then, push to output side (in front of the lens)
-        pushToOutputSide();
+    private double calculateTransmissionEfficiency(int distance) {
+        // Linear falloff from 1.0 at 0 blocks to 0.5 at MAX_RANGE blocks
+        return 1.0 - (distance / (2.0 * MAX_RANGE));
     }
 
-    /**
-     * Pull starlight from input side (behind the lens)
-     */
-    private void pullFromInputSide() {
-        ForgeDirection inputSide = facing.getOpposite();
+    // ========== Starlight Network ==========
 
-        // Check if buffer is full
-        if (bufferedStarlight >= MAX_BUFFER) {
-            return;
-        }
-
-        // Look for starlight sources on input side
-        double space = MAX_BUFFER - bufferedStarlight;
-        double pullAmount = Math.min(space, MAX_TRANSMISSION);
-
-        // Search in the direction of input side
-        for (int dist = 1; dist <= MAX_RANGE; dist++) {
-            int x = xCoord + inputSide.offsetX * dist;
-            int y = yCoord + inputSide.offsetY * dist;
-            int z = zCoord + inputSide.offsetZ * dist;
-
-            // Check if tile entity is a starlight source
-            if (worldObj.blockExists(x, y, z)) {
-                net.minecraft.tileentity.TileEntity te = worldObj.getTileEntity(x, y, z);
-
-                if (te instanceof TileCollectorCrystal) {
-                    // Pull from collector crystal
-                    TileCollectorCrystal collector = (TileCollectorCrystal) te;
-                    double pulled = collector.consumeStarlight(pullAmount);
-                    bufferedStarlight += pulled;
-
-                    if (pulled > 0) {
-                        LogHelper.debug(
-                            "Lens at [%d,%d,%d] pulled %.1f starlight from collector at [%d,%d,%d]",
-                            xCoord,
-                            yCoord,
-                            zCoord,
-                            pulled,
-                            x,
-                            y,
-                            z);
-                    }
-
-                    // Only pull from one source per tick
-                    break;
-                }
-            }
-        }
+    @Override
+    public BlockPos getNetworkPos() {
+        return new BlockPos(xCoord, yCoord, zCoord);
     }
 
     /**
-     * Push starlight to output side (in front of the lens)
+     * Resolve the input link from the closest collector behind the lens
+     * and the output link to the closest receiver in front of it
      */
-    private void pushToOutputSide() {
-        // Check if buffer is empty
-        if (bufferedStarlight <= 0) {
-            return;
+    @Override
+    public List<StarlightLink> resolveLinks(StarlightNetwork network) {
+        List<StarlightLink> links = new ArrayList<>(2);
+        BlockPos pos = getNetworkPos();
+
+        TileCollectorCrystal collector = network
+            .findFirstOnLine(pos, facing.getOpposite(), MAX_RANGE, TileCollectorCrystal.class);
+        if (collector != null) {
+            links.add(new StarlightLink(collector, this, MAX_TRANSMISSION, 1.0, TRANSMISSION_PERIOD));
         }
 
-        // Calculate efficiency based on distance to target
-        // Search for targets on output side
-        for (int dist = 1; dist <= MAX_RANGE; dist++) {
-            int x = xCoord + facing.offsetX * dist;
-            int y = yCoord + facing.offsetY * dist;
-            int z = zCoord + facing.offsetZ * dist;
-
-            // Check if tile entity is a starlight consumer
-            if (worldObj.blockExists(x, y, z)) {
-                net.minecraft.tileentity.TileEntity te = worldObj.getTileEntity(x, y, z);
-
-                // Check for altar (has addStarlight method or similar)
-                if (isStarlightConsumer(te)) {
-                    // Calculate transmission efficiency based on distance
-                    double efficiency = calculateTransmissionEfficiency(dist);
-
-                    // Push starlight
-                    double pushAmount = Math.min(bufferedStarlight, MAX_TRANSMISSION * efficiency);
-                    double pushed = pushStarlightTo(te, pushAmount);
-
-                    bufferedStarlight -= pushed;
-
-                    if (pushed > 0) {
-                        LogHelper.debug(
-                            "Lens at [%d,%d,%d] pushed %.1f starlight to [%d,%d,%d] (efficiency: %.2f)",
-                            xCoord,
-                            yCoord,
-                            zCoord,
-                            pushed,
-                            x,
-                            y,
-                            z,
-                            efficiency);
-                    }
-
-                    // Only push to one target per tick
-                    markDirty();
-                    return;
-                }
-            }
+        IStarlightReceiver target = network.findFirstOnLine(pos, facing, MAX_RANGE, IStarlightReceiver.class);
+        if (target != null) {
+            int dist = (int) Math.round(
+                target.getNetworkPos()
+                    .getDistance(xCoord, yCoord, zCoord));
+            double linkEfficiency = calculateTransmissionEfficiency(dist) * efficiency;
+            links.add(new StarlightLink(this, target, MAX_TRANSMISSION, linkEfficiency, TRANSMISSION_PERIOD));
         }
+        return links;
     }
 
-    /**
-     * Calculate transmission efficiency based on distance
-     *
-     * @param distance Distance in blocks
-     * @return Efficiency (0.0 to 1.0)
-     */
-    private double calculateTransmissionEfficiency(int distance) {
-        // Linear falloff from 1.0 at 0 blocks to 0.5 at MAX_RANGE blocks
-        return 1.0 - (distance / (2.0 * MAX_RANGE));
+    @Override
+    public int getLinkRange() {
+        return MAX_RANGE;
     }
 
-    /**
-     * Check if tile entity is a starlight consumer
-     */
-    private boolean isStarlightConsumer(net.minecraft.tileentity.TileEntity te) {
-        // Check if it's an altar (has starlight storage)
-        if (te instanceof TileAltar) {
-            return true;
+    @Override
+    public double extractStarlight(double maxAmount) {
+        double extracted = Math.min(bufferedStarlight, maxAmount);
+        if (extracted > 0) {
+            bufferedStarlight -= extracted;
+            markDirty();
         }
+        return extracted;
+    }
 
-        // TODO: Add other consumers (machines, etc.)
-
-        return false;
+    @Override
+    public double getStarlightSpace() {
+        return Math.max(0, MAX_BUFFER - bufferedStarlight);
     }
 
-    /**
-     * Push starlight to a consumer
-     *
-     * @param te     Consumer tile entity
-     * @param amount Amount to push
-     * @return Amount actually pushed
-     */
-    private double pushStarlightTo(net.minecraft.tileentity.TileEntity te, double amount) {
-        if (te instanceof TileAltar) {
-            TileAltar altar = (TileAltar) te;
-
-            // Get current starlight
-            int current = altar.getStarlightStored();
-            int max = altar.getMaxStarlightStorage();
-            int space = max - current;
-
-            double pushAmount = Math.min(space, amount);
-            if (pushAmount > 0) {
-                altar.setStarlightStored(current + (int) pushAmount);
-                return pushAmount;
-            }
+    @Override
+    public void insertStarlight(double amount) {
+        if (amount > 0) {
+            bufferedStarlight = Math.min(MAX_BUFFER, bufferedStarlight + amount);
+            markDirty();
         }
-
-        return 0;
     }
 
     // ========== Public API ==========
@@ -316,6 +234,8 @@ public class TileCrystalLens extends TileEntityTick {
     public void setEfficiency(double efficiency) {
         this.efficiency = Math.max(0, Math.min(1, efficiency));
         markDirty();
+        StarlightNetworkHandler.getInstance()
+            .markDirty(worldObj, this);
     }
 
     // ========== NBT ==========
@@ -354,6 +274,22 @@ public class TileCrystalLens extends TileEntityTick {
     @Override
     protected void onFirstTick() {
         updateFacing();
+        StarlightNetworkHandler.getInstance()
+            .register(worldObj, this);
         LogHelper.debug("Lens initialized at [%d,%d,%d], facing: %s", xCoord, yCoord, zCoord, facing);
     }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        StarlightNetworkHandler.getInstance()
+            .unregister(worldObj, this);
+    }
+
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        StarlightNetworkHandler.getInstance()
+            .unregister(worldObj, this);
+    }
 }
@@ -13,8 +13,11 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 
+import hellfirepvp.astralsorcery.common.structure.MultiblockStructures;
+import hellfirepvp.astralsorcery.common.structure.StructureStateCache;
 import hellfirepvp.astralsorcery.common.tile.base.TileEntityTick;
 import hellfirepvp.astralsorcery.common.util.LogHelper;
+import hellfirepvp.astralsorcery.common.util.StarlightHelper;
 
 /**
  * TileStarlightInfuser - Starlight infuser TileEntity (1.7.10)
@@ -78,6 +81,9 @@ public class TileStarlightInfuser extends TileEntityTick {
     /** Whether multiblock structure is complete */
     private boolean hasMultiblock = false;
 
+    /** Bounding box registration, the structure is only re-checked after a block change inside it */
+    private StructureStateCache.StructureWatch structureWatch = null;
+
     /** Whether structure can see sky */
     private boolean canSeeSky = false;
 
@@ -181,6 +187,20 @@ public class TileStarlightInfuser extends TileEntityTick {
      * TODO: Implement StructureLib integration
      */
     private void updateMultiblockState() {
+        // Client receives the state through sync
+        if (worldObj.isRemote) {
+            return;
+        }
+
+        // Only re-check when a block inside the structure changed
+        if (structureWatch == null) {
+            structureWatch = StructureStateCache.getInstance()
+                .watch(this, MultiblockStructures.STARLIGHT_INFUSER_RADIUS);
+        }
+        if (!structureWatch.consumeDirty()) {
+            return;
+        }
+
         // Simplified: just check for basic structure
         // TODO: Use StructureLib to check actual pattern
 
@@ -200,26 +220,13 @@ public class TileStarlightInfuser extends TileEntityTick {
      * Update sky visibility state
      */
     private void updateSkyState() {
-        boolean seesSky = canBlockSeeTheSky(xCoord, yCoord, zCoord);
+        boolean seesSky = StarlightHelper.canSeeSky(worldObj, xCoord, yCoord, zCoord);
         if (canSeeSky != seesSky) {
             canSeeSky = seesSky;
             markForUpdate();
         }
     }
 
-    /**
-     * Check if this block can see the sky
-     */
-    private boolean canBlockSeeTheSky(int x, int y, int z) {
-        // Check straight up to world height
-        for (int checkY = y + 1; checkY < worldObj.getHeight(); checkY++) {
-            if (!worldObj.isAirBlock(x, checkY, z)) {
-                return false;
-            }
-        }
-        return true;
-    }
-
     /**
      * Drop item into world
      */
@@ -352,4 +359,24 @@ public class TileStarlightInfuser extends TileEntityTick {
             hasMultiblock,
             canSeeSky);
     }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        releaseStructureWatch();
+    }
+
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        releaseStructureWatch();
+    }
+
+    private void releaseStructureWatch() {
+        if (structureWatch != null) {
+            StructureStateCache.getInstance()
+                .unwatch(structureWatch);
+            structureWatch = null;
+        }
+    }
 }
@@ -9,11 +9,14 @@
 package hellfirepvp.astralsorcery.common.tile;
 
 import java.awt.*;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.AxisAlignedBB;
@@ -26,9 +29,19 @@ import net.minecraftforge.fluids.IFluidHandler;
 import com.cleanroommc.modularui.utils.item.IItemHandlerModifiable;
 import com.cleanroommc.modularui.utils.item.ItemStackHandler;
 
+import hellfirepvp.astralsorcery.common.event.BlockChangeWorldAccess;
+import hellfirepvp.astralsorcery.common.starlight.IStarlightCollector;
+import hellfirepvp.astralsorcery.common.starlight.IStarlightReceiver;
+import hellfirepvp.astralsorcery.common.starlight.StarlightCollectionModel;
+import hellfirepvp.astralsorcery.common.starlight.StarlightLink;
+import hellfirepvp.astralsorcery.common.starlight.StarlightNetwork;
+import hellfirepvp.astralsorcery.common.starlight.StarlightNetworkHandler;
 import hellfirepvp.astralsorcery.common.tile.base.TileReceiverBaseInventory;
+import hellfirepvp.astralsorcery.common.tile.base.TileSpatialIndex;
+import hellfirepvp.astralsorcery.common.tile.base.TileTickScheduler;
 import hellfirepvp.astralsorcery.common.util.WellLiquefaction;
 import hellfirepvp.astralsorcery.common.util.block.PrecisionFluidTank;
+import hellfirepvp.astralsorcery.common.util.math.BlockPos;
 
 /**
  * This class is part of the Astral Sorcery Mod
@@ -37,21 +50,45 @@ import hellfirepvp.astralsorcery.common.util.block.PrecisionFluidTank;
  * Created by HellFirePvP
  * Date: 18.10.2016 / 12:28
  */
-public class TileWell extends TileReceiverBaseInventory implements IFluidHandler {
+public class TileWell extends TileReceiverBaseInventory
+    implements IFluidHandler, IStarlightReceiver, IStarlightCollector {
 
     private static final Random rand = new Random();
     private static final int MAX_CAPACITY = 2000;
+    /**
+     * Maximum starlight received from the starlight network between two well ticks
+     */
+    private static final double MAX_RECEIVED_STARLIGHT = 100;
+    /**
+     * Radius in which liquid is handed to chalices
+     */
+    private static final int CHALICE_TRANSFER_RANGE = 10;
     private int ticksExisted = 0;
     /**
      * Active liquefaction recipe
      */
     private WellLiquefaction.LiquefactionEntry running = null;
 
+    /**
+     * Catalyst the running entry was resolved for, it is only looked up again when the catalyst changes
+     */
+    @Nullable
+    private ItemStack resolvedCatalyst = null;
+    @Nullable
+    private Item resolvedCatalystItem = null;
+    private int resolvedCatalystMeta = 0;
+
     // 1.7.10: Using custom PrecisionFluidTank for fractional amount support
     private final PrecisionFluidTank tank;
 
     private double starlightBuffer = 0;
-    private float posDistribution = -1;
+    /**
+     * Sky collection of the current tick, set by {@link StarlightCollectionModel}
+     */
+    private float skyCollection = 0F;
+
+    @Nullable
+    private TileTickScheduler.ScheduledTask chaliceTransferTask = null;
 
     // ModularUI inventory handler - wraps the base inventory
     private final IItemHandlerModifiable itemHandlerWrapper;
@@ -88,36 +125,23 @@ public class TileWell extends TileReceiverBaseInventory implements IFluidHandler
 
     public void updateEntity() {
         super.updateEntity();
+        if (ticksExisted == 0 && !worldObj.isRemote) {
+            StarlightNetworkHandler.getInstance()
+                .register(worldObj, this);
+            StarlightCollectionModel.getInstance()
+                .register(this);
+            TileSpatialIndex.getInstance()
+                .add(this);
+            // Auto-transfer liquid to nearby chalices every 100 ticks (5 seconds), staggered between wells
+            chaliceTransferTask = TileTickScheduler.getInstance()
+                .schedule(this, 100, this::transferToNearbyChalice);
+        }
         ticksExisted += 1;
 
         if (!worldObj.isRemote) {
-            // Check if well can see sky (simplified 1.7.10 version)
-            if (worldObj.canBlockSeeTheSky(xCoord, yCoord, zCoord)) {
-                // Calculate starlight distribution based on time of day
-                // In 1.7.10, we use world time to estimate day/night cycle
-                long time = worldObj.getWorldTime();
-                float dayProgress = ((time % 24000) / 24000F);
-                // Starlight is stronger at night (0.3 to 1.0)
-                double sbDayDistribution = 0.3 + (0.7 * (1F - dayProgress));
-
-                int yLevel = yCoord;
-                float dstr;
-                if (yLevel > 120) {
-                    dstr = 1F;
-                } else {
-                    dstr = yLevel / 120F;
-                }
-                if (posDistribution == -1) {
-                    // Generate position-based distribution using world seed
-                    // Simplified noise distribution for 1.7.10
-                    long seed = worldObj.getSeed();
-                    double noise = Math.sin((xCoord * 0.1) + (zCoord * 0.1) + (seed % 1000) * 0.01);
-                    posDistribution = (float) ((noise + 1) / 2); // Normalize to 0-1
-                }
-
-                sbDayDistribution *= dstr;
-                sbDayDistribution *= 1 + (1.2 * posDistribution);
-                starlightBuffer += Math.max(0.0001, sbDayDistribution);
+            // Sky collection (time, height and position noise) comes from StarlightCollectionModel
+            if (skyCollection > 0F) {
+                starlightBuffer += Math.max(0.0001, skyCollection * StarlightCollectionModel.WELL_MAXIMUM);
             }
 
             ItemStack stack = getInventoryHandler().getStackInSlot(0);
@@ -132,7 +156,7 @@ public class TileWell extends TileReceiverBaseInventory implements IFluidHandler
                 if (!worldObj.isAirBlock(xCoord, yCoord + 1, zCoord)) {
                     breakCatalyst();
                 } else {
-                    running = WellLiquefaction.getLiquefactionEntry(stack);
+                    running = resolveLiquefaction(stack);
 
                     if (running != null) {
                         double gain = running.calculateProduction(starlightBuffer);
@@ -153,28 +177,10 @@ public class TileWell extends TileReceiverBaseInventory implements IFluidHandler
             } else {
                 starlightBuffer = 0;
             }
-
-            // Auto-transfer liquid to nearby chalices
-            // Check every 100 ticks (5 seconds)
-            if ((ticksExisted % 100 == 0) && getHeldFluid() != null && getFluidAmount() > 100) {
-                int mb = Math.min(400, getFluidAmount());
-                FluidStack fluidStack = new FluidStack(getHeldFluid(), mb);
-
-                // Find nearby chalices with space
-                java.util.List<TileChalice> nearbyChalices = findNearbyChalicesWithSpace(fluidStack);
-                if (!nearbyChalices.isEmpty()) {
-                    TileChalice target = nearbyChalices.get(rand.nextInt(nearbyChalices.size()));
-                    // Transfer fluid to chalice
-                    int transferred = target.fill(ForgeDirection.UNKNOWN, fluidStack, true);
-                    if (transferred > 0) {
-                        this.tank.drain(transferred, true);
-                    }
-                }
-            }
         } else {
             ItemStack stack = getInventoryHandler().getStackInSlot(0);
             if (stack != null && stack.stackSize > 0) {
-                running = WellLiquefaction.getLiquefactionEntry(stack);
+                running = resolveLiquefaction(stack);
 
                 if (running != null) {
                     // Client-side rendering effects (not yet implemented)
@@ -189,6 +195,22 @@ public class TileWell extends TileReceiverBaseInventory implements IFluidHandler
         }
     }
 
+    /**
+     * Get the liquefaction entry of the catalyst. Cached as long as the same catalyst stack
+     * with the same item and meta sits in the slot, any slot change replaces the stack instance.
+     */
+    @Nullable
+    private WellLiquefaction.LiquefactionEntry resolveLiquefaction(ItemStack catalyst) {
+        if (catalyst != resolvedCatalyst || catalyst.getItem() != resolvedCatalystItem
+            || catalyst.getItemDamage() != resolvedCatalystMeta) {
+            resolvedCatalyst = catalyst;
+            resolvedCatalystItem = catalyst.getItem();
+            resolvedCatalystMeta = catalyst.getItemDamage();
+            running = WellLiquefaction.getLiquefactionEntry(catalyst);
+        }
+        return running;
+    }
+
     public void breakCatalyst() {
         setInventorySlotContents(0, null);
         // Network packet system not yet migrated for particle effects
@@ -224,49 +246,122 @@ public class TileWell extends TileReceiverBaseInventory implements IFluidHandler
     // }
     // }
 
+    private void transferToNearbyChalice() {
+        if (getHeldFluid() == null || getFluidAmount() <= 100) {
+            return;
+        }
+        int mb = Math.min(400, getFluidAmount());
+        FluidStack fluidStack = new FluidStack(getHeldFluid(), mb);
+
+        // Find nearby chalices with space
+        java.util.List<TileChalice> nearbyChalices = findNearbyChalicesWithSpace(fluidStack);
+        if (!nearbyChalices.isEmpty()) {
+            TileChalice target = nearbyChalices.get(rand.nextInt(nearbyChalices.size()));
+            // Transfer fluid to chalice
+            int transferred = target.fill(ForgeDirection.UNKNOWN, fluidStack, true);
+            if (transferred > 0) {
+                this.tank.drain(transferred, true);
+            }
+        }
+    }
+
     private void receiveStarlight(double amount) {
         this.starlightBuffer += amount;
     }
 
+    // Starlight network receiver, lenses facing the well push into the starlight buffer
+
+    @Override
+    public BlockPos getNetworkPos() {
+        return new BlockPos(xCoord, yCoord, zCoord);
+    }
+
+    @Override
+    public List<StarlightLink> resolveLinks(StarlightNetwork network) {
+        // Lenses own the links pushing into the well
+        return Collections.emptyList();
+    }
+
+    @Override
+    public int getLinkRange() {
+        return 0;
+    }
+
+    @Override
+    public double getStarlightSpace() {
+        // The buffer is converted on the next tick, only accept starlight while a catalyst is liquefied
+        if (running == null || getInventoryHandler().getStackInSlot(0) == null) {
+            return 0;
+        }
+        return Math.max(0, MAX_RECEIVED_STARLIGHT - starlightBuffer);
+    }
+
+    @Override
+    public void insertStarlight(double amount) {
+        receiveStarlight(amount);
+    }
+
+    @Override
+    public void onSkyCollection(float collection) {
+        this.skyCollection = collection;
+    }
+
+    @Override
+    public StarlightCollectionModel.CollectionProfile getCollectionProfile() {
+        return StarlightCollectionModel.CollectionProfile.WELL;
+    }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        StarlightNetworkHandler.getInstance()
+            .unregister(worldObj, this);
+        StarlightCollectionModel.getInstance()
+            .unregister(this);
+        TileSpatialIndex.getInstance()
+            .remove(this);
+        cancelChaliceTransfer();
+    }
+
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        StarlightNetworkHandler.getInstance()
+            .unregister(worldObj, this);
+        StarlightCollectionModel.getInstance()
+            .unregister(this);
+        TileSpatialIndex.getInstance()
+            .remove(this);
+        cancelChaliceTransfer();
+    }
+
+    private void cancelChaliceTransfer() {
+        if (chaliceTransferTask != null) {
+            chaliceTransferTask.cancel();
+            chaliceTransferTask = null;
+        }
+    }
+
     /**
      * Find nearby chalices with space for the given fluid
-     * Searches in a 10 block radius
+     * Searches in a 10 block radius through the {@link TileSpatialIndex}
      *
      * @param fluid The fluid to transfer
      * @return List of nearby chalices that can accept the fluid
      */
     private java.util.List<TileChalice> findNearbyChalicesWithSpace(FluidStack fluid) {
-        java.util.List<TileChalice> chalices = new java.util.ArrayList<>();
-
-        // Search in a 10 block radius
-        int radius = 10;
-        for (int x = xCoord - radius; x <= xCoord + radius; x++) {
-            for (int y = yCoord - radius; y <= yCoord + radius; y++) {
-                for (int z = zCoord - radius; z <= zCoord + radius; z++) {
-                    // Skip center (this well)
-                    if (x == xCoord && y == yCoord && z == zCoord) {
-                        continue;
-                    }
-
-                    // Check if this is a chalice
-                    if (worldObj.blockExists(x, y, z)) {
-                        net.minecraft.tileentity.TileEntity te = worldObj.getTileEntity(x, y, z);
-                        if (te instanceof TileChalice) {
-                            TileChalice chalice = (TileChalice) te;
-                            // Check if chalice can accept this fluid
-                            if (chalice.canFill(ForgeDirection.UNKNOWN, fluid.getFluid())) {
-                                // Try to fill in simulation mode to check available space
-                                int canAccept = chalice.fill(ForgeDirection.UNKNOWN, fluid, false);
-                                if (canAccept > 0) {
-                                    chalices.add(chalice);
-                                }
-                            }
-                        }
-                    }
-                }
+        java.util.List<TileChalice> chalices = TileSpatialIndex.getInstance()
+            .getTilesInRange(worldObj, xCoord, yCoord, zCoord, CHALICE_TRANSFER_RANGE, TileChalice.class);
+
+        java.util.Iterator<TileChalice> iterator = chalices.iterator();
+        while (iterator.hasNext()) {
+            TileChalice chalice = iterator.next();
+            // Check if chalice can accept this fluid, fill in simulation mode to check available space
+            if (!chalice.canFill(ForgeDirection.UNKNOWN, fluid.getFluid())
+                || chalice.fill(ForgeDirection.UNKNOWN, fluid, false) <= 0) {
+                iterator.remove();
             }
         }
-
         return chalices;
     }
 
@@ -331,7 +426,7 @@ public class TileWell extends TileReceiverBaseInventory implements IFluidHandler
                 }
 
                 // Mark for update
-                worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
+                BlockChangeWorldAccess.markTileSync(worldObj, xCoord, yCoord, zCoord);
 
                 return; // Only collect one item per tick
             }
@@ -410,7 +505,7 @@ public class TileWell extends TileReceiverBaseInventory implements IFluidHandler
         FluidStack drained = tank.drain(maxDrain, doDrain);
         if (drained != null && doDrain) {
             // 1.7.10: Mark block for update
-            worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
+            BlockChangeWorldAccess.markTileSync(worldObj, xCoord, yCoord, zCoord);
         }
         return drained;
     }
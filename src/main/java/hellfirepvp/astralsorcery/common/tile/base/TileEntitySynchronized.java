@@ -6,7 +6,9 @@
 
 package hellfirepvp.astralsorcery.common.tile.base;
 
+import java.util.LinkedHashSet;
 import java.util.Random;
+import java.util.Set;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.NetworkManager;
@@ -14,6 +16,11 @@ import net.minecraft.network.Packet;
 import net.minecraft.network.play.server.S35PacketUpdateTileEntity;
 import net.minecraft.tileentity.TileEntity;
 
+import cpw.mods.fml.common.network.NetworkRegistry;
+import hellfirepvp.astralsorcery.common.event.BlockChangeWorldAccess;
+import hellfirepvp.astralsorcery.common.network.NetworkWrapper;
+import hellfirepvp.astralsorcery.common.network.packet.PacketTileUpdate;
+
 /**
  * TileEntitySynchronized - TileEntity base class (1.7.10)
  * <p>
@@ -44,13 +51,32 @@ import net.minecraft.tileentity.TileEntity;
  * <li>readNetNBT() - Called only by network packet</li>
  * <li>writeNetNBT() - Called only by network packet</li>
  * <li>readSaveNBT() - Called only by chunk save</li>
- * <li>writeSaveNBT() - Called only by chunk save</li>
+ * <li>writeSaveNBT() - Called only by chunk save, never sent to clients</li>
+ * </ul>
+ * <p>
+ * <b>Delta Sync:</b>
+ * <ul>
+ * <li>markFieldDirty() - Queue a single field, written by writeSyncField() and read by readSyncNBT()</li>
+ * <li>Dirty fields are coalesced and sent as one PacketTileUpdate at most every getSyncInterval() ticks</li>
+ * <li>Deferred tiles (see isSyncDeferred()) also coalesce markForUpdate() full syncs the same way</li>
  * </ul>
  */
 public abstract class TileEntitySynchronized extends TileEntity {
 
     protected static final Random rand = new Random();
 
+    /**
+     * Range around the tile that receives delta sync packets
+     */
+    public static final double SYNC_RANGE = 64D;
+
+    private final Set<String> dirtySyncFields = new LinkedHashSet<>();
+    private boolean pendingFullSync = false;
+    private long lastSyncTick = Long.MIN_VALUE;
+
+    // True while NBT is written for or read from a description packet, save-only data is skipped then
+    private boolean networkNBT = false;
+
     /**
      * Read from NBT (called by both network and save)
      * 1.7.10: readFromNBT() calls the custom hooks
@@ -59,7 +85,9 @@ public abstract class TileEntitySynchronized extends TileEntity {
     public void readFromNBT(NBTTagCompound compound) {
         super.readFromNBT(compound);
         readCustomNBT(compound);
-        readSaveNBT(compound);
+        if (!networkNBT) {
+            readSaveNBT(compound);
+        }
     }
 
     /**
@@ -70,7 +98,9 @@ public abstract class TileEntitySynchronized extends TileEntity {
     public void writeToNBT(NBTTagCompound compound) {
         super.writeToNBT(compound);
         writeCustomNBT(compound);
-        writeSaveNBT(compound);
+        if (!networkNBT) {
+            writeSaveNBT(compound);
+        }
     }
 
     // Both Network & Chunk-save
@@ -98,7 +128,12 @@ public abstract class TileEntitySynchronized extends TileEntity {
     @Override
     public Packet getDescriptionPacket() {
         NBTTagCompound compound = new NBTTagCompound();
-        this.writeToNBT(compound);
+        networkNBT = true;
+        try {
+            this.writeToNBT(compound);
+        } finally {
+            networkNBT = false;
+        }
         writeNetNBT(compound);
         // 1.7.10: S35PacketUpdateTileEntity takes x, y, z, actionType, and NBT
         return new S35PacketUpdateTileEntity(this.xCoord, this.yCoord, this.zCoord, 1, compound);
@@ -113,7 +148,12 @@ public abstract class TileEntitySynchronized extends TileEntity {
         // 1.7.10: Read NBT from packet using func_148857_g()
         NBTTagCompound compound = pkt.func_148857_g();
         if (compound != null) {
-            this.readFromNBT(compound);
+            networkNBT = true;
+            try {
+                this.readFromNBT(compound);
+            } finally {
+                networkNBT = false;
+            }
             readNetNBT(compound);
         }
     }
@@ -121,15 +161,116 @@ public abstract class TileEntitySynchronized extends TileEntity {
     /**
      * Mark tile entity for update (sync to client)
      * 1.7.10: Use world.markBlockForUpdate()
+     * <p>
+     * Deferred tiles only queue the full sync here, it is sent by flushSync().
      */
     public void markForUpdate() {
         // 1.7.10: Mark block for update to trigger sync
         if (this.worldObj != null) {
-            this.worldObj.markBlockForUpdate(this.xCoord, this.yCoord, this.zCoord);
+            if (!this.worldObj.isRemote && isSyncDeferred()) {
+                this.pendingFullSync = true;
+            } else {
+                BlockChangeWorldAccess.markTileSync(this.worldObj, this.xCoord, this.yCoord, this.zCoord);
+            }
             this.markDirty();
         }
     }
 
+    /**
+     * Queue a single field for the next delta sync.
+     * The field is written by writeSyncField() and read on the client by readSyncNBT().
+     * If the tile is not deferred, the sync is flushed right away.
+     *
+     * @param field Key of the field, passed back to writeSyncField()
+     */
+    public void markFieldDirty(String field) {
+        if (this.worldObj == null || this.worldObj.isRemote) {
+            return;
+        }
+        this.dirtySyncFields.add(field);
+        this.markDirty();
+        if (!isSyncDeferred()) {
+            flushSync();
+        }
+    }
+
+    /**
+     * Write a single field for a delta sync packet
+     *
+     * @param field    The field marked by markFieldDirty()
+     * @param compound The delta compound
+     * @return false if the field is unknown, a full update is sent instead
+     */
+    protected boolean writeSyncField(String field, NBTTagCompound compound) {
+        return false;
+    }
+
+    /**
+     * Read a delta sync packet on the client.
+     * The compound only contains the fields that changed, so every key has to be checked with hasKey().
+     */
+    public void readSyncNBT(NBTTagCompound compound) {}
+
+    /**
+     * If true, markForUpdate() and markFieldDirty() only queue their sync and flushSync() has to be called
+     * regularly. Ticking tiles do that every tick.
+     */
+    protected boolean isSyncDeferred() {
+        return false;
+    }
+
+    /**
+     * Minimum number of ticks between two sync packets of this tile
+     */
+    protected int getSyncInterval() {
+        return 5;
+    }
+
+    /**
+     * Send the queued sync, if any, unless the last one was sent less than getSyncInterval() ticks ago.
+     * A pending full sync replaces all pending delta fields.
+     */
+    protected void flushSync() {
+        if (this.worldObj == null || this.worldObj.isRemote) {
+            return;
+        }
+        if (!pendingFullSync && dirtySyncFields.isEmpty()) {
+            return;
+        }
+        long now = this.worldObj.getTotalWorldTime();
+        if (isSyncDeferred() && now - lastSyncTick < getSyncInterval()) {
+            return;
+        }
+        lastSyncTick = now;
+
+        if (!pendingFullSync) {
+            NBTTagCompound delta = new NBTTagCompound();
+            for (String field : dirtySyncFields) {
+                if (!writeSyncField(field, delta)) {
+                    pendingFullSync = true;
+                    break;
+                }
+            }
+            if (!pendingFullSync) {
+                int dimension = this.worldObj.provider.dimensionId;
+                NetworkWrapper.sendToAllAround(
+                    new PacketTileUpdate(this, dimension, delta, true),
+                    new NetworkRegistry.TargetPoint(
+                        dimension,
+                        this.xCoord + 0.5,
+                        this.yCoord + 0.5,
+                        this.zCoord + 0.5,
+                        SYNC_RANGE));
+            }
+        }
+        if (pendingFullSync) {
+            BlockChangeWorldAccess.markTileSync(this.worldObj, this.xCoord, this.yCoord, this.zCoord);
+        }
+
+        pendingFullSync = false;
+        dirtySyncFields.clear();
+    }
+
     /**
      * Mark tile entity as dirty (needs save)
      * 1.7.10: markDirty() calls world.markTileEntityChunkModified()
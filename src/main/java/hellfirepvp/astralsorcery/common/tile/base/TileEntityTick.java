@@ -6,6 +6,9 @@
 
 package hellfirepvp.astralsorcery.common.tile.base;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import net.minecraft.nbt.NBTTagCompound;
 
 /**
@@ -16,6 +19,9 @@ import net.minecraft.nbt.NBTTagCompound;
  * <li>Provides updateEntity() ticking functionality for TileEntities</li>
  * <li>Tracks ticksExisted counter for NBT persistence</li>
  * <li>Calls onFirstTick() for one-time initialization</li>
+ * <li>Defers and rate-limits client sync, flushed once per tick</li>
+ * <li>Periodic work through {@link TileTickScheduler}, staggered across tiles</li>
+ * <li>Kept in the {@link TileSpatialIndex} while loaded, for neighbour queries</li>
  * </ul>
  * <p>
  * <b>1.7.10 API Changes from 1.12.2:</b>
@@ -50,6 +56,11 @@ public abstract class TileEntityTick extends TileEntitySynchronized {
     // but we track our own to ensure proper NBT save/load
     protected int ticksExisted = 0;
 
+    // ticksExisted is persisted, so it can't tell whether this instance ticked yet
+    private boolean firstTickDone = false;
+
+    private final List<TileTickScheduler.ScheduledTask> scheduledTasks = new ArrayList<>();
+
     /**
      * Update method called every tick
      * 1.7.10: Override updateEntity() directly (no ITickable interface)
@@ -57,11 +68,21 @@ public abstract class TileEntityTick extends TileEntitySynchronized {
     @Override
     public void updateEntity() {
         // Call first tick on initialization
-        if (ticksExisted == 0) {
+        if (!firstTickDone) {
+            firstTickDone = true;
+            TileSpatialIndex.getInstance()
+                .add(this);
             onFirstTick();
         }
 
         ticksExisted++;
+
+        flushSync();
+    }
+
+    @Override
+    protected boolean isSyncDeferred() {
+        return true;
     }
 
     /**
@@ -73,6 +94,46 @@ public abstract class TileEntityTick extends TileEntitySynchronized {
         // Default implementation - override in subclasses if needed
     }
 
+    /**
+     * Run a task every {@code period} ticks through the {@link TileTickScheduler}.
+     * The phase is derived from the tile position, so equal tiles spread their work over different ticks.
+     * Server side only, call from onFirstTick(). The task is cancelled when the tile is invalidated or unloaded.
+     *
+     * @param period Ticks between two runs
+     * @param task   Work to run
+     */
+    protected void schedulePeriodic(int period, Runnable task) {
+        if (worldObj == null || worldObj.isRemote) {
+            return;
+        }
+        scheduledTasks.add(
+            TileTickScheduler.getInstance()
+                .schedule(this, period, task));
+    }
+
+    private void cancelScheduledTasks() {
+        for (TileTickScheduler.ScheduledTask task : scheduledTasks) {
+            task.cancel();
+        }
+        scheduledTasks.clear();
+    }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        cancelScheduledTasks();
+        TileSpatialIndex.getInstance()
+            .remove(this);
+    }
+
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        cancelScheduledTasks();
+        TileSpatialIndex.getInstance()
+            .remove(this);
+    }
+
     /**
      * Get the number of ticks this TileEntity has existed
      *
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * TileSpatialIndex - Chunk-bucketed index of loaded Astral Sorcery tiles
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.tile.base;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+
+/**
+ * TileSpatialIndex - Neighbour queries without block scans (1.7.10)
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Loaded tiles are kept per dimension, chunk and tile class</li>
+ * <li>Range queries only visit the chunk buckets overlapping the range, and in them
+ * only the lists of matching tile classes</li>
+ * <li>{@link TileEntityTick} tiles are added on their first tick and removed on invalidate
+ * or chunk unload, other tiles have to do the same themselves</li>
+ * </ul>
+ * <p>
+ * Server thread only, client worlds are not indexed.
+ */
+public class TileSpatialIndex {
+
+    private static final TileSpatialIndex instance = new TileSpatialIndex();
+
+    /**
+     * Map of dimension ID to chunk key to the tiles of that chunk
+     */
+    private final Map<Integer, Map<Long, ChunkBucket>> tiles = new HashMap<>();
+
+    private TileSpatialIndex() {}
+
+    public static TileSpatialIndex getInstance() {
+        return instance;
+    }
+
+    /**
+     * Add a loaded tile. Does nothing for client worlds or tiles already in the index.
+     */
+    public void add(TileEntity tile) {
+        World world = tile.getWorldObj();
+        if (world == null || world.isRemote) {
+            return;
+        }
+        Map<Long, ChunkBucket> dimTiles = tiles.computeIfAbsent(world.provider.dimensionId, dim -> new HashMap<>());
+        long key = chunkKey(tile.xCoord >> 4, tile.zCoord >> 4);
+        ChunkBucket bucket = dimTiles.get(key);
+        if (bucket == null) {
+            bucket = new ChunkBucket();
+            dimTiles.put(key, bucket);
+        }
+        bucket.add(tile);
+    }
+
+    /**
+     * Remove a tile, called when it is invalidated or its chunk unloads
+     */
+    public void remove(TileEntity tile) {
+        World world = tile.getWorldObj();
+        if (world == null || world.isRemote) {
+            return;
+        }
+        Map<Long, ChunkBucket> dimTiles = tiles.get(world.provider.dimensionId);
+        if (dimTiles == null) {
+            return;
+        }
+        long key = chunkKey(tile.xCoord >> 4, tile.zCoord >> 4);
+        ChunkBucket bucket = dimTiles.get(key);
+        if (bucket != null && bucket.remove(tile) && bucket.isEmpty()) {
+            dimTiles.remove(key);
+        }
+    }
+
+    /**
+     * Get all tiles of a type within range of a position
+     *
+     * @param radius Maximum distance on every axis, the range is a cube like the block scans it replaces
+     * @param type   Tile class, subclasses match as well
+     * @return The matching tiles, in no particular order. The tile at the center is included if it matches.
+     */
+    public <T> List<T> getTilesInRange(World world, int x, int y, int z, int radius, Class<T> type) {
+        List<T> found = new ArrayList<>();
+        collectTilesInRange(world, x, y, z, radius, type, found);
+        return found;
+    }
+
+    /**
+     * Add all tiles of a type within range of a position to the given collection
+     *
+     * @see #getTilesInRange(World, int, int, int, int, Class)
+     */
+    public <T> void collectTilesInRange(World world, int x, int y, int z, int radius, Class<T> type,
+        Collection<? super T> out) {
+        if (world == null || world.isRemote) {
+            return;
+        }
+        Map<Long, ChunkBucket> dimTiles = tiles.get(world.provider.dimensionId);
+        if (dimTiles == null || dimTiles.isEmpty()) {
+            return;
+        }
+        int minX = x - radius, maxX = x + radius;
+        int minY = y - radius, maxY = y + radius;
+        int minZ = z - radius, maxZ = z + radius;
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                ChunkBucket bucket = dimTiles.get(chunkKey(chunkX, chunkZ));
+                if (bucket == null) {
+                    continue;
+                }
+                for (Map.Entry<Class<?>, List<TileEntity>> entry : bucket.byType.entrySet()) {
+                    if (!type.isAssignableFrom(entry.getKey())) {
+                        continue;
+                    }
+                    List<TileEntity> list = entry.getValue();
+                    for (int i = 0; i < list.size(); i++) {
+                        TileEntity tile = list.get(i);
+                        if (tile.xCoord >= minX && tile.xCoord <= maxX
+                            && tile.yCoord >= minY
+                            && tile.yCoord <= maxY
+                            && tile.zCoord >= minZ
+                            && tile.zCoord <= maxZ
+                            && !tile.isInvalid()) {
+                            out.add(type.cast(tile));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A chunk unloaded, drops whatever of it is still indexed
+     */
+    public void onChunkUnload(World world, int chunkX, int chunkZ) {
+        Map<Long, ChunkBucket> dimTiles = tiles.get(world.provider.dimensionId);
+        if (dimTiles != null) {
+            dimTiles.remove(chunkKey(chunkX, chunkZ));
+        }
+    }
+
+    public void onWorldUnload(World world) {
+        tiles.remove(world.provider.dimensionId);
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Tiles of one chunk, by exact tile class
+     */
+    private static class ChunkBucket {
+
+        private final Map<Class<?>, List<TileEntity>> byType = new HashMap<>(4);
+
+        private void add(TileEntity tile) {
+            List<TileEntity> list = byType.computeIfAbsent(tile.getClass(), type -> new ArrayList<>(2));
+            if (!list.contains(tile)) {
+                list.add(tile);
+            }
+        }
+
+        private boolean remove(TileEntity tile) {
+            List<TileEntity> list = byType.get(tile.getClass());
+            if (list == null || !list.remove(tile)) {
+                return false;
+            }
+            if (list.isEmpty()) {
+                byType.remove(tile.getClass());
+            }
+            return true;
+        }
+
+        private boolean isEmpty() {
+            return byType.isEmpty();
+        }
+    }
+}
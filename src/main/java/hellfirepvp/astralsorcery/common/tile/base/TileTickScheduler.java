@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * TileTickScheduler - Staggered, budgeted periodic tasks for TileEntities
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.tile.base;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+
+import hellfirepvp.astralsorcery.common.data.config.Config;
+import hellfirepvp.astralsorcery.common.util.LogHelper;
+
+/**
+ * TileTickScheduler - Central scheduler for periodic TileEntity work (1.7.10)
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Tasks run every {@code period} ticks with a per-tile phase offset</li>
+ * <li>The default phase is derived from the tile position, so tiles in a dimension
+ * do not all run their expensive checks on the same tick</li>
+ * <li>Per-tick time budget, due tasks exceeding it are deferred to the next tick</li>
+ * <li>Tasks of invalidated tiles are dropped automatically</li>
+ * </ul>
+ * <p>
+ * Driven from EventHandler.onWorldTick on the server, END phase.
+ * <p>
+ * <b>Usage:</b>
+ *
+ * <pre>
+ * // In onFirstTick(), server side
+ * ScheduledTask task = TileTickScheduler.getInstance()
+ *     .schedule(this, 20, this::checkStructure);
+ *
+ * // In invalidate() and onChunkUnload()
+ * task.cancel();
+ * </pre>
+ * <p>
+ * TileEntityTick subclasses use {@link TileEntityTick#schedulePeriodic(int, Runnable)} instead,
+ * which cancels the task automatically.
+ */
+public class TileTickScheduler {
+
+    private static final TileTickScheduler instance = new TileTickScheduler();
+
+    /**
+     * Map of dimension ID to the due-ordered task queue
+     */
+    private final Map<Integer, PriorityQueue<ScheduledTask>> queues = new HashMap<>();
+
+    private long sequence = 0;
+
+    private TileTickScheduler() {}
+
+    public static TileTickScheduler getInstance() {
+        return instance;
+    }
+
+    /**
+     * Schedule a periodic task with a phase derived from the tile position
+     *
+     * @param owner  Tile the task belongs to
+     * @param period Ticks between two runs
+     * @param task   Work to run
+     * @return Handle to cancel the task
+     */
+    public ScheduledTask schedule(TileEntity owner, int period, Runnable task) {
+        return schedule(owner, period, positionPhase(owner, period), task);
+    }
+
+    /**
+     * Schedule a periodic task
+     *
+     * @param owner  Tile the task belongs to
+     * @param period Ticks between two runs
+     * @param phase  Offset in ticks, the task runs when {@code worldTime % period == phase}
+     * @param task   Work to run
+     * @return Handle to cancel the task
+     */
+    public ScheduledTask schedule(TileEntity owner, int period, int phase, Runnable task) {
+        period = Math.max(1, period);
+        phase = Math.floorMod(phase, period);
+        ScheduledTask scheduled = new ScheduledTask(owner, period, phase, task, sequence++);
+
+        World world = owner.getWorldObj();
+        if (world == null || world.isRemote) {
+            // World ticks are only driven on the server
+            scheduled.cancel();
+            return scheduled;
+        }
+        scheduled.nextRun = nextAligned(world.getTotalWorldTime() + 1, period, phase);
+        queues.computeIfAbsent(world.provider.dimensionId, dim -> new PriorityQueue<>())
+            .add(scheduled);
+        return scheduled;
+    }
+
+    /**
+     * Run due tasks of a world until the tick budget is used up
+     */
+    public void tick(World world) {
+        PriorityQueue<ScheduledTask> queue = queues.get(world.provider.dimensionId);
+        if (queue == null || queue.isEmpty()) {
+            return;
+        }
+
+        long now = world.getTotalWorldTime();
+        long deadline = System.nanoTime() + Config.tileTaskBudgetMicros * 1000L;
+        boolean ranAny = false;
+
+        ScheduledTask next;
+        while ((next = queue.peek()) != null && next.nextRun <= now) {
+            // Always run at least one task so a single slow task cannot stall the queue
+            if (ranAny && System.nanoTime() >= deadline) {
+                break;
+            }
+            queue.poll();
+            if (!next.isActive()) {
+                continue;
+            }
+
+            try {
+                next.task.run();
+            } catch (Exception exc) {
+                LogHelper.error(
+                    "Periodic task of " + next.owner.getClass()
+                        .getSimpleName() + " at [" + next.owner.xCoord + ", " + next.owner.yCoord + ", "
+                        + next.owner.zCoord + "] failed, cancelling it",
+                    exc);
+                next.cancel();
+                continue;
+            }
+            ranAny = true;
+
+            next.nextRun += next.period;
+            if (next.nextRun <= now) {
+                // Fell behind by more than one period, skip the missed runs instead of catching up
+                next.nextRun = nextAligned(now + 1, next.period, next.phase);
+            }
+            if (next.isActive()) {
+                queue.add(next);
+            }
+        }
+    }
+
+    /**
+     * Drop all tasks of an unloaded world
+     */
+    public void onWorldUnload(World world) {
+        queues.remove(world.provider.dimensionId);
+    }
+
+    /**
+     * Get the number of queued tasks of a world
+     */
+    public int getQueuedTasks(World world) {
+        PriorityQueue<ScheduledTask> queue = queues.get(world.provider.dimensionId);
+        return queue == null ? 0 : queue.size();
+    }
+
+    private static long nextAligned(long from, int period, int phase) {
+        long offset = Math.floorMod(phase - from, (long) period);
+        return from + offset;
+    }
+
+    private static int positionPhase(TileEntity owner, int period) {
+        int hash = owner.xCoord * 73856093 ^ owner.yCoord * 19349663 ^ owner.zCoord * 83492791;
+        return Math.floorMod(hash, period);
+    }
+
+    /**
+     * Handle of a scheduled periodic task
+     */
+    public static class ScheduledTask implements Comparable<ScheduledTask> {
+
+        private final TileEntity owner;
+        private final int period;
+        private final int phase;
+        private final Runnable task;
+        private final long order;
+
+        private long nextRun;
+        private boolean cancelled = false;
+
+        private ScheduledTask(TileEntity owner, int period, int phase, Runnable task, long order) {
+            this.owner = owner;
+            this.period = period;
+            this.phase = phase;
+            this.task = task;
+            this.order = order;
+        }
+
+        /**
+         * Stop running this task, it is removed from the queue when it would run next
+         */
+        public void cancel() {
+            this.cancelled = true;
+        }
+
+        public boolean isActive() {
+            return !cancelled && !owner.isInvalid();
+        }
+
+        public int getPeriod() {
+            return period;
+        }
+
+        public int getPhase() {
+            return phase;
+        }
+
+        @Override
+        public int compareTo(ScheduledTask other) {
+            int cmp = Long.compare(this.nextRun, other.nextRun);
+            return cmp != 0 ? cmp : Long.compare(this.order, other.order);
+        }
+    }
+}
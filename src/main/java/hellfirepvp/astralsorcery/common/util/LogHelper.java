@@ -6,13 +6,22 @@
 
 package hellfirepvp.astralsorcery.common.util;
 
+import java.util.function.Supplier;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import hellfirepvp.astralsorcery.common.lib.Constants;
+import hellfirepvp.astralsorcery.common.util.log.AsyncLogWriter;
+import hellfirepvp.astralsorcery.common.util.log.LogCategory;
+import hellfirepvp.astralsorcery.common.util.log.LogLevel;
 
 /**
  * Helper class for logging with mod-specific prefix
+ * <p>
+ * Messages belong to {@link LogCategory#GENERAL}. Formatting only happens if the level is enabled,
+ * writing is done by {@link AsyncLogWriter}, which queues DEBUG and INFO and writes warnings and errors directly. Code running every tick or frame should use a
+ * {@link LogCategory} with a supplier, a level guard or rate limiting instead.
  */
 public final class LogHelper {
 
@@ -25,57 +34,71 @@ public final class LogHelper {
      * Log an info message
      */
     public static void info(String message) {
-        LOGGER.info(PREFIX + message);
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, PREFIX + message, null);
+        }
     }
 
     /**
      * Log an info message with format
      */
     public static void info(String format, Object... args) {
-        LOGGER.info(PREFIX + String.format(format, args));
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, PREFIX + String.format(format, args), null);
+        }
     }
 
     /**
      * Log a warning message
      */
     public static void warn(String message) {
-        LOGGER.warn(PREFIX + message);
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, PREFIX + message, null);
+        }
     }
 
     /**
      * Log a warning message with format
      */
     public static void warn(String format, Object... args) {
-        LOGGER.warn(PREFIX + String.format(format, args));
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, PREFIX + String.format(format, args), null);
+        }
     }
 
     /**
      * Log an error message
      */
     public static void error(String message) {
-        LOGGER.error(PREFIX + message);
+        if (isEnabled(LogLevel.ERROR)) {
+            log(LogLevel.ERROR, PREFIX + message, null);
+        }
     }
 
     /**
      * Log an error message with format
      */
     public static void error(String format, Object... args) {
-        LOGGER.error(PREFIX + String.format(format, args));
+        if (isEnabled(LogLevel.ERROR)) {
+            log(LogLevel.ERROR, PREFIX + String.format(format, args), null);
+        }
     }
 
     /**
      * Log an error message with exception
      */
     public static void error(String message, Throwable throwable) {
-        LOGGER.error(PREFIX + message, throwable);
+        if (isEnabled(LogLevel.ERROR)) {
+            log(LogLevel.ERROR, PREFIX + message, throwable);
+        }
     }
 
     /**
      * Log a debug message (only if debug mode is enabled)
      */
     public static void debug(String message) {
-        if (Constants.IS_DEBUG) {
-            LOGGER.debug(PREFIX + "[DEBUG] " + message);
+        if (isDebugEnabled()) {
+            log(LogLevel.DEBUG, PREFIX + "[DEBUG] " + message, null);
         }
     }
 
@@ -83,8 +106,8 @@ public final class LogHelper {
      * Log a debug message with format (only if debug mode is enabled)
      */
     public static void debug(String format, Object... args) {
-        if (Constants.IS_DEBUG) {
-            LOGGER.debug(PREFIX + "[DEBUG] " + String.format(format, args));
+        if (isDebugEnabled()) {
+            log(LogLevel.DEBUG, PREFIX + "[DEBUG] " + String.format(format, args), null);
         }
     }
 
@@ -92,8 +115,8 @@ public final class LogHelper {
      * Log a debug message with exception (only if debug mode is enabled)
      */
     public static void debug(String message, Throwable throwable) {
-        if (Constants.IS_DEBUG) {
-            LOGGER.debug(PREFIX + "[DEBUG] " + message, throwable);
+        if (isDebugEnabled()) {
+            log(LogLevel.DEBUG, PREFIX + "[DEBUG] " + message, throwable);
         }
     }
 
@@ -102,10 +125,35 @@ public final class LogHelper {
      */
     public static void trace(String message) {
         if (Constants.IS_DEVMODE) {
-            LOGGER.trace(PREFIX + "[TRACE] " + message);
+            log(LogLevel.TRACE, PREFIX + "[TRACE] " + message, null);
         }
     }
 
+    /**
+     * Log a debug message built only if debug logging is enabled
+     */
+    public static void debug(Supplier<String> message) {
+        if (isDebugEnabled()) {
+            log(LogLevel.DEBUG, PREFIX + "[DEBUG] " + message.get(), null);
+        }
+    }
+
+    /**
+     * Check whether debug messages are logged, use it to guard expensive debug output
+     */
+    public static boolean isDebugEnabled() {
+        return Constants.IS_DEBUG || LogCategory.GENERAL.isDebugEnabled();
+    }
+
+    private static boolean isEnabled(LogLevel level) {
+        return LogCategory.GENERAL.isEnabled(level) && LOGGER.isEnabled(level.getLog4jLevel());
+    }
+
+    private static void log(LogLevel level, String message, Throwable throwable) {
+        AsyncLogWriter.getInstance()
+            .write(LOGGER, level.getLog4jLevel(), message, throwable);
+    }
+
     /**
      * Get the raw logger
      */
@@ -117,7 +165,7 @@ public final class LogHelper {
      * Log an exception with stack trace
      */
     public static void throwing(String message, Throwable throwable) {
-        LOGGER.error(PREFIX + "THROWING: " + message, throwable);
+        log(LogLevel.ERROR, PREFIX + "THROWING: " + message, throwable);
     }
 
     /**
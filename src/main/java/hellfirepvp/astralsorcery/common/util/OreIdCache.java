@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * OreIdCache - Ore dictionary IDs of item stacks as bitsets
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.util;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+/**
+ * OreIdCache - Cached {@link OreDictionary#getOreIDs(ItemStack)} (1.7.10)
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Ore IDs of an (Item, meta) pair are resolved once and kept as bitset, bit n set for ore ID n</li>
+ * <li>Lookups of known pairs don't allocate, two bitsets share an ore ID if
+ * {@link #intersects(long[], long[])}</li>
+ * <li>Any ore dictionary registration drops the cache and bumps {@link #getGeneration()}, so holders
+ * of bitsets know when to fetch them again</li>
+ * </ul>
+ * <p>
+ * Safe to use from server and client thread. Returned bitsets are shared and must not be modified.
+ */
+public class OreIdCache {
+
+    private static final OreIdCache instance = new OreIdCache();
+
+    private static final long[] NO_ORES = new long[0];
+
+    /**
+     * Item to the bitsets of its already resolved metas
+     */
+    private final Map<Item, MetaEntries> entries = new ConcurrentHashMap<>();
+    private volatile int generation = 0;
+
+    private OreIdCache() {}
+
+    public static OreIdCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get the ore IDs of a stack
+     *
+     * @return Bitset of ore IDs, empty if the stack has none. Shared, don't modify.
+     */
+    public long[] getOreBits(ItemStack stack) {
+        if (stack == null || stack.getItem() == null) {
+            return NO_ORES;
+        }
+        Item item = stack.getItem();
+        int meta = stack.getItemDamage();
+        MetaEntries known = entries.get(item);
+        if (known != null) {
+            long[] bits = known.get(meta);
+            if (bits != null) {
+                return bits;
+            }
+        }
+        long[] bits = toBits(OreDictionary.getOreIDs(stack));
+        // Racing threads resolve the same bits, whichever entry wins is fine
+        entries.put(item, known == null ? new MetaEntries(meta, bits) : known.with(meta, bits));
+        return bits;
+    }
+
+    /**
+     * Check if two bitsets share an ore ID
+     */
+    public static boolean intersects(long[] a, long[] b) {
+        int words = Math.min(a.length, b.length);
+        for (int i = 0; i < words; i++) {
+            if ((a[i] & b[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Bumped every time the cache is dropped
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Drop all cached IDs, called when something is registered to the ore dictionary
+     */
+    public void invalidate() {
+        entries.clear();
+        generation++;
+    }
+
+    private static long[] toBits(int[] oreIds) {
+        if (oreIds == null || oreIds.length == 0) {
+            return NO_ORES;
+        }
+        int max = 0;
+        for (int oreId : oreIds) {
+            max = Math.max(max, oreId);
+        }
+        long[] bits = new long[(max >> 6) + 1];
+        for (int oreId : oreIds) {
+            if (oreId >= 0) {
+                bits[oreId >> 6] |= 1L << (oreId & 63);
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Resolved metas of one item, replaced as a whole when a meta is added
+     */
+    private static class MetaEntries {
+
+        private final int[] metas;
+        private final long[][] bits;
+
+        private MetaEntries(int meta, long[] bits) {
+            this(new int[] { meta }, new long[][] { bits });
+        }
+
+        private MetaEntries(int[] metas, long[][] bits) {
+            this.metas = metas;
+            this.bits = bits;
+        }
+
+        private long[] get(int meta) {
+            for (int i = 0; i < metas.length; i++) {
+                if (metas[i] == meta) {
+                    return bits[i];
+                }
+            }
+            return null;
+        }
+
+        private MetaEntries with(int meta, long[] oreBits) {
+            int[] newMetas = Arrays.copyOf(metas, metas.length + 1);
+            long[][] newBits = Arrays.copyOf(bits, bits.length + 1);
+            newMetas[metas.length] = meta;
+            newBits[bits.length] = oreBits;
+            return new MetaEntries(newMetas, newBits);
+        }
+    }
+}
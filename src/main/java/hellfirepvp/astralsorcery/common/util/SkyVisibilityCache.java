@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * SkyVisibilityCache - Per-column sky visibility of server worlds
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import net.minecraft.world.World;
+
+/**
+ * SkyVisibilityCache - Cached sky height per block column (1.7.10)
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Stores the height map value of every queried column, per dimension and chunk</li>
+ * <li>A block sees the sky if it is at or above the cached height, same as
+ * {@link World#canBlockSeeTheSky(int, int, int)}</li>
+ * <li>A block update in a column drops that column, it is read again on the next query</li>
+ * <li>Chunk unload drops the whole chunk</li>
+ * </ul>
+ * <p>
+ * Only server worlds are cached, they are the ones with a block change listener.
+ * Use {@link StarlightHelper#canSeeSky(World, int, int, int)} instead of querying this directly.
+ */
+public class SkyVisibilityCache {
+
+    private static final SkyVisibilityCache instance = new SkyVisibilityCache();
+
+    private static final int UNKNOWN = Integer.MIN_VALUE;
+
+    /**
+     * Map of dimension ID to chunk key to the 16x16 column heights of that chunk
+     */
+    private final Map<Integer, Map<Long, int[]>> heights = new HashMap<>();
+
+    private SkyVisibilityCache() {}
+
+    public static SkyVisibilityCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Check if a block can see the sky
+     */
+    public boolean canSeeSky(World world, int x, int y, int z) {
+        if (world.isRemote) {
+            return world.canBlockSeeTheSky(x, y, z);
+        }
+        Map<Long, int[]> dimHeights = heights.computeIfAbsent(world.provider.dimensionId, dim -> new HashMap<>());
+        int[] columns = dimHeights.get(chunkKey(x >> 4, z >> 4));
+        if (columns == null) {
+            if (!world.blockExists(x, y, z)) {
+                // Don't cache (or load) unloaded chunks
+                return world.canBlockSeeTheSky(x, y, z);
+            }
+            columns = new int[256];
+            Arrays.fill(columns, UNKNOWN);
+            dimHeights.put(chunkKey(x >> 4, z >> 4), columns);
+        }
+        int index = ((z & 15) << 4) | (x & 15);
+        int height = columns[index];
+        if (height == UNKNOWN) {
+            height = world.getHeightValue(x, z);
+            columns[index] = height;
+        }
+        return y >= height;
+    }
+
+    /**
+     * A block changed, its column has to be read again
+     */
+    public void onBlockChanged(World world, int x, int y, int z) {
+        Map<Long, int[]> dimHeights = heights.get(world.provider.dimensionId);
+        if (dimHeights == null) {
+            return;
+        }
+        int[] columns = dimHeights.get(chunkKey(x >> 4, z >> 4));
+        if (columns != null) {
+            columns[((z & 15) << 4) | (x & 15)] = UNKNOWN;
+        }
+    }
+
+    public void onChunkUnload(World world, int chunkX, int chunkZ) {
+        Map<Long, int[]> dimHeights = heights.get(world.provider.dimensionId);
+        if (dimHeights != null) {
+            dimHeights.remove(chunkKey(chunkX, chunkZ));
+        }
+    }
+
+    public void onWorldUnload(World world) {
+        heights.remove(world.provider.dimensionId);
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+}
@@ -12,6 +12,10 @@ import net.minecraft.world.World;
 
 import hellfirepvp.astralsorcery.common.constellation.IConstellation;
 import hellfirepvp.astralsorcery.common.constellation.MoonPhase;
+import hellfirepvp.astralsorcery.common.constellation.distribution.ConstellationSkyHandler;
+import hellfirepvp.astralsorcery.common.constellation.distribution.SkySchedule;
+import hellfirepvp.astralsorcery.common.constellation.distribution.WorldSkyHandler;
+import hellfirepvp.astralsorcery.common.starlight.StarlightCollectionModel;
 
 /**
  * StarlightHelper - Utility class for starlight calculations
@@ -28,8 +32,28 @@ public class StarlightHelper {
 
     private static final Random rand = new Random();
 
+    /**
+     * Check if a block can see the sky
+     * <p>
+     * Server worlds answer from {@link SkyVisibilityCache}, one height map lookup per column
+     * until a block in that column changes. Use this instead of {@link World#canBlockSeeTheSky}.
+     *
+     * @param world The world
+     * @param x     X coordinate
+     * @param y     Y coordinate
+     * @param z     Z coordinate
+     * @return true if no light-blocking block is above the position
+     */
+    public static boolean canSeeSky(World world, int x, int y, int z) {
+        return SkyVisibilityCache.getInstance()
+            .canSeeSky(world, x, y, z);
+    }
+
     /**
      * Calculate starlight collection for a position
+     * <p>
+     * Delegates to {@link StarlightCollectionModel}. Tiles collecting every tick should implement
+     * {@link hellfirepvp.astralsorcery.common.starlight.IStarlightCollector} and register with the model instead.
      *
      * @param world The world
      * @param x     X coordinate
@@ -38,37 +62,8 @@ public class StarlightHelper {
      * @return Starlight amount collected (0.0 to 1.0)
      */
     public static float calculateStarlightCollection(World world, int x, int y, int z) {
-        // Check if can see sky
-        if (!world.canBlockSeeTheSky(x, y, z)) {
-            return 0.0F;
-        }
-
-        // Base collection amount
-        float collection = 0.0F;
-
-        // Time-based multiplier
-        float timeMultiplier = calculateTimeMultiplier(world);
-        if (timeMultiplier <= 0.0F) {
-            return 0.0F;
-        }
-
-        // Height-based multiplier
-        float heightMultiplier = calculateHeightMultiplier(y);
-
-        // Weather penalty
-        float weatherMultiplier = calculateWeatherMultiplier(world);
-
-        // Combine multipliers
-        collection = 100.0F; // Base amount
-        collection *= heightMultiplier;
-        collection *= timeMultiplier;
-        collection *= weatherMultiplier;
-
-        // Noise-based variation (using position as seed)
-        float noise = calculateSkyNoise(world, x, y, z);
-        collection *= (0.6F + (0.4F * noise));
-
-        return Math.max(0.0F, Math.min(1.0F, collection / 1000.0F));
+        return StarlightCollectionModel.getInstance()
+            .getCollection(world, x, y, z);
     }
 
     /**
@@ -145,20 +140,18 @@ public class StarlightHelper {
      * Calculate sky noise for variation
      * <p>
      * This adds natural variation to starlight collection
-     * based on position and world seed
+     * based on position and world seed. The noise is the same for a whole block column,
+     * so it can be cached per chunk by {@link StarlightCollectionModel}.
      *
      * @param world The world
      * @param x     X coordinate
-     * @param y     Y coordinate
+     * @param y     Y coordinate, unused
      * @param z     Z coordinate
      * @return Noise value (0.0 to 1.0)
      */
     public static float calculateSkyNoise(World world, int x, int y, int z) {
-        // Simple noise based on position and world seed
-        long seed = world.getSeed() + (long) x * 3129871L + (long) z * 116129781L + (long) y * 73423L;
-        seed = seed * seed * 4234887351L + 12345;
-        int noise = (int) (seed >> 16);
-        return (Math.abs(noise % 1000) / 1000.0F);
+        return StarlightCollectionModel.getInstance()
+            .getNoise(world, x, z);
     }
 
     /**
@@ -179,19 +172,14 @@ public class StarlightHelper {
             return false; // Too cloudy
         }
 
-        // Check moon phase for minor constellations
-        if (constellation instanceof hellfirepvp.astralsorcery.common.constellation.IMinorConstellation) {
-            hellfirepvp.astralsorcery.common.constellation.IMinorConstellation minor = (hellfirepvp.astralsorcery.common.constellation.IMinorConstellation) constellation;
-
-            MoonPhase currentPhase = getCurrentMoonPhase(world);
-            java.util.List<MoonPhase> visiblePhases = minor.getShowupMoonPhases(world.getSeed());
-
-            if (!visiblePhases.contains(currentPhase)) {
-                return false;
-            }
+        // Check the sky schedule, minor constellations are scheduled by moon phase
+        WorldSkyHandler handler = ConstellationSkyHandler.getInstance()
+            .getWorldHandler(world);
+        if (handler == null) {
+            return false;
         }
-
-        return true;
+        return handler.getSchedule()
+            .isVisible(SkySchedule.getCycleDay(world), constellation);
     }
 
     /**
@@ -226,8 +214,8 @@ public class StarlightHelper {
         float attenuation = (float) (1.0F / (1.0F + (dist / 64.0F)));
 
         // Check if both endpoints can see sky
-        boolean seesSky1 = world.canBlockSeeTheSky(x1, y1, z1);
-        boolean seesSky2 = world.canBlockSeeTheSky(x2, y2, z2);
+        boolean seesSky1 = canSeeSky(world, x1, y1, z1);
+        boolean seesSky2 = canSeeSky(world, x2, y2, z2);
 
         if (!seesSky1 || !seesSky2) {
             attenuation *= 0.5F; // Penalty for not seeing sky
@@ -289,7 +277,7 @@ public class StarlightHelper {
      */
     public static boolean canCollectStarlight(World world, int x, int y, int z) {
         // Must see sky
-        if (!world.canBlockSeeTheSky(x, y, z)) {
+        if (!canSeeSky(world, x, y, z)) {
             return false;
         }
 
@@ -7,14 +7,21 @@
 package hellfirepvp.astralsorcery.common.util;
 
 import java.awt.Color;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
 
 /**
  * WellLiquefaction System (1.7.10 Simplified Version)
@@ -27,6 +34,9 @@ import net.minecraftforge.fluids.FluidStack;
  * <li>Production rate multipliers</li>
  * <li>Catalyst shatter chance</li>
  * <li>Custom catalyst colors</li>
+ * <li>Recipes are indexed by Item identity and meta, a recipe registered with
+ * {@link OreDictionary#WILDCARD_VALUE} matches every meta of its item</li>
+ * <li>Lookups are allocation-free, TileWell queries them every tick</li>
  * </ul>
  * <p>
  * <b>Usage</b>:
@@ -46,7 +56,12 @@ import net.minecraftforge.fluids.FluidStack;
  */
 public class WellLiquefaction {
 
-    private static final Map<String, LiquefactionEntry> recipes = new HashMap<>();
+    /**
+     * Recipes by item identity. Keyed by the Item instance, not its class,
+     * since meta-items of many mods share one class.
+     */
+    private static final Map<Item, ItemRecipes> recipes = new IdentityHashMap<>();
+    private static final List<LiquefactionEntry> recipeList = new ArrayList<>();
     private static boolean initialized = false;
 
     /**
@@ -171,7 +186,7 @@ public class WellLiquefaction {
             new java.awt.Color(0xFF, 0x35, 0x0C));
 
         initialized = true;
-        LogHelper.info("[WellLiquefaction] WellLiquefaction recipes initialized: " + recipes.size() + " recipes");
+        LogHelper.info("[WellLiquefaction] WellLiquefaction recipes initialized: " + recipeList.size() + " recipes");
     }
 
     /**
@@ -191,17 +206,15 @@ public class WellLiquefaction {
             return;
         }
 
-        String key = getItemStackKey(input);
         LiquefactionEntry entry = new LiquefactionEntry(
             input,
             new FluidStack(fluid, 1), // Amount doesn't matter, productionMultiplier controls rate
             productionMultiplier,
             shatterMultiplier);
 
-        recipes.put(key, entry);
+        putRecipe(entry);
         LogHelper.info(
-            "[WellLiquefaction] Registered recipe: key='%s', displayName='%s' → %s (mult: %.2f, shatter: %.4f)",
-            key,
+            "[WellLiquefaction] Registered recipe: displayName='%s' → %s (mult: %.2f, shatter: %.4f)",
             input.getDisplayName(),
             fluidName,
             productionMultiplier,
@@ -225,7 +238,6 @@ public class WellLiquefaction {
             return;
         }
 
-        String key = getItemStackKey(input);
         LiquefactionEntry entry = new LiquefactionEntry(
             input,
             new FluidStack(fluid, 1),
@@ -233,45 +245,42 @@ public class WellLiquefaction {
             shatterMultiplier,
             catalystColor);
 
-        recipes.put(key, entry);
+        putRecipe(entry);
         LogHelper.info(
-            "[WellLiquefaction] Registered recipe with color: key='%s', displayName='%s' → %s (mult: %.2f, shatter: %.4f)",
-            key,
+            "[WellLiquefaction] Registered recipe with color: displayName='%s' → %s (mult: %.2f, shatter: %.4f)",
             input.getDisplayName(),
             fluidName,
             productionMultiplier,
             shatterMultiplier);
     }
 
+    private static void putRecipe(LiquefactionEntry entry) {
+        Item item = entry.input.getItem();
+        if (item == null) {
+            LogHelper.warn("[WellLiquefaction] Skipped liquefaction recipe without input item");
+            return;
+        }
+        LiquefactionEntry replaced = recipes.computeIfAbsent(item, i -> new ItemRecipes())
+            .put(entry.input.getItemDamage(), entry);
+        if (replaced != null) {
+            recipeList.remove(replaced);
+        }
+        recipeList.add(entry);
+    }
+
     /**
      * Get liquefaction entry for an item
      *
      * @param stack The item stack
      * @return The liquefaction entry, or null if not found
      */
+    @Nullable
     public static LiquefactionEntry getLiquefactionEntry(ItemStack stack) {
-        if (stack == null) {
-            LogHelper.debug("[WellLiquefaction] getLiquefactionEntry: stack is null");
+        if (stack == null || stack.getItem() == null) {
             return null;
         }
-
-        String key = getItemStackKey(stack);
-        LogHelper
-            .debug("[WellLiquefaction] Looking for recipe: key='%s', displayName='%s'", key, stack.getDisplayName());
-        LogHelper.debug("[WellLiquefaction] Total recipes: %d", recipes.size());
-
-        LiquefactionEntry entry = recipes.get(key);
-        if (entry == null) {
-            LogHelper.debug("[WellLiquefaction] Recipe not found for key: %s", key);
-            // Log all available keys for debugging
-            if (!recipes.isEmpty()) {
-                LogHelper.debug("[WellLiquefaction] Available recipe keys: %s", recipes.keySet());
-            }
-        } else {
-            LogHelper.debug("[WellLiquefaction] Recipe FOUND for: %s", key);
-        }
-
-        return entry;
+        ItemRecipes itemRecipes = recipes.get(stack.getItem());
+        return itemRecipes == null ? null : itemRecipes.get(stack.getItemDamage());
     }
 
     /**
@@ -281,26 +290,51 @@ public class WellLiquefaction {
      * @return true if the item has a liquefaction recipe
      */
     public static boolean canLiquefy(ItemStack stack) {
-        if (stack == null) {
-            LogHelper.debug("[WellLiquefaction] canLiquefy: stack is null");
-            return false;
-        }
-        boolean result = getLiquefactionEntry(stack) != null;
-        LogHelper.debug("[WellLiquefaction] canLiquefy(%s): %s", stack.getDisplayName(), result);
-        return result;
+        return getLiquefactionEntry(stack) != null;
     }
 
     /**
-     * Get the key for an ItemStack
-     * Format: "ItemClassName:meta" to avoid registry timing issues
+     * Recipes of a single item: exact metas in a sorted array for binary search, plus the wildcard recipe
      */
-    private static String getItemStackKey(ItemStack stack) {
-        Item item = stack.getItem();
-        // Use class name instead of registry name to avoid timing issues
-        String itemName = item != null ? item.getClass()
-            .getName() : "unknown";
-        int meta = stack.getItemDamage();
-        return itemName + ":" + meta;
+    private static class ItemRecipes {
+
+        private int[] metas = new int[0];
+        private LiquefactionEntry[] entries = new LiquefactionEntry[0];
+        private LiquefactionEntry wildcard = null;
+
+        /**
+         * @return The replaced entry, or null
+         */
+        private LiquefactionEntry put(int meta, LiquefactionEntry entry) {
+            if (meta == OreDictionary.WILDCARD_VALUE) {
+                LiquefactionEntry replaced = wildcard;
+                wildcard = entry;
+                return replaced;
+            }
+            int index = Arrays.binarySearch(metas, meta);
+            if (index >= 0) {
+                LiquefactionEntry replaced = entries[index];
+                entries[index] = entry;
+                return replaced;
+            }
+            int insert = -index - 1;
+            int[] newMetas = new int[metas.length + 1];
+            LiquefactionEntry[] newEntries = new LiquefactionEntry[entries.length + 1];
+            System.arraycopy(metas, 0, newMetas, 0, insert);
+            System.arraycopy(entries, 0, newEntries, 0, insert);
+            newMetas[insert] = meta;
+            newEntries[insert] = entry;
+            System.arraycopy(metas, insert, newMetas, insert + 1, metas.length - insert);
+            System.arraycopy(entries, insert, newEntries, insert + 1, entries.length - insert);
+            metas = newMetas;
+            entries = newEntries;
+            return null;
+        }
+
+        private LiquefactionEntry get(int meta) {
+            int index = Arrays.binarySearch(metas, meta);
+            return index >= 0 ? entries[index] : wildcard;
+        }
     }
 
     /**
@@ -384,10 +418,10 @@ public class WellLiquefaction {
     /**
      * Get all registered recipes
      *
-     * @return Unmodifiable map of recipes
+     * @return Unmodifiable list of recipes, in registration order
      */
-    public static Map<String, LiquefactionEntry> getAllRecipes() {
-        return java.util.Collections.unmodifiableMap(recipes);
+    public static List<LiquefactionEntry> getAllRecipes() {
+        return Collections.unmodifiableList(recipeList);
     }
 
     /**
@@ -395,6 +429,7 @@ public class WellLiquefaction {
      */
     public static void clearRecipes() {
         recipes.clear();
+        recipeList.clear();
         LogHelper.info("Cleared all WellLiquefaction recipes");
     }
 
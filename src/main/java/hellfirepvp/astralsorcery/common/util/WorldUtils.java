@@ -11,6 +11,7 @@ package hellfirepvp.astralsorcery.common.util;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
 
+import hellfirepvp.astralsorcery.common.event.BlockChangeWorldAccess;
 import hellfirepvp.astralsorcery.common.util.math.BlockPos;
 
 /**
@@ -121,8 +122,7 @@ public class WorldUtils {
      */
     public static void markForUpdate(TileEntity te) {
         if (te != null && te.getWorldObj() != null) {
-            te.getWorldObj()
-                .markBlockForUpdate(te.xCoord, te.yCoord, te.zCoord);
+            BlockChangeWorldAccess.markTileSync(te.getWorldObj(), te.xCoord, te.yCoord, te.zCoord);
         }
     }
 
@@ -180,7 +180,7 @@ public class WorldUtils {
         if (world == null) {
             return false;
         }
-        return world.canBlockSeeTheSky(x, y, z);
+        return StarlightHelper.canSeeSky(world, x, y, z);
     }
 
     /**
@@ -194,7 +194,7 @@ public class WorldUtils {
         if (world == null || pos == null) {
             return false;
         }
-        return world.canBlockSeeTheSky(pos.getX(), pos.getY(), pos.getZ());
+        return StarlightHelper.canSeeSky(world, pos.getX(), pos.getY(), pos.getZ());
     }
 
     /**
@@ -207,8 +207,7 @@ public class WorldUtils {
         if (te == null || te.getWorldObj() == null) {
             return false;
         }
-        return te.getWorldObj()
-            .canBlockSeeTheSky(te.xCoord, te.yCoord, te.zCoord);
+        return StarlightHelper.canSeeSky(te.getWorldObj(), te.xCoord, te.yCoord, te.zCoord);
     }
 
     /**
@@ -0,0 +1,365 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * BlockEditBatch - Block changes grouped by chunk, applied with deferred updates
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.util.block;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.block.Block;
+import net.minecraft.client.Minecraft;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import hellfirepvp.astralsorcery.common.network.NetworkWrapper;
+import hellfirepvp.astralsorcery.common.network.packet.PacketEditProgress;
+
+/**
+ * BlockEditBatch - Bulk block changes (1.7.10)
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Edits are grouped by chunk, a group is applied directly on the chunk in one go</li>
+ * <li>Lighting, client sync and neighbour notifications of a group run after all of its blocks are
+ * placed; lighting only where opacity or light value changed</li>
+ * <li>Client sync goes through {@link World#markBlockForUpdate}, the player manager sends one
+ * multi-block (S22) or chunk (S21) update per touched chunk and tick</li>
+ * <li>Applied by {@link BlockEditQueue} under a per-tick time budget, large batches spread over
+ * several ticks and can show their progress on the held item of a player. The progress is tracked
+ * on the batch and sent with {@link PacketEditProgress}, the item itself is never modified</li>
+ * </ul>
+ * <p>
+ * <b>Usage:</b>
+ *
+ * <pre>
+ * new BlockEditBatch(world).replaceBlock(x, y, z, Blocks.stone, 0, Blocks.cobblestone, 0)
+ *     .showProgressTo(player)
+ *     .onComplete(applied -&gt; notifyPlayer(applied))
+ *     .submit();
+ * </pre>
+ * <p>
+ * Server side only.
+ */
+public class BlockEditBatch {
+
+    /**
+     * Edits of one chunk beyond this are split into another group, so a single group stays cheap
+     */
+    private static final int MAX_EDITS_PER_GROUP = 512;
+
+    /**
+     * Progress shown on the client, see {@link #packClientProgress(int, float)}
+     */
+    private static volatile long clientProgress = packClientProgress(-1, -1F);
+
+    private final World world;
+    private final List<ChunkEdits> groups = new ArrayList<>();
+
+    /**
+     * Chunk key to the group new edits of that chunk are added to
+     */
+    private final Map<Long, ChunkEdits> openGroups = new HashMap<>();
+
+    private int size = 0;
+    private int nextGroup = 0;
+    private int processed = 0;
+    private int applied = 0;
+
+    @Nullable
+    private EntityPlayerMP progressPlayer = null;
+    private int progressSlot = -1;
+    private int shownProgress = -1;
+    @Nullable
+    private IntConsumer completionListener = null;
+
+    public BlockEditBatch(World world) {
+        this.world = world;
+    }
+
+    /**
+     * Place a block, whatever is there right now
+     */
+    public BlockEditBatch setBlock(int x, int y, int z, Block block, int meta) {
+        return add(x, y, z, null, 0, block, meta);
+    }
+
+    /**
+     * Place a block if the given block is still there when the edit is applied
+     */
+    public BlockEditBatch replaceBlock(int x, int y, int z, Block expected, int expectedMeta, Block block, int meta) {
+        return add(x, y, z, expected, expectedMeta, block, meta);
+    }
+
+    private BlockEditBatch add(int x, int y, int z, @Nullable Block expected, int expectedMeta, Block block,
+        int meta) {
+        if (y < 0 || y > 255) {
+            return this;
+        }
+        long key = chunkKey(x >> 4, z >> 4);
+        ChunkEdits group = openGroups.get(key);
+        if (group == null || group.size >= MAX_EDITS_PER_GROUP) {
+            group = new ChunkEdits(x >> 4, z >> 4);
+            groups.add(group);
+            openGroups.put(key, group);
+        }
+        group.add(x & 15, y, z & 15, expected, expectedMeta, block, meta);
+        size++;
+        return this;
+    }
+
+    /**
+     * Show the progress as durability bar of the item the player holds right now, while the batch
+     * spans several ticks. The item has to display it, see {@link #getProgress(ItemStack)}.
+     */
+    public BlockEditBatch showProgressTo(@Nullable EntityPlayer player) {
+        if (player instanceof EntityPlayerMP) {
+            this.progressPlayer = (EntityPlayerMP) player;
+            this.progressSlot = player.inventory.currentItem;
+        }
+        return this;
+    }
+
+    /**
+     * Run once the whole batch is applied, with the number of blocks actually changed
+     */
+    public BlockEditBatch onComplete(@Nullable IntConsumer listener) {
+        this.completionListener = listener;
+        return this;
+    }
+
+    /**
+     * Hand the batch to the {@link BlockEditQueue} of its world
+     */
+    public void submit() {
+        openGroups.clear();
+        BlockEditQueue.getInstance()
+            .submit(this);
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    boolean isDone() {
+        return nextGroup >= groups.size();
+    }
+
+    /**
+     * Apply the next chunk group
+     */
+    void applyNextGroup() {
+        ChunkEdits group = groups.get(nextGroup);
+        // Drop applied groups right away, large batches may stay queued for a while
+        groups.set(nextGroup, null);
+        nextGroup++;
+        processed += group.size;
+        applied += group.apply(world);
+    }
+
+    /**
+     * Send the current progress to the progress player, only when the shown percentage changes
+     */
+    void updateProgress() {
+        if (progressPlayer == null || size == 0) {
+            return;
+        }
+        int percent = processed * 100 / size;
+        if (percent == shownProgress) {
+            return;
+        }
+        shownProgress = percent;
+        sendProgress(percent / 100F);
+    }
+
+    void complete() {
+        clearProgress();
+        if (completionListener != null) {
+            completionListener.accept(applied);
+        }
+    }
+
+    void clearProgress() {
+        // Nothing was shown if the batch finished within its first tick
+        if (shownProgress >= 0) {
+            sendProgress(-1F);
+        }
+    }
+
+    private void sendProgress(float progress) {
+        if (progressPlayer != null && progressPlayer.playerNetServerHandler != null) {
+            NetworkWrapper.sendTo(new PacketEditProgress(progressSlot, progress), progressPlayer);
+        }
+    }
+
+    /**
+     * Store the progress received from the server
+     *
+     * @param slot     Inventory slot of the item showing the progress
+     * @param progress Progress from 0.0 to 1.0, or -1 if no edit is running
+     */
+    public static void setClientProgress(int slot, float progress) {
+        clientProgress = packClientProgress(slot, progress);
+    }
+
+    /**
+     * Progress of a batch shown on the given stack of the client player
+     *
+     * @return Progress from 0.0 to 1.0, or -1 if no batch shows its progress on the stack
+     */
+    @SideOnly(Side.CLIENT)
+    public static float getProgress(@Nullable ItemStack stack) {
+        long packed = clientProgress;
+        int slot = (int) (packed >> 32);
+        float progress = Float.intBitsToFloat((int) packed);
+        EntityPlayer player = Minecraft.getMinecraft().thePlayer;
+        if (stack == null || progress < 0F
+            || player == null
+            || slot < 0
+            || slot >= player.inventory.getSizeInventory()) {
+            return -1F;
+        }
+        return player.inventory.getStackInSlot(slot) == stack ? progress : -1F;
+    }
+
+    /**
+     * Slot and progress in one value, written by the network thread and read while rendering
+     */
+    private static long packClientProgress(int slot, float progress) {
+        return ((long) slot << 32) | (Float.floatToIntBits(progress) & 0xFFFFFFFFL);
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Edits of one chunk, in parallel arrays
+     */
+    private static class ChunkEdits {
+
+        private final int chunkX, chunkZ;
+        private int size = 0;
+
+        /**
+         * Chunk local position, {@code x << 12 | z << 8 | y} like the positions of S22PacketMultiBlockChange
+         */
+        private int[] positions = new int[16];
+        private Block[] blocks = new Block[16];
+        private int[] metas = new int[16];
+        private Block[] expected = new Block[16];
+        private int[] expectedMetas = new int[16];
+
+        private ChunkEdits(int chunkX, int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        private void add(int localX, int y, int localZ, @Nullable Block expectedBlock, int expectedMeta, Block block,
+            int meta) {
+            if (size == positions.length) {
+                int capacity = size * 2;
+                positions = Arrays.copyOf(positions, capacity);
+                blocks = Arrays.copyOf(blocks, capacity);
+                metas = Arrays.copyOf(metas, capacity);
+                expected = Arrays.copyOf(expected, capacity);
+                expectedMetas = Arrays.copyOf(expectedMetas, capacity);
+            }
+            positions[size] = localX << 12 | localZ << 8 | y;
+            blocks[size] = block;
+            metas[size] = meta;
+            expected[size] = expectedBlock;
+            expectedMetas[size] = expectedMeta;
+            size++;
+        }
+
+        /**
+         * Place all blocks of this group, then light, sync and notify
+         *
+         * @return The number of blocks changed
+         */
+        private int apply(World world) {
+            if (!world.getChunkProvider()
+                .chunkExists(chunkX, chunkZ)) {
+                // Unloaded since the batch was built, don't load it just for this
+                return 0;
+            }
+            Chunk chunk = world.getChunkFromChunkCoords(chunkX, chunkZ);
+            Block[] previous = new Block[size];
+            int changed = 0;
+
+            for (int i = 0; i < size; i++) {
+                int localX = positions[i] >> 12 & 15;
+                int localZ = positions[i] >> 8 & 15;
+                int y = positions[i] & 255;
+                Block old = chunk.getBlock(localX, y, localZ);
+                int oldMeta = chunk.getBlockMetadata(localX, y, localZ);
+                if (expected[i] != null && (old != expected[i] || oldMeta != expectedMetas[i])) {
+                    continue;
+                }
+                if (old == blocks[i] && oldMeta == metas[i]) {
+                    continue;
+                }
+                // 1.7.10: func_150807_a = setBlockIDWithMetadata, places the block and updates the
+                // height map, but neither recalculates light nor notifies anybody
+                if (chunk.func_150807_a(localX, y, localZ, blocks[i], metas[i])) {
+                    previous[i] = old;
+                    changed++;
+                }
+            }
+            if (changed == 0) {
+                return 0;
+            }
+
+            int baseX = chunkX << 4;
+            int baseZ = chunkZ << 4;
+            for (int i = 0; i < size; i++) {
+                if (previous[i] == null) {
+                    continue;
+                }
+                int x = baseX + (positions[i] >> 12 & 15);
+                int y = positions[i] & 255;
+                int z = baseZ + (positions[i] >> 8 & 15);
+                if (blocks[i].getLightOpacity() != previous[i].getLightOpacity()
+                    || blocks[i].getLightValue() != previous[i].getLightValue()) {
+                    // 1.7.10: func_147451_t = updateAllLightTypes
+                    world.func_147451_t(x, y, z);
+                }
+                // Collected per chunk by the player manager, flushed as one packet
+                world.markBlockForUpdate(x, y, z);
+            }
+            // Neighbours only see the finished group, never a half replaced area
+            for (int i = 0; i < size; i++) {
+                if (previous[i] == null) {
+                    continue;
+                }
+                int x = baseX + (positions[i] >> 12 & 15);
+                int y = positions[i] & 255;
+                int z = baseZ + (positions[i] >> 8 & 15);
+                world.notifyBlockChange(x, y, z, previous[i]);
+                if (blocks[i].hasComparatorInputOverride()) {
+                    // 1.7.10: func_147453_f = updateNeighborsAboutBlockChange, comparators
+                    world.func_147453_f(x, y, z, blocks[i]);
+                }
+            }
+            return changed;
+        }
+    }
+}
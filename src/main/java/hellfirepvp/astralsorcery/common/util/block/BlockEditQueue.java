@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * BlockEditQueue - Budgeted application of block edit batches
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.util.block;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+import net.minecraft.world.World;
+
+import hellfirepvp.astralsorcery.common.data.config.Config;
+import hellfirepvp.astralsorcery.common.util.LogHelper;
+
+/**
+ * BlockEditQueue - Applies {@link BlockEditBatch}es over as many ticks as needed (1.7.10)
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Batches of a world are applied in submission order, one chunk group at a time</li>
+ * <li>Per-tick time budget of {@link Config#blockEditBudgetMicros}, shared by batches applied right
+ * on submit and the ones continued from the world tick</li>
+ * <li>A batch is applied right away on submit if nothing is queued ahead of it, small edits
+ * therefore don't wait for the next tick</li>
+ * </ul>
+ * <p>
+ * Driven from EventHandler.onWorldTick on the server, END phase.
+ */
+public class BlockEditQueue {
+
+    private static final BlockEditQueue instance = new BlockEditQueue();
+
+    /**
+     * Map of dimension ID to the queued batches
+     */
+    private final Map<Integer, ArrayDeque<BlockEditBatch>> queues = new HashMap<>();
+
+    /**
+     * Map of dimension ID to {tick, deadline in nanoseconds} of the budget currently in use
+     */
+    private final Map<Integer, long[]> deadlines = new HashMap<>();
+
+    private BlockEditQueue() {}
+
+    public static BlockEditQueue getInstance() {
+        return instance;
+    }
+
+    /**
+     * Queue a batch and apply as much of it as the budget of this tick allows
+     */
+    public void submit(BlockEditBatch batch) {
+        World world = batch.getWorld();
+        if (world == null || world.isRemote) {
+            return;
+        }
+        if (batch.isDone()) {
+            batch.complete();
+            return;
+        }
+        ArrayDeque<BlockEditBatch> queue = queues.computeIfAbsent(world.provider.dimensionId, dim -> new ArrayDeque<>());
+        queue.add(batch);
+        if (queue.size() == 1) {
+            process(world, queue);
+        }
+    }
+
+    /**
+     * Continue the queued batches of a world until the tick budget is used up
+     */
+    public void tick(World world) {
+        ArrayDeque<BlockEditBatch> queue = queues.get(world.provider.dimensionId);
+        if (queue == null || queue.isEmpty()) {
+            return;
+        }
+        process(world, queue);
+    }
+
+    private void process(World world, ArrayDeque<BlockEditBatch> queue) {
+        long deadline = getDeadline(world);
+        boolean appliedAny = false;
+
+        BlockEditBatch batch;
+        while ((batch = queue.peek()) != null) {
+            while (!batch.isDone()) {
+                // Always apply at least one group so a slow group cannot stall the queue
+                if (appliedAny && System.nanoTime() >= deadline) {
+                    batch.updateProgress();
+                    return;
+                }
+                try {
+                    batch.applyNextGroup();
+                } catch (Exception exc) {
+                    LogHelper.error("Block edit in dimension " + world.provider.dimensionId + " failed, skipping it", exc);
+                }
+                appliedAny = true;
+            }
+            queue.poll();
+            batch.complete();
+        }
+    }
+
+    private long getDeadline(World world) {
+        long now = world.getTotalWorldTime();
+        long[] deadline = deadlines.get(world.provider.dimensionId);
+        if (deadline == null || deadline[0] != now) {
+            deadline = new long[] { now, System.nanoTime() + Config.blockEditBudgetMicros * 1000L };
+            deadlines.put(world.provider.dimensionId, deadline);
+        }
+        return deadline[1];
+    }
+
+    /**
+     * Drop all batches of an unloaded world, their remaining edits are not applied
+     */
+    public void onWorldUnload(World world) {
+        ArrayDeque<BlockEditBatch> queue = queues.remove(world.provider.dimensionId);
+        deadlines.remove(world.provider.dimensionId);
+        if (queue != null) {
+            for (BlockEditBatch batch : queue) {
+                batch.clearProgress();
+            }
+        }
+    }
+
+    /**
+     * Get the number of queued batches of a world
+     */
+    public int getQueuedBatches(World world) {
+        ArrayDeque<BlockEditBatch> queue = queues.get(world.provider.dimensionId);
+        return queue == null ? 0 : queue.size();
+    }
+}
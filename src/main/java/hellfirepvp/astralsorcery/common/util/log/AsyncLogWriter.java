@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * AsyncLogWriter - Hands log records to a background thread
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.util.log;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * AsyncLogWriter - Asynchronous appender in front of the mod logger (1.7.10)
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>DEBUG and INFO messages are formatted on the calling thread and queued, a single daemon thread
+ * passes them to log4j, so appender I/O for them never runs on the server or client thread</li>
+ * <li>WARN, ERROR and anything with a throwable is written right away on the calling thread,
+ * it is never dropped or lost in a crash, and may appear before INFO lines that are still queued</li>
+ * <li>Bounded queue, never blocks the caller. When full, messages are dropped and the
+ * number of dropped messages is logged once the queue drains</li>
+ * <li>A shutdown hook writes whatever is still queued</li>
+ * </ul>
+ */
+public final class AsyncLogWriter {
+
+    private static final int QUEUE_CAPACITY = 8192;
+
+    private static final AsyncLogWriter instance = new AsyncLogWriter();
+
+    private final BlockingQueue<Record> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicLong dropped = new AtomicLong(0);
+    private volatile Thread writer = null;
+
+    private AsyncLogWriter() {}
+
+    public static AsyncLogWriter getInstance() {
+        return instance;
+    }
+
+    /**
+     * Queue a message, or write it directly if it is a warning, an error or has a throwable.
+     * Queueing never blocks.
+     */
+    public void write(Logger logger, Level level, String message, Throwable throwable) {
+        // Lower intLevel is more severe
+        if (throwable != null || level.intLevel() <= Level.WARN.intLevel()) {
+            new Record(logger, level, message, throwable).emit();
+            return;
+        }
+        ensureStarted();
+        if (!queue.offer(new Record(logger, level, message, throwable))) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private void ensureStarted() {
+        if (writer != null) {
+            return;
+        }
+        synchronized (this) {
+            if (writer != null) {
+                return;
+            }
+            Thread thread = new Thread(this::run, "AstralSorcery Log Writer");
+            thread.setDaemon(true);
+            thread.start();
+            Runtime.getRuntime()
+                .addShutdownHook(new Thread(this::drain, "AstralSorcery Log Flush"));
+            writer = thread;
+        }
+    }
+
+    private void run() {
+        while (true) {
+            try {
+                Record record = queue.poll(1, TimeUnit.SECONDS);
+                if (record != null) {
+                    record.emit();
+                }
+                if (queue.isEmpty()) {
+                    reportDropped();
+                }
+            } catch (InterruptedException exc) {
+                return;
+            } catch (Throwable exc) {
+                // A broken appender must not kill the writer
+            }
+        }
+    }
+
+    /**
+     * Write all queued records on the calling thread
+     */
+    public void drain() {
+        Record record;
+        while ((record = queue.poll()) != null) {
+            record.emit();
+        }
+        reportDropped();
+    }
+
+    private void reportDropped() {
+        long count = dropped.getAndSet(0);
+        if (count > 0) {
+            hellfirepvp.astralsorcery.common.util.LogHelper.getLogger()
+                .warn("[AstralSorcery] Log queue was full, dropped " + count + " messages");
+        }
+    }
+
+    private static class Record {
+
+        private final Logger logger;
+        private final Level level;
+        private final String message;
+        private final Throwable throwable;
+
+        private Record(Logger logger, Level level, String message, Throwable throwable) {
+            this.logger = logger;
+            this.level = level;
+            this.message = message;
+            this.throwable = throwable;
+        }
+
+        private void emit() {
+            if (throwable != null) {
+                logger.log(level, message, throwable);
+            } else {
+                logger.log(level, message);
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * LogCategory - Independently adjustable log categories
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.util.log;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.Logger;
+
+import hellfirepvp.astralsorcery.common.lib.Constants;
+import hellfirepvp.astralsorcery.common.util.LogHelper;
+
+/**
+ * LogCategory - Lazy, per-subsystem logging (1.7.10)
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>Every category has its own level, adjustable at runtime with {@code /astralsorcery log}</li>
+ * <li>Messages are built by a {@link Supplier} or from fixed-arity format arguments,
+ * nothing is formatted, concatenated or boxed unless the level is enabled</li>
+ * <li>Rate-limited and sampled logging for messages emitted from tick or render loops</li>
+ * <li>Output goes through {@link AsyncLogWriter}</li>
+ * </ul>
+ * <p>
+ * <b>Usage:</b>
+ *
+ * <pre>
+ * if (LogCategory.ALTAR.isDebugEnabled()) {
+ *     LogCategory.ALTAR.debug("Altar at %d, %d, %d formed", xCoord, yCoord, zCoord);
+ * }
+ *
+ * LogCategory.RENDER.debugRateLimited("tesr_altar", 5000, () -> "Rendering altar " + altar);
+ * </pre>
+ */
+public enum LogCategory {
+
+    GENERAL,
+    ALTAR,
+    NETWORK,
+    WELL,
+    PERK,
+    RENDER,
+    WORLD;
+
+    private final String prefix = "[" + Constants.MODNAME + "] [" + name() + "] ";
+    private final Map<String, AtomicLong> lastLogged = new ConcurrentHashMap<>();
+    private final AtomicInteger sampleCounter = new AtomicInteger();
+
+    /**
+     * Explicitly set level, null follows the debug/devmode flags
+     */
+    private volatile LogLevel level = null;
+
+    public LogLevel getLevel() {
+        LogLevel set = level;
+        if (set != null) {
+            return set;
+        }
+        if (Constants.IS_DEVMODE) {
+            return LogLevel.TRACE;
+        }
+        return Constants.IS_DEBUG ? LogLevel.DEBUG : LogLevel.INFO;
+    }
+
+    /**
+     * Set the level of this category
+     *
+     * @param level The new level, null to go back to the default
+     */
+    public void setLevel(LogLevel level) {
+        this.level = level;
+    }
+
+    public boolean isEnabled(LogLevel level) {
+        return level != LogLevel.OFF && level.ordinal() <= getLevel().ordinal();
+    }
+
+    public boolean isDebugEnabled() {
+        return isEnabled(LogLevel.DEBUG);
+    }
+
+    public boolean isTraceEnabled() {
+        return isEnabled(LogLevel.TRACE);
+    }
+
+    public static LogCategory byName(String name) {
+        for (LogCategory category : values()) {
+            if (category.name()
+                .equalsIgnoreCase(name)) {
+                return category;
+            }
+        }
+        return null;
+    }
+
+    // ---- Core ----
+
+    public void log(LogLevel level, Supplier<String> message) {
+        if (isEnabled(level)) {
+            write(level, message.get(), null);
+        }
+    }
+
+    public void log(LogLevel level, String message, Throwable throwable) {
+        if (isEnabled(level)) {
+            write(level, message, throwable);
+        }
+    }
+
+    /**
+     * Log at most once per interval for the given key
+     *
+     * @param key            Identifies the message, usually a constant string
+     * @param intervalMillis Minimum time between two messages of the same key
+     */
+    public void logRateLimited(LogLevel level, String key, long intervalMillis, Supplier<String> message) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        AtomicLong last = lastLogged.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        long previous = last.get();
+        if (previous != Long.MIN_VALUE && now - previous < intervalMillis) {
+            return;
+        }
+        if (last.compareAndSet(previous, now)) {
+            write(level, message.get(), null);
+        }
+    }
+
+    /**
+     * Log only every n-th call of this category
+     */
+    public void logSampled(LogLevel level, int oneIn, Supplier<String> message) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        if (oneIn <= 1 || sampleCounter.incrementAndGet() % oneIn == 0) {
+            write(level, message.get(), null);
+        }
+    }
+
+    private void write(LogLevel level, String message, Throwable throwable) {
+        Logger logger = LogHelper.getLogger();
+        AsyncLogWriter.getInstance()
+            .write(logger, level.getLog4jLevel(), prefix + message, throwable);
+    }
+
+    // ---- Convenience ----
+
+    public void error(Supplier<String> message) {
+        log(LogLevel.ERROR, message);
+    }
+
+    public void error(String message, Throwable throwable) {
+        log(LogLevel.ERROR, message, throwable);
+    }
+
+    public void warn(Supplier<String> message) {
+        log(LogLevel.WARN, message);
+    }
+
+    public void info(Supplier<String> message) {
+        log(LogLevel.INFO, message);
+    }
+
+    public void debug(Supplier<String> message) {
+        log(LogLevel.DEBUG, message);
+    }
+
+    public void trace(Supplier<String> message) {
+        log(LogLevel.TRACE, message);
+    }
+
+    public void info(String message) {
+        if (isEnabled(LogLevel.INFO)) {
+            write(LogLevel.INFO, message, null);
+        }
+    }
+
+    public void debug(String message) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            write(LogLevel.DEBUG, message, null);
+        }
+    }
+
+    public void trace(String message) {
+        if (isEnabled(LogLevel.TRACE)) {
+            write(LogLevel.TRACE, message, null);
+        }
+    }
+
+    public void debug(String format, Object arg0) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            write(LogLevel.DEBUG, String.format(format, arg0), null);
+        }
+    }
+
+    public void debug(String format, Object arg0, Object arg1) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            write(LogLevel.DEBUG, String.format(format, arg0, arg1), null);
+        }
+    }
+
+    public void debug(String format, Object arg0, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            write(LogLevel.DEBUG, String.format(format, arg0, arg1, arg2), null);
+        }
+    }
+
+    public void debugRateLimited(String key, long intervalMillis, Supplier<String> message) {
+        logRateLimited(LogLevel.DEBUG, key, intervalMillis, message);
+    }
+
+    public void infoRateLimited(String key, long intervalMillis, Supplier<String> message) {
+        logRateLimited(LogLevel.INFO, key, intervalMillis, message);
+    }
+
+    public void warnRateLimited(String key, long intervalMillis, Supplier<String> message) {
+        logRateLimited(LogLevel.WARN, key, intervalMillis, message);
+    }
+}
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * LogLevel - Thresholds of log categories
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.util.log;
+
+import org.apache.logging.log4j.Level;
+
+/**
+ * LogLevel - Category thresholds, ordered from least to most verbose
+ */
+public enum LogLevel {
+
+    OFF(Level.OFF),
+    ERROR(Level.ERROR),
+    WARN(Level.WARN),
+    INFO(Level.INFO),
+    DEBUG(Level.DEBUG),
+    TRACE(Level.TRACE);
+
+    private final Level log4jLevel;
+
+    LogLevel(Level log4jLevel) {
+        this.log4jLevel = log4jLevel;
+    }
+
+    public Level getLog4jLevel() {
+        return log4jLevel;
+    }
+
+    /**
+     * Parse a level name, case insensitive
+     *
+     * @return The level, or null if unknown
+     */
+    public static LogLevel byName(String name) {
+        for (LogLevel level : values()) {
+            if (level.name()
+                .equalsIgnoreCase(name)) {
+                return level;
+            }
+        }
+        return null;
+    }
+}
@@ -34,6 +34,7 @@ public class StructureGenAncientShrine extends StructureGenBase {
         this.minY = 70;
         this.maxY = 130;
         this.heightTolerance = 6;
+        this.structureRadius = 7;
     }
 
     /**
@@ -46,6 +47,7 @@ public class StructureGenAncientShrine extends StructureGenBase {
         this.minY = 70;
         this.maxY = 130;
         this.heightTolerance = 6;
+        this.structureRadius = 7;
     }
 
     @Override
@@ -70,6 +72,9 @@ public class StructureGenAncientShrine extends StructureGenBase {
         for (int dx = -radius; dx <= radius; dx += 4) {
             for (int dz = -radius; dz <= radius; dz += 4) {
                 int surfaceY = getSurfaceY(world, x + dx, z + dz);
+                if (surfaceY == UNKNOWN_HEIGHT) {
+                    return false;
+                }
                 minY = Math.min(minY, surfaceY);
                 maxY = Math.max(maxY, surfaceY);
             }
@@ -10,6 +10,7 @@ import java.util.Random;
 
 import net.minecraft.world.World;
 import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.chunk.Chunk;
 
 import hellfirepvp.astralsorcery.common.structure.StructureBuilder;
 import hellfirepvp.astralsorcery.common.util.LogHelper;
@@ -20,9 +21,12 @@ import hellfirepvp.astralsorcery.common.util.LogHelper;
  * <b>Features:</b>
  * <ul>
  * <li>Automatic structure generation using StructureLib</li>
- * <li>Biome-aware spawning</li>
- * <li>Height-based validation</li>
+ * <li>Biome-aware spawning, biomes are checked once per biome ID and then looked up</li>
+ * <li>Height-based validation using the chunk height maps</li>
  * <li>Rarity control via chance parameter</li>
+ * <li>Never generates chunks: positions are offset by 8 like vanilla decoration, chunks that do not exist yet
+ * count as unsuitable, and structures reaching into missing chunks wait in the
+ * {@link StructurePlacementQueue}</li>
  * </ul>
  * <p>
  * <b>Usage:</b>
@@ -73,6 +77,22 @@ public abstract class StructureGenBase extends AstralBaseWorldGenerator {
     /** Height variance tolerance */
     protected int heightTolerance = 4;
 
+    /** Horizontal reach of the structure around its origin, decides which chunks it writes into */
+    protected int structureRadius = 4;
+
+    /** Surface height of a column whose chunk is not generated yet */
+    protected static final int UNKNOWN_HEIGHT = -1;
+
+    /**
+     * Biome ID to bitmask of the matching {@link Type}s, built once
+     */
+    private static int[] biomeTypeMasks = null;
+
+    /**
+     * Biome ID to the result of {@link #isValidBiome(BiomeGenBase)}, built once per generator
+     */
+    private boolean[] validBiomes = null;
+
     /**
      * Structure type enumeration
      */
@@ -121,19 +141,19 @@ public abstract class StructureGenBase extends AstralBaseWorldGenerator {
             return;
         }
 
-        // Get generation position
-        int x = chunkX * 16 + random.nextInt(16);
-        int z = chunkZ * 16 + random.nextInt(16);
-        int y = getSurfaceY(world, x, z);
+        // Get generation position, offset into the 2x2 chunks that are generated while this one populates
+        int x = chunkX * 16 + 8 + random.nextInt(16);
+        int z = chunkZ * 16 + 8 + random.nextInt(16);
 
-        // Validate Y level
-        if (y < minY || y > maxY) {
+        // Validate biome
+        BiomeGenBase biome = world.getBiomeGenForCoords(x, z);
+        if (!isValidBiomeCached(biome)) {
             return;
         }
 
-        // Validate biome
-        BiomeGenBase biome = world.getBiomeGenForCoords(x, z);
-        if (!isValidBiome(biome)) {
+        // Validate Y level
+        int y = getSurfaceY(world, x, z);
+        if (y < minY || y > maxY) {
             return;
         }
 
@@ -142,8 +162,9 @@ public abstract class StructureGenBase extends AstralBaseWorldGenerator {
             return;
         }
 
-        // Generate structure
-        generateStructure(world, x, y, z);
+        // Generate structure, or wait until the chunks it reaches into exist
+        StructurePlacementQueue.getInstance()
+            .place(this, world, x, y, z);
     }
 
     /**
@@ -152,13 +173,25 @@ public abstract class StructureGenBase extends AstralBaseWorldGenerator {
      * @param world World instance
      * @param x     X coordinate
      * @param z     Z coordinate
-     * @return Surface Y level
+     * @return Surface Y level, {@link #UNKNOWN_HEIGHT} if the chunk is not generated
      */
     protected int getSurfaceY(World world, int x, int z) {
-        // Find highest non-air block
-        for (int y = world.getHeight() - 1; y >= 0; y--) {
+        int chunkX = x >> 4;
+        int chunkZ = z >> 4;
+        // Reading a missing chunk would generate it
+        if (!world.getChunkProvider()
+            .chunkExists(chunkX, chunkZ)) {
+            return UNKNOWN_HEIGHT;
+        }
+        Chunk chunk = world.getChunkFromChunkCoords(chunkX, chunkZ);
+        int localX = x & 15;
+        int localZ = z & 15;
+        // Everything above the height map lets light through, so the highest opaque cube is below it.
+        // Usually found right away, leaves and water are the only blocks skipped.
+        int top = Math.min(chunk.getHeightValue(localX, localZ), world.getHeight()) - 1;
+        for (int y = top; y >= 0; y--) {
             // 1.7.10: Use isOpaqueCube() instead of isOpaque(World, int, int, int)
-            if (world.getBlock(x, y, z)
+            if (chunk.getBlock(localX, y, localZ)
                 .isOpaqueCube()) {
                 return y;
             }
@@ -168,36 +201,79 @@ public abstract class StructureGenBase extends AstralBaseWorldGenerator {
 
     /**
      * Check if biome is valid for this structure
-     * Override in subclass for custom biome filtering
+     * Override in subclass for custom biome filtering. Only called once per biome ID,
+     * see {@link #isValidBiomeCached(BiomeGenBase)}.
      *
      * @param biome Biome at position
      * @return true if valid
      */
     protected boolean isValidBiome(BiomeGenBase biome) {
-        if (type == Type.ANY) {
-            return true;
-        }
-
-        String biomeName = biome.biomeName.toLowerCase();
-
-        switch (type) {
-            case MOUNTAIN:
-                return biomeName.contains("mountain") || biomeName.contains("hill")
-                    || biomeName.contains("extreme")
-                    || biomeName.contains("snow");
-
-            case DESERT:
-                return biomeName.contains("desert") || biomeName.contains("savanna");
+        return type == Type.ANY || (getBiomeTypeMask(biome) & (1 << type.ordinal())) != 0;
+    }
 
-            case FOREST:
-                return biomeName.contains("forest") || biomeName.contains("taiga") || biomeName.contains("jungle");
+    /**
+     * Check if biome is valid for this structure, looked up by biome ID
+     */
+    protected final boolean isValidBiomeCached(BiomeGenBase biome) {
+        if (biome == null) {
+            return false;
+        }
+        boolean[] table = validBiomes;
+        if (table == null) {
+            // Built on first generation, when every mod has registered its biomes
+            BiomeGenBase[] biomes = BiomeGenBase.getBiomeGenArray();
+            table = new boolean[biomes.length];
+            for (BiomeGenBase registered : biomes) {
+                if (registered != null && registered.biomeID >= 0 && registered.biomeID < table.length) {
+                    table[registered.biomeID] = isValidBiome(registered);
+                }
+            }
+            validBiomes = table;
+        }
+        int id = biome.biomeID;
+        return id >= 0 && id < table.length ? table[id] : isValidBiome(biome);
+    }
 
-            case PLAINS:
-                return biomeName.contains("plain") || biomeName.contains("field");
+    /**
+     * Get the {@link Type}s a biome belongs to, as bitmask of their ordinals
+     */
+    protected static int getBiomeTypeMask(BiomeGenBase biome) {
+        int[] masks = biomeTypeMasks;
+        if (masks == null) {
+            BiomeGenBase[] biomes = BiomeGenBase.getBiomeGenArray();
+            masks = new int[biomes.length];
+            for (BiomeGenBase registered : biomes) {
+                if (registered != null && registered.biomeID >= 0 && registered.biomeID < masks.length) {
+                    masks[registered.biomeID] = computeBiomeTypeMask(registered);
+                }
+            }
+            biomeTypeMasks = masks;
+        }
+        int id = biome.biomeID;
+        return id >= 0 && id < masks.length ? masks[id] : computeBiomeTypeMask(biome);
+    }
 
-            default:
-                return true;
+    private static int computeBiomeTypeMask(BiomeGenBase biome) {
+        int mask = 1 << Type.ANY.ordinal();
+        if (biome.biomeName == null) {
+            return mask;
         }
+        String biomeName = biome.biomeName.toLowerCase();
+        if (biomeName.contains("mountain") || biomeName.contains("hill")
+            || biomeName.contains("extreme")
+            || biomeName.contains("snow")) {
+            mask |= 1 << Type.MOUNTAIN.ordinal();
+        }
+        if (biomeName.contains("desert") || biomeName.contains("savanna")) {
+            mask |= 1 << Type.DESERT.ordinal();
+        }
+        if (biomeName.contains("forest") || biomeName.contains("taiga") || biomeName.contains("jungle")) {
+            mask |= 1 << Type.FOREST.ordinal();
+        }
+        if (biomeName.contains("plain") || biomeName.contains("field")) {
+            mask |= 1 << Type.PLAINS.ordinal();
+        }
+        return mask;
     }
 
     /**
@@ -217,6 +293,10 @@ public abstract class StructureGenBase extends AstralBaseWorldGenerator {
         int y3 = getSurfaceY(world, x - 4, z + 4);
         int y4 = getSurfaceY(world, x + 4, z + 4);
 
+        if (y1 == UNKNOWN_HEIGHT || y2 == UNKNOWN_HEIGHT || y3 == UNKNOWN_HEIGHT || y4 == UNKNOWN_HEIGHT) {
+            return false;
+        }
+
         int minY = Math.min(Math.min(y1, y2), Math.min(y3, y4));
         int maxY = Math.max(Math.max(y1, y2), Math.max(y3, y4));
 
@@ -293,6 +373,13 @@ public abstract class StructureGenBase extends AstralBaseWorldGenerator {
         this.maxY = maxY;
     }
 
+    /**
+     * Get the horizontal reach of the structure around its origin
+     */
+    public int getStructureRadius() {
+        return structureRadius;
+    }
+
     /**
      * Get height tolerance
      */
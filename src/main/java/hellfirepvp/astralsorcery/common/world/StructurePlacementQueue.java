@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Astral Sorcery - Minecraft 1.7.10 Port
+ *
+ * StructurePlacementQueue - Structure placement without cascading chunk generation
+ ******************************************************************************/
+
+package hellfirepvp.astralsorcery.common.world;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.IChunkProvider;
+
+import hellfirepvp.astralsorcery.common.util.LogHelper;
+
+/**
+ * StructurePlacementQueue - Deferred structure placement (1.7.10)
+ * <p>
+ * <b>Features:</b>
+ * <ul>
+ * <li>A structure is built right away if every chunk it covers is already generated</li>
+ * <li>Otherwise it waits here, writing into a missing chunk would generate it from within generation
+ * (cascading generation)</li>
+ * <li>Waiting structures are built on the first world tick after their last chunk got generated</li>
+ * </ul>
+ * <p>
+ * Pending placements are not saved, a structure still waiting when the world unloads is dropped.
+ * Server thread only.
+ */
+public class StructurePlacementQueue {
+
+    private static final StructurePlacementQueue instance = new StructurePlacementQueue();
+
+    /**
+     * Map of dimension ID to the structures waiting for chunks
+     */
+    private final Map<Integer, List<PendingPlacement>> pending = new HashMap<>();
+
+    private StructurePlacementQueue() {}
+
+    public static StructurePlacementQueue getInstance() {
+        return instance;
+    }
+
+    /**
+     * Build a structure now, or as soon as all chunks within its radius are generated
+     */
+    public void place(StructureGenBase generator, World world, int x, int y, int z) {
+        PendingPlacement placement = new PendingPlacement(generator, x, y, z, generator.getStructureRadius());
+        if (placement.isReady(world.getChunkProvider())) {
+            generator.generateStructure(world, x, y, z);
+            return;
+        }
+        LogHelper.debug(
+            "Deferring structure " + generator.getStructureName()
+                + " at "
+                + x
+                + ","
+                + y
+                + ","
+                + z
+                + " until its chunks are generated");
+        pending.computeIfAbsent(world.provider.dimensionId, dim -> new ArrayList<>())
+            .add(placement);
+    }
+
+    /**
+     * Build waiting structures whose chunks exist now. Called at the end of every world tick.
+     */
+    public void tick(World world) {
+        List<PendingPlacement> dimPending = pending.get(world.provider.dimensionId);
+        if (dimPending == null || dimPending.isEmpty()) {
+            return;
+        }
+        IChunkProvider provider = world.getChunkProvider();
+        List<PendingPlacement> ready = null;
+        for (Iterator<PendingPlacement> iterator = dimPending.iterator(); iterator.hasNext();) {
+            PendingPlacement placement = iterator.next();
+            if (placement.isReady(provider)) {
+                iterator.remove();
+                if (ready == null) {
+                    ready = new ArrayList<>(2);
+                }
+                ready.add(placement);
+            }
+        }
+        if (ready != null) {
+            // Built outside the iteration, building may generate chunks that complete other placements
+            for (PendingPlacement placement : ready) {
+                placement.generator.generateStructure(world, placement.x, placement.y, placement.z);
+            }
+        }
+    }
+
+    public void onWorldUnload(World world) {
+        List<PendingPlacement> dropped = pending.remove(world.provider.dimensionId);
+        if (dropped != null && !dropped.isEmpty()) {
+            LogHelper.debug("Dropped " + dropped.size() + " pending structure placements");
+        }
+    }
+
+    /**
+     * Get the number of structures waiting in a world
+     */
+    public int getPendingCount(World world) {
+        List<PendingPlacement> dimPending = pending.get(world.provider.dimensionId);
+        return dimPending == null ? 0 : dimPending.size();
+    }
+
+    private static class PendingPlacement {
+
+        private final StructureGenBase generator;
+        private final int x, y, z;
+        private final int minChunkX, maxChunkX, minChunkZ, maxChunkZ;
+
+        private PendingPlacement(StructureGenBase generator, int x, int y, int z, int radius) {
+            this.generator = generator;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.minChunkX = (x - radius) >> 4;
+            this.maxChunkX = (x + radius) >> 4;
+            this.minChunkZ = (z - radius) >> 4;
+            this.maxChunkZ = (z + radius) >> 4;
+        }
+
+        private boolean isReady(IChunkProvider provider) {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    if (!provider.chunkExists(chunkX, chunkZ)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -16,6 +16,7 @@ import cpw.mods.fml.common.event.FMLPostInitializationEvent;
 import cpw.mods.fml.common.event.FMLPreInitializationEvent;
 import cpw.mods.fml.common.event.FMLServerStartedEvent;
 import cpw.mods.fml.common.event.FMLServerStartingEvent;
+import cpw.mods.fml.common.event.FMLServerStoppingEvent;
 import hellfirepvp.astralsorcery.common.constellation.distribution.ConstellationSkyHandler;
 import hellfirepvp.astralsorcery.common.data.config.Config;
 import hellfirepvp.astralsorcery.common.event.EventHandler;
@@ -197,6 +198,22 @@ public class CommonProxy {
         LogHelper.exit("CommonProxy.serverStarting");
     }
 
+    /**
+     * Server stopping phase
+     * <p>
+     * Tasks:
+     * - Write all pending player progress
+     */
+    public void serverStopping(FMLServerStoppingEvent event) {
+        LogHelper.entry("CommonProxy.serverStopping");
+
+        hellfirepvp.astralsorcery.common.data.research.ResearchManager.saveAndClearServerCache();
+        hellfirepvp.astralsorcery.common.data.world.CelestialGatewaySystem.getInstance()
+            .clearServerCache();
+
+        LogHelper.exit("CommonProxy.serverStopping");
+    }
+
     /**
      * Server started phase
      * <p>